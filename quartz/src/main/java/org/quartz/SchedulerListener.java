@@ -212,4 +212,17 @@ public interface SchedulerListener {
      * that all jobs, triggers and calendars were deleted.
      */
     void schedulingDataCleared();
+
+    /**
+     * Called by the <code>{@link Scheduler}</code> to report the progress of
+     * its <code>{@link org.quartz.spi.JobStore}</code> in recovering the jobs
+     * that were in progress when the scheduler last went down, if the
+     * store performs that recovery in the background.  Recovery is complete
+     * once <code>processed</code> equals <code>total</code>.
+     *
+     * @param processed the number of in-progress records handled so far
+     * @param total the number of in-progress records found at start-up
+     */
+    default void jobRecoveryProgress(int processed, int total) {
+    }
 }
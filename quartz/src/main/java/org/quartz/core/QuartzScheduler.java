@@ -1962,6 +1962,22 @@ J     *
         }
     }
 
+    public void notifySchedulerListenersJobRecoveryProgress(int processed, int total) {
+        // build a list of all scheduler listeners that are to be notified...
+        List<SchedulerListener> schedListeners = buildSchedulerListenerList();
+
+        // notify all scheduler listeners
+        for(SchedulerListener sl: schedListeners) {
+            try {
+                sl.jobRecoveryProgress(processed, total);
+            } catch (Exception e) {
+                getLog().error(
+                        "Error while notifying SchedulerListener of job recovery progress.",
+                        e);
+            }
+        }
+    }
+
     public void notifySchedulerListenersScheduled(Trigger trigger) {
         // build a list of all scheduler listeners that are to be notified...
         List<SchedulerListener> schedListeners = buildSchedulerListenerList();
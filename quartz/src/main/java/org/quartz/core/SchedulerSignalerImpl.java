@@ -96,4 +96,8 @@ public class SchedulerSignalerImpl implements SchedulerSignaler {
     public void notifySchedulerListenersError(String string, SchedulerException jpe) {
         sched.notifySchedulerListenersError(string, jpe);
     }
+
+    public void notifySchedulerListenersJobRecoveryProgress(int processed, int total) {
+        sched.notifySchedulerListenersJobRecoveryProgress(processed, total);
+    }
 }
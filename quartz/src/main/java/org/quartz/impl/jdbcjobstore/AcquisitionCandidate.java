@@ -0,0 +1,71 @@
+/* 
+ * Copyright IBM Corp. 2024, 2025
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not 
+ * use this file except in compliance with the License. You may obtain a copy 
+ * of the License at 
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0 
+ *   
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT 
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the 
+ * License for the specific language governing permissions and limitations 
+ * under the License.
+ * 
+ */
+
+package org.quartz.impl.jdbcjobstore;
+
+import org.quartz.TriggerKey;
+import org.quartz.spi.OperableTrigger;
+
+/**
+ * <p>
+ * A trigger selected for acquisition, together with whatever of the trigger
+ * and its job the <code>{@link DriverDelegate}</code> could load from the
+ * same result set.
+ * </p>
+ * 
+ * <p>
+ * The trigger is <code>null</code> when it was not part of the selection (or
+ * could not be built from it), and whether its job disallows concurrent
+ * execution is <code>null</code> when it is not known, in which case the job
+ * store loads them separately.  A trigger built from the selection may carry
+ * a stand-in for its <code>JobDataMap</code>, which is read when it fires.
+ * </p>
+ * 
+ * @see DriverDelegate#selectTriggersToAcquire(java.sql.Connection, long, long, int, org.quartz.spi.ClassLoadHelper)
+ */
+public class AcquisitionCandidate {
+
+    private final TriggerKey triggerKey;
+
+    private final OperableTrigger trigger;
+
+    private final Boolean concurrentExecutionDisallowed;
+
+    public AcquisitionCandidate(TriggerKey triggerKey, OperableTrigger trigger, Boolean concurrentExecutionDisallowed) {
+        this.triggerKey = triggerKey;
+        this.trigger = trigger;
+        this.concurrentExecutionDisallowed = concurrentExecutionDisallowed;
+    }
+
+    public TriggerKey getTriggerKey() {
+        return triggerKey;
+    }
+
+    public OperableTrigger getTrigger() {
+        return trigger;
+    }
+
+    /**
+     * The <code>IS_NONCONCURRENT</code> flag of the trigger's job, or
+     * <code>null</code> if it was not selected.
+     */
+    public Boolean isConcurrentExecutionDisallowed() {
+        return concurrentExecutionDisallowed;
+    }
+}
+
+// EOF
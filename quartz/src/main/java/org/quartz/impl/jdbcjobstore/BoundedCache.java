@@ -0,0 +1,135 @@
+/* 
+ * Copyright IBM Corp. 2024, 2025
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not 
+ * use this file except in compliance with the License. You may obtain a copy 
+ * of the License at 
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0 
+ *   
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT 
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the 
+ * License for the specific language governing permissions and limitations 
+ * under the License.
+ * 
+ */
+package org.quartz.impl.jdbcjobstore;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>
+ * A size-bounded, least-recently-used cache whose entries expire a fixed
+ * time after they were loaded, used by <code>{@link JobStoreSupport}</code>
+ * to avoid re-reading and deserializing jobs and calendars.
+ * </p>
+ * 
+ * <p>
+ * Every invalidation advances the cache's generation; a value loaded from
+ * the database is only put in the cache if no invalidation happened since
+ * the load began (see <code>{@link #generation()}</code>), so a load that
+ * races with a change can't put the old value back.
+ * </p>
+ */
+final class BoundedCache<K, V> {
+
+    private final int maxSize;
+
+    private final long timeToLive;
+
+    private final LinkedHashMap<K, Entry<V>> entries;
+
+    private long generation = 0L;
+
+    private final LongAdder hitCount = new LongAdder();
+
+    private final LongAdder missCount = new LongAdder();
+
+    /**
+     * @param maxSize the most entries kept; the least recently used one is
+     *          evicted beyond that
+     * @param timeToLive the number of milliseconds an entry is kept after it
+     *          was loaded, or 0 to keep entries until they are evicted
+     */
+    BoundedCache(final int maxSize, long timeToLive) {
+        this.maxSize = maxSize;
+        this.timeToLive = timeToLive;
+        this.entries = new LinkedHashMap<K, Entry<V>>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                return size() > BoundedCache.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * The cached value, or null if there is none or it has expired.
+     */
+    synchronized V get(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry != null) {
+            if (timeToLive <= 0 || System.currentTimeMillis() - entry.loadedAt < timeToLive) {
+                hitCount.increment();
+                return entry.value;
+            }
+            entries.remove(key);
+        }
+        missCount.increment();
+        return null;
+    }
+
+    /**
+     * The current generation, to be read before loading a value to
+     * <code>{@link #put(Object, Object, long)}</code>.
+     */
+    synchronized long generation() {
+        return generation;
+    }
+
+    /**
+     * Cache the value, unless the cache was invalidated since the given
+     * generation.
+     */
+    synchronized void put(K key, V value, long loadGeneration) {
+        if (loadGeneration == generation) {
+            entries.put(key, new Entry<>(value, System.currentTimeMillis()));
+        }
+    }
+
+    synchronized void remove(K key) {
+        generation++;
+        entries.remove(key);
+    }
+
+    synchronized void clear() {
+        generation++;
+        entries.clear();
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    long getHitCount() {
+        return hitCount.sum();
+    }
+
+    long getMissCount() {
+        return missCount.sum();
+    }
+
+    private static final class Entry<V> {
+
+        final V value;
+
+        final long loadedAt;
+
+        Entry(V value, long loadedAt) {
+            this.value = value;
+            this.loadedAt = loadedAt;
+        }
+    }
+}
@@ -0,0 +1,271 @@
+/* 
+ * Copyright IBM Corp. 2024, 2025
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not 
+ * use this file except in compliance with the License. You may obtain a copy 
+ * of the License at 
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0 
+ *   
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT 
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the 
+ * License for the specific language governing permissions and limitations 
+ * under the License.
+ * 
+ */
+package org.quartz.impl.jdbcjobstore;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.NotSerializableException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.io.StreamCorruptedException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p>
+ * A <code>{@link JobDataMapCodec}</code> that writes strings, boxed
+ * primitives, dates, byte arrays, and <code>ArrayList</code>s and
+ * <code>HashMap</code>s of those as tagged values, with variable-length
+ * integers.  Any other value is written with Java serialization, on its own.
+ * </p>
+ * 
+ * <p>
+ * Values are read back as the same classes they were written as: only those
+ * exact classes are tagged (a <code>java.sql.Timestamp</code> or a
+ * <code>LinkedList</code>, for instance, is serialized).
+ * </p>
+ */
+public class CompactJobDataMapCodec implements JobDataMapCodec {
+
+    public static final byte FORMAT = 0x01;
+
+    private static final int NULL = 0;
+    private static final int STRING = 1;
+    private static final int INTEGER = 2;
+    private static final int LONG = 3;
+    private static final int TRUE = 4;
+    private static final int FALSE = 5;
+    private static final int DOUBLE = 6;
+    private static final int FLOAT = 7;
+    private static final int SHORT = 8;
+    private static final int BYTE = 9;
+    private static final int CHARACTER = 10;
+    private static final int DATE = 11;
+    private static final int BYTES = 12;
+    private static final int LIST = 13;
+    private static final int MAP = 14;
+    private static final int SERIALIZED = 15;
+
+    public byte getFormat() {
+        return FORMAT;
+    }
+
+    public void encode(Map<?, ?> data, OutputStream out) throws IOException {
+        DataOutputStream dos = new DataOutputStream(out);
+        writeMap(dos, data);
+        dos.flush();
+    }
+
+    public Map<?, ?> decode(InputStream in) throws IOException, ClassNotFoundException {
+        DataInputStream dis = new DataInputStream(in);
+        if (dis.readUnsignedByte() != MAP) {
+            throw new StreamCorruptedException("Encoded JobDataMap doesn't start with a map");
+        }
+        return readMap(dis);
+    }
+
+    private void writeValue(DataOutputStream out, Object value) throws IOException {
+        if (value == null) {
+            out.writeByte(NULL);
+            return;
+        }
+        Class<?> type = value.getClass();
+        if (type == String.class) {
+            out.writeByte(STRING);
+            writeString(out, (String) value);
+        } else if (type == Integer.class) {
+            out.writeByte(INTEGER);
+            writeVarLong(out, zigZag((Integer) value));
+        } else if (type == Long.class) {
+            out.writeByte(LONG);
+            writeVarLong(out, zigZag((Long) value));
+        } else if (type == Boolean.class) {
+            out.writeByte((Boolean) value ? TRUE : FALSE);
+        } else if (type == Double.class) {
+            out.writeByte(DOUBLE);
+            out.writeDouble((Double) value);
+        } else if (type == Float.class) {
+            out.writeByte(FLOAT);
+            out.writeFloat((Float) value);
+        } else if (type == Short.class) {
+            out.writeByte(SHORT);
+            out.writeShort((Short) value);
+        } else if (type == Byte.class) {
+            out.writeByte(BYTE);
+            out.writeByte((Byte) value);
+        } else if (type == Character.class) {
+            out.writeByte(CHARACTER);
+            out.writeChar((Character) value);
+        } else if (type == Date.class) {
+            out.writeByte(DATE);
+            writeVarLong(out, zigZag(((Date) value).getTime()));
+        } else if (type == byte[].class) {
+            out.writeByte(BYTES);
+            byte[] bytes = (byte[]) value;
+            writeVarLong(out, bytes.length);
+            out.write(bytes);
+        } else if (type == ArrayList.class) {
+            List<?> list = (List<?>) value;
+            out.writeByte(LIST);
+            writeVarLong(out, list.size());
+            for (Object element : list) {
+                writeValue(out, element);
+            }
+        } else if (type == HashMap.class) {
+            writeMap(out, (Map<?, ?>) value);
+        } else if (value instanceof Serializable) {
+            ByteArrayOutputStream baos = new ByteArrayOutputStream();
+            try (ObjectOutputStream oos = new ObjectOutputStream(baos)) {
+                oos.writeObject(value);
+            }
+            out.writeByte(SERIALIZED);
+            writeVarLong(out, baos.size());
+            baos.writeTo(out);
+        } else {
+            throw new NotSerializableException(type.getName());
+        }
+    }
+
+    private void writeMap(DataOutputStream out, Map<?, ?> map) throws IOException {
+        out.writeByte(MAP);
+        writeVarLong(out, map.size());
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            writeValue(out, entry.getKey());
+            writeValue(out, entry.getValue());
+        }
+    }
+
+    private Object readValue(DataInputStream in) throws IOException, ClassNotFoundException {
+        int tag = in.readUnsignedByte();
+        switch (tag) {
+            case NULL:
+                return null;
+            case STRING:
+                return readString(in);
+            case INTEGER:
+                return (int) unZigZag(readVarLong(in));
+            case LONG:
+                return unZigZag(readVarLong(in));
+            case TRUE:
+                return Boolean.TRUE;
+            case FALSE:
+                return Boolean.FALSE;
+            case DOUBLE:
+                return in.readDouble();
+            case FLOAT:
+                return in.readFloat();
+            case SHORT:
+                return in.readShort();
+            case BYTE:
+                return in.readByte();
+            case CHARACTER:
+                return in.readChar();
+            case DATE:
+                return new Date(unZigZag(readVarLong(in)));
+            case BYTES:
+                return readBytes(in);
+            case LIST: {
+                int size = readLength(in);
+                List<Object> list = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    list.add(readValue(in));
+                }
+                return list;
+            }
+            case MAP:
+                return readMap(in);
+            case SERIALIZED:
+                try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(readBytes(in)))) {
+                    return ois.readObject();
+                }
+            default:
+                throw new StreamCorruptedException("Unknown value tag in encoded JobDataMap: " + tag);
+        }
+    }
+
+    private Map<Object, Object> readMap(DataInputStream in) throws IOException, ClassNotFoundException {
+        int size = readLength(in);
+        Map<Object, Object> map = new HashMap<>(Math.max(16, (int) (size / 0.75f) + 1));
+        for (int i = 0; i < size; i++) {
+            Object key = readValue(in);
+            map.put(key, readValue(in));
+        }
+        return map;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(out, bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        return new String(readBytes(in), StandardCharsets.UTF_8);
+    }
+
+    private static byte[] readBytes(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[readLength(in)];
+        in.readFully(bytes);
+        return bytes;
+    }
+
+    private static int readLength(DataInputStream in) throws IOException {
+        long length = readVarLong(in);
+        if (length < 0 || length > Integer.MAX_VALUE) {
+            throw new StreamCorruptedException("Invalid length in encoded JobDataMap: " + length);
+        }
+        return (int) length;
+    }
+
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    private static long readVarLong(DataInputStream in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new StreamCorruptedException("Malformed variable-length integer in encoded JobDataMap");
+    }
+}
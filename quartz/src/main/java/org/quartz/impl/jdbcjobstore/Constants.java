@@ -104,8 +104,22 @@ public interface Constants {
 
     String COL_MISFIRE_INSTRUCTION = "MISFIRE_INSTR";
 
+    // only read and written when triggers are acquired in partitions
+    String COL_TRIGGER_PARTITION = "TRIGGER_PARTITION";
+
     String ALIAS_COL_NEXT_FIRE_TIME = "ALIAS_NXT_FR_TM";
 
+    // joined trigger acquisition column aliases
+    String ALIAS_COL_JOB_DESCRIPTION = "ALIAS_JOB_DESC";
+
+    String ALIAS_COL_JOB_DATAMAP = "ALIAS_JOB_DATA";
+
+    String ALIAS_COL_SIMPLE_TRIGGER_NAME = "ALIAS_SMPL_TRG_NM";
+
+    String ALIAS_COL_CRON_TRIGGER_NAME = "ALIAS_CRON_TRG_NM";
+
+    String ALIAS_COL_SIMPROP_TRIGGER_NAME = "ALIAS_SPRP_TRG_NM";
+
     // TABLE_SIMPLE_TRIGGERS columns names
     String COL_REPEAT_COUNT = "REPEAT_COUNT";
 
@@ -21,6 +21,7 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.List;
 import java.util.TimeZone;
 
 import org.quartz.CronScheduleBuilder;
@@ -34,10 +35,20 @@ public class CronTriggerPersistenceDelegate implements TriggerPersistenceDelegat
 
     protected String tablePrefix;
     protected String schedNameLiteral;
+    private String deleteSql;
+    private String insertSql;
+    private String selectSql;
+    private String updateSql;
 
     public void initialize(String theTablePrefix, String schedName) {
         this.tablePrefix = theTablePrefix;
         this.schedNameLiteral = "'" + schedName + "'";
+
+        // expanded once, as they run for every trigger stored or fired
+        this.deleteSql = Util.rtp(DELETE_CRON_TRIGGER, tablePrefix, schedNameLiteral);
+        this.insertSql = Util.rtp(INSERT_CRON_TRIGGER, tablePrefix, schedNameLiteral);
+        this.selectSql = Util.rtp(SELECT_CRON_TRIGGER, tablePrefix, schedNameLiteral);
+        this.updateSql = Util.rtp(UPDATE_CRON_TRIGGER, tablePrefix, schedNameLiteral);
     }
 
     public String getHandledTriggerTypeDiscriminator() {
@@ -53,7 +64,7 @@ public class CronTriggerPersistenceDelegate implements TriggerPersistenceDelegat
         PreparedStatement ps = null;
 
         try {
-            ps = conn.prepareStatement(Util.rtp(DELETE_CRON_TRIGGER, tablePrefix, schedNameLiteral));
+            ps = conn.prepareStatement(deleteSql);
             ps.setString(1, triggerKey.getName());
             ps.setString(2, triggerKey.getGroup());
 
@@ -65,16 +76,11 @@ public class CronTriggerPersistenceDelegate implements TriggerPersistenceDelegat
 
     public int insertExtendedTriggerProperties(Connection conn, OperableTrigger trigger, String state, JobDetail jobDetail) throws SQLException, IOException {
 
-        CronTrigger cronTrigger = (CronTrigger)trigger;
-        
         PreparedStatement ps = null;
         
         try {
-            ps = conn.prepareStatement(Util.rtp(INSERT_CRON_TRIGGER, tablePrefix, schedNameLiteral));
-            ps.setString(1, trigger.getKey().getName());
-            ps.setString(2, trigger.getKey().getGroup());
-            ps.setString(3, cronTrigger.getCronExpression());
-            ps.setString(4, cronTrigger.getTimeZone().getID());
+            ps = conn.prepareStatement(insertSql);
+            setInsertParameters(ps, (CronTrigger) trigger);
 
             return ps.executeUpdate();
         } finally {
@@ -82,27 +88,44 @@ public class CronTriggerPersistenceDelegate implements TriggerPersistenceDelegat
         }
     }
 
+    @Override
+    public int[] insertExtendedTriggerProperties(Connection conn, List<OperableTrigger> triggers, List<String> states, List<JobDetail> jobDetails) throws SQLException, IOException {
+
+        PreparedStatement ps = null;
+
+        try {
+            ps = conn.prepareStatement(insertSql);
+            for (OperableTrigger trigger : triggers) {
+                setInsertParameters(ps, (CronTrigger) trigger);
+                ps.addBatch();
+            }
+
+            return ps.executeBatch();
+        } finally {
+            Util.closeStatement(ps);
+        }
+    }
+
+    private void setInsertParameters(PreparedStatement ps, CronTrigger cronTrigger) throws SQLException {
+        ps.setString(1, cronTrigger.getKey().getName());
+        ps.setString(2, cronTrigger.getKey().getGroup());
+        ps.setString(3, cronTrigger.getCronExpression());
+        ps.setString(4, cronTrigger.getTimeZone().getID());
+    }
+
     public TriggerPropertyBundle loadExtendedTriggerProperties(Connection conn, TriggerKey triggerKey) throws SQLException {
 
         PreparedStatement ps = null;
         ResultSet rs = null;
         
         try {
-            ps = conn.prepareStatement(Util.rtp(SELECT_CRON_TRIGGER, tablePrefix, schedNameLiteral));
+            ps = conn.prepareStatement(selectSql);
             ps.setString(1, triggerKey.getName());
             ps.setString(2, triggerKey.getGroup());
             rs = ps.executeQuery();
 
             if (rs.next()) {
-                String cronExpr = rs.getString(COL_CRON_EXPRESSION);
-                String timeZoneId = rs.getString(COL_TIME_ZONE_ID);
-
-                CronScheduleBuilder cb = CronScheduleBuilder.cronSchedule(cronExpr);
-              
-                if (timeZoneId != null) 
-                    cb.inTimeZone(TimeZone.getTimeZone(timeZoneId));
-                
-                return new TriggerPropertyBundle(cb, null, null);
+                return readExtendedTriggerProperties(rs);
             }
             
             throw new IllegalStateException("No record found for selection of Trigger with key: '" + triggerKey + "' and statement: " + Util.rtp(SELECT_CRON_TRIGGER, tablePrefix, schedNameLiteral));
@@ -112,18 +135,33 @@ public class CronTriggerPersistenceDelegate implements TriggerPersistenceDelegat
         }
     }
 
-    public int updateExtendedTriggerProperties(Connection conn, OperableTrigger trigger, String state, JobDetail jobDetail) throws SQLException, IOException {
+    @Override
+    public TriggerPropertyBundle loadExtendedTriggerProperties(ResultSet rs, TriggerKey triggerKey) throws SQLException {
+        if (rs.getString(ALIAS_COL_CRON_TRIGGER_NAME) == null) {
+            return null;
+        }
+        return readExtendedTriggerProperties(rs);
+    }
 
-        CronTrigger cronTrigger = (CronTrigger)trigger;
+    private TriggerPropertyBundle readExtendedTriggerProperties(ResultSet rs) throws SQLException {
+        String cronExpr = rs.getString(COL_CRON_EXPRESSION);
+        String timeZoneId = rs.getString(COL_TIME_ZONE_ID);
+
+        CronScheduleBuilder cb = CronScheduleBuilder.cronSchedule(cronExpr);
+      
+        if (timeZoneId != null) 
+            cb.inTimeZone(TimeZone.getTimeZone(timeZoneId));
         
+        return new TriggerPropertyBundle(cb, null, null);
+    }
+
+    public int updateExtendedTriggerProperties(Connection conn, OperableTrigger trigger, String state, JobDetail jobDetail) throws SQLException, IOException {
+
         PreparedStatement ps = null;
 
         try {
-            ps = conn.prepareStatement(Util.rtp(UPDATE_CRON_TRIGGER, tablePrefix, schedNameLiteral));
-            ps.setString(1, cronTrigger.getCronExpression());
-            ps.setString(2, cronTrigger.getTimeZone().getID());
-            ps.setString(3, trigger.getKey().getName());
-            ps.setString(4, trigger.getKey().getGroup());
+            ps = conn.prepareStatement(updateSql);
+            setUpdateParameters(ps, (CronTrigger) trigger);
             
             return ps.executeUpdate();
         } finally {
@@ -131,4 +169,29 @@ public class CronTriggerPersistenceDelegate implements TriggerPersistenceDelegat
         }
     }
 
+    @Override
+    public int[] updateExtendedTriggerProperties(Connection conn, List<OperableTrigger> triggers, List<String> states, List<JobDetail> jobDetails) throws SQLException, IOException {
+
+        PreparedStatement ps = null;
+
+        try {
+            ps = conn.prepareStatement(updateSql);
+            for (OperableTrigger trigger : triggers) {
+                setUpdateParameters(ps, (CronTrigger) trigger);
+                ps.addBatch();
+            }
+            
+            return ps.executeBatch();
+        } finally {
+            Util.closeStatement(ps);
+        }
+    }
+
+    private void setUpdateParameters(PreparedStatement ps, CronTrigger cronTrigger) throws SQLException {
+        ps.setString(1, cronTrigger.getCronExpression());
+        ps.setString(2, cronTrigger.getTimeZone().getID());
+        ps.setString(3, cronTrigger.getKey().getName());
+        ps.setString(4, cronTrigger.getKey().getGroup());
+    }
+
 }
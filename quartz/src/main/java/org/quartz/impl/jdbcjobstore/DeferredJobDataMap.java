@@ -0,0 +1,33 @@
+/* 
+ * Copyright IBM Corp. 2024, 2025
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not 
+ * use this file except in compliance with the License. You may obtain a copy 
+ * of the License at 
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0 
+ *   
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT 
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the 
+ * License for the specific language governing permissions and limitations 
+ * under the License.
+ * 
+ */
+package org.quartz.impl.jdbcjobstore;
+
+import org.quartz.JobDataMap;
+
+/**
+ * <p>
+ * Stands in for the <code>JobDataMap</code> of a trigger that was selected
+ * for acquisition without it; the job store reads the actual map when the
+ * trigger fires.
+ * </p>
+ * 
+ * @see JobStoreSupport#triggerFired(java.sql.Connection, org.quartz.spi.OperableTrigger)
+ */
+final class DeferredJobDataMap extends JobDataMap {
+
+    private static final long serialVersionUID = 4312780203478261316L;
+}
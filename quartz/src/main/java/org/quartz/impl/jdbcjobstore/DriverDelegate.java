@@ -21,7 +21,13 @@ package org.quartz.impl.jdbcjobstore;
 import java.io.IOException;
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.quartz.Calendar;
@@ -30,9 +36,12 @@ import org.quartz.JobDataMap;
 import org.quartz.JobDetail;
 import org.quartz.JobKey;
 import org.quartz.JobPersistenceException;
+import org.quartz.Scheduler;
+import org.quartz.SimpleTrigger;
 import org.quartz.Trigger;
 import org.quartz.TriggerKey;
 import org.quartz.impl.matchers.GroupMatcher;
+import org.quartz.impl.triggers.SimpleTriggerImpl;
 import org.quartz.spi.ClassLoadHelper;
 import org.quartz.spi.OperableTrigger;
 import org.quartz.utils.Key;
@@ -143,6 +152,35 @@ public interface DriverDelegate {
      */
     boolean hasMisfiredTriggersInState(Connection conn, String state1, 
         long ts, int count, List<TriggerKey> resultList) throws SQLException;
+
+    /**
+     * <p>
+     * Get the names of the misfired triggers exactly as
+     * {@link #hasMisfiredTriggersInState(Connection, String, long, int, List)}
+     * does, but also load each trigger, with its <code>JobDataMap</code>, in
+     * the same round trip where the delegate is able to.
+     * </p>
+     * 
+     * <p>
+     * This default implementation only selects the keys; the job store then
+     * loads every trigger on its own.
+     * </p>
+     * 
+     * @param conn the DB Connection
+     * @param count the most misfired triggers to return, negative for all
+     * @param resultList Output parameter.  The keys of the misfired triggers.
+     *      Must not be null.
+     * @param triggers Output parameter.  The misfired triggers the delegate
+     *      could load, by key.  Must not be null.
+     *          
+     * @return Whether there are more misfired triggers left to find beyond
+     *         the given count.
+     */
+    default boolean hasMisfiredTriggersInState(Connection conn, String state1,
+        long ts, int count, List<TriggerKey> resultList, Map<TriggerKey, OperableTrigger> triggers)
+        throws SQLException {
+        return hasMisfiredTriggersInState(conn, state1, ts, count, resultList);
+    }
     
     /**
      * <p>
@@ -237,6 +275,30 @@ public interface DriverDelegate {
     int insertJobDetail(Connection conn, JobDetail job)
         throws IOException, SQLException;
 
+    /**
+     * <p>
+     * Insert the job detail records of the given jobs, as if by
+     * {@link #insertJobDetail(Connection, JobDetail)} for each, but in as
+     * few round trips as the delegate can.
+     * </p>
+     * 
+     * @param conn
+     *          the DB Connection
+     * @param jobs
+     *          the jobs to insert
+     * @return the number of rows inserted for each job, in order
+     * @throws IOException
+     *           if there were problems serializing a JobDataMap
+     */
+    default int[] insertJobDetails(Connection conn, List<JobDetail> jobs)
+        throws IOException, SQLException {
+        int[] counts = new int[jobs.size()];
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = insertJobDetail(conn, jobs.get(i));
+        }
+        return counts;
+    }
+
     /**
      * <p>
      * Update the job detail record.
@@ -304,6 +366,28 @@ public interface DriverDelegate {
     boolean jobExists(Connection conn, JobKey jobKey)
         throws SQLException;
 
+    /**
+     * <p>
+     * Select which of the given jobs exist.
+     * </p>
+     * 
+     * @param conn
+     *          the DB Connection
+     * @param jobKeys
+     *          the keys of the jobs to look for
+     * @return the keys of the jobs that exist
+     */
+    default Set<JobKey> selectExistingJobKeys(Connection conn, Collection<JobKey> jobKeys)
+        throws SQLException {
+        Set<JobKey> existing = new HashSet<>();
+        for (JobKey jobKey : jobKeys) {
+            if (jobExists(conn, jobKey)) {
+                existing.add(jobKey);
+            }
+        }
+        return existing;
+    }
+
     /**
      * <p>
      * Update the job data map for the given job.
@@ -395,6 +479,32 @@ public interface DriverDelegate {
     int insertTrigger(Connection conn, OperableTrigger trigger, String state,
         JobDetail jobDetail) throws SQLException, IOException;
 
+    /**
+     * <p>
+     * Insert the given triggers, as if by
+     * {@link #insertTrigger(Connection, OperableTrigger, String, JobDetail)}
+     * for each, but in as few round trips as the delegate can.
+     * </p>
+     * 
+     * @param conn
+     *          the DB Connection
+     * @param triggers
+     *          the triggers to insert
+     * @param states
+     *          the state that each trigger should be stored in
+     * @param jobDetails
+     *          the job of each trigger
+     * @return the number of trigger rows inserted for each trigger, in order
+     */
+    default int[] insertTriggers(Connection conn, List<OperableTrigger> triggers, List<String> states,
+        List<JobDetail> jobDetails) throws SQLException, IOException {
+        int[] counts = new int[triggers.size()];
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = insertTrigger(conn, triggers.get(i), states.get(i), jobDetails.get(i));
+        }
+        return counts;
+    }
+
     /**
      * <p>
      * Update the base trigger data.
@@ -411,6 +521,32 @@ public interface DriverDelegate {
     int updateTrigger(Connection conn, OperableTrigger trigger, String state,
         JobDetail jobDetail) throws SQLException, IOException;
 
+    /**
+     * <p>
+     * Update the given triggers, as if by
+     * {@link #updateTrigger(Connection, OperableTrigger, String, JobDetail)}
+     * for each, but in as few round trips as the delegate can.
+     * </p>
+     * 
+     * @param conn
+     *          the DB Connection
+     * @param triggers
+     *          the triggers to update
+     * @param states
+     *          the state that each trigger should be stored in
+     * @param jobDetails
+     *          the job of each trigger
+     * @return the number of rows updated for each trigger, in order
+     */
+    default int[] updateTriggers(Connection conn, List<OperableTrigger> triggers, List<String> states,
+        List<JobDetail> jobDetails) throws SQLException, IOException {
+        int[] counts = new int[triggers.size()];
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = updateTrigger(conn, triggers.get(i), states.get(i), jobDetails.get(i));
+        }
+        return counts;
+    }
+
     /**
      * <p>
      * Check whether or not a trigger exists.
@@ -423,6 +559,28 @@ public interface DriverDelegate {
      */
     boolean triggerExists(Connection conn, TriggerKey triggerKey) throws SQLException;
 
+    /**
+     * <p>
+     * Select which of the given triggers exist.
+     * </p>
+     * 
+     * @param conn
+     *          the DB Connection
+     * @param triggerKeys
+     *          the keys of the triggers to look for
+     * @return the keys of the triggers that exist
+     */
+    default Set<TriggerKey> selectExistingTriggerKeys(Connection conn, Collection<TriggerKey> triggerKeys)
+        throws SQLException {
+        Set<TriggerKey> existing = new HashSet<>();
+        for (TriggerKey triggerKey : triggerKeys) {
+            if (triggerExists(conn, triggerKey)) {
+                existing.add(triggerKey);
+            }
+        }
+        return existing;
+    }
+
     /**
      * <p>
      * Update the state for a given trigger.
@@ -457,6 +615,34 @@ public interface DriverDelegate {
     int updateTriggerStateFromOtherState(Connection conn,
         TriggerKey triggerKey, String newState, String oldState) throws SQLException;
 
+    /**
+     * <p>
+     * Update each of the given triggers to the given new state, if it is in
+     * the given old state, in as few round trips as the delegate can.
+     * </p>
+     * 
+     * @param conn
+     *          the DB connection
+     * @param triggerKeys
+     *          the triggers to update
+     * @param newState
+     *          the new state for the triggers
+     * @param oldState
+     *          the old state the triggers must be in
+     * @return the number of rows updated for each trigger, in order; this
+     *         may be <code>Statement.SUCCESS_NO_INFO</code> where the JDBC
+     *         driver does not report it
+     * @throws SQLException
+     */
+    default int[] updateTriggerStateFromOtherState(Connection conn,
+        List<TriggerKey> triggerKeys, String newState, String oldState) throws SQLException {
+        int[] counts = new int[triggerKeys.size()];
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = updateTriggerStateFromOtherState(conn, triggerKeys.get(i), newState, oldState);
+        }
+        return counts;
+    }
+
     /**
      * <p>
      * Update the given trigger to the given new state, if it is one of the
@@ -750,6 +936,30 @@ public interface DriverDelegate {
     List<TriggerKey> selectTriggersInState(Connection conn, String state)
         throws SQLException;
 
+    /**
+     * <p>
+     * Select which of the given triggers are in a given state.
+     * </p>
+     * 
+     * @param conn
+     *          the DB Connection
+     * @param triggerKeys
+     *          the keys of the triggers to look for
+     * @param state
+     *          the state the triggers must be in
+     * @return the keys of the triggers in the state
+     */
+    default Set<TriggerKey> selectTriggerKeysInState(Connection conn, Collection<TriggerKey> triggerKeys,
+        String state) throws SQLException {
+        Set<TriggerKey> inState = new HashSet<>();
+        for (TriggerKey triggerKey : triggerKeys) {
+            if (state.equals(selectTriggerState(conn, triggerKey))) {
+                inState.add(triggerKey);
+            }
+        }
+        return inState;
+    }
+
     int insertPausedTriggerGroup(Connection conn, String groupName)
         throws SQLException;
 
@@ -969,6 +1179,155 @@ public interface DriverDelegate {
     List<TriggerKey> selectTriggerToAcquire(Connection conn, long noLaterThan, long noEarlierThan, int maxCount)
         throws SQLException;
 
+    /**
+     * <p>
+     * Select the next triggers to acquire, exactly as
+     * {@link #selectTriggerToAcquire(Connection, long, long, int)} does, but
+     * also load each trigger, and whether its job disallows concurrent
+     * execution, in the same round trip where the delegate is able to.
+     * </p>
+     * 
+     * <p>
+     * This default implementation only selects the keys; the job store then
+     * loads every trigger and job flag on its own.
+     * </p>
+     * 
+     * @param conn
+     *          the DB Connection
+     * @param noLaterThan
+     *          highest value of <code>getNextFireTime()</code> of the triggers (exclusive)
+     * @param noEarlierThan 
+     *          highest value of <code>getNextFireTime()</code> of the triggers (inclusive)
+     * @param maxCount 
+     *          maximum number of triggers allow to acquired in the returning list.
+     * @param loadHelper
+     *          the load helper to load the job classes with
+     *          
+     * @return A (never null, possibly empty) list of the next triggers to be
+     *         fired, in the order of <code>selectTriggerToAcquire</code>.
+     */
+    default List<AcquisitionCandidate> selectTriggersToAcquire(Connection conn, long noLaterThan, long noEarlierThan,
+            int maxCount, ClassLoadHelper loadHelper) throws SQLException {
+        List<TriggerKey> keys = selectTriggerToAcquire(conn, noLaterThan, noEarlierThan, maxCount);
+        List<AcquisitionCandidate> candidates = new ArrayList<>(keys.size());
+        for (TriggerKey key : keys) {
+            candidates.add(new AcquisitionCandidate(key, null, null));
+        }
+        return candidates;
+    }
+
+    /**
+     * <p>
+     * Select the next trigger keys to acquire, exactly as
+     * {@link #selectTriggerToAcquire(Connection, long, long, int)} does, but
+     * only of the triggers whose <code>TRIGGER_PARTITION</code> column holds
+     * the given partition.
+     * </p>
+     * 
+     * <p>
+     * This default implementation throws
+     * <code>SQLFeatureNotSupportedException</code>.
+     * </p>
+     */
+    default List<TriggerKey> selectTriggerToAcquire(Connection conn, long noLaterThan, long noEarlierThan,
+            int maxCount, int partition) throws SQLException {
+        throw new SQLFeatureNotSupportedException(
+                getClass().getName() + " can't acquire triggers by partition");
+    }
+
+    /**
+     * <p>
+     * Select the next triggers to acquire, exactly as
+     * {@link #selectTriggersToAcquire(Connection, long, long, int, ClassLoadHelper)}
+     * does, but only of the triggers whose <code>TRIGGER_PARTITION</code>
+     * column holds the given partition.
+     * </p>
+     * 
+     * <p>
+     * This default implementation only selects the keys, with
+     * {@link #selectTriggerToAcquire(Connection, long, long, int, int)}.
+     * </p>
+     */
+    default List<AcquisitionCandidate> selectTriggersToAcquire(Connection conn, long noLaterThan, long noEarlierThan,
+            int maxCount, ClassLoadHelper loadHelper, int partition) throws SQLException {
+        List<TriggerKey> keys = selectTriggerToAcquire(conn, noLaterThan, noEarlierThan, maxCount, partition);
+        List<AcquisitionCandidate> candidates = new ArrayList<>(keys.size());
+        for (TriggerKey key : keys) {
+            candidates.add(new AcquisitionCandidate(key, null, null));
+        }
+        return candidates;
+    }
+
+    /**
+     * <p>
+     * Select the <code>TRIGGER_PARTITION</code> column of every trigger.
+     * </p>
+     * 
+     * @return the partition of each trigger, <code>null</code> for those
+     *         that were stored without one
+     */
+    default Map<TriggerKey, Integer> selectTriggerPartitions(Connection conn) throws SQLException {
+        throw new SQLFeatureNotSupportedException(
+                getClass().getName() + " can't acquire triggers by partition");
+    }
+
+    /**
+     * <p>
+     * Select up to the given number of the triggers that were stored without
+     * a <code>TRIGGER_PARTITION</code>.
+     * </p>
+     */
+    default List<TriggerKey> selectTriggersWithoutPartition(Connection conn, int maxCount) throws SQLException {
+        throw new SQLFeatureNotSupportedException(
+                getClass().getName() + " can't acquire triggers by partition");
+    }
+
+    /**
+     * <p>
+     * Set the <code>TRIGGER_PARTITION</code> column of the given triggers,
+     * more than one as a JDBC batch.
+     * </p>
+     */
+    default void updateTriggerPartitions(Connection conn, Map<TriggerKey, Integer> partitions) throws SQLException {
+        throw new SQLFeatureNotSupportedException(
+                getClass().getName() + " can't acquire triggers by partition");
+    }
+
+    /**
+     * <p>
+     * Whether the database behind the given connection can lock the triggers
+     * it selects for acquisition with <code>SELECT ... FOR UPDATE SKIP
+     * LOCKED</code>, so that several nodes of a cluster can acquire triggers
+     * concurrently instead of taking turns on the <code>TRIGGER_ACCESS</code>
+     * lock.
+     * </p>
+     * 
+     * @return false, unless the delegate implements
+     *         <code>{@link #selectAndLockTriggersToAcquire(Connection, long, long, int, ClassLoadHelper)}</code>
+     *         for the database.
+     */
+    default boolean supportsSkipLocked(Connection conn) throws SQLException {
+        return false;
+    }
+
+    /**
+     * <p>
+     * Select the next triggers to acquire, like
+     * <code>{@link #selectTriggersToAcquire(Connection, long, long, int, ClassLoadHelper)}</code>,
+     * locking the selected trigger rows for the rest of the transaction and
+     * skipping the rows other transactions have already locked.
+     * </p>
+     * 
+     * <p>
+     * Only called when <code>{@link #supportsSkipLocked(Connection)}</code>
+     * returns true; this default implementation locks nothing.
+     * </p>
+     */
+    default List<AcquisitionCandidate> selectAndLockTriggersToAcquire(Connection conn, long noLaterThan,
+            long noEarlierThan, int maxCount, ClassLoadHelper loadHelper) throws SQLException {
+        return selectTriggersToAcquire(conn, noLaterThan, noEarlierThan, maxCount, loadHelper);
+    }
+
     /**
      * <p>
      * Insert a fired trigger.
@@ -985,6 +1344,31 @@ public interface DriverDelegate {
     int insertFiredTrigger(Connection conn, OperableTrigger trigger,
         String state, JobDetail jobDetail) throws SQLException;
 
+    /**
+     * <p>
+     * Insert a fired trigger for each of the given triggers, in as few round
+     * trips as the delegate can.
+     * </p>
+     * 
+     * @param conn
+     *          the DB Connection
+     * @param triggers
+     *          the triggers
+     * @param state
+     *          the state that the triggers should be stored in
+     * @param jobDetails
+     *          the job of each trigger, or <code>null</code> if none are known
+     * @return the number of rows inserted for each trigger, in order
+     */
+    default int[] insertFiredTriggers(Connection conn, List<OperableTrigger> triggers,
+        String state, List<JobDetail> jobDetails) throws SQLException {
+        int[] counts = new int[triggers.size()];
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = insertFiredTrigger(conn, triggers.get(i), state, jobDetails == null ? null : jobDetails.get(i));
+        }
+        return counts;
+    }
+
     /**
      * <p>
      * Update a fired trigger record.  Will update the fields  
@@ -1002,6 +1386,31 @@ public interface DriverDelegate {
     int updateFiredTrigger(Connection conn, OperableTrigger trigger,
         String state, JobDetail jobDetail) throws SQLException;
 
+    /**
+     * <p>
+     * Update the fired trigger record of each of the given triggers, in as
+     * few round trips as the delegate can.
+     * </p>
+     * 
+     * @param conn
+     *          the DB Connection
+     * @param triggers
+     *          the triggers
+     * @param state
+     *          the state that the triggers should be stored in
+     * @param jobDetails
+     *          the job of each trigger, or <code>null</code> if none are known
+     * @return the number of rows updated for each trigger, in order
+     */
+    default int[] updateFiredTriggers(Connection conn, List<OperableTrigger> triggers,
+        String state, List<JobDetail> jobDetails) throws SQLException {
+        int[] counts = new int[triggers.size()];
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = updateFiredTrigger(conn, triggers.get(i), state, jobDetails == null ? null : jobDetails.get(i));
+        }
+        return counts;
+    }
+
     /**
      * <p>
      * Select the states of all fired-trigger records for a given trigger, or
@@ -1033,6 +1442,175 @@ public interface DriverDelegate {
     List<FiredTriggerRecord> selectInstancesFiredTriggerRecords(Connection conn,
         String instanceName) throws SQLException;
 
+    /**
+     * <p>
+     * Update the triggers acquired by the given scheduler instance to the
+     * given new state, if they are still in the <code>ACQUIRED</code> state.
+     * </p>
+     * 
+     * <p>
+     * This default implementation updates each trigger with its own
+     * statement.
+     * </p>
+     * 
+     * @param conn
+     *          the DB Connection
+     * @param instanceName
+     *          the scheduler instance whose fired-trigger records to release
+     * @param newState
+     *          the new state for the triggers
+     * @return the number of triggers updated
+     */
+    default int updateAcquiredTriggerStatesForInstance(Connection conn, String instanceName,
+        String newState) throws SQLException {
+        int count = 0;
+        for (FiredTriggerRecord rec : selectInstancesFiredTriggerRecords(conn, instanceName)) {
+            if (rec.getFireInstanceState().equals(Constants.STATE_ACQUIRED)) {
+                count += updateTriggerStateFromOtherState(conn, rec.getTriggerKey(), newState,
+                        Constants.STATE_ACQUIRED);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * <p>
+     * Update the triggers in the given old state to the given new state, if
+     * their job has a fired-trigger record of the given scheduler instance
+     * that either disallows concurrent execution or is in the old state
+     * itself.
+     * </p>
+     * 
+     * <p>
+     * This default implementation updates the triggers of each job with its
+     * own statement.
+     * </p>
+     * 
+     * @param conn
+     *          the DB Connection
+     * @param instanceName
+     *          the scheduler instance whose fired-trigger records block the
+     *          triggers
+     * @param newState
+     *          the new state for the triggers
+     * @param oldState
+     *          the old state the triggers must be in
+     * @return the number of triggers updated
+     */
+    default int updateBlockedTriggerStatesForInstance(Connection conn, String instanceName,
+        String newState, String oldState) throws SQLException {
+        Set<JobKey> jobKeys = new HashSet<>();
+        for (FiredTriggerRecord rec : selectInstancesFiredTriggerRecords(conn, instanceName)) {
+            if (rec.getJobKey() != null
+                    && (rec.isJobDisallowsConcurrentExecution() || rec.getFireInstanceState().equals(oldState))) {
+                jobKeys.add(rec.getJobKey());
+            }
+        }
+        int count = 0;
+        for (JobKey jobKey : jobKeys) {
+            count += updateTriggerStatesForJobFromOtherState(conn, jobKey, newState, oldState);
+        }
+        return count;
+    }
+
+    /**
+     * <p>
+     * Build the recovery triggers for the jobs of the given scheduler
+     * instance that were executing and request recovery, skipping jobs that
+     * no longer exist.
+     * </p>
+     * 
+     * <p>
+     * Like <code>{@link #selectTriggersForRecoveringJobs(Connection)}</code>,
+     * the caller is responsible for calling <code>computeFirstFireTime</code>
+     * on each returned trigger, and for inserting it.
+     * </p>
+     * 
+     * <p>
+     * This default implementation checks each job and reads each trigger's
+     * job data with its own statement.
+     * </p>
+     * 
+     * @param conn
+     *          the DB Connection
+     * @param instanceName
+     *          the failed scheduler instance
+     * @return the recovery triggers, in the order the jobs were scheduled
+     */
+    default List<OperableTrigger> selectRecoveryTriggersForInstance(Connection conn, String instanceName)
+        throws SQLException, IOException, ClassNotFoundException {
+        long dumId = System.currentTimeMillis();
+        List<OperableTrigger> list = new ArrayList<>();
+        for (FiredTriggerRecord rec : selectInstancesFiredTriggerRecords(conn, instanceName)) {
+            if (rec.getFireInstanceState().equals(Constants.STATE_ACQUIRED) || !rec.isJobRequestsRecovery()
+                    || !jobExists(conn, rec.getJobKey())) {
+                continue;
+            }
+            TriggerKey tKey = rec.getTriggerKey();
+            @SuppressWarnings("deprecation")
+            SimpleTriggerImpl rcvryTrig = new SimpleTriggerImpl("recover_"
+                    + instanceName + "_" + dumId++,
+                    Scheduler.DEFAULT_RECOVERY_GROUP, new Date(rec.getScheduleTimestamp()));
+            rcvryTrig.setJobName(rec.getJobKey().getName());
+            rcvryTrig.setJobGroup(rec.getJobKey().getGroup());
+            rcvryTrig.setPriority(rec.getPriority());
+            rcvryTrig.setMisfireInstruction(SimpleTrigger.MISFIRE_INSTRUCTION_IGNORE_MISFIRE_POLICY);
+
+            JobDataMap jd = selectTriggerJobDataMap(conn, tKey.getName(), tKey.getGroup());
+            jd.put(Scheduler.FAILED_JOB_ORIGINAL_TRIGGER_NAME, tKey.getName());
+            jd.put(Scheduler.FAILED_JOB_ORIGINAL_TRIGGER_GROUP, tKey.getGroup());
+            jd.put(Scheduler.FAILED_JOB_ORIGINAL_TRIGGER_FIRETIME_IN_MILLISECONDS, String.valueOf(rec.getFireTimestamp()));
+            jd.put(Scheduler.FAILED_JOB_ORIGINAL_TRIGGER_SCHEDULED_FIRETIME_IN_MILLISECONDS, String.valueOf(rec.getScheduleTimestamp()));
+            rcvryTrig.setJobDataMap(jd);
+
+            list.add(rcvryTrig);
+        }
+        return list;
+    }
+
+    /**
+     * <p>
+     * Select the keys of the <code>COMPLETE</code> triggers that have
+     * fired-trigger records of the given scheduler instance, and of no other
+     * instance.
+     * </p>
+     * 
+     * <p>
+     * Deleting the instance's fired-trigger records leaves these triggers
+     * with none, so they can then be removed.
+     * </p>
+     * 
+     * @param conn
+     *          the DB Connection
+     * @param instanceName
+     *          the failed scheduler instance
+     * @return the keys of the triggers
+     */
+    default List<TriggerKey> selectCompleteTriggerKeysForInstance(Connection conn, String instanceName)
+        throws SQLException {
+        Set<TriggerKey> triggerKeys = new HashSet<>();
+        for (FiredTriggerRecord rec : selectInstancesFiredTriggerRecords(conn, instanceName)) {
+            triggerKeys.add(rec.getTriggerKey());
+        }
+        List<TriggerKey> list = new ArrayList<>();
+        for (TriggerKey triggerKey : triggerKeys) {
+            if (!Constants.STATE_COMPLETE.equals(selectTriggerState(conn, triggerKey))) {
+                continue;
+            }
+            boolean firedElsewhere = false;
+            for (FiredTriggerRecord rec : selectFiredTriggerRecords(conn, triggerKey.getName(), triggerKey.getGroup())) {
+                if (!rec.getSchedulerInstanceId().equals(instanceName)) {
+                    firedElsewhere = true;
+                    break;
+                }
+            }
+            if (!firedElsewhere) {
+                list.add(triggerKey);
+            }
+        }
+        return list;
+    }
+
     
     /**
      * <p>
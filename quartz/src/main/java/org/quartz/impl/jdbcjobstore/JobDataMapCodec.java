@@ -0,0 +1,63 @@
+/* 
+ * Copyright IBM Corp. 2024, 2025
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not 
+ * use this file except in compliance with the License. You may obtain a copy 
+ * of the License at 
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0 
+ *   
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT 
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the 
+ * License for the specific language governing permissions and limitations 
+ * under the License.
+ * 
+ */
+package org.quartz.impl.jdbcjobstore;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Map;
+
+/**
+ * <p>
+ * Encodes the <code>{@link org.quartz.JobDataMap}</code>s of jobs and
+ * triggers for the <code>JOB_DATA</code> columns, in place of Java
+ * serialization.
+ * </p>
+ * 
+ * <p>
+ * The driver delegate writes the codec's format byte ahead of the encoded
+ * map, which tells the rows apart from the ones that hold a serialized map
+ * (whose first byte is always <code>0xAC</code>) when they are read back.
+ * A codec is configured through the delegate's init string, e.g.
+ * <code>jobDataMapCodecClass=org.quartz.impl.jdbcjobstore.CompactJobDataMapCodec</code>.
+ * </p>
+ * 
+ * @see CompactJobDataMapCodec
+ */
+public interface JobDataMapCodec {
+
+    /**
+     * The byte that starts the rows written by this codec.  It must not be
+     * <code>0xAC</code>, nor the format of <code>{@link CompactJobDataMapCodec}</code>
+     * unless this is that codec.
+     */
+    byte getFormat();
+
+    /**
+     * Write the given map, not including the format byte.
+     * 
+     * @throws java.io.NotSerializableException
+     *           if a value can't be encoded
+     */
+    void encode(Map<?, ?> data, OutputStream out) throws IOException;
+
+    /**
+     * Read a map written by <code>{@link #encode(Map, OutputStream)}</code>,
+     * the format byte having been read already.
+     */
+    Map<?, ?> decode(InputStream in) throws IOException, ClassNotFoundException;
+}
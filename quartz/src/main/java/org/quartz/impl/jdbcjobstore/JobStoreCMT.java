@@ -142,6 +142,15 @@ public class JobStoreCMT extends JobStoreSupport {
             setUseDBLocks(true);
         }
 
+        if (getJobCacheMaxSize() > 0 || getCalendarCacheMaxSize() > 0) {
+            // the container commits after executeInLock returns, so a cache
+            // cleared there could be filled again with the uncommitted rows
+            getLog().warn("The job and calendar caches are not used with JobStoreCMT, "
+                    + "ignoring 'jobCacheMaxSize' and 'calendarCacheMaxSize'.");
+            setJobCacheMaxSize(0);
+            setCalendarCacheMaxSize(0);
+        }
+
         super.initialize(loadHelper, signaler);
 
         getLog().info("JobStoreCMT initialized.");
@@ -241,6 +250,8 @@ public class JobStoreCMT extends JobStoreSupport {
 
             return txCallback.execute(conn);
         } finally {
+            clearCachesIfInvalidatedInTx();
+            noteChange(lockName);
             try {
                 releaseLock(lockName, transOwner);
             } finally {
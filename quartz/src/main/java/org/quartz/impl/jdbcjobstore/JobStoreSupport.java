@@ -23,14 +23,31 @@ import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Proxy;
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.quartz.Calendar;
 import org.quartz.Job;
@@ -86,6 +103,11 @@ public abstract class JobStoreSupport implements JobStore, Constants {
 
     protected static final String LOCK_STATE_ACCESS = "STATE_ACCESS";
 
+    // seconds, as Connection.isValid() takes them
+    private static final int PINNED_CONNECTION_VALIDATION_TIMEOUT = 5;
+
+    private static final int MAX_RECOVERY_CHUNK_ATTEMPTS = 4;
+
     /*
      * ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
      * 
@@ -96,6 +118,12 @@ public abstract class JobStoreSupport implements JobStore, Constants {
 
     protected String dsName;
 
+    private String readDataSource;
+
+    private long readStalenessTolerance = 5000L;
+
+    private volatile long lastChangeTime = 0L;
+
     protected String tablePrefix = DEFAULT_TABLE_PREFIX;
 
     protected boolean useProperties = false;
@@ -112,6 +140,33 @@ public abstract class JobStoreSupport implements JobStore, Constants {
 
     protected final HashMap<String, Calendar> calendarCache = new HashMap<>();
 
+    private int statementCacheSize = 0;
+
+    private boolean pinAcquisitionConnection = false;
+
+    private long pinnedConnectionValidationInterval = 30000L;
+
+    // only used by the thread that pinned it
+    private volatile Connection pinnedConnection = null;
+
+    private volatile Thread pinnedConnectionOwner = null;
+
+    private long pinnedConnectionLastUsed = 0L;
+
+    private final LongAdder pinnedConnectionReconnectCount = new LongAdder();
+
+    private int jobCacheMaxSize = 0;
+
+    private int calendarCacheMaxSize = 0;
+
+    private long cacheTimeToLive = 60000L;
+
+    private BoundedCache<JobKey, JobDetail> jobCache = null;
+
+    private BoundedCache<String, Calendar> boundedCalendarCache = null;
+
+    private final ThreadLocal<Boolean> cachesInvalidatedInTx = new ThreadLocal<>();
+
     private DriverDelegate delegate;
 
     private long misfireThreshold = 60000L; // one minute
@@ -130,6 +185,12 @@ public abstract class JobStoreSupport implements JobStore, Constants {
 
     private long clusterCheckinInterval = 7500L;
 
+    private boolean adaptiveClusterCheckin = false;
+
+    private volatile long nextFailedInstanceScan = 0L;
+
+    private final LongAdder piggybackedCheckinCount = new LongAdder();
+
     private ClusterManager clusterManagementThread = null;
 
     private MisfireHandler misfireHandler = null;
@@ -139,11 +200,67 @@ public abstract class JobStoreSupport implements JobStore, Constants {
     private SchedulerSignaler schedSignaler;
 
     protected int maxToRecoverAtATime = 20;
+
+    private int misfireBacklogBatchSize = 500;
+
+    // whether the last misfire pass left misfired triggers behind
+    private volatile boolean misfireBacklogPending = false;
+
+    private int recoveryBatchSize = 0;
+
+    private int recoveryThreadCount = 1;
+
+    private final List<RecoveryWorker> recoveryWorkers = new CopyOnWriteArrayList<>();
+
+    private long completionBatchInterval = 0L;
+
+    private int completionBatchMaxSize = 100;
+
+    private CompletionBatcher completionBatcher = null;
+
+    private final LongAdder completedTriggerCount = new LongAdder();
+
+    private final LongAdder completionTransactionCount = new LongAdder();
+
+    private final LongAdder completionLockHoldNanos = new LongAdder();
+
+    private final LongAdder recoveredMisfireCount = new LongAdder();
+
+    private final LongAdder bulkRecoveredMisfireCount = new LongAdder();
+
+    // -1 until the misfired triggers are counted
+    private volatile int misfireBacklog = -1;
+
+    private volatile long misfireLag = 0L;
+
+    private final LongAdder clusterRecoveryCount = new LongAdder();
+
+    private final LongAdder clusterRecoveryNanos = new LongAdder();
+
+    private volatile long lastClusterRecoveryNanos = 0L;
     
     private boolean setTxIsolationLevelSequential = false;
     
     private boolean acquireTriggersWithinLock = false;
     
+    private boolean acquireTriggersWithJoinedQuery = true;
+    
+    private boolean acquireTriggersWithSkipLocked = false;
+    
+    private volatile boolean skipLockedAcquisition = false;
+
+    private int triggerAccessPartitions = 0;
+
+    // null until the partitions are assigned, which means all of them
+    private volatile int[] ownedTriggerPartitions = null;
+
+    private static final int TRIGGER_PARTITION_BATCH_SIZE = 500;
+
+    // only advanced by the scheduler thread
+    private int nextTriggerPartition = 0;
+
+    private int bulkStoreChunkSize = 0;
+
     private long dbRetryInterval = 15000L; // 15 secs
     
     private boolean makeThreadsDaemons = false;
@@ -188,6 +305,45 @@ public abstract class JobStoreSupport implements JobStore, Constants {
         return dsName;
     }
 
+    /**
+     * <p>
+     * Set the name of the <code>DataSource</code> of a read replica of the
+     * database, to which read-only management queries (such as
+     * <code>{@link #getJobKeys(GroupMatcher)}</code> or
+     * <code>{@link #getTriggerState(TriggerKey)}</code>) are sent instead of
+     * the primary one.  Only allowed when clustered, since the lag of the
+     * replica is measured by the cluster check-ins.  Defaults to none.
+     * </p>
+     * 
+     * @see #setReadStalenessTolerance(long)
+     * @see PrimaryReads
+     */
+    @SuppressWarnings("UnusedDeclaration") /* called reflectively */
+    public void setReadDataSource(String readDataSource) {
+        this.readDataSource = readDataSource;
+    }
+
+    public String getReadDataSource() {
+        return readDataSource;
+    }
+
+    /**
+     * <p>
+     * Set the number of milliseconds the read replica may lag behind the
+     * primary database.  The lag is measured by reading this instance's
+     * last cluster check-in from the replica; while it is further behind
+     * than this, the queries are sent to the primary.  Defaults to 5000.
+     * </p>
+     */
+    @SuppressWarnings("UnusedDeclaration") /* called reflectively */
+    public void setReadStalenessTolerance(long readStalenessTolerance) {
+        this.readStalenessTolerance = readStalenessTolerance;
+    }
+
+    public long getReadStalenessTolerance() {
+        return readStalenessTolerance;
+    }
+
     /**
      * <p>
      * Set the prefix that should be pre-pended to all table names.
@@ -326,6 +482,30 @@ public abstract class JobStoreSupport implements JobStore, Constants {
         clusterCheckinInterval = l;
     }
 
+    /**
+     * <p>
+     * Get whether the cluster check-in adapts to the scheduler's activity:
+     * the check-in is refreshed by the transactions acquiring triggers where
+     * possible, and failed instances are scanned for less often the more
+     * instances there are.  The default is <code>false</code>.
+     * </p>
+     */
+    public boolean isAdaptiveClusterCheckin() {
+        return adaptiveClusterCheckin;
+    }
+
+    /**
+     * <p>
+     * Set whether the cluster check-in adapts to the scheduler's activity.
+     * </p>
+     * 
+     * @see #isAdaptiveClusterCheckin()
+     */
+    @SuppressWarnings("UnusedDeclaration") /* called reflectively */
+    public void setAdaptiveClusterCheckin(boolean adaptiveClusterCheckin) {
+        this.adaptiveClusterCheckin = adaptiveClusterCheckin;
+    }
+
     /**
      * <p>
      * Get the maximum number of misfired triggers that the misfire handling
@@ -349,6 +529,357 @@ public abstract class JobStoreSupport implements JobStore, Constants {
         this.maxToRecoverAtATime = maxToRecoverAtATime;
     }
 
+    public int getMisfireBacklogBatchSize() {
+        return misfireBacklogBatchSize;
+    }
+
+    /**
+     * <p>
+     * Set the maximum number of misfired triggers that the misfire handling
+     * thread will try to recover in one transaction while working through a
+     * backlog, that is, after a pass that left misfired triggers behind.
+     * Such passes follow each other without a pause.  It is never less than
+     * <code>maxMisfiresToHandleAtATime</code>.  The default is 500.
+     * </p>
+     */
+    @SuppressWarnings("UnusedDeclaration") /* called reflectively */
+    public void setMisfireBacklogBatchSize(int misfireBacklogBatchSize) {
+        if (misfireBacklogBatchSize < 1) {
+            throw new IllegalArgumentException(
+                    "Misfire backlog batch size must be larger than 0");
+        }
+        this.misfireBacklogBatchSize = misfireBacklogBatchSize;
+    }
+
+    public int getRecoveryBatchSize() {
+        return recoveryBatchSize;
+    }
+
+    /**
+     * <p>
+     * Set the number of fired trigger records that start-up recovery of a
+     * non-clustered store handles per transaction.  When not set, everything
+     * is recovered in a single transaction before the scheduler starts.
+     * Setting it makes recovery run in the background, in transactions of at
+     * most this many records, while triggers are already being acquired and
+     * fired; misfires are then left to the misfire handler.  A chunk that
+     * still fails after a few attempts is skipped, and its records are left
+     * for the next start-up.
+     * </p>
+     *
+     * @see #setRecoveryThreadCount(int)
+     */
+    @SuppressWarnings("UnusedDeclaration") /* called reflectively */
+    public void setRecoveryBatchSize(int recoveryBatchSize) {
+        if (recoveryBatchSize < 1) {
+            throw new IllegalArgumentException(
+                    "Recovery batch size must be larger than 0");
+        }
+        this.recoveryBatchSize = recoveryBatchSize;
+    }
+
+    public int getRecoveryThreadCount() {
+        return recoveryThreadCount;
+    }
+
+    /**
+     * <p>
+     * Set the number of threads that perform background start-up recovery,
+     * when a <code>recoveryBatchSize</code> is set.  The default is 1.  Note
+     * that recovery transactions only run concurrently with each other when
+     * <code>lockOnInsert</code> is <code>false</code>.
+     * </p>
+     */
+    @SuppressWarnings("UnusedDeclaration") /* called reflectively */
+    public void setRecoveryThreadCount(int recoveryThreadCount) {
+        if (recoveryThreadCount < 1) {
+            throw new IllegalArgumentException(
+                    "Recovery thread count must be larger than 0");
+        }
+        this.recoveryThreadCount = recoveryThreadCount;
+    }
+
+    public long getCompletionBatchInterval() {
+        return completionBatchInterval;
+    }
+
+    /**
+     * <p>
+     * The number of milliseconds for which the completions of fired triggers
+     * (see {@link #triggeredJobComplete(OperableTrigger, JobDetail, CompletedExecutionInstruction)})
+     * are gathered from the worker threads before they are committed together,
+     * in a single transaction that takes the <code>TRIGGER_ACCESS</code> lock
+     * once.  Each worker thread still waits for its completion to be committed.
+     * Defaults to 0, which commits every completion in its own transaction.
+     * </p>
+     */
+    @SuppressWarnings("UnusedDeclaration") /* called reflectively */
+    public void setCompletionBatchInterval(long completionBatchInterval) {
+        this.completionBatchInterval = completionBatchInterval;
+    }
+
+    public int getCompletionBatchMaxSize() {
+        return completionBatchMaxSize;
+    }
+
+    /**
+     * <p>
+     * The most completions committed in one transaction when
+     * <code>completionBatchInterval</code> is set; a batch that fills up is
+     * committed without waiting out the interval.  Defaults to 100.
+     * </p>
+     */
+    @SuppressWarnings("UnusedDeclaration") /* called reflectively */
+    public void setCompletionBatchMaxSize(int completionBatchMaxSize) {
+        this.completionBatchMaxSize = completionBatchMaxSize;
+    }
+
+    /**
+     * <p>
+     * The number of trigger completions committed since the job store was
+     * initialized; sampling it gives the completions per second.
+     * </p>
+     */
+    public long getCompletedTriggerCount() {
+        return completedTriggerCount.sum();
+    }
+
+    /**
+     * <p>
+     * The number of transactions the trigger completions were committed in.
+     * </p>
+     */
+    public long getCompletionTransactionCount() {
+        return completionTransactionCount.sum();
+    }
+
+    /**
+     * <p>
+     * The total number of milliseconds for which the transactions committing
+     * trigger completions held the <code>TRIGGER_ACCESS</code> lock.
+     * </p>
+     */
+    public long getCompletionLockHoldTime() {
+        return TimeUnit.NANOSECONDS.toMillis(completionLockHoldNanos.sum());
+    }
+
+    /**
+     * <p>
+     * The number of misfired triggers whose misfire instructions have been
+     * applied since the job store was initialized.
+     * </p>
+     */
+    public long getRecoveredMisfireCount() {
+        return recoveredMisfireCount.sum();
+    }
+
+    /**
+     * <p>
+     * The number of the recovered misfired triggers that were updated
+     * together in a batch, rather than one by one.
+     * </p>
+     */
+    public long getBulkRecoveredMisfireCount() {
+        return bulkRecoveredMisfireCount.sum();
+    }
+
+    /**
+     * <p>
+     * The number of misfired triggers left to recover after the misfire
+     * handler's last pass, or -1 if some are left but they are not counted
+     * (see <code>{@link #getDoubleCheckLockMisfireHandler()}</code>).
+     * </p>
+     */
+    public int getMisfireBacklog() {
+        return misfireBacklog;
+    }
+
+    /**
+     * <p>
+     * How many milliseconds past its fire time the oldest misfired trigger
+     * was when the misfire handler last recovered misfires, or 0 if it found
+     * none.
+     * </p>
+     */
+    public long getMisfireLag() {
+        return misfireLag;
+    }
+
+    /**
+     * <p>
+     * The number of times this instance has recovered the in-progress work
+     * of failed (or restarted) instances of the cluster.
+     * </p>
+     */
+    public long getClusterRecoveryCount() {
+        return clusterRecoveryCount.sum();
+    }
+
+    /**
+     * <p>
+     * The total number of milliseconds this instance has spent recovering
+     * failed instances, while holding the <code>TRIGGER_ACCESS</code> lock.
+     * </p>
+     */
+    public long getClusterRecoveryTime() {
+        return TimeUnit.NANOSECONDS.toMillis(clusterRecoveryNanos.sum());
+    }
+
+    /**
+     * <p>
+     * How many milliseconds the last recovery of failed instances took, or 0
+     * if there has been none.
+     * </p>
+     */
+    public long getLastClusterRecoveryTime() {
+        return TimeUnit.NANOSECONDS.toMillis(lastClusterRecoveryNanos);
+    }
+
+    /**
+     * <p>
+     * The number of cluster check-ins that were made by the transactions
+     * acquiring triggers, rather than by a transaction of their own (see
+     * <code>{@link #isAdaptiveClusterCheckin()}</code>).
+     * </p>
+     */
+    public long getPiggybackedCheckinCount() {
+        return piggybackedCheckinCount.sum();
+    }
+
+    public int getStatementCacheSize() {
+        return statementCacheSize;
+    }
+
+    /**
+     * <p>
+     * The most <code>PreparedStatement</code>s kept open on each connection
+     * the job store obtains, so that a transaction that runs the same
+     * statement several times (firing or completing a batch of triggers,
+     * recovering misfires, ...) prepares it only once.  Only worth setting
+     * for data sources whose pool or driver doesn't cache statements itself.
+     * Defaults to 0, which caches no statements.
+     * </p>
+     */
+    @SuppressWarnings("UnusedDeclaration") /* called reflectively */
+    public void setStatementCacheSize(int statementCacheSize) {
+        this.statementCacheSize = statementCacheSize;
+    }
+
+    public boolean isPinAcquisitionConnection() {
+        return pinAcquisitionConnection;
+    }
+
+    /**
+     * <p>
+     * Whether the scheduler thread keeps one connection for acquiring,
+     * firing and releasing triggers, rather than taking one from the pool
+     * (and setting it up) for every transaction.  The connection is
+     * validated when it has been idle for longer than
+     * <code>{@link #getPinnedConnectionValidationInterval()}</code>, and
+     * replaced after any failure.  Defaults to <code>false</code>.
+     * </p>
+     */
+    @SuppressWarnings("UnusedDeclaration") /* called reflectively */
+    public void setPinAcquisitionConnection(boolean pinAcquisitionConnection) {
+        this.pinAcquisitionConnection = pinAcquisitionConnection;
+    }
+
+    public long getPinnedConnectionValidationInterval() {
+        return pinnedConnectionValidationInterval;
+    }
+
+    /**
+     * <p>
+     * The number of milliseconds the pinned acquisition connection may be
+     * idle before it is validated again on its next use.  Defaults to 30000.
+     * </p>
+     * 
+     * @see #setPinAcquisitionConnection(boolean)
+     */
+    @SuppressWarnings("UnusedDeclaration") /* called reflectively */
+    public void setPinnedConnectionValidationInterval(long pinnedConnectionValidationInterval) {
+        this.pinnedConnectionValidationInterval = pinnedConnectionValidationInterval;
+    }
+
+    /**
+     * <p>
+     * The number of times the pinned acquisition connection has been
+     * obtained, which is once plus once per failed or invalid connection
+     * that was replaced.
+     * </p>
+     */
+    public long getPinnedConnectionReconnectCount() {
+        return pinnedConnectionReconnectCount.sum();
+    }
+
+    public int getJobCacheMaxSize() {
+        return jobCacheMaxSize;
+    }
+
+    /**
+     * <p>
+     * The most <code>JobDetail</code>s kept in memory, so that firing a
+     * trigger doesn't re-read and deserialize its job every time.  Jobs that
+     * persist their data after execution are never cached.  Defaults to 0,
+     * which disables the cache.
+     * </p>
+     */
+    @SuppressWarnings("UnusedDeclaration") /* called reflectively */
+    public void setJobCacheMaxSize(int jobCacheMaxSize) {
+        this.jobCacheMaxSize = jobCacheMaxSize;
+    }
+
+    public int getCalendarCacheMaxSize() {
+        return calendarCacheMaxSize;
+    }
+
+    /**
+     * <p>
+     * The most <code>Calendar</code>s kept in memory.  Defaults to 0, which
+     * keeps the previous behavior: every calendar is cached for good when not
+     * clustered, and none are when clustered.
+     * </p>
+     */
+    @SuppressWarnings("UnusedDeclaration") /* called reflectively */
+    public void setCalendarCacheMaxSize(int calendarCacheMaxSize) {
+        this.calendarCacheMaxSize = calendarCacheMaxSize;
+    }
+
+    public long getCacheTimeToLive() {
+        return cacheTimeToLive;
+    }
+
+    /**
+     * <p>
+     * The number of milliseconds a cached job or calendar is used before it
+     * is read again, bounding how long a change made directly in the
+     * database goes unnoticed.  Changes made through any scheduler of a
+     * cluster are seen by the others at their next check-in, which clears
+     * their caches.  Defaults to 60000; 0 keeps entries until they are
+     * evicted or invalidated.
+     * </p>
+     */
+    @SuppressWarnings("UnusedDeclaration") /* called reflectively */
+    public void setCacheTimeToLive(long cacheTimeToLive) {
+        this.cacheTimeToLive = cacheTimeToLive;
+    }
+
+    public long getJobCacheHitCount() {
+        return jobCache == null ? 0L : jobCache.getHitCount();
+    }
+
+    public long getJobCacheMissCount() {
+        return jobCache == null ? 0L : jobCache.getMissCount();
+    }
+
+    public long getCalendarCacheHitCount() {
+        return boundedCalendarCache == null ? 0L : boundedCalendarCache.getHitCount();
+    }
+
+    public long getCalendarCacheMissCount() {
+        return boundedCalendarCache == null ? 0L : boundedCalendarCache.getMissCount();
+    }
+
     /**
      * @return Returns the dbRetryInterval.
      */
@@ -483,6 +1014,101 @@ public abstract class JobStoreSupport implements JobStore, Constants {
         this.acquireTriggersWithinLock = acquireTriggersWithinLock;
     }
 
+    /**
+     * Whether the triggers to acquire are selected together with their
+     * extended properties and jobs in a single joined query (see
+     * {@link DriverDelegate#selectTriggersToAcquire(Connection, long, long, int, ClassLoadHelper)}),
+     * rather than loaded one statement at a time after selecting their keys.
+     */
+    public boolean isAcquireTriggersWithJoinedQuery() {
+        return acquireTriggersWithJoinedQuery;
+    }
+
+    /**
+     * Whether the triggers to acquire are selected together with their
+     * extended properties and jobs in a single joined query.  Defaults to
+     * true; set it to false if the database handles the join poorly, or if
+     * the driver delegate customizes <code>selectTriggerToAcquire</code>.
+     */
+    @SuppressWarnings("UnusedDeclaration") /* called reflectively */
+    public void setAcquireTriggersWithJoinedQuery(boolean acquireTriggersWithJoinedQuery) {
+        this.acquireTriggersWithJoinedQuery = acquireTriggersWithJoinedQuery;
+    }
+
+    /**
+     * Whether triggers are acquired by locking their rows with
+     * <code>SELECT ... FOR UPDATE SKIP LOCKED</code> instead of under the
+     * <code>TRIGGER_ACCESS</code> lock, where the database supports it.
+     */
+    public boolean isAcquireTriggersWithSkipLocked() {
+        return acquireTriggersWithSkipLocked;
+    }
+
+    /**
+     * Whether triggers are acquired by locking their rows with
+     * <code>SELECT ... FOR UPDATE SKIP LOCKED</code> (see
+     * {@link DriverDelegate#selectAndLockTriggersToAcquire(Connection, long, long, int, ClassLoadHelper)}),
+     * so that the nodes of a cluster acquire different triggers at the same
+     * time instead of taking turns on the <code>TRIGGER_ACCESS</code> lock.
+     * Defaults to false.  On databases whose driver delegate does not support
+     * it (see {@link DriverDelegate#supportsSkipLocked(Connection)}) the
+     * triggers are acquired as usual.
+     */
+    @SuppressWarnings("UnusedDeclaration") /* called reflectively */
+    public void setAcquireTriggersWithSkipLocked(boolean acquireTriggersWithSkipLocked) {
+        this.acquireTriggersWithSkipLocked = acquireTriggersWithSkipLocked;
+    }
+
+    /**
+     * The number of partitions triggers are acquired in, or 0 if they are
+     * all acquired under the single <code>TRIGGER_ACCESS</code> lock.
+     */
+    public int getTriggerAccessPartitions() {
+        return triggerAccessPartitions;
+    }
+
+    /**
+     * Split the triggers into the given number of partitions by the hash of
+     * their keys, each acquired under its own <code>TRIGGER_ACCESS_n</code>
+     * lock.  When clustered the partitions are shared out among the live
+     * instances at every check-in, so that each node acquires its own set of
+     * triggers instead of taking turns on the <code>TRIGGER_ACCESS</code>
+     * lock.  Defaults to 0 (no partitions).  Ignored when triggers are
+     * acquired with <code>SKIP LOCKED</code>.
+     * 
+     * <p>The partition of each trigger is stored in the indexed
+     * <code>TRIGGER_PARTITION</code> column, which the acquisition query
+     * filters on.  Triggers stored without it are assigned at start-up and
+     * by the misfire handler.</p>
+     */
+    @SuppressWarnings("UnusedDeclaration") /* called reflectively */
+    public void setTriggerAccessPartitions(int triggerAccessPartitions) {
+        this.triggerAccessPartitions = triggerAccessPartitions;
+    }
+
+    /**
+     * The number of jobs and triggers that
+     * {@link #storeJobsAndTriggers(Map, boolean)} stores per transaction, or 0
+     * if it stores them all in one.
+     */
+    public int getBulkStoreChunkSize() {
+        return bulkStoreChunkSize;
+    }
+
+    /**
+     * Commit the jobs and triggers of
+     * {@link #storeJobsAndTriggers(Map, boolean)} in transactions of about the
+     * given number of them (a job is never split from its triggers), so that
+     * storing a large bulk neither holds the <code>TRIGGER_ACCESS</code> lock
+     * for the whole of it nor grows one huge transaction.  If a chunk fails,
+     * the chunks committed before it stay stored.  Defaults to 0 (a single
+     * transaction).
+     */
+    @SuppressWarnings("UnusedDeclaration") /* called reflectively */
+    public void setBulkStoreChunkSize(int bulkStoreChunkSize) {
+        this.bulkStoreChunkSize = bulkStoreChunkSize;
+    }
+
     
     /**
      * <p>
@@ -652,6 +1278,13 @@ public abstract class JobStoreSupport implements JobStore, Constants {
         
         this.schedSignaler = signaler;
 
+        if (getJobCacheMaxSize() > 0) {
+            jobCache = new BoundedCache<>(getJobCacheMaxSize(), getCacheTimeToLive());
+        }
+        if (getCalendarCacheMaxSize() > 0) {
+            boundedCalendarCache = new BoundedCache<>(getCalendarCacheMaxSize(), getCacheTimeToLive());
+        }
+
         // If the user hasn't specified an explicit lock handler, then 
         // choose one based on CMT/Clustered/UseDBLocks.
         if (getLockHandler() == null) {
@@ -679,6 +1312,10 @@ public abstract class JobStoreSupport implements JobStore, Constants {
             }
         }
 
+        if (getReadDataSource() != null && !isClustered()) {
+            throw new SchedulerConfigException("The read data source '" + getReadDataSource()
+                    + "' can only be used when clustered, as the cluster check-ins measure how far it lags behind.");
+        }
     }
    
     /**
@@ -686,6 +1323,29 @@ public abstract class JobStoreSupport implements JobStore, Constants {
      */
     public void schedulerStarted() throws SchedulerException {
 
+        if (isAcquireTriggersWithSkipLocked()) {
+            skipLockedAcquisition = executeInNonManagedTXLock(null,
+                    conn -> {
+                        try {
+                            return getDelegate().supportsSkipLocked(conn);
+                        } catch (SQLException e) {
+                            throw new JobPersistenceException("Couldn't read database metadata: " + e.getMessage(), e);
+                        }
+                    }, null);
+            if (!skipLockedAcquisition) {
+                getLog().info("The database does not support SKIP LOCKED, triggers will be acquired under the " + LOCK_TRIGGER_ACCESS + " lock.");
+            }
+        }
+
+        if (getTriggerAccessPartitions() > 0 && !skipLockedAcquisition) {
+            try {
+                partitionAllTriggers();
+            } catch (JobPersistenceException e) {
+                throw new SchedulerConfigException("Couldn't assign the triggers to their partitions - triggerAccessPartitions "
+                        + "needs the " + COL_TRIGGER_PARTITION + " column of the " + TABLE_TRIGGERS + " table, see the migration guide.", e);
+            }
+        }
+
         if (isClustered()) {
             clusterManagementThread = new ClusterManager();
             if(initializersLoader != null)
@@ -693,7 +1353,11 @@ public abstract class JobStoreSupport implements JobStore, Constants {
             clusterManagementThread.initialize();
         } else {
             try {
-                recoverJobs();
+                if (getRecoveryBatchSize() > 0) {
+                    startIncrementalRecovery();
+                } else {
+                    recoverJobs();
+                }
             } catch (SchedulerException se) {
                 throw new SchedulerConfigException(
                         "Failure occurred during job recovery.", se);
@@ -704,6 +1368,13 @@ public abstract class JobStoreSupport implements JobStore, Constants {
         if(initializersLoader != null)
             misfireHandler.setContextClassLoader(initializersLoader);
         misfireHandler.initialize();
+
+        if (getCompletionBatchInterval() > 0) {
+            completionBatcher = new CompletionBatcher();
+            if(initializersLoader != null)
+                completionBatcher.setContextClassLoader(initializersLoader);
+            completionBatcher.initialize();
+        }
         schedulerRunning = true;
         
         getLog().debug("JobStore background threads started (as scheduler was started).");
@@ -743,11 +1414,38 @@ public abstract class JobStoreSupport implements JobStore, Constants {
             }
         }
 
+        for (RecoveryWorker recoveryWorker : recoveryWorkers) {
+            recoveryWorker.shutdown();
+            try {
+                recoveryWorker.join();
+            } catch (InterruptedException ignore) {
+            }
+        }
+
+        if (completionBatcher != null) {
+            // commits (or fails) the completions still queued
+            completionBatcher.shutdown();
+            try {
+                completionBatcher.join();
+            } catch (InterruptedException ignore) {
+            }
+        }
+
+        discardPinnedConnection();
+
         try {
             DBConnectionManager.getInstance().shutdown(getDataSource());
         } catch (SQLException sqle) {
             getLog().warn("Database connection shutdown unsuccessful.", sqle);
         }        
+
+        if (getReadDataSource() != null) {
+            try {
+                DBConnectionManager.getInstance().shutdown(getReadDataSource());
+            } catch (SQLException sqle) {
+                getLog().warn("Read database connection shutdown unsuccessful.", sqle);
+            }
+        }
         
         getLog().debug("JobStore background threads shutdown.");
     }
@@ -772,7 +1470,9 @@ public abstract class JobStoreSupport implements JobStore, Constants {
         return (Connection)Proxy.newProxyInstance(
                 Thread.currentThread().getContextClassLoader(),
                 new Class[] { Connection.class },
-                new AttributeRestoringConnectionInvocationHandler(conn));
+                (getStatementCacheSize() > 0)
+                        ? new StatementCachingConnectionInvocationHandler(conn, getStatementCacheSize())
+                        : new AttributeRestoringConnectionInvocationHandler(conn));
     }
     
     protected Connection getConnection() throws JobPersistenceException {
@@ -833,13 +1533,25 @@ public abstract class JobStoreSupport implements JobStore, Constants {
      * @throws JobPersistenceException if jobs could not be recovered
      */
     protected void recoverJobs() throws JobPersistenceException {
-        executeInNonManagedTXLock(
-            LOCK_TRIGGER_ACCESS,
-            new VoidTransactionCallback() {
-                public void executeVoid(Connection conn) throws JobPersistenceException {
-                    recoverJobs(conn);
-                }
-            }, null);
+        try {
+            executeInNonManagedTXLock(
+                LOCK_TRIGGER_ACCESS,
+                new VoidTransactionCallback() {
+                    public void executeVoid(Connection conn) throws JobPersistenceException {
+                        recoverJobs(conn, true);
+                    }
+                }, null);
+        } catch (MisfireBatchException e) {
+            getLog().warn("Couldn't update {} misfired triggers together, recovering them one by one: {}",
+                    e.size, e.getMessage());
+            executeInNonManagedTXLock(
+                LOCK_TRIGGER_ACCESS,
+                new VoidTransactionCallback() {
+                    public void executeVoid(Connection conn) throws JobPersistenceException {
+                        recoverJobs(conn, false);
+                    }
+                }, null);
+        }
     }
     
     /**
@@ -852,6 +1564,10 @@ public abstract class JobStoreSupport implements JobStore, Constants {
      *           if jobs could not be recovered
      */
     protected void recoverJobs(Connection conn) throws JobPersistenceException {
+        recoverJobs(conn, true);
+    }
+
+    private void recoverJobs(Connection conn, boolean batchMisfires) throws JobPersistenceException {
         try {
             // update inconsistent job states
             int rows = getDelegate().updateTriggerStatesFromOtherStates(conn,
@@ -863,7 +1579,7 @@ public abstract class JobStoreSupport implements JobStore, Constants {
             getLog().info("Freed {} triggers from 'acquired' / 'blocked' state.", rows);
 
             // clean up misfired jobs
-            recoverMisfiredJobs(conn, true);
+            recoverMisfiredJobs(conn, true, batchMisfires);
             
             // recover jobs marked for recovery that were not fully executed
             List<OperableTrigger> recoveringJobTriggers = getDelegate()
@@ -877,19 +1593,162 @@ public abstract class JobStoreSupport implements JobStore, Constants {
                     storeTrigger(conn, recoveringJobTrigger, null, false,
                             STATE_WAITING, false, true);
                 }
-            }
-            getLog().info("Recovery complete.");
+            }
+            getLog().info("Recovery complete.");
+
+            // remove lingering 'complete' triggers...
+            List<TriggerKey> cts = getDelegate().selectTriggersInState(conn, STATE_COMPLETE);
+            for(TriggerKey ct: cts) {
+                removeTrigger(conn, ct);
+            }
+            getLog().info("Removed {} 'complete' triggers.", cts.size());
+            
+            // clean up any fired trigger entries
+            int n = getDelegate().deleteFiredTriggers(conn);
+            getLog().info("Removed {} stale fired job entries.", n);
+        } catch (JobPersistenceException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new JobPersistenceException("Couldn't recover jobs: "
+                    + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * <p>
+     * Start recovering, in the background, the jobs that were in progress at
+     * the time of the last shut-down.  Only freeing 'acquired' and 'blocked'
+     * triggers is done before this method returns; the fired trigger records
+     * left behind, and any lingering 'complete' triggers, are then worked
+     * through by <code>recoveryThreadCount</code> threads in transactions of
+     * at most <code>recoveryBatchSize</code> records, while normal acquisition
+     * proceeds.  Progress is reported to the scheduler listeners.
+     * </p>
+     *
+     * @throws JobPersistenceException
+     *           if the recovery could not be set up
+     */
+    protected void startIncrementalRecovery() throws JobPersistenceException {
+        IncrementalRecovery recovery = executeInNonManagedTXLock(
+                LOCK_TRIGGER_ACCESS, this::prepareIncrementalRecovery, null);
+
+        if (recovery.total == 0) {
+            schedSignaler.notifySchedulerListenersJobRecoveryProgress(0, 0);
+            return;
+        }
+
+        int chunks = recovery.firedTriggerChunks.size() + recovery.completeTriggerChunks.size();
+        int threads = Math.max(1, Math.min(getRecoveryThreadCount(), chunks));
+        for (int i = 0; i < threads; i++) {
+            RecoveryWorker recoveryWorker = new RecoveryWorker(recovery, i);
+            if(initializersLoader != null)
+                recoveryWorker.setContextClassLoader(initializersLoader);
+            recoveryWorkers.add(recoveryWorker);
+            recoveryWorker.initialize();
+        }
+    }
+
+    protected IncrementalRecovery prepareIncrementalRecovery(Connection conn) throws JobPersistenceException {
+        try {
+            // update inconsistent job states
+            int rows = getDelegate().updateTriggerStatesFromOtherStates(conn,
+                    STATE_WAITING, STATE_ACQUIRED, STATE_BLOCKED);
+
+            rows += getDelegate().updateTriggerStatesFromOtherStates(conn,
+                        STATE_PAUSED, STATE_PAUSED_BLOCKED, STATE_PAUSED_BLOCKED);
+
+            getLog().info("Freed {} triggers from 'acquired' / 'blocked' state.", rows);
+
+            List<FiredTriggerRecord> firedTriggerRecs = new ArrayList<>();
+            for (String instance : getDelegate().selectFiredTriggerInstanceNames(conn)) {
+                firedTriggerRecs.addAll(getDelegate().selectInstancesFiredTriggerRecords(conn, instance));
+            }
+            // these records outlive our start, so must not collide with new ones
+            reserveFiredTriggerRecordIds(firedTriggerRecs);
+
+            List<TriggerKey> completeTriggers = getDelegate().selectTriggersInState(conn, STATE_COMPLETE);
+
+            getLog().info("Recovering {} fired trigger records and {} 'complete' triggers left at the time of the last shut-down, {} at a time, in the background.",
+                    firedTriggerRecs.size(), completeTriggers.size(), getRecoveryBatchSize());
+
+            return new IncrementalRecovery(firedTriggerRecs, completeTriggers, getRecoveryBatchSize());
+        } catch (JobPersistenceException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new JobPersistenceException("Couldn't recover jobs: "
+                    + e.getMessage(), e);
+        }
+    }
+
+    private synchronized void reserveFiredTriggerRecordIds(List<FiredTriggerRecord> firedTriggerRecs) {
+        String prefix = getInstanceId();
+        for (FiredTriggerRecord ftRec : firedTriggerRecs) {
+            String id = ftRec.getFireInstanceId();
+            if (id != null && id.startsWith(prefix)) {
+                try {
+                    ftrCtr = Math.max(ftrCtr, Long.parseLong(id.substring(prefix.length())) + 1);
+                } catch (NumberFormatException ignore) {
+                }
+            }
+        }
+    }
+
+    /**
+     * <p>
+     * Recover one chunk of the fired trigger records found at start-up:
+     * delete the records, and schedule recovery of the jobs that requested
+     * it.  Records that are already gone were recovered before, so their
+     * jobs are not scheduled again.  The stateful jobs and the triggers whose
+     * state may need cleaning up afterwards, by
+     * {@link #cleanUpAfterRecovery(Connection, Set, Set)}, are added to the
+     * given sets.
+     * </p>
+     */
+    protected void recoverFiredTriggers(Connection conn,
+            List<FiredTriggerRecord> firedTriggerRecs, IncrementalRecovery recovery,
+            Set<JobKey> statefulJobKeys, Set<TriggerKey> triggerKeys)
+        throws JobPersistenceException {
+        try {
+            for (FiredTriggerRecord ftRec : firedTriggerRecs) {
+                TriggerKey tKey = ftRec.getTriggerKey();
+                JobKey jKey = ftRec.getJobKey();
+
+                if (getDelegate().deleteFiredTrigger(conn, ftRec.getFireInstanceId()) == 0) {
+                    continue;
+                }
+
+                // handle jobs marked for recovery that were not fully executed
+                if (ftRec.isJobRequestsRecovery() && getInstanceId().equals(ftRec.getSchedulerInstanceId())) {
+                    if (jobExists(conn, jKey)) {
+                        @SuppressWarnings("deprecation")
+                        SimpleTriggerImpl rcvryTrig = new SimpleTriggerImpl(
+                                "recover_" + getInstanceId() + "_" + recovery.recoverIds.getAndIncrement(),
+                                Scheduler.DEFAULT_RECOVERY_GROUP,
+                                new Date(ftRec.getScheduleTimestamp()));
+                        rcvryTrig.setJobName(jKey.getName());
+                        rcvryTrig.setJobGroup(jKey.getGroup());
+                        rcvryTrig.setMisfireInstruction(SimpleTrigger.MISFIRE_INSTRUCTION_IGNORE_MISFIRE_POLICY);
+                        rcvryTrig.setPriority(ftRec.getPriority());
+                        JobDataMap jd = getDelegate().selectTriggerJobDataMap(conn, tKey.getName(), tKey.getGroup());
+                        jd.put(Scheduler.FAILED_JOB_ORIGINAL_TRIGGER_NAME, tKey.getName());
+                        jd.put(Scheduler.FAILED_JOB_ORIGINAL_TRIGGER_GROUP, tKey.getGroup());
+                        jd.put(Scheduler.FAILED_JOB_ORIGINAL_TRIGGER_FIRETIME_IN_MILLISECONDS, String.valueOf(ftRec.getFireTimestamp()));
+                        jd.put(Scheduler.FAILED_JOB_ORIGINAL_TRIGGER_SCHEDULED_FIRETIME_IN_MILLISECONDS, String.valueOf(ftRec.getScheduleTimestamp()));
+                        rcvryTrig.setJobDataMap(jd);
+
+                        rcvryTrig.computeFirstFireTime(null);
+                        storeTrigger(conn, rcvryTrig, null, false,
+                                STATE_WAITING, false, true);
+                    } else {
+                        getLog().warn("Failed job '{}' no longer exists, cannot schedule recovery.", jKey);
+                    }
+                }
 
-            // remove lingering 'complete' triggers...
-            List<TriggerKey> cts = getDelegate().selectTriggersInState(conn, STATE_COMPLETE);
-            for(TriggerKey ct: cts) {
-                removeTrigger(conn, ct);
+                if (ftRec.isJobDisallowsConcurrentExecution()) {
+                    statefulJobKeys.add(jKey);
+                }
+                triggerKeys.add(tKey);
             }
-            getLog().info("Removed {} 'complete' triggers.", cts.size());
-            
-            // clean up any fired trigger entries
-            int n = getDelegate().deleteFiredTriggers(conn);
-            getLog().info("Removed {} stale fired job entries.", n);
         } catch (JobPersistenceException e) {
             throw e;
         } catch (Exception e) {
@@ -898,6 +1757,120 @@ public abstract class JobStoreSupport implements JobStore, Constants {
         }
     }
 
+    /**
+     * <p>
+     * Once their fired trigger records are gone, free the triggers of the
+     * given stateful jobs if none of them is executing again by now, and
+     * remove those of the given triggers that are 'complete'.
+     * </p>
+     */
+    protected void cleanUpAfterRecovery(Connection conn, Set<JobKey> jobKeys, Set<TriggerKey> triggerKeys)
+        throws JobPersistenceException {
+        try {
+            for (JobKey jobKey : jobKeys) {
+                if (getDelegate().selectFiredTriggerRecordsByJob(conn, jobKey.getName(), jobKey.getGroup()).isEmpty()) {
+                    getDelegate().updateTriggerStatesForJobFromOtherState(conn, jobKey,
+                            STATE_WAITING, STATE_BLOCKED);
+                    getDelegate().updateTriggerStatesForJobFromOtherState(conn, jobKey,
+                            STATE_PAUSED, STATE_PAUSED_BLOCKED);
+                }
+            }
+            for (TriggerKey triggerKey : triggerKeys) {
+                if (getDelegate().selectTriggerState(conn, triggerKey).equals(STATE_COMPLETE)
+                        && getDelegate().selectFiredTriggerRecords(conn, triggerKey.getName(), triggerKey.getGroup()).isEmpty()) {
+                    removeTrigger(conn, triggerKey);
+                }
+            }
+        } catch (JobPersistenceException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new JobPersistenceException("Couldn't clean up after recovering jobs: "
+                    + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * The work of a background start-up recovery, shared by its
+     * <code>RecoveryWorker</code>s.
+     */
+    protected static class IncrementalRecovery {
+        final Queue<List<FiredTriggerRecord>> firedTriggerChunks = new ConcurrentLinkedQueue<>();
+        final Queue<List<TriggerKey>> completeTriggerChunks = new ConcurrentLinkedQueue<>();
+        final int total;
+        final AtomicInteger processed = new AtomicInteger();
+        final AtomicInteger skipped = new AtomicInteger();
+        final AtomicLong recoverIds = new AtomicLong(System.currentTimeMillis());
+
+        IncrementalRecovery(List<FiredTriggerRecord> firedTriggerRecs, List<TriggerKey> completeTriggers, int batchSize) {
+            for (int i = 0; i < firedTriggerRecs.size(); i += batchSize) {
+                firedTriggerChunks.add(new ArrayList<>(firedTriggerRecs.subList(i, Math.min(i + batchSize, firedTriggerRecs.size()))));
+            }
+            for (int i = 0; i < completeTriggers.size(); i += batchSize) {
+                completeTriggerChunks.add(new ArrayList<>(completeTriggers.subList(i, Math.min(i + batchSize, completeTriggers.size()))));
+            }
+            total = firedTriggerRecs.size() + completeTriggers.size();
+        }
+    }
+
+    /**
+     * Recover one chunk of fired trigger records of an
+     * <code>IncrementalRecovery</code>, in a transaction of its own.
+     * Recovery triggers are inserted under the same locking as any new
+     * trigger.  The stateful jobs and the triggers to clean up afterwards, by
+     * {@link #cleanUpAfterRecoveryChunk(Set, Set)}, are collected in the
+     * given sets.
+     */
+    protected void recoverFiredTriggersChunk(final IncrementalRecovery recovery,
+            final List<FiredTriggerRecord> chunk, final Set<JobKey> statefulJobKeys,
+            final Set<TriggerKey> triggerKeys) throws JobPersistenceException {
+        executeInNonManagedTXLock(isLockOnInsert() ? LOCK_TRIGGER_ACCESS : null, new VoidTransactionCallback() {
+            public void executeVoid(Connection conn) throws JobPersistenceException {
+                statefulJobKeys.clear();
+                triggerKeys.clear();
+                recoverFiredTriggers(conn, chunk, recovery, statefulJobKeys, triggerKeys);
+            }
+        }, null);
+    }
+
+    /**
+     * Clean up, in a transaction of its own holding the trigger lock, after
+     * a chunk of fired trigger records was recovered or to remove a chunk of
+     * the 'complete' triggers found by an <code>IncrementalRecovery</code>.
+     */
+    protected void cleanUpAfterRecoveryChunk(final Set<JobKey> statefulJobKeys,
+            final Set<TriggerKey> triggerKeys) throws JobPersistenceException {
+        executeInNonManagedTXLock(LOCK_TRIGGER_ACCESS, new VoidTransactionCallback() {
+            public void executeVoid(Connection conn) throws JobPersistenceException {
+                cleanUpAfterRecovery(conn, statefulJobKeys, triggerKeys);
+            }
+        }, null);
+    }
+
+    private void reportRecoveryProgress(IncrementalRecovery recovery, int count) {
+        int processed = recovery.processed.addAndGet(count);
+        reportIfRecoveryFinished(recovery, processed + recovery.skipped.get());
+        signalSchedulingChangeImmediately(0L);
+        schedSignaler.notifySchedulerListenersJobRecoveryProgress(processed, recovery.total);
+    }
+
+    private void reportRecoverySkipped(IncrementalRecovery recovery, int count) {
+        int skipped = recovery.skipped.addAndGet(count);
+        reportIfRecoveryFinished(recovery, recovery.processed.get() + skipped);
+    }
+
+    private void reportIfRecoveryFinished(IncrementalRecovery recovery, int finished) {
+        if (finished != recovery.total) {
+            return;
+        }
+        int skipped = recovery.skipped.get();
+        if (skipped == 0) {
+            getLog().info("Recovery complete.");
+        } else {
+            getLog().warn("Recovery finished, {} of {} records were skipped and are left for the next start-up.",
+                    skipped, recovery.total);
+        }
+    }
+
     protected long getMisfireTime() {
         long misfireTime = System.currentTimeMillis();
         if (getMisfireThreshold() > 0) {
@@ -940,20 +1913,35 @@ public abstract class JobStoreSupport implements JobStore, Constants {
     protected RecoverMisfiredJobsResult recoverMisfiredJobs(
         Connection conn, boolean recovering)
         throws JobPersistenceException, SQLException {
+        return recoverMisfiredJobs(conn, recovering, true);
+    }
+
+    /**
+     * With <code>batchUpdates</code>, the loaded triggers that their misfire
+     * instructions give a new fire time are updated together; should that
+     * fail, a {@link MisfireBatchException} is thrown, and the caller must
+     * roll back and repeat the pass without it.
+     */
+    private RecoverMisfiredJobsResult recoverMisfiredJobs(
+        Connection conn, boolean recovering, boolean batchUpdates)
+        throws JobPersistenceException, SQLException {
 
         // If recovering, we want to handle all of the misfired
         // triggers right away.
         int maxMisfiresToHandleAtATime = 
-            (recovering) ? -1 : getMaxMisfiresToHandleAtATime();
+            (recovering) ? -1 : misfireBacklogPending
+                ? Math.max(getMisfireBacklogBatchSize(), getMaxMisfiresToHandleAtATime())
+                : getMaxMisfiresToHandleAtATime();
         
         List<TriggerKey> misfiredTriggers = new LinkedList<>();
+        Map<TriggerKey, OperableTrigger> loadedTriggers = new HashMap<>();
         long earliestNewTime = Long.MAX_VALUE;
         // We must still look for the MISFIRED state in case triggers were left 
         // in this state when upgrading to this version that does not support it. 
         boolean hasMoreMisfiredTriggers =
             getDelegate().hasMisfiredTriggersInState(
                 conn, STATE_WAITING, getMisfireTime(), 
-                maxMisfiresToHandleAtATime, misfiredTriggers);
+                maxMisfiresToHandleAtATime, misfiredTriggers, loadedTriggers);
 
         if (hasMoreMisfiredTriggers) {
             getLog().info("Handling the first {} triggers that missed their scheduled fire-time.  More misfired triggers remain to be processed.", misfiredTriggers.size());
@@ -962,14 +1950,24 @@ public abstract class JobStoreSupport implements JobStore, Constants {
         } else {
             getLog().debug(
                 "Found 0 triggers that missed their scheduled fire-time.");
+            misfireLag = 0L;
             return RecoverMisfiredJobsResult.NO_OP; 
         }
 
+        // the triggers that are loaded already and still have a next fire
+        // time after the misfire are stored together, as a batch
+        List<OperableTrigger> rescheduled = new ArrayList<>();
+        Map<String, Calendar> calendars = new HashMap<>();
+        boolean oldest = true;
+        int recovered = 0;
+
         for (TriggerKey triggerKey: misfiredTriggers) {
-            OperableTrigger trig;
+            OperableTrigger trig = loadedTriggers.get(triggerKey);
 
             try {
-                trig = retrieveTrigger(conn, triggerKey);
+                if (trig == null) {
+                    trig = retrieveTrigger(conn, triggerKey);
+                }
             } catch (Exception e) {
                 getLog().error("Error retrieving the misfired trigger: {}", triggerKey, e);
                 continue;
@@ -979,8 +1977,21 @@ public abstract class JobStoreSupport implements JobStore, Constants {
                 continue;
             }
 
+            if (oldest) {
+                misfireLag = Math.max(0L, System.currentTimeMillis() - trig.getNextFireTime().getTime());
+                oldest = false;
+            }
+
             try {
-                doUpdateOfMisfiredTrigger(conn, trig, false, STATE_WAITING, recovering);
+                if (loadedTriggers.containsKey(triggerKey)) {
+                    if (!doUpdateOfMisfiredTrigger(conn, trig, false, STATE_WAITING, recovering,
+                            calendars, batchUpdates ? rescheduled : null)) {
+                        recovered++;
+                    }
+                } else {
+                    doUpdateOfMisfiredTrigger(conn, trig, false, STATE_WAITING, recovering);
+                    recovered++;
+                }
             } catch (Exception e) {
                 getLog().error("Error updating misfired trigger: {}", trig.getKey(), e);
                 continue;
@@ -989,10 +2000,56 @@ public abstract class JobStoreSupport implements JobStore, Constants {
                 earliestNewTime = trig.getNextFireTime().getTime();
         }
 
+        if (!rescheduled.isEmpty()) {
+            storeRescheduledMisfires(conn, rescheduled);
+            recovered += rescheduled.size();
+        }
+        recoveredMisfireCount.add(recovered);
+
         return new RecoverMisfiredJobsResult(
                 hasMoreMisfiredTriggers, misfiredTriggers.size(), earliestNewTime);
     }
 
+    /**
+     * Store the given misfired triggers, which were in the
+     * <code>WAITING</code> state, after their misfire instructions gave them
+     * a new fire time.  Their groups are not paused (or they would be
+     * <code>PAUSED</code>) and their jobs are not blocked (or they would be
+     * <code>BLOCKED</code>), so they stay <code>WAITING</code> and are updated
+     * in a single batch.
+     *
+     * @throws MisfireBatchException if the batch fails, which may leave the
+     * transaction unusable (PostgreSQL aborts it)
+     */
+    private void storeRescheduledMisfires(Connection conn, List<OperableTrigger> triggers)
+        throws MisfireBatchException {
+        try {
+            getDelegate().updateTriggers(conn, triggers,
+                    Collections.nCopies(triggers.size(), STATE_WAITING),
+                    Collections.nCopies(triggers.size(), (JobDetail) null));
+        } catch (Exception e) {
+            throw new MisfireBatchException(triggers.size(), e);
+        }
+        bulkRecoveredMisfireCount.add(triggers.size());
+    }
+
+    /**
+     * Thrown when the misfired triggers of a pass could not be updated
+     * together.  The pass is then rolled back and done again with the
+     * triggers updated one by one.
+     */
+    private static final class MisfireBatchException extends JobPersistenceException {
+
+        private static final long serialVersionUID = 1L;
+
+        final int size;
+
+        MisfireBatchException(int size, Exception cause) {
+            super(cause.getMessage(), cause);
+            this.size = size;
+        }
+    }
+
     protected boolean updateMisfiredTrigger(Connection conn,
             TriggerKey triggerKey, String newStateIfNotComplete, boolean forceState)
         throws JobPersistenceException {
@@ -1020,9 +2077,26 @@ public abstract class JobStoreSupport implements JobStore, Constants {
     }
 
     private void doUpdateOfMisfiredTrigger(Connection conn, OperableTrigger trig, boolean forceState, String newStateIfNotComplete, boolean recovering) throws JobPersistenceException {
+        doUpdateOfMisfiredTrigger(conn, trig, forceState, newStateIfNotComplete, recovering, null, null);
+    }
+
+    /**
+     * Apply the misfire instruction of the given trigger and store it.  The
+     * calendars retrieved are kept in <code>calendars</code>, if given.  If
+     * <code>rescheduled</code> is given, a trigger that still has a next fire
+     * time is added to it instead of stored, and <code>true</code> returned.
+     */
+    private boolean doUpdateOfMisfiredTrigger(Connection conn, OperableTrigger trig, boolean forceState, String newStateIfNotComplete, boolean recovering,
+            Map<String, Calendar> calendars, List<OperableTrigger> rescheduled) throws JobPersistenceException {
         Calendar cal = null;
         if (trig.getCalendarName() != null) {
-            cal = retrieveCalendar(conn, trig.getCalendarName());
+            cal = calendars != null ? calendars.get(trig.getCalendarName()) : null;
+            if (cal == null) {
+                cal = retrieveCalendar(conn, trig.getCalendarName());
+                if (calendars != null) {
+                    calendars.put(trig.getCalendarName(), cal);
+                }
+            }
         }
 
         schedSignaler.notifyTriggerListenersMisfired(trig);
@@ -1033,10 +2107,14 @@ public abstract class JobStoreSupport implements JobStore, Constants {
             storeTrigger(conn, trig,
                 null, true, STATE_COMPLETE, forceState, recovering);
             schedSignaler.notifySchedulerListenersFinalized(trig);
+        } else if (rescheduled != null) {
+            rescheduled.add(trig);
+            return true;
         } else {
             storeTrigger(conn, trig, null, true, newStateIfNotComplete,
                     forceState, recovering);
         }
+        return false;
     }
 
     /**
@@ -1102,6 +2180,7 @@ public abstract class JobStoreSupport implements JobStore, Constants {
         throws JobPersistenceException {
 
         boolean existingJob = jobExists(conn, newJob.getKey());
+        invalidateCachedJob(newJob.getKey());
         try {
             if (existingJob) {
                 if (!replaceExisting) { 
@@ -1218,6 +2297,7 @@ public abstract class JobStoreSupport implements JobStore, Constants {
                 getDelegate().updateTrigger(conn, newTrigger, state, job);
             } else {
                 getDelegate().insertTrigger(conn, newTrigger, state, job);
+                storeTriggerPartitions(conn, Collections.singletonList(newTrigger));
             }
         } catch (Exception e) {
             throw new JobPersistenceException("Couldn't store trigger '" + newTrigger.getKey() + "' for '" 
@@ -1318,23 +2398,165 @@ public abstract class JobStoreSupport implements JobStore, Constants {
             final Map<JobDetail, Set<? extends Trigger>> triggersAndJobs, final boolean replace)
             throws JobPersistenceException {
 
-        executeInLock(
-                (isLockOnInsert() || replace) ? LOCK_TRIGGER_ACCESS : null,
-                new VoidTransactionCallback() {
+        String lockName = (isLockOnInsert() || replace) ? LOCK_TRIGGER_ACCESS : null;
+        int chunkSize = getBulkStoreChunkSize();
+
+        if (chunkSize <= 0) {
+            executeInLock(lockName, new VoidTransactionCallback() {
+                public void executeVoid(Connection conn) throws JobPersistenceException {
+                    storeJobsAndTriggers(conn, triggersAndJobs.keySet(), triggersAndJobs, replace);
+                }
+            });
+            return;
+        }
+
+        List<JobDetail> chunk = new ArrayList<>();
+        int chunkItems = 0;
+        for (Iterator<JobDetail> jobs = triggersAndJobs.keySet().iterator(); jobs.hasNext(); ) {
+            JobDetail job = jobs.next();
+            Set<? extends Trigger> triggers = triggersAndJobs.get(job);
+            chunk.add(job);
+            chunkItems += 1 + (triggers == null ? 0 : triggers.size());
+
+            if (chunkItems >= chunkSize || !jobs.hasNext()) {
+                final List<JobDetail> chunkJobs = chunk;
+                executeInLock(lockName, new VoidTransactionCallback() {
                     public void executeVoid(Connection conn) throws JobPersistenceException {
-                        
-                        // FUTURE_TODO: make this more efficient with a true bulk operation...
-                        for(JobDetail job: triggersAndJobs.keySet()) {
-                            storeJob(conn, job, replace);
-                            for(Trigger trigger: triggersAndJobs.get(job)) {
-                                storeTrigger(conn, (OperableTrigger) trigger, job, replace,
-                                        Constants.STATE_WAITING, false, false);
+                        storeJobsAndTriggers(conn, chunkJobs, triggersAndJobs, replace);
+                    }
+                });
+                chunk = new ArrayList<>();
+                chunkItems = 0;
+            }
+        }
+    }
+
+    /**
+     * <p>
+     * Insert or update the given jobs and their triggers, as
+     * {@link #storeJob(Connection, JobDetail, boolean)} and
+     * {@link #storeTrigger(Connection, OperableTrigger, JobDetail, boolean, String, boolean, boolean)}
+     * would one by one, but checking which of them exist with a query per
+     * group and inserting the new ones with JDBC batches.
+     * </p>
+     */
+    protected void storeJobsAndTriggers(Connection conn, Collection<JobDetail> jobs,
+            Map<JobDetail, Set<? extends Trigger>> triggersAndJobs, boolean replace)
+        throws JobPersistenceException {
+
+        List<JobKey> jobKeys = new ArrayList<>(jobs.size());
+        List<TriggerKey> triggerKeys = new ArrayList<>();
+        for (JobDetail job : jobs) {
+            jobKeys.add(job.getKey());
+            Set<? extends Trigger> triggers = triggersAndJobs.get(job);
+            if (triggers != null) {
+                for (Trigger trigger : triggers) {
+                    triggerKeys.add(trigger.getKey());
+                }
+            }
+        }
+
+        try {
+            Set<JobKey> existingJobs = new HashSet<>(getDelegate().selectExistingJobKeys(conn, jobKeys));
+            Set<TriggerKey> existingTriggers = new HashSet<>(getDelegate().selectExistingTriggerKeys(conn, triggerKeys));
+
+            List<JobDetail> newJobs = new ArrayList<>();
+            List<OperableTrigger> newTriggers = new ArrayList<>();
+            List<String> newTriggerStates = new ArrayList<>();
+            List<JobDetail> newTriggerJobs = new ArrayList<>();
+            List<OperableTrigger> replacedTriggers = new ArrayList<>();
+            List<String> replacedTriggerStates = new ArrayList<>();
+            List<JobDetail> replacedTriggerJobs = new ArrayList<>();
+            Map<String, Boolean> pausedGroups = new HashMap<>();
+            Boolean allGroupsPaused = null;
+
+            for (JobDetail job : jobs) {
+                boolean existingJob = !existingJobs.add(job.getKey());
+                invalidateCachedJob(job.getKey());
+                if (existingJob) {
+                    if (!replace) {
+                        throw new ObjectAlreadyExistsException(job);
+                    }
+                    if (getDelegate().updateJobDetail(conn, job) < 1) {
+                        newJobs.add(job);
+                    }
+                } else {
+                    newJobs.add(job);
+                }
+
+                Set<? extends Trigger> triggers = triggersAndJobs.get(job);
+                if (triggers == null) {
+                    continue;
+                }
+                // a job deleted while executing and stored again still has
+                // its fired trigger records, so even a new job can be blocked;
+                // its fired triggers are only looked up once for all its triggers
+                boolean blocked = job.isConcurrentExecutionDisallowed()
+                        && STATE_BLOCKED.equals(checkBlockedState(conn, job.getKey(), STATE_WAITING));
+                for (Trigger t : triggers) {
+                    OperableTrigger trigger = (OperableTrigger) t;
+                    // a trigger stored twice replaces the first one, as it would one by one
+                    boolean existingTrigger = !existingTriggers.add(trigger.getKey());
+                    if (existingTrigger && !replace) {
+                        throw new ObjectAlreadyExistsException(trigger);
+                    }
+
+                    String group = trigger.getKey().getGroup();
+                    Boolean paused = pausedGroups.get(group);
+                    if (paused == null) {
+                        paused = getDelegate().isTriggerGroupPaused(conn, group);
+                        if (!paused) {
+                            if (allGroupsPaused == null) {
+                                allGroupsPaused = getDelegate().isTriggerGroupPaused(conn, ALL_GROUPS_PAUSED);
+                            }
+                            if (allGroupsPaused) {
+                                getDelegate().insertPausedTriggerGroup(conn, group);
+                                paused = Boolean.TRUE;
                             }
                         }
+                        pausedGroups.put(group, paused);
                     }
-                });
-    }    
-    
+
+                    String state;
+                    if (blocked) {
+                        state = paused ? STATE_PAUSED_BLOCKED : STATE_BLOCKED;
+                    } else {
+                        state = paused ? STATE_PAUSED : STATE_WAITING;
+                    }
+
+                    if (existingTrigger) {
+                        replacedTriggers.add(trigger);
+                        replacedTriggerStates.add(state);
+                        replacedTriggerJobs.add(job);
+                    } else {
+                        newTriggers.add(trigger);
+                        newTriggerStates.add(state);
+                        newTriggerJobs.add(job);
+                    }
+                }
+            }
+
+            if (!newJobs.isEmpty()) {
+                int[] inserted = getDelegate().insertJobDetails(conn, newJobs);
+                for (int i = 0; i < inserted.length; i++) {
+                    if (inserted[i] == 0 || inserted[i] == Statement.EXECUTE_FAILED) {
+                        throw new JobPersistenceException("Couldn't store job " + newJobs.get(i).getKey() + ". Insert failed.");
+                    }
+                }
+            }
+            if (!newTriggers.isEmpty()) {
+                getDelegate().insertTriggers(conn, newTriggers, newTriggerStates, newTriggerJobs);
+                storeTriggerPartitions(conn, newTriggers);
+            }
+            if (!replacedTriggers.isEmpty()) {
+                getDelegate().updateTriggers(conn, replacedTriggers, replacedTriggerStates, replacedTriggerJobs);
+            }
+        } catch (IOException | SQLException e) {
+            throw new JobPersistenceException("Couldn't store jobs and triggers: "
+                    + e.getMessage(), e);
+        }
+    }
+
     /**
      * Delete a job and its listeners.
      * 
@@ -1344,6 +2566,7 @@ public abstract class JobStoreSupport implements JobStore, Constants {
     private boolean deleteJobAndChildren(Connection conn, JobKey key)
         throws NoSuchDelegateException, SQLException {
 
+        invalidateCachedJob(key);
         return (getDelegate().deleteJobDetail(conn, key) > 0);
     }
     
@@ -1374,10 +2597,26 @@ public abstract class JobStoreSupport implements JobStore, Constants {
     }
     
     protected JobDetail retrieveJob(Connection conn, JobKey key) throws JobPersistenceException {
+        BoundedCache<JobKey, JobDetail> cache = jobCache;
+        long loadGeneration = 0L;
+        if (cache != null) {
+            JobDetail job = cache.get(key);
+            if (job != null) {
+                // callers may change the job (data map) they are given
+                return (JobDetail) job.clone();
+            }
+            loadGeneration = cache.generation();
+        }
         try {
 
-            return getDelegate().selectJobDetail(conn, key,
+            JobDetail job = getDelegate().selectJobDetail(conn, key,
                     getClassLoadHelper());
+            // a job that persists its data changes it on every execution, on
+            // any node of a cluster
+            if (cache != null && job != null && !job.isPersistJobDataAfterExecution()) {
+                cache.put(key, (JobDetail) job.clone(), loadGeneration);
+            }
+            return job;
         } catch (ClassNotFoundException e) {
             throw new JobPersistenceException(
                     "Couldn't retrieve job because a required class was not found: "
@@ -1535,8 +2774,7 @@ public abstract class JobStoreSupport implements JobStore, Constants {
      * @see TriggerState#NONE
      */
     public TriggerState getTriggerState(final TriggerKey triggerKey) throws JobPersistenceException {
-        return (TriggerState)executeWithoutLock( // no locks necessary for read...
-                (TransactionCallback) conn -> getTriggerState(conn, triggerKey));
+        return executeReadOnly(conn -> getTriggerState(conn, triggerKey));
     }
     
     public TriggerState getTriggerState(Connection conn, TriggerKey key)
@@ -1672,7 +2910,9 @@ public abstract class JobStoreSupport implements JobStore, Constants {
                 }
             }
 
-            if (!isClustered) {
+            if (boundedCalendarCache != null) {
+                invalidateCachedCalendar(calName);
+            } else if (!isClustered) {
                 calendarCache.put(calName, calendar); // lazy-cache
             }
 
@@ -1732,7 +2972,9 @@ public abstract class JobStoreSupport implements JobStore, Constants {
                     "Calender cannot be removed if it referenced by a trigger!"); 
             }
 
-            if (!isClustered) {
+            if (boundedCalendarCache != null) {
+                invalidateCachedCalendar(calName);
+            } else if (!isClustered) {
                 calendarCache.remove(calName);
             }
 
@@ -1762,16 +3004,28 @@ public abstract class JobStoreSupport implements JobStore, Constants {
     protected Calendar retrieveCalendar(Connection conn,
             String calName)
         throws JobPersistenceException {
-        // all calendars are persistent, but we can lazy-cache them during run
-        // time as long as we aren't running clustered.
-        Calendar cal = (isClustered) ? null : calendarCache.get(calName);
+        BoundedCache<String, Calendar> cache = boundedCalendarCache;
+        long loadGeneration = 0L;
+        Calendar cal;
+        if (cache != null) {
+            cal = cache.get(calName);
+            loadGeneration = cache.generation();
+        } else {
+            // all calendars are persistent, but we can lazy-cache them during run
+            // time as long as we aren't running clustered.
+            cal = (isClustered) ? null : calendarCache.get(calName);
+        }
         if (cal != null) {
             return cal;
         }
 
         try {
             cal = getDelegate().selectCalendar(conn, calName);
-            if (!isClustered) {
+            if (cache != null) {
+                if (cal != null) {
+                    cache.put(calName, cal, loadGeneration);
+                }
+            } else if (!isClustered) {
                 calendarCache.put(calName, cal); // lazy-cache...
             }
             return cal;
@@ -1797,8 +3051,7 @@ public abstract class JobStoreSupport implements JobStore, Constants {
      */
     public int getNumberOfJobs()
         throws JobPersistenceException {
-        return (Integer) executeWithoutLock( // no locks necessary for read...
-                (TransactionCallback) this::getNumberOfJobs);
+        return executeReadOnly(this::getNumberOfJobs);
     }
     
     protected int getNumberOfJobs(Connection conn)
@@ -1865,11 +3118,9 @@ public abstract class JobStoreSupport implements JobStore, Constants {
      * If there are no jobs in the given group name, the result should be an empty Set
      * </p>
      */
-    @SuppressWarnings("unchecked")
     public Set<JobKey> getJobKeys(final GroupMatcher<JobKey> matcher)
         throws JobPersistenceException {
-        return (Set<JobKey>)executeWithoutLock( // no locks necessary for read...
-                (TransactionCallback) conn -> getJobNames(conn, matcher));
+        return executeReadOnly(conn -> getJobNames(conn, matcher));
     }
     
     protected Set<JobKey> getJobNames(Connection conn,
@@ -1949,6 +3200,7 @@ public abstract class JobStoreSupport implements JobStore, Constants {
     
     protected void clearAllSchedulingData(Connection conn) throws JobPersistenceException {
         try {
+            invalidateCaches();
             getDelegate().clearData(conn);
         } catch (SQLException e) {
             throw new JobPersistenceException("Error clearing scheduling data: " + e.getMessage(), e);
@@ -1966,11 +3218,9 @@ public abstract class JobStoreSupport implements JobStore, Constants {
      * an empty Set (not <code>null</code>).
      * </p>
      */
-    @SuppressWarnings("unchecked")
     public Set<TriggerKey> getTriggerKeys(final GroupMatcher<TriggerKey> matcher)
         throws JobPersistenceException {
-        return (Set<TriggerKey>)executeWithoutLock( // no locks necessary for read...
-                (TransactionCallback) conn -> getTriggerNames(conn, matcher));
+        return executeReadOnly(conn -> getTriggerNames(conn, matcher));
     }
     
     protected Set<TriggerKey> getTriggerNames(Connection conn,
@@ -2000,11 +3250,9 @@ public abstract class JobStoreSupport implements JobStore, Constants {
      * array (not <code>null</code>).
      * </p>
      */
-    @SuppressWarnings("unchecked")
     public List<String> getJobGroupNames()
         throws JobPersistenceException {
-        return (List<String>)executeWithoutLock( // no locks necessary for read...
-                (TransactionCallback) this::getJobGroupNames);
+        return executeReadOnly(this::getJobGroupNames);
     }
     
     protected List<String> getJobGroupNames(Connection conn)
@@ -2091,10 +3339,8 @@ public abstract class JobStoreSupport implements JobStore, Constants {
      * If there are no matches, a zero-length array should be returned.
      * </p>
      */
-    @SuppressWarnings("unchecked")
     public List<OperableTrigger> getTriggersForJob(final JobKey jobKey) throws JobPersistenceException {
-        return (List<OperableTrigger>)executeWithoutLock( // no locks necessary for read...
-                (TransactionCallback) conn -> getTriggersForJob(conn, jobKey));
+        return executeReadOnly(conn -> getTriggersForJob(conn, jobKey));
     }
     
     protected List<OperableTrigger> getTriggersForJob(Connection conn,
@@ -2675,54 +3921,297 @@ public abstract class JobStoreSupport implements JobStore, Constants {
         }
     }
 
-    private static long ftrCtr = System.currentTimeMillis();
+    private static long ftrCtr = System.currentTimeMillis();
+
+    protected synchronized String getFiredTriggerRecordId() {
+        return getInstanceId() + ftrCtr++;
+    }
+
+    /**
+     * <p>
+     * Get a handle to the next N triggers to be fired, and mark them as 'reserved'
+     * by the calling scheduler.
+     * </p>
+     * 
+     * @see #releaseAcquiredTrigger(OperableTrigger)
+     */
+    @SuppressWarnings("unchecked")
+    public List<OperableTrigger> acquireNextTriggers(final long noLaterThan, final int maxCount, final long timeWindow)
+        throws JobPersistenceException {
+
+        String lockName;
+        if (skipLockedAcquisition) {
+            // the selected trigger rows are locked by the query itself
+            lockName = null;
+        } else if (getTriggerAccessPartitions() > 0) {
+            return acquireNextTriggersByPartition(noLaterThan, maxCount, timeWindow);
+        } else if(isAcquireTriggersWithinLock() || maxCount > 1) {
+            lockName = LOCK_TRIGGER_ACCESS;
+        } else {
+            lockName = null;
+        }
+        return executeAcquisition(lockName,
+                conn -> acquireNextTrigger(conn, noLaterThan, maxCount, timeWindow));
+    }
+
+    /**
+     * Run an acquisition transaction.  With adaptive cluster check-in, the
+     * transaction also checks this instance in once its last check-in is
+     * three quarters of the check-in interval old, so that the cluster
+     * manager does not have to.
+     */
+    private List<OperableTrigger> executeAcquisition(String lockName,
+            final TransactionCallback<List<OperableTrigger>> txCallback) throws JobPersistenceException {
+        if (!isClustered() || !isAdaptiveClusterCheckin() || firstCheckIn
+                || System.currentTimeMillis() - lastCheckin < getClusterCheckinInterval() * 3 / 4) {
+            return executeInNonManagedTXLock(lockName, txCallback, this::isAcquisitionCommitted, true);
+        }
+
+        final long[] checkinTime = {0L};
+        List<OperableTrigger> acquired = executeInNonManagedTXLock(lockName, conn -> {
+            List<OperableTrigger> result = txCallback.execute(conn);
+            long now = System.currentTimeMillis();
+            try {
+                if (getDelegate().updateSchedulerState(conn, getInstanceId(), now) > 0) {
+                    checkinTime[0] = now;
+                    reassignTriggerPartitions(conn);
+                }
+            } catch (SQLException e) {
+                throw new JobPersistenceException("Failure updating scheduler state when acquiring triggers: "
+                        + e.getMessage(), e);
+            }
+            return result;
+        }, this::isAcquisitionCommitted, true);
+
+        // only count the check-in once it is committed; a missing state
+        // record is left for the cluster manager to insert again
+        if (checkinTime[0] > 0) {
+            lastCheckin = checkinTime[0];
+            piggybackedCheckinCount.increment();
+        }
+        return acquired;
+    }
+
+    private boolean isAcquisitionCommitted(Connection conn, List<OperableTrigger> result) throws JobPersistenceException {
+        try {
+            List<FiredTriggerRecord> acquired = getDelegate().selectInstancesFiredTriggerRecords(conn, getInstanceId());
+            Set<String> fireInstanceIds = new HashSet<>();
+            for (FiredTriggerRecord ft : acquired) {
+                fireInstanceIds.add(ft.getFireInstanceId());
+            }
+            for (OperableTrigger tr : result) {
+                if (fireInstanceIds.contains(tr.getFireInstanceId())) {
+                    return true;
+                }
+            }
+            return false;
+        } catch (SQLException e) {
+            throw new JobPersistenceException("error validating trigger acquisition", e);
+        }
+    }
+
+    /**
+     * Acquire the next triggers from each of the partitions owned by this
+     * instance in turn, each in its own transaction under the partition's
+     * lock.  Triggers that end up outside of the batch started by the
+     * earliest one are released again.
+     */
+    private List<OperableTrigger> acquireNextTriggersByPartition(long noLaterThan, final int maxCount, final long timeWindow)
+        throws JobPersistenceException {
+        int[] partitions = getOwnedTriggerPartitions();
+        if (partitions.length == 0) {
+            return Collections.emptyList();
+        }
+
+        List<OperableTrigger> acquiredTriggers = new ArrayList<>();
+        int first = nextTriggerPartition++;
+        for (int i = 0; i < partitions.length && acquiredTriggers.size() < maxCount; i++) {
+            final int partition = partitions[Math.floorMod(first + i, partitions.length)];
+            final int remaining = maxCount - acquiredTriggers.size();
+            final long partitionNoLaterThan = noLaterThan;
+            List<OperableTrigger> acquired = executeAcquisition(getTriggerPartitionLockName(partition),
+                    conn -> acquireNextTrigger(conn, partitionNoLaterThan, remaining, timeWindow, partition));
+            for (OperableTrigger trigger : acquired) {
+                // later partitions only need triggers that can join the batch
+                noLaterThan = Math.min(noLaterThan,
+                        Math.max(trigger.getNextFireTime().getTime(), System.currentTimeMillis()));
+            }
+            acquiredTriggers.addAll(acquired);
+        }
+        if (acquiredTriggers.isEmpty()) {
+            return acquiredTriggers;
+        }
+
+        acquiredTriggers.sort(Comparator.comparing(OperableTrigger::getNextFireTime)
+                .thenComparing(OperableTrigger::getPriority, Comparator.reverseOrder()));
+        long batchEnd = Math.max(acquiredTriggers.get(0).getNextFireTime().getTime(), System.currentTimeMillis()) + timeWindow;
+        List<OperableTrigger> batch = new ArrayList<>(acquiredTriggers.size());
+        for (OperableTrigger trigger : acquiredTriggers) {
+            if (trigger.getNextFireTime().getTime() <= batchEnd) {
+                batch.add(trigger);
+            } else {
+                releaseAcquiredTrigger(trigger);
+            }
+        }
+        return batch;
+    }
+
+    /**
+     * The partition of the given trigger, out of
+     * {@link #getTriggerAccessPartitions()}.
+     */
+    protected int getTriggerPartition(TriggerKey triggerKey) {
+        // String.hashCode() is the same on every node of the cluster
+        return Math.floorMod(triggerKey.hashCode(), getTriggerAccessPartitions());
+    }
+
+    /**
+     * Set the <code>TRIGGER_PARTITION</code> column of the given newly
+     * inserted triggers, if triggers are acquired in partitions.
+     */
+    private void storeTriggerPartitions(Connection conn, List<? extends Trigger> triggers)
+        throws SQLException, JobPersistenceException {
+        if (getTriggerAccessPartitions() <= 0) {
+            return;
+        }
+        Map<TriggerKey, Integer> partitions = new HashMap<>();
+        for (Trigger trigger : triggers) {
+            partitions.put(trigger.getKey(), getTriggerPartition(trigger.getKey()));
+        }
+        getDelegate().updateTriggerPartitions(conn, partitions);
+    }
+
+    /**
+     * Set the <code>TRIGGER_PARTITION</code> column of every trigger whose
+     * column is missing or was computed for another number of partitions,
+     * in transactions of up to {@value #TRIGGER_PARTITION_BATCH_SIZE} triggers.  The updates only depend on the
+     * trigger keys, so they take no lock.
+     */
+    private void partitionAllTriggers() throws JobPersistenceException {
+        Map<TriggerKey, Integer> stored = executeInNonManagedTXLock(null, conn -> {
+            try {
+                return getDelegate().selectTriggerPartitions(conn);
+            } catch (SQLException e) {
+                throw new JobPersistenceException("Couldn't read the trigger partitions: " + e.getMessage(), e);
+            }
+        }, null);
+
+        final Map<TriggerKey, Integer> changed = new HashMap<>();
+        for (Map.Entry<TriggerKey, Integer> trigger : stored.entrySet()) {
+            int partition = getTriggerPartition(trigger.getKey());
+            if (trigger.getValue() == null || trigger.getValue() != partition) {
+                changed.put(trigger.getKey(), partition);
+            }
+        }
+        if (changed.isEmpty()) {
+            return;
+        }
+
+        getLog().info("Assigning {} triggers to their partitions out of {}.", changed.size(), getTriggerAccessPartitions());
+        List<TriggerKey> keys = new ArrayList<>(changed.keySet());
+        for (int from = 0; from < keys.size(); from += TRIGGER_PARTITION_BATCH_SIZE) {
+            final Map<TriggerKey, Integer> chunk = new HashMap<>();
+            for (TriggerKey key : keys.subList(from, Math.min(keys.size(), from + TRIGGER_PARTITION_BATCH_SIZE))) {
+                chunk.put(key, changed.get(key));
+            }
+            executeInNonManagedTXLock(null, conn -> {
+                try {
+                    getDelegate().updateTriggerPartitions(conn, chunk);
+                    return null;
+                } catch (SQLException e) {
+                    throw new JobPersistenceException("Couldn't store the trigger partitions: " + e.getMessage(), e);
+                }
+            }, null);
+        }
+    }
+
+    /**
+     * Set the <code>TRIGGER_PARTITION</code> column of up to
+     * {@value #TRIGGER_PARTITION_BATCH_SIZE} triggers
+     * that were stored without one - by a scheduler that does not acquire
+     * triggers in partitions, or by an older version - so that they are
+     * acquired again.
+     * 
+     * @return the number of triggers assigned to their partitions
+     */
+    protected int partitionUnassignedTriggers() throws JobPersistenceException {
+        return executeInNonManagedTXLock(null, conn -> {
+            try {
+                List<TriggerKey> keys = getDelegate().selectTriggersWithoutPartition(conn,
+                        TRIGGER_PARTITION_BATCH_SIZE);
+                Map<TriggerKey, Integer> partitions = new HashMap<>();
+                for (TriggerKey key : keys) {
+                    partitions.put(key, getTriggerPartition(key));
+                }
+                getDelegate().updateTriggerPartitions(conn, partitions);
+                return keys.size();
+            } catch (SQLException e) {
+                throw new JobPersistenceException("Couldn't store the trigger partitions: " + e.getMessage(), e);
+            }
+        }, null);
+    }
+
+    protected String getTriggerPartitionLockName(int partition) {
+        return LOCK_TRIGGER_ACCESS + "_" + partition;
+    }
 
-    protected synchronized String getFiredTriggerRecordId() {
-        return getInstanceId() + ftrCtr++;
+    /**
+     * The partitions this instance acquires triggers from: all of them unless
+     * clustered, in which case they are assigned at check-in.
+     */
+    protected int[] getOwnedTriggerPartitions() {
+        int[] owned = ownedTriggerPartitions;
+        if (owned == null) {
+            owned = new int[getTriggerAccessPartitions()];
+            for (int i = 0; i < owned.length; i++) {
+                owned[i] = i;
+            }
+        }
+        return owned;
     }
 
     /**
-     * <p>
-     * Get a handle to the next N triggers to be fired, and mark them as 'reserved'
-     * by the calling scheduler.
-     * </p>
-     * 
-     * @see #releaseAcquiredTrigger(OperableTrigger)
+     * Share the trigger partitions out among the live instances of the
+     * cluster, in the order of their instance ids, so that every node works
+     * out the same assignment from the same scheduler state records.
      */
-    @SuppressWarnings("unchecked")
-    public List<OperableTrigger> acquireNextTriggers(final long noLaterThan, final int maxCount, final long timeWindow)
-        throws JobPersistenceException {
-        
-        String lockName;
-        if(isAcquireTriggersWithinLock() || maxCount > 1) { 
-            lockName = LOCK_TRIGGER_ACCESS;
-        } else {
-            lockName = null;
+    private void assignTriggerPartitions(List<SchedulerStateRecord> states, List<SchedulerStateRecord> failedInstances) {
+        if (getTriggerAccessPartitions() <= 0) {
+            return;
+        }
+        TreeSet<String> liveInstanceIds = new TreeSet<>();
+        liveInstanceIds.add(getInstanceId());
+        for (SchedulerStateRecord rec : states) {
+            if (!failedInstances.contains(rec)) {
+                liveInstanceIds.add(rec.getSchedulerInstanceId());
+            }
+        }
+        int index = liveInstanceIds.headSet(getInstanceId()).size();
+        int[] owned = new int[0];
+        for (int partition = index; partition < getTriggerAccessPartitions(); partition += liveInstanceIds.size()) {
+            owned = Arrays.copyOf(owned, owned.length + 1);
+            owned[owned.length - 1] = partition;
+        }
+        if (!Arrays.equals(owned, ownedTriggerPartitions)) {
+            if (owned.length == 0) {
+                getLog().warn("ClusterManager: there are more live instances ({}) than trigger partitions ({}), this instance won't acquire any triggers.",
+                        liveInstanceIds.size(), getTriggerAccessPartitions());
+            } else {
+                getLog().info("ClusterManager: acquiring triggers of partitions {} among {} live instances.",
+                        Arrays.toString(owned), liveInstanceIds.size());
+            }
+            ownedTriggerPartitions = owned;
         }
-        return executeInNonManagedTXLock(lockName,
-                conn -> acquireNextTrigger(conn, noLaterThan, maxCount, timeWindow),
-                (conn, result) -> {
-                    try {
-                        List<FiredTriggerRecord> acquired = getDelegate().selectInstancesFiredTriggerRecords(conn, getInstanceId());
-                        Set<String> fireInstanceIds = new HashSet<>();
-                        for (FiredTriggerRecord ft : acquired) {
-                            fireInstanceIds.add(ft.getFireInstanceId());
-                        }
-                        for (OperableTrigger tr : result) {
-                            if (fireInstanceIds.contains(tr.getFireInstanceId())) {
-                                return true;
-                            }
-                        }
-                        return false;
-                    } catch (SQLException e) {
-                        throw new JobPersistenceException("error validating trigger acquisition", e);
-                    }
-                });
     }
-    
+
     // FUTURE_TODO: this really ought to return something like a FiredTriggerBundle,
     // so that the fireInstanceId doesn't have to be on the trigger...
     protected List<OperableTrigger> acquireNextTrigger(Connection conn, long noLaterThan, int maxCount, long timeWindow)
+        throws JobPersistenceException {
+        return acquireNextTrigger(conn, noLaterThan, maxCount, timeWindow, -1);
+    }
+
+    private List<OperableTrigger> acquireNextTrigger(Connection conn, long noLaterThan, int maxCount, long timeWindow, int partition)
         throws JobPersistenceException {
         if (timeWindow < 0) {
           throw new IllegalArgumentException();
@@ -2735,38 +4224,39 @@ public abstract class JobStoreSupport implements JobStore, Constants {
         do {
             currentLoopCount ++;
             try {
-                List<TriggerKey> keys = getDelegate().selectTriggerToAcquire(conn, noLaterThan + timeWindow, getMisfireTime(), maxCount);
+                List<AcquisitionCandidate> candidates = selectTriggersToAcquire(conn, noLaterThan + timeWindow, maxCount, partition);
                 
                 // No trigger is ready to fire yet.
-                if (keys == null || keys.isEmpty())
+                if (candidates == null || candidates.isEmpty())
                     return acquiredTriggers;
 
                 long batchEnd = noLaterThan;
+                List<OperableTrigger> toAcquire = new ArrayList<>();
 
-                for(TriggerKey triggerKey: keys) {
+                for(AcquisitionCandidate candidate: candidates) {
+                    TriggerKey triggerKey = candidate.getTriggerKey();
+                    if (toAcquire.size() >= maxCount) {
+                        break;
+                    }
                     // If our trigger is no longer available, try a new one.
-                    OperableTrigger nextTrigger = retrieveTrigger(conn, triggerKey);
+                    OperableTrigger nextTrigger = candidate.getTrigger();
+                    if(nextTrigger == null) {
+                        nextTrigger = retrieveTrigger(conn, triggerKey);
+                    }
                     if(nextTrigger == null) {
                         continue; // next trigger
                     }
                     
                     // If trigger's job is set as @DisallowConcurrentExecution, and it has already been added to result, then
                     // put it back into the timeTriggers set and continue to search for next trigger.
+                    // The job itself is only read when the trigger fires.
                     JobKey jobKey = nextTrigger.getJobKey();
-                    JobDetail job;
-                    try {
-                        job = retrieveJob(conn, jobKey);
-                    } catch (JobPersistenceException jpe) {
-                        try {
-                            getLog().error("Error retrieving job, setting trigger state to ERROR.", jpe);
-                            getDelegate().updateTriggerState(conn, triggerKey, STATE_ERROR);
-                        } catch (SQLException sqle) {
-                            getLog().error("Unable to set trigger state to ERROR.", sqle);
-                        }
-                        continue;
+                    Boolean concurrentExecutionDisallowed = candidate.isConcurrentExecutionDisallowed();
+                    if (concurrentExecutionDisallowed == null) {
+                        concurrentExecutionDisallowed = getDelegate().isJobNonConcurrent(conn, jobKey);
                     }
                     
-                    if (job.isConcurrentExecutionDisallowed()) {
+                    if (concurrentExecutionDisallowed) {
                         if (acquiredJobKeysForNoConcurrentExec.contains(jobKey)) {
                             continue; // next trigger
                         } else {
@@ -2790,21 +4280,15 @@ public abstract class JobStoreSupport implements JobStore, Constants {
                     if (nextFireTime.getTime() > batchEnd) {
                       break;
                     }
-                    // We now have a acquired trigger, let's add to return list.
-                    // If our trigger was no longer in the expected state, try a new one.
-                    int rowsUpdated = getDelegate().updateTriggerStateFromOtherState(conn, triggerKey, STATE_ACQUIRED, STATE_WAITING);
-                    if (rowsUpdated <= 0) {
-                        continue; // next trigger
-                    }
-                    nextTrigger.setFireInstanceId(getFiredTriggerRecordId());
-                    getDelegate().insertFiredTrigger(conn, nextTrigger, STATE_ACQUIRED, null);
-
-                    if(acquiredTriggers.isEmpty()) {
+                    if(toAcquire.isEmpty()) {
                         batchEnd = Math.max(nextFireTime.getTime(), System.currentTimeMillis()) + timeWindow;
                     }
-                    acquiredTriggers.add(nextTrigger);
+                    toAcquire.add(nextTrigger);
                 }
 
+                // We now have the triggers to acquire, let's add them to return list.
+                acquireTriggers(conn, toAcquire, acquiredTriggers);
+
                 // if we didn't end up with any trigger to fire from that first
                 // batch, try again for another batch. We allow with a max retry count.
                 if(acquiredTriggers.isEmpty() && currentLoopCount < MAX_DO_LOOP_RETRY) {
@@ -2823,6 +4307,82 @@ public abstract class JobStoreSupport implements JobStore, Constants {
         return acquiredTriggers;
     }
     
+    /**
+     * Move the given triggers from WAITING to ACQUIRED and insert their fired
+     * trigger records, leaving out the ones that were no longer waiting.
+     * More than one trigger is sent as a JDBC batch per statement.
+     */
+    private void acquireTriggers(Connection conn, List<OperableTrigger> triggers, List<OperableTrigger> acquiredTriggers)
+        throws SQLException, JobPersistenceException {
+        if (triggers.isEmpty()) {
+            return;
+        }
+        if (triggers.size() == 1) {
+            OperableTrigger trigger = triggers.get(0);
+            // If our trigger was no longer in the expected state, try a new one.
+            int rowsUpdated = getDelegate().updateTriggerStateFromOtherState(conn, trigger.getKey(), STATE_ACQUIRED, STATE_WAITING);
+            if (rowsUpdated > 0) {
+                trigger.setFireInstanceId(getFiredTriggerRecordId());
+                getDelegate().insertFiredTrigger(conn, trigger, STATE_ACQUIRED, null);
+                acquiredTriggers.add(trigger);
+            }
+            return;
+        }
+
+        List<TriggerKey> keys = new ArrayList<>(triggers.size());
+        for (OperableTrigger trigger : triggers) {
+            keys.add(trigger.getKey());
+        }
+        int[] rowsUpdated = getDelegate().updateTriggerStateFromOtherState(conn, keys, STATE_ACQUIRED, STATE_WAITING);
+
+        List<OperableTrigger> acquired = new ArrayList<>(triggers.size());
+        for (int i = 0; i < triggers.size(); i++) {
+            // A driver that doesn't report the count of each row leaves it to
+            // the TRIGGER_ACCESS lock, which is always held when acquiring more
+            // than one trigger, or to the row locks of SKIP LOCKED acquisition
+            // to keep the states as they were selected.  A partition lock
+            // doesn't keep out the other writers, so the state is read back.
+            if (rowsUpdated[i] == Statement.SUCCESS_NO_INFO && getTriggerAccessPartitions() > 0 && !skipLockedAcquisition) {
+                rowsUpdated[i] = STATE_ACQUIRED.equals(getDelegate().selectTriggerState(conn, keys.get(i))) ? 1 : 0;
+            }
+            if (rowsUpdated[i] > 0 || rowsUpdated[i] == Statement.SUCCESS_NO_INFO) {
+                OperableTrigger trigger = triggers.get(i);
+                trigger.setFireInstanceId(getFiredTriggerRecordId());
+                acquired.add(trigger);
+            }
+        }
+        if (!acquired.isEmpty()) {
+            getDelegate().insertFiredTriggers(conn, acquired, STATE_ACQUIRED, null);
+            acquiredTriggers.addAll(acquired);
+        }
+    }
+
+    private List<AcquisitionCandidate> selectTriggersToAcquire(Connection conn, long noLaterThan, int maxCount, int partition)
+        throws SQLException, JobPersistenceException {
+        if (skipLockedAcquisition) {
+            return getDelegate().selectAndLockTriggersToAcquire(conn, noLaterThan, getMisfireTime(), maxCount, getClassLoadHelper());
+        }
+        if (partition >= 0) {
+            // the database filters on the indexed TRIGGER_PARTITION column
+            if (isAcquireTriggersWithJoinedQuery()) {
+                return getDelegate().selectTriggersToAcquire(conn, noLaterThan, getMisfireTime(), maxCount, getClassLoadHelper(), partition);
+            }
+            return toCandidates(getDelegate().selectTriggerToAcquire(conn, noLaterThan, getMisfireTime(), maxCount, partition));
+        }
+        if (isAcquireTriggersWithJoinedQuery()) {
+            return getDelegate().selectTriggersToAcquire(conn, noLaterThan, getMisfireTime(), maxCount, getClassLoadHelper());
+        }
+        return toCandidates(getDelegate().selectTriggerToAcquire(conn, noLaterThan, getMisfireTime(), maxCount));
+    }
+
+    private static List<AcquisitionCandidate> toCandidates(List<TriggerKey> keys) {
+        List<AcquisitionCandidate> candidates = new ArrayList<>(keys.size());
+        for (TriggerKey key : keys) {
+            candidates.add(new AcquisitionCandidate(key, null, null));
+        }
+        return candidates;
+    }
+    
     /**
      * <p>
      * Inform the <code>JobStore</code> that the scheduler no longer plans to
@@ -2837,7 +4397,7 @@ public abstract class JobStoreSupport implements JobStore, Constants {
                 public void executeVoid(Connection conn) throws JobPersistenceException {
                     releaseAcquiredTrigger(conn, trigger);
                 }
-            });
+            }, true);
     }
     
     protected void releaseAcquiredTrigger(Connection conn,
@@ -2869,22 +4429,7 @@ public abstract class JobStoreSupport implements JobStore, Constants {
     @SuppressWarnings("unchecked")
     public List<TriggerFiredResult> triggersFired(final List<OperableTrigger> triggers) throws JobPersistenceException {
         return executeInNonManagedTXLock(LOCK_TRIGGER_ACCESS,
-                conn -> {
-                    List<TriggerFiredResult> results = new ArrayList<>();
-
-                    TriggerFiredResult result;
-                    for (OperableTrigger trigger : triggers) {
-                        try {
-                            TriggerFiredBundle bundle = triggerFired(conn, trigger);
-                            result = new TriggerFiredResult(bundle);
-                        } catch (JobPersistenceException | RuntimeException jpe) {
-                            result = new TriggerFiredResult(jpe);
-                        }
-                        results.add(result);
-                    }
-
-                    return results;
-                },
+                conn -> triggersFired(conn, triggers),
                 (conn, result) -> {
                     try {
                         List<FiredTriggerRecord> acquired = getDelegate().selectInstancesFiredTriggerRecords(conn, getInstanceId());
@@ -2903,7 +4448,152 @@ public abstract class JobStoreSupport implements JobStore, Constants {
                     } catch (SQLException e) {
                         throw new JobPersistenceException("error validating trigger acquisition", e);
                     }
-                });
+                }, true);
+    }
+
+    /**
+     * <p>
+     * Fire the given triggers one at a time, or - when there is more than
+     * one - with a single query for their states and JDBC batches for the
+     * updates of their fired trigger records and trigger rows.
+     * </p>
+     */
+    protected List<TriggerFiredResult> triggersFired(Connection conn, List<OperableTrigger> triggers)
+        throws JobPersistenceException {
+        if (triggers.size() < 2) {
+            List<TriggerFiredResult> results = new ArrayList<>();
+            for (OperableTrigger trigger : triggers) {
+                results.add(triggerFiredResult(conn, trigger));
+            }
+            return results;
+        }
+
+        TriggerFiredResult[] results = new TriggerFiredResult[triggers.size()];
+
+        // Make sure triggers weren't deleted, paused, or completed...
+        Set<TriggerKey> acquired;
+        try {
+            List<TriggerKey> triggerKeys = new ArrayList<>(triggers.size());
+            for (OperableTrigger trigger : triggers) {
+                triggerKeys.add(trigger.getKey());
+            }
+            acquired = getDelegate().selectTriggerKeysInState(conn, triggerKeys, STATE_ACQUIRED);
+        } catch (SQLException e) {
+            throw new JobPersistenceException("Couldn't select trigger states: "
+                    + e.getMessage(), e);
+        }
+
+        List<Integer> firing = new ArrayList<>(triggers.size());
+        List<OperableTrigger> firingTriggers = new ArrayList<>(triggers.size());
+        List<JobDetail> firingJobs = new ArrayList<>(triggers.size());
+        List<Calendar> firingCals = new ArrayList<>(triggers.size());
+        List<Integer> deferred = new ArrayList<>();
+        Set<JobKey> nonConcurrentJobs = new HashSet<>();
+        for (int i = 0; i < results.length; i++) {
+            OperableTrigger trigger = triggers.get(i);
+            try {
+                if (!acquired.contains(trigger.getKey())) {
+                    results[i] = new TriggerFiredResult((TriggerFiredBundle) null);
+                    continue;
+                }
+                retrieveDeferredJobData(conn, trigger);
+                JobDetail job = retrieveFiredJob(conn, trigger);
+                if (job == null) {
+                    results[i] = new TriggerFiredResult((TriggerFiredBundle) null);
+                    continue;
+                }
+                // firing one trigger of a non-concurrent job blocks the job's
+                // other triggers, so fire any further ones on their own
+                if (job.isConcurrentExecutionDisallowed() && !nonConcurrentJobs.add(job.getKey())) {
+                    deferred.add(i);
+                    continue;
+                }
+                Calendar cal = null;
+                if (trigger.getCalendarName() != null) {
+                    cal = retrieveCalendar(conn, trigger.getCalendarName());
+                    if (cal == null) {
+                        results[i] = new TriggerFiredResult((TriggerFiredBundle) null);
+                        continue;
+                    }
+                }
+                firing.add(i);
+                firingTriggers.add(trigger);
+                firingJobs.add(job);
+                firingCals.add(cal);
+            } catch (JobPersistenceException | RuntimeException e) {
+                results[i] = new TriggerFiredResult(e);
+            }
+        }
+
+        try {
+            getDelegate().updateFiredTriggers(conn, firingTriggers, STATE_EXECUTING, firingJobs);
+        } catch (SQLException e) {
+            throw new JobPersistenceException("Couldn't update fired triggers: "
+                    + e.getMessage(), e);
+        }
+
+        List<Integer> storing = new ArrayList<>(firing.size());
+        List<OperableTrigger> storingTriggers = new ArrayList<>(firing.size());
+        List<String> storingStates = new ArrayList<>(firing.size());
+        List<JobDetail> storingJobs = new ArrayList<>(firing.size());
+        List<Calendar> storingCals = new ArrayList<>(firing.size());
+        List<Date> storingPrevFireTimes = new ArrayList<>(firing.size());
+        for (int k = 0; k < firing.size(); k++) {
+            int i = firing.get(k);
+            OperableTrigger trigger = firingTriggers.get(k);
+            JobDetail job = firingJobs.get(k);
+            Calendar cal = firingCals.get(k);
+            try {
+                Date prevFireTime = trigger.getPreviousFireTime();
+
+                // call triggered - to update the trigger's next-fire-time state...
+                trigger.triggered(cal);
+
+                if (job.isConcurrentExecutionDisallowed()) {
+                    // blocked triggers need the same checks as a single firing
+                    storeFiredTrigger(conn, trigger, job);
+                    results[i] = new TriggerFiredResult(newTriggerFiredBundle(trigger, job, cal, prevFireTime));
+                } else {
+                    storing.add(i);
+                    storingTriggers.add(trigger);
+                    storingStates.add(trigger.getNextFireTime() == null ? STATE_COMPLETE : STATE_WAITING);
+                    storingJobs.add(job);
+                    storingCals.add(cal);
+                    storingPrevFireTimes.add(prevFireTime);
+                }
+            } catch (JobPersistenceException | RuntimeException e) {
+                results[i] = new TriggerFiredResult(e);
+            }
+        }
+
+        // these all existed in the ACQUIRED state, and their states are forced
+        try {
+            getDelegate().updateTriggers(conn, storingTriggers, storingStates, storingJobs);
+        } catch (Exception e) {
+            throw new JobPersistenceException("Couldn't store fired triggers: "
+                    + e.getMessage(), e);
+        }
+        for (int k = 0; k < storing.size(); k++) {
+            int i = storing.get(k);
+            JobDetail job = storingJobs.get(k);
+            job.getJobDataMap().clearDirtyFlag();
+            results[i] = new TriggerFiredResult(newTriggerFiredBundle(storingTriggers.get(k), job,
+                    storingCals.get(k), storingPrevFireTimes.get(k)));
+        }
+
+        for (int i : deferred) {
+            results[i] = triggerFiredResult(conn, triggers.get(i));
+        }
+
+        return Arrays.asList(results);
+    }
+
+    private TriggerFiredResult triggerFiredResult(Connection conn, OperableTrigger trigger) {
+        try {
+            return new TriggerFiredResult(triggerFired(conn, trigger));
+        } catch (JobPersistenceException | RuntimeException jpe) {
+            return new TriggerFiredResult(jpe);
+        }
     }
 
     protected TriggerFiredBundle triggerFired(Connection conn,
@@ -2924,19 +4614,9 @@ public abstract class JobStoreSupport implements JobStore, Constants {
                     + e.getMessage(), e);
         }
 
-        try {
-            job = retrieveJob(conn, trigger.getJobKey());
-            if (job == null) { return null; }
-        } catch (JobPersistenceException jpe) {
-            try {
-                getLog().error("Error retrieving job, setting trigger state to ERROR.", jpe);
-                getDelegate().updateTriggerState(conn, trigger.getKey(),
-                        STATE_ERROR);
-            } catch (SQLException sqle) {
-                getLog().error("Unable to set trigger state to ERROR.", sqle);
-            }
-            throw jpe;
-        }
+        retrieveDeferredJobData(conn, trigger);
+        job = retrieveFiredJob(conn, trigger);
+        if (job == null) { return null; }
 
         if (trigger.getCalendarName() != null) {
             cal = retrieveCalendar(conn, trigger.getCalendarName());
@@ -2955,6 +4635,53 @@ public abstract class JobStoreSupport implements JobStore, Constants {
         // call triggered - to update the trigger's next-fire-time state...
         trigger.triggered(cal);
 
+        storeFiredTrigger(conn, trigger, job);
+
+        return newTriggerFiredBundle(trigger, job, cal, prevFireTime);
+    }
+
+    /**
+     * Read the <code>JobDataMap</code> of a trigger that was acquired without
+     * it (see <code>{@link AcquisitionCandidate}</code>), before it is fired
+     * and stored again.
+     */
+    private void retrieveDeferredJobData(Connection conn, OperableTrigger trigger)
+        throws JobPersistenceException {
+        if (!(trigger.getJobDataMap() instanceof DeferredJobDataMap)) {
+            return;
+        }
+        try {
+            trigger.setJobDataMap(getDelegate().selectTriggerJobDataMap(conn,
+                    trigger.getKey().getName(), trigger.getKey().getGroup()));
+        } catch (Exception e) {
+            try {
+                getLog().error("Error retrieving trigger's job data, setting trigger state to ERROR.", e);
+                getDelegate().updateTriggerState(conn, trigger.getKey(), STATE_ERROR);
+            } catch (SQLException sqle) {
+                getLog().error("Unable to set trigger state to ERROR.", sqle);
+            }
+            throw new JobPersistenceException("Couldn't retrieve trigger's job data: " + e.getMessage(), e);
+        }
+    }
+
+    private JobDetail retrieveFiredJob(Connection conn, OperableTrigger trigger)
+        throws JobPersistenceException {
+        try {
+            return retrieveJob(conn, trigger.getJobKey());
+        } catch (JobPersistenceException jpe) {
+            try {
+                getLog().error("Error retrieving job, setting trigger state to ERROR.", jpe);
+                getDelegate().updateTriggerState(conn, trigger.getKey(),
+                        STATE_ERROR);
+            } catch (SQLException sqle) {
+                getLog().error("Unable to set trigger state to ERROR.", sqle);
+            }
+            throw jpe;
+        }
+    }
+
+    private void storeFiredTrigger(Connection conn, OperableTrigger trigger, JobDetail job)
+        throws JobPersistenceException {
         String state = STATE_WAITING;
         boolean force = true;
         
@@ -2983,7 +4710,9 @@ public abstract class JobStoreSupport implements JobStore, Constants {
         storeTrigger(conn, trigger, job, true, state, force, false);
 
         job.getJobDataMap().clearDirtyFlag();
+    }
 
+    private TriggerFiredBundle newTriggerFiredBundle(OperableTrigger trigger, JobDetail job, Calendar cal, Date prevFireTime) {
         return new TriggerFiredBundle(job, trigger, cal, trigger.getKey().getGroup()
                 .equals(Scheduler.DEFAULT_RECOVERY_GROUP), new Date(), trigger
                 .getPreviousFireTime(), prevFireTime, trigger.getNextFireTime());
@@ -3000,13 +4729,49 @@ public abstract class JobStoreSupport implements JobStore, Constants {
      */
     public void triggeredJobComplete(final OperableTrigger trigger,
             final JobDetail jobDetail, final CompletedExecutionInstruction triggerInstCode) {
+        PendingCompletion completion = new PendingCompletion(trigger, jobDetail, triggerInstCode);
+        CompletionBatcher batcher = completionBatcher;
+        // retries happen on this thread, never on the batcher's
+        if (batcher == null || !batcher.submit(completion) || !completion.await()) {
+            commitCompletionWithRetry(completion);
+        }
+    }
+
+    private void commitCompletionWithRetry(final PendingCompletion completion) {
+        final long[] lockedAt = new long[1];
         retryExecuteInNonManagedTXLock(
             LOCK_TRIGGER_ACCESS,
             new VoidTransactionCallback() {
                 public void executeVoid(Connection conn) throws JobPersistenceException {
-                    triggeredJobComplete(conn, trigger, jobDetail,triggerInstCode);
+                    lockedAt[0] = System.nanoTime();
+                    triggeredJobComplete(conn, completion.trigger, completion.jobDetail, completion.instCode);
+                }
+            });
+        recordCompletions(1, lockedAt[0]);
+    }
+
+    /**
+     * Commit the given completions, in order, in one transaction.
+     */
+    private void commitCompletions(final List<PendingCompletion> completions) throws JobPersistenceException {
+        final long[] lockedAt = new long[1];
+        executeInNonManagedTXLock(
+            LOCK_TRIGGER_ACCESS,
+            new VoidTransactionCallback() {
+                public void executeVoid(Connection conn) throws JobPersistenceException {
+                    lockedAt[0] = System.nanoTime();
+                    for (PendingCompletion completion : completions) {
+                        triggeredJobComplete(conn, completion.trigger, completion.jobDetail, completion.instCode);
+                    }
                 }
-            });    
+            }, null);
+        recordCompletions(completions.size(), lockedAt[0]);
+    }
+
+    private void recordCompletions(int count, long lockedAt) {
+        completionLockHoldNanos.add(System.nanoTime() - lockedAt);
+        completionTransactionCount.increment();
+        completedTriggerCount.add(count);
     }
     
     protected void triggeredJobComplete(Connection conn,
@@ -3125,6 +4890,16 @@ public abstract class JobStoreSupport implements JobStore, Constants {
     //---------------------------------------------------------------------------
 
     protected RecoverMisfiredJobsResult doRecoverMisfires() throws JobPersistenceException {
+        try {
+            return doRecoverMisfires(true);
+        } catch (MisfireBatchException e) {
+            getLog().warn("Couldn't update {} misfired triggers together, handling them one by one: {}",
+                    e.size, e.getMessage());
+            return doRecoverMisfires(false);
+        }
+    }
+
+    private RecoverMisfiredJobsResult doRecoverMisfires(boolean batchUpdates) throws JobPersistenceException {
         boolean transOwner = false;
         Connection conn = getNonManagedTXConnection();
         try {
@@ -3141,13 +4916,21 @@ public abstract class JobStoreSupport implements JobStore, Constants {
             if (misfireCount == 0) {
                 getLog().debug(
                     "Found 0 triggers that missed their scheduled fire-time.");
+                misfireLag = 0L;
             } else {
                 transOwner = getLockHandler().obtainLock(conn, LOCK_TRIGGER_ACCESS);
                 
-                result = recoverMisfiredJobs(conn, false);
+                result = recoverMisfiredJobs(conn, false, batchUpdates);
             }
             
             commitConnection(conn);
+            misfireBacklogPending = result.hasMoreMisfiredTriggers();
+
+            if (misfireCount != Integer.MAX_VALUE) {
+                misfireBacklog = Math.max(0, misfireCount - result.getProcessedMisfiredTriggerCount());
+            } else {
+                misfireBacklog = result.hasMoreMisfiredTriggers() ? -1 : 0;
+            }
             return result;
         } catch (JobPersistenceException e) {
             rollbackConnection(conn);
@@ -3185,6 +4968,50 @@ public abstract class JobStoreSupport implements JobStore, Constants {
         return t;
     }
 
+    /**
+     * Drop the job from the cache now and, since a concurrent reader may
+     * still load it as it was until this transaction commits, clear the
+     * caches again once the transaction completes.
+     */
+    private void invalidateCachedJob(JobKey jobKey) {
+        if (jobCache != null) {
+            jobCache.remove(jobKey);
+            cachesInvalidatedInTx.set(Boolean.TRUE);
+        }
+    }
+
+    private void invalidateCachedCalendar(String calName) {
+        if (boundedCalendarCache != null) {
+            boundedCalendarCache.remove(calName);
+            cachesInvalidatedInTx.set(Boolean.TRUE);
+        }
+    }
+
+    private void invalidateCaches() {
+        clearCaches();
+        cachesInvalidatedInTx.set(Boolean.TRUE);
+    }
+
+    /**
+     * Clear the job and calendar caches if the current transaction changed
+     * any cached job or calendar; called once the transaction is complete.
+     */
+    protected void clearCachesIfInvalidatedInTx() {
+        if (cachesInvalidatedInTx.get() != null) {
+            cachesInvalidatedInTx.remove();
+            clearCaches();
+        }
+    }
+
+    protected void clearCaches() {
+        if (jobCache != null) {
+            jobCache.clear();
+        }
+        if (boundedCalendarCache != null) {
+            boundedCalendarCache.clear();
+        }
+    }
+
     protected void signalSchedulingChangeImmediately(long candidateNewNextFireTime) {
         schedSignaler.signalSchedulingChange(candidateNewNextFireTime);
     }
@@ -3195,12 +5022,20 @@ public abstract class JobStoreSupport implements JobStore, Constants {
 
     protected boolean firstCheckIn = true;
 
-    protected long lastCheckin = System.currentTimeMillis();
+    protected volatile long lastCheckin = System.currentTimeMillis();
     
     protected boolean doCheckin() throws JobPersistenceException {
+        if (!firstCheckIn && isAdaptiveClusterCheckin() && !isFailedInstanceScanDue()
+                && System.currentTimeMillis() - lastCheckin < getClusterCheckinInterval()) {
+            // the acquisition transactions have been checking in for us
+            clearCaches();
+            return false;
+        }
+
         boolean transOwner = false;
         boolean transStateOwner = false;
         boolean recovered = false;
+        long recoveryStart = 0L;
 
         Connection conn = getNonManagedTXConnection();
         try {
@@ -3210,7 +5045,7 @@ public abstract class JobStoreSupport implements JobStore, Constants {
             // transaction to prevent a deadlock under recovery conditions.
             List<SchedulerStateRecord> failedRecords = null;
             if (!firstCheckIn) {
-                failedRecords = clusterCheckIn(conn);
+                failedRecords = isFailedInstanceScanDue() ? clusterCheckIn(conn) : clusterHeartbeat(conn);
                 commitConnection(conn);
             }
             
@@ -3226,6 +5061,7 @@ public abstract class JobStoreSupport implements JobStore, Constants {
                     getLockHandler().obtainLock(conn, LOCK_TRIGGER_ACCESS);
                     //getLockHandler().obtainLock(conn, LOCK_JOB_ACCESS);
                     transOwner = true;
+                    recoveryStart = System.nanoTime();
     
                     clusterRecover(conn, failedRecords);
                     recovered = true;
@@ -3233,6 +5069,13 @@ public abstract class JobStoreSupport implements JobStore, Constants {
             }
             
             commitConnection(conn);
+
+            if (recovered) {
+                long recoveryNanos = System.nanoTime() - recoveryStart;
+                clusterRecoveryCount.increment();
+                clusterRecoveryNanos.add(recoveryNanos);
+                lastClusterRecoveryNanos = recoveryNanos;
+            }
         } catch (JobPersistenceException e) {
             rollbackConnection(conn);
             throw e;
@@ -3250,6 +5093,10 @@ public abstract class JobStoreSupport implements JobStore, Constants {
 
         firstCheckIn = false;
 
+        // jobs and calendars may have been changed by other nodes since the
+        // last check-in
+        clearCaches();
+
         return recovered;
     }
 
@@ -3262,6 +5109,8 @@ public abstract class JobStoreSupport implements JobStore, Constants {
         try {
             List<SchedulerStateRecord> failedInstances = new LinkedList<>();
             boolean foundThisScheduler = false;
+            // this instance, even before its first check-in inserts its record
+            int liveInstances = 1;
             long timeNow = System.currentTimeMillis();
             
             List<SchedulerStateRecord> states = getDelegate().selectSchedulerStateRecords(conn, null);
@@ -3278,6 +5127,8 @@ public abstract class JobStoreSupport implements JobStore, Constants {
                     // find failed instances...
                     if (calcFailedIfAfter(rec) < timeNow) {
                         failedInstances.add(rec);
+                    } else {
+                        liveInstances++;
                     }
                 }
             }
@@ -3287,6 +5138,12 @@ public abstract class JobStoreSupport implements JobStore, Constants {
                 failedInstances.addAll(findOrphanedFailedInstances(conn, states));
             }
             
+            assignTriggerPartitions(states, failedInstances);
+
+            if (isAdaptiveClusterCheckin()) {
+                scheduleFailedInstanceScan(liveInstances);
+            }
+
             // If not the first time but we didn't find our own instance, then
             // Someone must have done recovery for us.
             if ((!foundThisScheduler) && (!firstCheckIn)) {
@@ -3332,10 +5189,56 @@ public abstract class JobStoreSupport implements JobStore, Constants {
                 getLog().warn("Found orphaned fired triggers for instance: {}", orphanedInstance.getSchedulerInstanceId());
             }
         }
-        
-        return orphanedInstances;
+        
+        return orphanedInstances;
+    }
+    
+    /**
+     * Whether this check-in should scan for failed instances: always, unless
+     * the check-in is adaptive.
+     */
+    private boolean isFailedInstanceScanDue() {
+        return !isAdaptiveClusterCheckin() || System.currentTimeMillis() >= nextFailedInstanceScan;
+    }
+
+    /**
+     * Schedule the next scan for failed instances of an adaptive check-in.
+     * Each of the live instances scans once per as many check-in intervals
+     * as there are other live instances, at a random point within half of
+     * that either way, so that even once one of them has failed the others
+     * still scan about once per check-in interval between them.  An instance
+     * alone or with one other scans about once per check-in interval.
+     */
+    private void scheduleFailedInstanceScan(int liveInstances) {
+        long scanInterval = getClusterCheckinInterval() * Math.max(1, liveInstances - 1);
+        long jitter = ThreadLocalRandom.current().nextLong(scanInterval + 1);
+        nextFailedInstanceScan = System.currentTimeMillis() + scanInterval / 2 + jitter;
+    }
+
+    /**
+     * Share the trigger partitions out again among the instances that look
+     * alive, as part of a check-in that doesn't scan for failed instances.
+     * An instance that looks failed makes the next scan due right away, so
+     * that it is recovered without waiting for the scheduled scan.
+     */
+    private void reassignTriggerPartitions(Connection conn) throws SQLException, JobPersistenceException {
+        if (getTriggerAccessPartitions() <= 0) {
+            return;
+        }
+        List<SchedulerStateRecord> states = getDelegate().selectSchedulerStateRecords(conn, null);
+        List<SchedulerStateRecord> failedInstances = new ArrayList<>();
+        long timeNow = System.currentTimeMillis();
+        for (SchedulerStateRecord rec : states) {
+            if (!rec.getSchedulerInstanceId().equals(getInstanceId()) && calcFailedIfAfter(rec) < timeNow) {
+                failedInstances.add(rec);
+            }
+        }
+        assignTriggerPartitions(states, failedInstances);
+        if (!failedInstances.isEmpty()) {
+            nextFailedInstanceScan = 0L;
+        }
     }
-    
+
     protected long calcFailedIfAfter(SchedulerStateRecord rec) {
         return rec.getCheckinTimestamp() +
             Math.max(rec.getCheckinInterval(), 
@@ -3366,14 +5269,37 @@ public abstract class JobStoreSupport implements JobStore, Constants {
         return failedInstances;
     }
 
+    /**
+     * Check in without scanning for failed instances, which adaptive
+     * check-ins only do every so often.
+     * 
+     * @return an empty list, since no failed instances were looked for
+     */
+    protected List<SchedulerStateRecord> clusterHeartbeat(Connection conn)
+        throws JobPersistenceException {
+        try {
+            lastCheckin = System.currentTimeMillis();
+            if(getDelegate().updateSchedulerState(conn, getInstanceId(), lastCheckin) == 0) {
+                // recovered by another instance; scan again right away
+                getDelegate().insertSchedulerState(conn, getInstanceId(),
+                        lastCheckin, getClusterCheckinInterval());
+                nextFailedInstanceScan = 0L;
+            }
+            reassignTriggerPartitions(conn);
+        } catch (Exception e) {
+            throw new JobPersistenceException("Failure updating scheduler state when checking-in: "
+                    + e.getMessage(), e);
+        }
+
+        return Collections.emptyList();
+    }
+
     @SuppressWarnings("ConstantConditions")
     protected void clusterRecover(Connection conn, List<SchedulerStateRecord> failedInstances)
         throws JobPersistenceException {
 
         if (!failedInstances.isEmpty()) {
 
-            long recoverIds = System.currentTimeMillis();
-
             logWarnIfNonZero(failedInstances.size(),
                     "ClusterManager: detected " + failedInstances.size()
                             + " failed or restarted instances.");
@@ -3381,109 +5307,36 @@ public abstract class JobStoreSupport implements JobStore, Constants {
                 for (SchedulerStateRecord rec : failedInstances) {
                     getLog().info("ClusterManager: Scanning for instance \"{}\"'s failed in-progress jobs.", rec.getSchedulerInstanceId());
 
-                    List<FiredTriggerRecord> firedTriggerRecs = getDelegate()
-                            .selectInstancesFiredTriggerRecords(conn,
-                                    rec.getSchedulerInstanceId());
-
-                    int acquiredCount = 0;
-                    int recoveredCount = 0;
-                    int otherCount = 0;
+                    String instanceId = rec.getSchedulerInstanceId();
 
-                    Set<TriggerKey> triggerKeys = new HashSet<>();
+                    // release acquired triggers..
+                    int acquiredCount = getDelegate().updateAcquiredTriggerStatesForInstance(
+                            conn, instanceId, STATE_WAITING);
 
-                    for (FiredTriggerRecord ftRec : firedTriggerRecs) {
-
-                        TriggerKey tKey = ftRec.getTriggerKey();
-                        JobKey jKey = ftRec.getJobKey();
-
-                        triggerKeys.add(tKey);
-
-                        // release blocked triggers..
-                        if (ftRec.getFireInstanceState().equals(STATE_BLOCKED)) {
-                            getDelegate()
-                                    .updateTriggerStatesForJobFromOtherState(
-                                            conn, jKey,
-                                            STATE_WAITING, STATE_BLOCKED);
-                        } else if (ftRec.getFireInstanceState().equals(STATE_PAUSED_BLOCKED)) {
-                            getDelegate()
-                                    .updateTriggerStatesForJobFromOtherState(
-                                            conn, jKey,
-                                            STATE_PAUSED, STATE_PAUSED_BLOCKED);
-                        }
+                    // free up blocked triggers and stateful jobs' triggers
+                    getDelegate().updateBlockedTriggerStatesForInstance(
+                            conn, instanceId, STATE_WAITING, STATE_BLOCKED);
+                    getDelegate().updateBlockedTriggerStatesForInstance(
+                            conn, instanceId, STATE_PAUSED, STATE_PAUSED_BLOCKED);
 
-                        // release acquired triggers..
-                        if (ftRec.getFireInstanceState().equals(STATE_ACQUIRED)) {
-                            getDelegate().updateTriggerStateFromOtherState(
-                                    conn, tKey, STATE_WAITING,
-                                    STATE_ACQUIRED);
-                            acquiredCount++;
-                        } else if (ftRec.isJobRequestsRecovery()) {
-                            // handle jobs marked for recovery that were not fully
-                            // executed..
-                            if (jobExists(conn, jKey)) {
-                                @SuppressWarnings("deprecation")
-                                SimpleTriggerImpl rcvryTrig = new SimpleTriggerImpl(
-                                        "recover_"
-                                                + rec.getSchedulerInstanceId()
-                                                + "_"
-                                                + recoverIds++,
-                                        Scheduler.DEFAULT_RECOVERY_GROUP,
-                                        new Date(ftRec.getScheduleTimestamp()));
-                                rcvryTrig.setJobName(jKey.getName());
-                                rcvryTrig.setJobGroup(jKey.getGroup());
-                                rcvryTrig.setMisfireInstruction(SimpleTrigger.MISFIRE_INSTRUCTION_IGNORE_MISFIRE_POLICY);
-                                rcvryTrig.setPriority(ftRec.getPriority());
-                                JobDataMap jd = getDelegate().selectTriggerJobDataMap(conn, tKey.getName(), tKey.getGroup());
-                                jd.put(Scheduler.FAILED_JOB_ORIGINAL_TRIGGER_NAME, tKey.getName());
-                                jd.put(Scheduler.FAILED_JOB_ORIGINAL_TRIGGER_GROUP, tKey.getGroup());
-                                jd.put(Scheduler.FAILED_JOB_ORIGINAL_TRIGGER_FIRETIME_IN_MILLISECONDS, String.valueOf(ftRec.getFireTimestamp()));
-                                jd.put(Scheduler.FAILED_JOB_ORIGINAL_TRIGGER_SCHEDULED_FIRETIME_IN_MILLISECONDS, String.valueOf(ftRec.getScheduleTimestamp()));
-                                rcvryTrig.setJobDataMap(jd);
-
-                                rcvryTrig.computeFirstFireTime(null);
-                                storeTrigger(conn, rcvryTrig, null, false,
-                                        STATE_WAITING, false, true);
-                                recoveredCount++;
-                            } else {
-                                getLog()
-                                        .warn("ClusterManager: failed job '{}' no longer exists, cannot schedule recovery.", jKey);
-                                otherCount++;
-                            }
-                        } else {
-                            otherCount++;
-                        }
+                    // handle jobs marked for recovery that were not fully
+                    // executed..
+                    List<OperableTrigger> rcvryTrigs = getDelegate()
+                            .selectRecoveryTriggersForInstance(conn, instanceId);
+                    int recoveredCount = storeRecoveryTriggers(conn, rcvryTrigs);
 
-                        // free up stateful job's triggers
-                        if (ftRec.isJobDisallowsConcurrentExecution()) {
-                            getDelegate()
-                                    .updateTriggerStatesForJobFromOtherState(
-                                            conn, jKey,
-                                            STATE_WAITING, STATE_BLOCKED);
-                            getDelegate()
-                                    .updateTriggerStatesForJobFromOtherState(
-                                            conn, jKey,
-                                            STATE_PAUSED, STATE_PAUSED_BLOCKED);
-                        }
-                    }
+                    // Find the COMPLETE triggers whose last fired trigger records
+                    // are about to be deleted.
+                    List<TriggerKey> completeKeys = getDelegate()
+                            .selectCompleteTriggerKeysForInstance(conn, instanceId);
 
-                    getDelegate().deleteFiredTriggers(conn,
-                            rec.getSchedulerInstanceId());
+                    int firedCount = getDelegate().deleteFiredTriggers(conn, instanceId);
+                    int otherCount = Math.max(0, firedCount - acquiredCount - recoveredCount);
 
-                    // Check if any of the fired triggers we just deleted were the last fired trigger
-                    // records of a COMPLETE trigger.
                     int completeCount = 0;
-                    for (TriggerKey triggerKey : triggerKeys) {
-
-                        if (getDelegate().selectTriggerState(conn, triggerKey).
-                                equals(STATE_COMPLETE)) {
-                            List<FiredTriggerRecord> firedTriggers =
-                                    getDelegate().selectFiredTriggerRecords(conn, triggerKey.getName(), triggerKey.getGroup());
-                            if (firedTriggers.isEmpty()) {
-
-                                if (removeTrigger(conn, triggerKey)) {
-                                    completeCount++;
-                                }
-                            }
+                    for (TriggerKey triggerKey : completeKeys) {
+                        if (removeTrigger(conn, triggerKey)) {
+                            completeCount++;
                         }
                     }
 
@@ -3512,6 +5365,48 @@ public abstract class JobStoreSupport implements JobStore, Constants {
         }
     }
 
+    /**
+     * <p>
+     * Insert the recovery triggers of a failed instance in a batch.  The
+     * triggers are in the recovery group, so they are stored
+     * <code>PAUSED</code> if that group is paused, and <code>WAITING</code>
+     * otherwise; like any recovery they are never blocked.
+     * </p>
+     * 
+     * @return the number of triggers stored
+     */
+    private int storeRecoveryTriggers(Connection conn, List<OperableTrigger> rcvryTrigs)
+        throws JobPersistenceException, SQLException, IOException {
+        if (rcvryTrigs.isEmpty()) {
+            return 0;
+        }
+
+        String state = STATE_WAITING;
+        if (getDelegate().isTriggerGroupPaused(conn, Scheduler.DEFAULT_RECOVERY_GROUP)) {
+            state = STATE_PAUSED;
+        } else if (getDelegate().isTriggerGroupPaused(conn, ALL_GROUPS_PAUSED)) {
+            getDelegate().insertPausedTriggerGroup(conn, Scheduler.DEFAULT_RECOVERY_GROUP);
+            state = STATE_PAUSED;
+        }
+
+        Map<JobKey, JobDetail> jobs = new HashMap<>();
+        List<String> states = new ArrayList<>(rcvryTrigs.size());
+        List<JobDetail> jobDetails = new ArrayList<>(rcvryTrigs.size());
+        for (OperableTrigger rcvryTrig : rcvryTrigs) {
+            rcvryTrig.computeFirstFireTime(null);
+            JobDetail job = jobs.get(rcvryTrig.getJobKey());
+            if (job == null) {
+                job = retrieveJob(conn, rcvryTrig.getJobKey());
+                jobs.put(rcvryTrig.getJobKey(), job);
+            }
+            states.add(state);
+            jobDetails.add(job);
+        }
+        getDelegate().insertTriggers(conn, rcvryTrigs, states, jobDetails);
+        storeTriggerPartitions(conn, rcvryTrigs);
+        return rcvryTrigs.size();
+    }
+
     protected void logWarnIfNonZero(int val, String warning) {
         if (val > 0) {
             getLog().info(warning);
@@ -3672,6 +5567,93 @@ public abstract class JobStoreSupport implements JobStore, Constants {
         return executeInLock(null, txCallback);
     }
 
+    /**
+     * Execute the given read-only callback on a connection of the read data
+     * source, if there is one and it is up to date enough (see
+     * {@link #isReplicaCurrent(Connection)}), unless the current thread forces
+     * reads from the primary (see {@link PrimaryReads}).  Otherwise, or if
+     * the read data source fails, it is executed like
+     * {@link #executeWithoutLock(TransactionCallback)}.
+     */
+    protected <T> T executeReadOnly(TransactionCallback<T> txCallback) throws JobPersistenceException {
+        if (getReadDataSource() == null || PrimaryReads.isForced()) {
+            return executeWithoutLock(txCallback);
+        }
+
+        Connection conn = null;
+        try {
+            conn = getReadConnection();
+            if (isReplicaCurrent(conn)) {
+                return txCallback.execute(conn);
+            }
+        } catch (JobPersistenceException | RuntimeException e) {
+            getLog().warn("Read from data source '{}' failed, reading from the primary instead: {}",
+                    getReadDataSource(), e.getMessage());
+        } finally {
+            cleanupConnection(conn);
+        }
+        return executeWithoutLock(txCallback);
+    }
+
+    /**
+     * Whether the read replica behind the given connection is close enough to
+     * the primary to be read from.  Its lag is measured by this instance's
+     * last check-in time as seen on the replica: the replica must show a
+     * check-in no further than the read staleness tolerance behind the last
+     * one written to the primary, and one written after the last change made
+     * through this job store, so that the change is seen at once.  The
+     * replica is therefore not read from for up to a check-in interval after
+     * each change, however small its lag.
+     */
+    protected boolean isReplicaCurrent(Connection conn) throws JobPersistenceException {
+        List<SchedulerStateRecord> states;
+        try {
+            states = getDelegate().selectSchedulerStateRecords(conn, getInstanceId());
+        } catch (SQLException e) {
+            throw new JobPersistenceException("Couldn't read the scheduler state from the read data source: "
+                    + e.getMessage(), e);
+        }
+        if (states.isEmpty()) {
+            return false;
+        }
+
+        long replicaCheckin = states.get(0).getCheckinTimestamp();
+        return lastCheckin - replicaCheckin <= getReadStalenessTolerance()
+                && lastChangeTime < replicaCheckin;
+    }
+
+    protected Connection getReadConnection() throws JobPersistenceException {
+        Connection conn;
+        try {
+            conn = DBConnectionManager.getInstance().getConnection(getReadDataSource());
+        } catch (Throwable e) {
+            throw new JobPersistenceException(
+                    "Failed to obtain DB connection from data source '"
+                    + getReadDataSource() + "': " + e, e);
+        }
+
+        if (conn == null) {
+            throw new JobPersistenceException(
+                "Could not get connection from DataSource '"
+                + getReadDataSource() + "'");
+        }
+
+        return getAttributeRestoringConnection(conn);
+    }
+
+    /**
+     * Called by {@link #executeInLock(String, TransactionCallback)} after
+     * each of its transactions.  Those that take a lock change jobs,
+     * triggers or calendars (as do all of them when not locking on insert),
+     * so reads that could go to the read data source go to the primary
+     * until the replica shows a check-in made after it.
+     */
+    protected void noteChange(String lockName) {
+        if (lockName != null || !isLockOnInsert()) {
+            lastChangeTime = System.currentTimeMillis();
+        }
+    }
+
     /**
      * Execute the given callback having acquired the given lock.
      * Depending on the JobStore, the surrounding transaction may be 
@@ -3686,9 +5668,14 @@ public abstract class JobStoreSupport implements JobStore, Constants {
         TransactionCallback<T> txCallback) throws JobPersistenceException;
     
     protected <T> T retryExecuteInNonManagedTXLock(String lockName, TransactionCallback<T> txCallback) {
+        return retryExecuteInNonManagedTXLock(lockName, txCallback, false);
+    }
+
+    private <T> T retryExecuteInNonManagedTXLock(String lockName, TransactionCallback<T> txCallback,
+            boolean acquisition) {
         for (int retry = 1; !shutdown; retry++) {
             try {
-                return executeInNonManagedTXLock(lockName, txCallback, null);
+                return executeInNonManagedTXLock(lockName, txCallback, null, acquisition);
             } catch (JobPersistenceException jpe) {
                 if(retry % 4 == 0) {
                     schedSignaler.notifySchedulerListenersError("An error occurred while " + txCallback, jpe);
@@ -3716,26 +5703,42 @@ public abstract class JobStoreSupport implements JobStore, Constants {
     protected <T> T executeInNonManagedTXLock(
             String lockName, 
             TransactionCallback<T> txCallback, final TransactionValidator<T> txValidator) throws JobPersistenceException {
+        return executeInNonManagedTXLock(lockName, txCallback, txValidator, false);
+    }
+
+    /**
+     * Execute the given callback like
+     * {@link #executeInNonManagedTXLock(String, TransactionCallback, TransactionValidator)},
+     * on the pinned connection if this is one of the scheduler thread's
+     * acquisition transactions and the connection is pinned.
+     */
+    private <T> T executeInNonManagedTXLock(
+            String lockName, 
+            TransactionCallback<T> txCallback, final TransactionValidator<T> txValidator,
+            boolean acquisition) throws JobPersistenceException {
         boolean transOwner = false;
+        boolean pinned = acquisition && claimPinnedConnection();
+        boolean completed = false;
         Connection conn = null;
         try {
             if (lockName != null) {
                 // If we aren't using db locks, then delay getting DB connection 
                 // until after acquiring the lock since it isn't needed.
                 if (getLockHandler().requiresConnection()) {
-                    conn = getNonManagedTXConnection();
+                    conn = pinned ? getPinnedConnection() : getNonManagedTXConnection();
                 }
                 
                 transOwner = getLockHandler().obtainLock(conn, lockName);
             }
             
             if (conn == null) {
-                conn = getNonManagedTXConnection();
+                conn = pinned ? getPinnedConnection() : getNonManagedTXConnection();
             }
             
             final T result = txCallback.execute(conn);
             try {
                 commitConnection(conn);
+                completed = true;
             } catch (JobPersistenceException e) {
                 rollbackConnection(conn);
                 if (txValidator == null || !retryExecuteInNonManagedTXLock(lockName, conn1 -> txValidator.validate(conn1, result))) {
@@ -3757,12 +5760,75 @@ public abstract class JobStoreSupport implements JobStore, Constants {
             throw new JobPersistenceException("Unexpected runtime exception: "
                     + e.getMessage(), e);
         } finally {
+            clearCachesIfInvalidatedInTx();
             try {
                 releaseLock(lockName, transOwner);
             } finally {
-                cleanupConnection(conn);
+                if (!pinned) {
+                    cleanupConnection(conn);
+                } else if (completed) {
+                    pinnedConnectionLastUsed = System.currentTimeMillis();
+                } else {
+                    // the connection may be broken, so start over with a new one
+                    discardPinnedConnection();
+                }
+            }
+        }
+    }
+
+    /**
+     * Whether the current thread may use the pinned connection: the first
+     * thread to run an acquisition transaction owns it, which is the
+     * scheduler thread.
+     */
+    private boolean claimPinnedConnection() {
+        if (!isPinAcquisitionConnection() || shutdown) {
+            return false;
+        }
+        Thread owner = pinnedConnectionOwner;
+        if (owner == null) {
+            synchronized (this) {
+                if (pinnedConnectionOwner == null) {
+                    pinnedConnectionOwner = Thread.currentThread();
+                }
+                owner = pinnedConnectionOwner;
+            }
+        }
+        return owner == Thread.currentThread();
+    }
+
+    /**
+     * The pinned connection, validated if it has been idle for longer than
+     * the validation interval, and obtained again if there is none.
+     */
+    private Connection getPinnedConnection() throws JobPersistenceException {
+        Connection conn = pinnedConnection;
+        if (conn != null
+                && System.currentTimeMillis() - pinnedConnectionLastUsed > getPinnedConnectionValidationInterval()) {
+            boolean valid;
+            try {
+                valid = conn.isValid(PINNED_CONNECTION_VALIDATION_TIMEOUT);
+            } catch (SQLException e) {
+                valid = false;
+            }
+            if (!valid) {
+                getLog().warn("The pinned acquisition connection is no longer valid, obtaining a new one.");
+                discardPinnedConnection();
+                conn = null;
             }
         }
+        if (conn == null) {
+            conn = getNonManagedTXConnection();
+            pinnedConnection = conn;
+            pinnedConnectionReconnectCount.increment();
+        }
+        return conn;
+    }
+
+    private void discardPinnedConnection() {
+        Connection conn = pinnedConnection;
+        pinnedConnection = null;
+        cleanupConnection(conn);
     }
     
     /////////////////////////////////////////////////////////////////////////////
@@ -3820,6 +5886,10 @@ public abstract class JobStoreSupport implements JobStore, Constants {
                     long timeToSleep = getClusterCheckinInterval();
                     long transpiredTime = (System.currentTimeMillis() - lastCheckin);
                     timeToSleep = timeToSleep - transpiredTime;
+                    if (isAdaptiveClusterCheckin()) {
+                        timeToSleep = Math.min(timeToSleep,
+                                nextFailedInstanceScan - System.currentTimeMillis());
+                    }
                     if (timeToSleep <= 0) {
                         timeToSleep = 100L;
                     }
@@ -3842,6 +5912,273 @@ public abstract class JobStoreSupport implements JobStore, Constants {
         }
     }
 
+    /////////////////////////////////////////////////////////////////////////////
+    //
+    // RecoveryWorker Thread
+    //
+    /////////////////////////////////////////////////////////////////////////////
+
+    class RecoveryWorker extends Thread {
+
+        private volatile boolean shutdown = false;
+
+        private final IncrementalRecovery recovery;
+
+        RecoveryWorker(IncrementalRecovery recovery, int index) {
+            this.recovery = recovery;
+            this.setName("QuartzScheduler_" + instanceName + "-" + instanceId + "_RecoveryWorker-" + index);
+            this.setDaemon(getMakeThreadsDaemons());
+        }
+
+        public void initialize() {
+            ThreadExecutor executor = getThreadExecutor();
+            executor.execute(RecoveryWorker.this);
+        }
+
+        public void shutdown() {
+            shutdown = true;
+            this.interrupt();
+        }
+
+        @Override
+        public void run() {
+            // fired trigger records first, so most 'complete' triggers are
+            // already free of them when their turn comes
+            List<FiredTriggerRecord> firedTriggers;
+            while (!shutdown && (firedTriggers = recovery.firedTriggerChunks.poll()) != null) {
+                final List<FiredTriggerRecord> chunk = firedTriggers;
+                final Set<JobKey> statefulJobKeys = new HashSet<>();
+                final Set<TriggerKey> triggerKeys = new HashSet<>();
+                // each transaction is retried on its own, so that a failed
+                // clean-up does not schedule the recovered jobs again
+                if (runWithRetry(() -> recoverFiredTriggersChunk(recovery, chunk, statefulJobKeys, triggerKeys), chunk.size())
+                        && runWithRetry(() -> cleanUpAfterRecoveryChunk(statefulJobKeys, triggerKeys), chunk.size())) {
+                    reportRecoveryProgress(recovery, chunk.size());
+                }
+            }
+            List<TriggerKey> completeTriggers;
+            while (!shutdown && (completeTriggers = recovery.completeTriggerChunks.poll()) != null) {
+                final List<TriggerKey> chunk = completeTriggers;
+                if (runWithRetry(() -> cleanUpAfterRecoveryChunk(Collections.emptySet(), new HashSet<>(chunk)), chunk.size())) {
+                    reportRecoveryProgress(recovery, chunk.size());
+                }
+            }
+        }
+
+        private boolean runWithRetry(RecoveryStep step, int chunkSize) {
+            int numFails = 0;
+            while (!shutdown) {
+                try {
+                    step.run();
+                    return true;
+                } catch (JobPersistenceException e) {
+                    if (++numFails >= MAX_RECOVERY_CHUNK_ATTEMPTS) {
+                        // leave the chunk for the next start-up rather than hold up the rest
+                        getLog().error("RecoveryWorker: Skipping {} records after {} failed attempts: {}",
+                                chunkSize, numFails, e.getMessage(), e);
+                        schedSignaler.notifySchedulerListenersError(
+                                "Error recovering jobs, skipped " + chunkSize + " records: " + e.getMessage(), e);
+                        reportRecoverySkipped(recovery, chunkSize);
+                        return false;
+                    }
+                    getLog().warn("RecoveryWorker: Error recovering jobs, will retry: {}", e.getMessage());
+                    try {
+                        Thread.sleep(getDbRetryInterval());
+                    } catch (InterruptedException ignore) {
+                    }
+                }
+            }
+            return false;
+        }
+    }
+
+    interface RecoveryStep {
+        void run() throws JobPersistenceException;
+    }
+
+    /////////////////////////////////////////////////////////////////////////////
+    //
+    // CompletionBatcher Thread
+    //
+    /////////////////////////////////////////////////////////////////////////////
+
+    static final class PendingCompletion {
+
+        final OperableTrigger trigger;
+
+        final JobDetail jobDetail;
+
+        final CompletedExecutionInstruction instCode;
+
+        private final CountDownLatch handled = new CountDownLatch(1);
+
+        private volatile boolean committed;
+
+        PendingCompletion(OperableTrigger trigger, JobDetail jobDetail, CompletedExecutionInstruction instCode) {
+            this.trigger = trigger;
+            this.jobDetail = jobDetail;
+            this.instCode = instCode;
+        }
+
+        void done() {
+            committed = true;
+            handled.countDown();
+        }
+
+        /**
+         * Hand the completion back to the worker thread, to commit (and retry)
+         * in its own transaction.
+         */
+        void handBack() {
+            handled.countDown();
+        }
+
+        /**
+         * Wait for the batcher to commit the completion or hand it back.
+         *
+         * @return false if it was handed back
+         */
+        boolean await() {
+            boolean interrupted = false;
+            while (true) {
+                try {
+                    handled.await();
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+            return committed;
+        }
+    }
+
+    /**
+     * Commits the trigger completions submitted by the worker threads in
+     * batches, so that completing jobs takes the <code>TRIGGER_ACCESS</code>
+     * lock once per batch instead of once per job.
+     */
+    class CompletionBatcher extends Thread {
+
+        private final ArrayDeque<PendingCompletion> pending = new ArrayDeque<>();
+
+        private boolean shutdown = false;
+
+        CompletionBatcher() {
+            this.setName("QuartzScheduler_" + instanceName + "-" + instanceId + "_CompletionBatcher");
+            this.setDaemon(getMakeThreadsDaemons());
+        }
+
+        public void initialize() {
+            ThreadExecutor executor = getThreadExecutor();
+            executor.execute(CompletionBatcher.this);
+        }
+
+        /**
+         * Queue the completion for the next batch, or return false if the
+         * batcher has been shut down.
+         */
+        synchronized boolean submit(PendingCompletion completion) {
+            if (shutdown) {
+                return false;
+            }
+            pending.add(completion);
+            if (pending.size() == 1 || pending.size() >= getCompletionBatchMaxSize()) {
+                notifyAll();
+            }
+            return true;
+        }
+
+        public synchronized void shutdown() {
+            shutdown = true;
+            notifyAll();
+        }
+
+        /**
+         * The next batch: what was submitted within the batch interval after
+         * the first completion, or what is left once shut down.  Empty once
+         * shut down with nothing left.
+         */
+        private synchronized List<PendingCompletion> nextBatch() {
+            try {
+                while (pending.isEmpty() && !shutdown) {
+                    wait();
+                }
+                long batchEnd = System.currentTimeMillis() + getCompletionBatchInterval();
+                long timeLeft;
+                while (!shutdown && pending.size() < getCompletionBatchMaxSize()
+                        && (timeLeft = batchEnd - System.currentTimeMillis()) > 0) {
+                    wait(timeLeft);
+                }
+            } catch (InterruptedException ignore) {
+            }
+            List<PendingCompletion> batch = new ArrayList<>(Math.min(pending.size(), getCompletionBatchMaxSize()));
+            while (!pending.isEmpty() && batch.size() < getCompletionBatchMaxSize()) {
+                batch.add(pending.poll());
+            }
+            return batch;
+        }
+
+        /**
+         * Stop taking completions, and return those that are still queued.
+         */
+        private synchronized List<PendingCompletion> drain() {
+            shutdown = true;
+            List<PendingCompletion> left = new ArrayList<>(pending);
+            pending.clear();
+            return left;
+        }
+
+        @Override
+        public void run() {
+            List<PendingCompletion> batch = Collections.emptyList();
+            try {
+                while (!(batch = nextBatch()).isEmpty()) {
+                    commit(batch);
+                }
+            } finally {
+                // should the thread die (of an Error, say), nothing may be left
+                // waiting for it: the worker threads commit what it didn't, and
+                // handing back a completion that was committed changes nothing
+                for (PendingCompletion completion : batch) {
+                    completion.handBack();
+                }
+                for (PendingCompletion completion : drain()) {
+                    completion.handBack();
+                }
+            }
+        }
+
+        private void commit(List<PendingCompletion> batch) {
+            try {
+                commitCompletions(batch);
+                for (PendingCompletion completion : batch) {
+                    completion.done();
+                }
+                return;
+            } catch (JobPersistenceException | RuntimeException e) {
+                if (batch.size() == 1) {
+                    batch.get(0).handBack();
+                    return;
+                }
+                getLog().warn("Couldn't commit {} trigger completions together, committing them one at a time: {}",
+                        batch.size(), e.getMessage());
+            }
+            // one attempt per completion; those that still fail are retried by
+            // their own worker threads, so that they don't hold back the others
+            for (PendingCompletion completion : batch) {
+                try {
+                    commitCompletions(Collections.singletonList(completion));
+                    completion.done();
+                } catch (JobPersistenceException | RuntimeException e) {
+                    completion.handBack();
+                }
+            }
+        }
+    }
+
     /////////////////////////////////////////////////////////////////////////////
     //
     // MisfireHandler Thread
@@ -3874,6 +6211,10 @@ public abstract class JobStoreSupport implements JobStore, Constants {
             try {
                 getLog().debug("MisfireHandler: scanning for misfires...");
 
+                if (getTriggerAccessPartitions() > 0 && !skipLockedAcquisition) {
+                    partitionUnassignedTriggers();
+                }
+
                 RecoverMisfiredJobsResult res = doRecoverMisfires();
                 numFails = 0;
                 return res;
@@ -3899,17 +6240,16 @@ public abstract class JobStoreSupport implements JobStore, Constants {
                     signalSchedulingChangeImmediately(recoverMisfiredJobsResult.getEarliestNewTime());
                 }
 
-                if (!shutdown) {
-                    long timeToSleep = 50L;  // At least a short pause to help balance threads
-                    if (!recoverMisfiredJobsResult.hasMoreMisfiredTriggers()) {
-                        timeToSleep = getMisfireThreshold() - (System.currentTimeMillis() - sTime);
-                        if (timeToSleep <= 0) {
-                            timeToSleep = 50L;
-                        }
+                // while full passes keep coming back, the next one follows
+                // at once, taking up to misfireBacklogBatchSize triggers
+                if (!shutdown && !recoverMisfiredJobsResult.hasMoreMisfiredTriggers()) {
+                    long timeToSleep = getMisfireThreshold() - (System.currentTimeMillis() - sTime);
+                    if (timeToSleep <= 0) {
+                        timeToSleep = 50L;  // At least a short pause to help balance threads
+                    }
 
-                        if(numFails > 0) {
-                            timeToSleep = Math.max(getDbRetryInterval(), timeToSleep);
-                        }
+                    if(numFails > 0) {
+                        timeToSleep = Math.max(getDbRetryInterval(), timeToSleep);
                     }
                     
                     try {
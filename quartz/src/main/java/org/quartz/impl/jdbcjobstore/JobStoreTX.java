@@ -92,7 +92,11 @@ public class JobStoreTX extends JobStoreSupport {
     protected Object executeInLock(
             String lockName, 
             TransactionCallback txCallback) throws JobPersistenceException {
-        return executeInNonManagedTXLock(lockName, txCallback, null);
+        try {
+            return executeInNonManagedTXLock(lockName, txCallback, null);
+        } finally {
+            noteChange(lockName);
+        }
     }
 }
 // EOF
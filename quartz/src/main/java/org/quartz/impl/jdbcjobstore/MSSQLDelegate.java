@@ -22,7 +22,6 @@ import static org.quartz.TriggerKey.triggerKey;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.ObjectInputStream;
 import java.math.BigDecimal;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
@@ -74,9 +73,7 @@ public class MSSQLDelegate extends StdJDBCDelegate {
 
         Object obj;
 
-        try (ObjectInputStream in = new ObjectInputStream(binaryInput)) {
-            obj = in.readObject();
-        }
+        obj = deserializeObject(binaryInput);
 
         return obj;
     }
@@ -126,6 +123,21 @@ public class MSSQLDelegate extends StdJDBCDelegate {
             closeStatement(ps);
         }      
     }
+
+    @Override
+    protected String getSelectNextTriggersToAcquireSQL(int maxCount) {
+        return rtp("SELECT TOP " + maxCount + " " + SELECT_NEXT_TRIGGERS_TO_ACQUIRE_WITH_DETAILS.substring(6));
+    }
+
+    @Override
+    protected String getSelectNextTriggerToAcquireInPartitionSQL(int maxCount) {
+        return rtp("SELECT TOP " + maxCount + " " + SELECT_NEXT_TRIGGER_TO_ACQUIRE_IN_PARTITION.substring(6));
+    }
+
+    @Override
+    protected String getSelectNextTriggersToAcquireInPartitionSQL(int maxCount) {
+        return rtp("SELECT TOP " + maxCount + " " + SELECT_NEXT_TRIGGERS_TO_ACQUIRE_WITH_DETAILS_IN_PARTITION.substring(6));
+    }
     
 }
 
@@ -22,12 +22,12 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.ObjectInputStream;
 import java.math.BigDecimal;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.List;
 
 import org.quartz.Calendar;
 import org.quartz.JobDetail;
@@ -46,6 +46,22 @@ public class PointbaseDelegate extends StdJDBCDelegate {
     // jobs
     //---------------------------------------------------------------------------
 
+    /**
+     * <p>
+     * The job data of each job is streamed by its own statement, so the jobs
+     * are inserted one at a time.
+     * </p>
+     */
+    @Override
+    public int[] insertJobDetails(Connection conn, List<JobDetail> jobs)
+        throws IOException, SQLException {
+        int[] counts = new int[jobs.size()];
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = insertJobDetail(conn, jobs.get(i));
+        }
+        return counts;
+    }
+
     /**
      * <p>
      * Insert the job detail record.
@@ -136,6 +152,22 @@ public class PointbaseDelegate extends StdJDBCDelegate {
         return insertResult;
     }
 
+    /**
+     * <p>
+     * The job data of each trigger is streamed by its own statement, so the
+     * triggers are inserted one at a time.
+     * </p>
+     */
+    @Override
+    public int[] insertTriggers(Connection conn, List<OperableTrigger> triggers, List<String> states,
+            List<JobDetail> jobDetails) throws SQLException, IOException {
+        int[] counts = new int[triggers.size()];
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = insertTrigger(conn, triggers.get(i), states.get(i), jobDetails.get(i));
+        }
+        return counts;
+    }
+
     @Override
     public int insertTrigger(Connection conn, OperableTrigger trigger, String state,
             JobDetail jobDetail) throws SQLException, IOException {
@@ -197,6 +229,22 @@ public class PointbaseDelegate extends StdJDBCDelegate {
         return insertResult;
     }
     
+    /**
+     * <p>
+     * The job data of each trigger needs its own statements, so the triggers
+     * are updated one at a time.
+     * </p>
+     */
+    @Override
+    public int[] updateTriggers(Connection conn, List<OperableTrigger> triggers, List<String> states,
+            List<JobDetail> jobDetails) throws SQLException, IOException {
+        int[] counts = new int[triggers.size()];
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = updateTrigger(conn, triggers.get(i), states.get(i), jobDetails.get(i));
+        }
+        return counts;
+    }
+
     @Override           
     public int updateTrigger(Connection conn, OperableTrigger trigger, String state,
             JobDetail jobDetail) throws SQLException, IOException {
@@ -410,9 +458,7 @@ public class PointbaseDelegate extends StdJDBCDelegate {
         InputStream binaryInput = new ByteArrayInputStream(binaryData);
 
         if (binaryInput.available() != 0) {
-            try (ObjectInputStream in = new ObjectInputStream(binaryInput)) {
-                obj = in.readObject();
-            }
+            obj = deserializeObject(binaryInput);
         }
 
         return obj;
@@ -0,0 +1,64 @@
+/* 
+ * Copyright IBM Corp. 2024, 2025
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not 
+ * use this file except in compliance with the License. You may obtain a copy 
+ * of the License at 
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0 
+ *   
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT 
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the 
+ * License for the specific language governing permissions and limitations 
+ * under the License.
+ * 
+ */
+
+package org.quartz.impl.jdbcjobstore;
+
+/**
+ * <p>
+ * Forces the queries the job store would send to its read data source to go
+ * to the primary database instead, on the current thread, until closed.
+ * Use it for reads that must see the latest state, for example:
+ * </p>
+ * 
+ * <pre>
+ * try (PrimaryReads ignored = PrimaryReads.force()) {
+ *     state = scheduler.getTriggerState(triggerKey);
+ * }
+ * </pre>
+ * 
+ * @see JobStoreSupport#setReadDataSource(String)
+ */
+public final class PrimaryReads implements AutoCloseable {
+
+    private static final ThreadLocal<int[]> FORCED = ThreadLocal.withInitial(() -> new int[1]);
+
+    private boolean closed = false;
+
+    private PrimaryReads() {
+    }
+
+    /**
+     * Force reads from the primary on the current thread until the returned
+     * object is closed.  Calls may be nested.
+     */
+    public static PrimaryReads force() {
+        FORCED.get()[0]++;
+        return new PrimaryReads();
+    }
+
+    static boolean isForced() {
+        return FORCED.get()[0] > 0;
+    }
+
+    @Override
+    public void close() {
+        if (!closed) {
+            closed = true;
+            FORCED.get()[0]--;
+        }
+    }
+}
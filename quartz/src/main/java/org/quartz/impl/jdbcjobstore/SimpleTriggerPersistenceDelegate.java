@@ -22,6 +22,7 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.List;
 
 import org.quartz.JobDetail;
 import org.quartz.SimpleScheduleBuilder;
@@ -34,10 +35,20 @@ public class SimpleTriggerPersistenceDelegate implements TriggerPersistenceDeleg
 
     protected String tablePrefix;
     protected String schedNameLiteral;
+    private String deleteSql;
+    private String insertSql;
+    private String selectSql;
+    private String updateSql;
 
     public void initialize(String theTablePrefix, String schedName) {
         this.tablePrefix = theTablePrefix;
         this.schedNameLiteral = "'" + schedName + "'";
+
+        // expanded once, as they run for every trigger stored or fired
+        this.deleteSql = Util.rtp(DELETE_SIMPLE_TRIGGER, tablePrefix, schedNameLiteral);
+        this.insertSql = Util.rtp(INSERT_SIMPLE_TRIGGER, tablePrefix, schedNameLiteral);
+        this.selectSql = Util.rtp(SELECT_SIMPLE_TRIGGER, tablePrefix, schedNameLiteral);
+        this.updateSql = Util.rtp(UPDATE_SIMPLE_TRIGGER, tablePrefix, schedNameLiteral);
     }
 
     public String getHandledTriggerTypeDiscriminator() {
@@ -52,7 +63,7 @@ public class SimpleTriggerPersistenceDelegate implements TriggerPersistenceDeleg
         PreparedStatement ps = null;
 
         try {
-            ps = conn.prepareStatement(Util.rtp(DELETE_SIMPLE_TRIGGER, tablePrefix, schedNameLiteral));
+            ps = conn.prepareStatement(deleteSql);
             ps.setString(1, triggerKey.getName());
             ps.setString(2, triggerKey.getGroup());
 
@@ -64,17 +75,11 @@ public class SimpleTriggerPersistenceDelegate implements TriggerPersistenceDeleg
 
     public int insertExtendedTriggerProperties(Connection conn, OperableTrigger trigger, String state, JobDetail jobDetail) throws SQLException, IOException {
 
-        SimpleTrigger simpleTrigger = (SimpleTrigger)trigger;
-        
         PreparedStatement ps = null;
         
         try {
-            ps = conn.prepareStatement(Util.rtp(INSERT_SIMPLE_TRIGGER, tablePrefix, schedNameLiteral));
-            ps.setString(1, trigger.getKey().getName());
-            ps.setString(2, trigger.getKey().getGroup());
-            ps.setInt(3, simpleTrigger.getRepeatCount());
-            ps.setBigDecimal(4, new BigDecimal(String.valueOf(simpleTrigger.getRepeatInterval())));
-            ps.setInt(5, simpleTrigger.getTimesTriggered());
+            ps = conn.prepareStatement(insertSql);
+            setInsertParameters(ps, (SimpleTrigger) trigger);
 
             return ps.executeUpdate();
         } finally {
@@ -82,30 +87,45 @@ public class SimpleTriggerPersistenceDelegate implements TriggerPersistenceDeleg
         }
     }
 
+    @Override
+    public int[] insertExtendedTriggerProperties(Connection conn, List<OperableTrigger> triggers, List<String> states, List<JobDetail> jobDetails) throws SQLException, IOException {
+
+        PreparedStatement ps = null;
+
+        try {
+            ps = conn.prepareStatement(insertSql);
+            for (OperableTrigger trigger : triggers) {
+                setInsertParameters(ps, (SimpleTrigger) trigger);
+                ps.addBatch();
+            }
+
+            return ps.executeBatch();
+        } finally {
+            Util.closeStatement(ps);
+        }
+    }
+
+    private void setInsertParameters(PreparedStatement ps, SimpleTrigger simpleTrigger) throws SQLException {
+        ps.setString(1, simpleTrigger.getKey().getName());
+        ps.setString(2, simpleTrigger.getKey().getGroup());
+        ps.setInt(3, simpleTrigger.getRepeatCount());
+        ps.setBigDecimal(4, new BigDecimal(String.valueOf(simpleTrigger.getRepeatInterval())));
+        ps.setInt(5, simpleTrigger.getTimesTriggered());
+    }
+
     public TriggerPropertyBundle loadExtendedTriggerProperties(Connection conn, TriggerKey triggerKey) throws SQLException {
 
         PreparedStatement ps = null;
         ResultSet rs = null;
         
         try {
-            ps = conn.prepareStatement(Util.rtp(SELECT_SIMPLE_TRIGGER, tablePrefix, schedNameLiteral));
+            ps = conn.prepareStatement(selectSql);
             ps.setString(1, triggerKey.getName());
             ps.setString(2, triggerKey.getGroup());
             rs = ps.executeQuery();
     
             if (rs.next()) {
-                int repeatCount = rs.getInt(COL_REPEAT_COUNT);
-                long repeatInterval = rs.getLong(COL_REPEAT_INTERVAL);
-                int timesTriggered = rs.getInt(COL_TIMES_TRIGGERED);
-
-                SimpleScheduleBuilder sb = SimpleScheduleBuilder.simpleSchedule()
-                    .withRepeatCount(repeatCount)
-                    .withIntervalInMilliseconds(repeatInterval);
-                
-                String[] statePropertyNames = { "timesTriggered" };
-                Object[] statePropertyValues = { timesTriggered };
-                
-                return new TriggerPropertyBundle(sb, statePropertyNames, statePropertyValues);
+                return readExtendedTriggerProperties(rs);
             }
             
             throw new IllegalStateException("No record found for selection of Trigger with key: '" + triggerKey + "' and statement: " + Util.rtp(SELECT_SIMPLE_TRIGGER, tablePrefix, schedNameLiteral));
@@ -115,20 +135,36 @@ public class SimpleTriggerPersistenceDelegate implements TriggerPersistenceDeleg
         }
     }
 
-    public int updateExtendedTriggerProperties(Connection conn, OperableTrigger trigger, String state, JobDetail jobDetail) throws SQLException, IOException {
+    @Override
+    public TriggerPropertyBundle loadExtendedTriggerProperties(ResultSet rs, TriggerKey triggerKey) throws SQLException {
+        if (rs.getString(ALIAS_COL_SIMPLE_TRIGGER_NAME) == null) {
+            return null;
+        }
+        return readExtendedTriggerProperties(rs);
+    }
+
+    private TriggerPropertyBundle readExtendedTriggerProperties(ResultSet rs) throws SQLException {
+        int repeatCount = rs.getInt(COL_REPEAT_COUNT);
+        long repeatInterval = rs.getLong(COL_REPEAT_INTERVAL);
+        int timesTriggered = rs.getInt(COL_TIMES_TRIGGERED);
 
-        SimpleTrigger simpleTrigger = (SimpleTrigger)trigger;
+        SimpleScheduleBuilder sb = SimpleScheduleBuilder.simpleSchedule()
+            .withRepeatCount(repeatCount)
+            .withIntervalInMilliseconds(repeatInterval);
         
+        String[] statePropertyNames = { "timesTriggered" };
+        Object[] statePropertyValues = { timesTriggered };
+        
+        return new TriggerPropertyBundle(sb, statePropertyNames, statePropertyValues);
+    }
+
+    public int updateExtendedTriggerProperties(Connection conn, OperableTrigger trigger, String state, JobDetail jobDetail) throws SQLException, IOException {
+
         PreparedStatement ps = null;
 
         try {
-            ps = conn.prepareStatement(Util.rtp(UPDATE_SIMPLE_TRIGGER, tablePrefix, schedNameLiteral));
-
-            ps.setInt(1, simpleTrigger.getRepeatCount());
-            ps.setBigDecimal(2, new BigDecimal(String.valueOf(simpleTrigger.getRepeatInterval())));
-            ps.setInt(3, simpleTrigger.getTimesTriggered());
-            ps.setString(4, simpleTrigger.getKey().getName());
-            ps.setString(5, simpleTrigger.getKey().getGroup());
+            ps = conn.prepareStatement(updateSql);
+            setUpdateParameters(ps, (SimpleTrigger) trigger);
 
             return ps.executeUpdate();
         } finally {
@@ -136,4 +172,30 @@ public class SimpleTriggerPersistenceDelegate implements TriggerPersistenceDeleg
         }
     }
 
+    @Override
+    public int[] updateExtendedTriggerProperties(Connection conn, List<OperableTrigger> triggers, List<String> states, List<JobDetail> jobDetails) throws SQLException, IOException {
+
+        PreparedStatement ps = null;
+
+        try {
+            ps = conn.prepareStatement(updateSql);
+            for (OperableTrigger trigger : triggers) {
+                setUpdateParameters(ps, (SimpleTrigger) trigger);
+                ps.addBatch();
+            }
+
+            return ps.executeBatch();
+        } finally {
+            Util.closeStatement(ps);
+        }
+    }
+
+    private void setUpdateParameters(PreparedStatement ps, SimpleTrigger simpleTrigger) throws SQLException {
+        ps.setInt(1, simpleTrigger.getRepeatCount());
+        ps.setBigDecimal(2, new BigDecimal(String.valueOf(simpleTrigger.getRepeatInterval())));
+        ps.setInt(3, simpleTrigger.getTimesTriggered());
+        ps.setString(4, simpleTrigger.getKey().getName());
+        ps.setString(5, simpleTrigger.getKey().getGroup());
+    }
+
 }
@@ -0,0 +1,184 @@
+/* 
+ * Copyright IBM Corp. 2024, 2025
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not 
+ * use this file except in compliance with the License. You may obtain a copy 
+ * of the License at 
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0 
+ *   
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT 
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the 
+ * License for the specific language governing permissions and limitations 
+ * under the License.
+ * 
+ */
+package org.quartz.impl.jdbcjobstore;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * <p>
+ * An <code>{@link AttributeRestoringConnectionInvocationHandler}</code> that
+ * also keeps the <code>PreparedStatement</code>s prepared on the connection
+ * open, and hands them out again when the same SQL is prepared, for data
+ * sources whose pool or driver doesn't cache statements itself.
+ * </p>
+ * 
+ * <p>
+ * Closing a statement obtained from the connection only returns it to the
+ * cache; the cached statements are closed when the connection is (or when
+ * they are evicted, beyond <code>maxStatements</code>).  A statement that is
+ * prepared again while its cached instance is still open - say, while its
+ * result set is still being read - is prepared anew and not cached.
+ * </p>
+ * 
+ * @see JobStoreSupport#setStatementCacheSize(int)
+ */
+public class StatementCachingConnectionInvocationHandler extends AttributeRestoringConnectionInvocationHandler {
+
+    private final LinkedHashMap<String, CachedStatement> statements;
+
+    public StatementCachingConnectionInvocationHandler(Connection conn, final int maxStatements) {
+        super(conn);
+        this.statements = new LinkedHashMap<String, CachedStatement>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedStatement> eldest) {
+                if (size() > maxStatements) {
+                    eldest.getValue().evict();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        if (method.getName().equals("prepareStatement") && args != null && args.length == 1) {
+            return prepareStatement((String) args[0]);
+        }
+        return super.invoke(proxy, method, args);
+    }
+
+    private PreparedStatement prepareStatement(String sql) throws SQLException {
+        CachedStatement cached = statements.get(sql);
+        if (cached == null) {
+            cached = new CachedStatement(sql, getWrappedConnection().prepareStatement(sql));
+            statements.put(sql, cached);
+        } else if (cached.inUse) {
+            return getWrappedConnection().prepareStatement(sql);
+        } else {
+            cached.reset();
+        }
+        cached.inUse = true;
+        return cached.proxy;
+    }
+
+    /**
+     * Closes the cached statements, before restoring the connection's
+     * attributes as it is about to be closed.
+     */
+    @Override
+    public void restoreOriginalAttributes() {
+        for (CachedStatement cached : new ArrayList<>(statements.values())) {
+            cached.evict();
+        }
+        statements.clear();
+        super.restoreOriginalAttributes();
+    }
+
+    private final class CachedStatement implements InvocationHandler {
+
+        private final String sql;
+
+        private final PreparedStatement statement;
+
+        private final PreparedStatement proxy;
+
+        private boolean inUse;
+
+        private boolean evicted;
+
+        private boolean limitsChanged;
+
+        CachedStatement(String sql, PreparedStatement statement) {
+            this.sql = sql;
+            this.statement = statement;
+            this.proxy = (PreparedStatement) Proxy.newProxyInstance(
+                    PreparedStatement.class.getClassLoader(),
+                    new Class<?>[] { PreparedStatement.class }, this);
+        }
+
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    release();
+                    return null;
+                case "isClosed":
+                    return !inUse || statement.isClosed();
+                case "setMaxRows":
+                case "setFetchSize":
+                    limitsChanged = true;
+                    break;
+                case "setLargeMaxRows":
+                case "setFetchDirection":
+                case "setMaxFieldSize":
+                case "setQueryTimeout":
+                case "setEscapeProcessing":
+                case "setPoolable":
+                case "setCursorName":
+                    // not worth resetting, don't reuse the statement
+                    statements.remove(sql);
+                    evicted = true;
+                    break;
+                default:
+                    break;
+            }
+            try {
+                return method.invoke(statement, args);
+            } catch (InvocationTargetException ite) {
+                throw (ite.getCause() != null ? ite.getCause() : ite);
+            }
+        }
+
+        void reset() throws SQLException {
+            statement.clearParameters();
+            // a batch left by a failed executeBatch must not run with the next one
+            statement.clearBatch();
+            if (limitsChanged) {
+                statement.setMaxRows(0);
+                statement.setFetchSize(0);
+                limitsChanged = false;
+            }
+        }
+
+        void release() throws SQLException {
+            inUse = false;
+            if (evicted) {
+                statement.close();
+            }
+        }
+
+        void evict() {
+            evicted = true;
+            if (!inUse) {
+                try {
+                    statement.close();
+                } catch (SQLException e) {
+                    getLog().warn("Failed to close cached statement.", e);
+                }
+            }
+        }
+    }
+}
@@ -75,6 +75,13 @@ public interface StdJDBCConstants extends Constants {
             + COL_SCHEDULER_NAME + " = " + SCHED_NAME_SUBST + " AND "
             + COL_TRIGGER_STATE + " = ?";
 
+    // followed by a parenthesized list of parameters for the names
+    String SELECT_TRIGGERS_IN_STATE_IN_GROUP = "SELECT "
+            + COL_TRIGGER_NAME + " FROM " + TABLE_PREFIX_SUBST + TABLE_TRIGGERS
+            + " WHERE " + COL_SCHEDULER_NAME + " = " + SCHED_NAME_SUBST
+            + " AND " + COL_TRIGGER_STATE + " = ? AND " + COL_TRIGGER_GROUP
+            + " = ? AND " + COL_TRIGGER_NAME + " IN ";
+
     String SELECT_MISFIRED_TRIGGERS_IN_STATE = "SELECT "
         + COL_TRIGGER_NAME + ", " + COL_TRIGGER_GROUP + " FROM "
         + TABLE_PREFIX_SUBST + TABLE_TRIGGERS + " WHERE "
@@ -173,6 +180,12 @@ public interface StdJDBCConstants extends Constants {
             + " AND " + COL_JOB_NAME
             + " = ? AND " + COL_JOB_GROUP + " = ?";
 
+    // followed by a parenthesized list of parameters for the names
+    String SELECT_JOB_EXISTENCE_IN_GROUP = "SELECT " + COL_JOB_NAME
+            + " FROM " + TABLE_PREFIX_SUBST + TABLE_JOB_DETAILS + " WHERE "
+            + COL_SCHEDULER_NAME + " = " + SCHED_NAME_SUBST
+            + " AND " + COL_JOB_GROUP + " = ? AND " + COL_JOB_NAME + " IN ";
+
     String UPDATE_JOB_DATA = "UPDATE " + TABLE_PREFIX_SUBST
             + TABLE_JOB_DETAILS + " SET " + COL_JOB_DATAMAP + " = ? "
             + " WHERE " 
@@ -290,6 +303,12 @@ public interface StdJDBCConstants extends Constants {
             + " AND " + COL_TRIGGER_NAME + " = ? AND " + COL_TRIGGER_GROUP
             + " = ?";
 
+    // followed by a parenthesized list of parameters for the names
+    String SELECT_TRIGGER_EXISTENCE_IN_GROUP = "SELECT "
+            + COL_TRIGGER_NAME + " FROM " + TABLE_PREFIX_SUBST + TABLE_TRIGGERS
+            + " WHERE " + COL_SCHEDULER_NAME + " = " + SCHED_NAME_SUBST
+            + " AND " + COL_TRIGGER_GROUP + " = ? AND " + COL_TRIGGER_NAME + " IN ";
+
     String UPDATE_TRIGGER_STATE = "UPDATE "
             + TABLE_PREFIX_SUBST + TABLE_TRIGGERS + " SET " + COL_TRIGGER_STATE
             + " = ?" + " WHERE " + COL_SCHEDULER_NAME + " = " + SCHED_NAME_SUBST
@@ -515,6 +534,101 @@ public interface StdJDBCConstants extends Constants {
         + " AND " + COL_TRIGGER_STATE + " = ? AND " + COL_NEXT_FIRE_TIME + " <= ? " 
         + "AND (" + COL_MISFIRE_INSTRUCTION + " = -1 OR (" +COL_MISFIRE_INSTRUCTION+ " <> -1 AND "+ COL_NEXT_FIRE_TIME + " >= ?)) "
         + "ORDER BY "+ COL_NEXT_FIRE_TIME + " ASC, " + COL_PRIORITY + " DESC";
+
+    String SELECT_NEXT_TRIGGER_TO_ACQUIRE_IN_PARTITION = "SELECT "
+        + COL_TRIGGER_NAME + ", " + COL_TRIGGER_GROUP + ", "
+        + COL_NEXT_FIRE_TIME + ", " + COL_PRIORITY + " FROM "
+        + TABLE_PREFIX_SUBST + TABLE_TRIGGERS + " WHERE "
+        + COL_SCHEDULER_NAME + " = " + SCHED_NAME_SUBST
+        + " AND " + COL_TRIGGER_STATE + " = ? AND " + COL_NEXT_FIRE_TIME + " <= ? " 
+        + "AND (" + COL_MISFIRE_INSTRUCTION + " = -1 OR (" +COL_MISFIRE_INSTRUCTION+ " <> -1 AND "+ COL_NEXT_FIRE_TIME + " >= ?)) "
+        + "AND " + COL_TRIGGER_PARTITION + " = ? "
+        + "ORDER BY "+ COL_NEXT_FIRE_TIME + " ASC, " + COL_PRIORITY + " DESC";
+
+    // the columns of a trigger and its extended properties that
+    // selectJoinedTrigger reads, from the TRIGGERS table aliased as T ...
+    String TRIGGER_DETAILS_COLUMNS = "T."
+        + COL_TRIGGER_NAME + ", T." + COL_TRIGGER_GROUP + ", T." + COL_JOB_NAME + ", T." + COL_JOB_GROUP + ", T."
+        + COL_DESCRIPTION + ", T." + COL_NEXT_FIRE_TIME + ", T." + COL_PREV_FIRE_TIME + ", T." + COL_PRIORITY + ", T."
+        + COL_TRIGGER_STATE + ", T." + COL_TRIGGER_TYPE + ", T." + COL_START_TIME + ", T." + COL_END_TIME + ", T."
+        + COL_CALENDAR_NAME + ", T." + COL_MISFIRE_INSTRUCTION + ", S."
+        + COL_TRIGGER_NAME + " AS " + ALIAS_COL_SIMPLE_TRIGGER_NAME + ", S."
+        + COL_REPEAT_COUNT + ", S." + COL_REPEAT_INTERVAL + ", S." + COL_TIMES_TRIGGERED + ", C."
+        + COL_TRIGGER_NAME + " AS " + ALIAS_COL_CRON_TRIGGER_NAME + ", C."
+        + COL_CRON_EXPRESSION + ", C." + COL_TIME_ZONE_ID + ", P."
+        + COL_TRIGGER_NAME + " AS " + ALIAS_COL_SIMPROP_TRIGGER_NAME + ", P."
+        + SimplePropertiesTriggerPersistenceDelegateSupport.COL_STR_PROP_1 + ", P."
+        + SimplePropertiesTriggerPersistenceDelegateSupport.COL_STR_PROP_2 + ", P."
+        + SimplePropertiesTriggerPersistenceDelegateSupport.COL_STR_PROP_3 + ", P."
+        + SimplePropertiesTriggerPersistenceDelegateSupport.COL_INT_PROP_1 + ", P."
+        + SimplePropertiesTriggerPersistenceDelegateSupport.COL_INT_PROP_2 + ", P."
+        + SimplePropertiesTriggerPersistenceDelegateSupport.COL_LONG_PROP_1 + ", P."
+        + SimplePropertiesTriggerPersistenceDelegateSupport.COL_LONG_PROP_2 + ", P."
+        + SimplePropertiesTriggerPersistenceDelegateSupport.COL_DEC_PROP_1 + ", P."
+        + SimplePropertiesTriggerPersistenceDelegateSupport.COL_DEC_PROP_2 + ", P."
+        + SimplePropertiesTriggerPersistenceDelegateSupport.COL_BOOL_PROP_1 + ", P."
+        + SimplePropertiesTriggerPersistenceDelegateSupport.COL_BOOL_PROP_2;
+
+    // ... and the joins of the extended property tables they are read from
+    String TRIGGER_DETAILS_JOINS = " LEFT JOIN "
+        + TABLE_PREFIX_SUBST + TABLE_SIMPLE_TRIGGERS + " S ON S." + COL_SCHEDULER_NAME + " = T." + COL_SCHEDULER_NAME
+        + " AND S." + COL_TRIGGER_NAME + " = T." + COL_TRIGGER_NAME + " AND S." + COL_TRIGGER_GROUP + " = T." + COL_TRIGGER_GROUP + " LEFT JOIN "
+        + TABLE_PREFIX_SUBST + TABLE_CRON_TRIGGERS + " C ON C." + COL_SCHEDULER_NAME + " = T." + COL_SCHEDULER_NAME
+        + " AND C." + COL_TRIGGER_NAME + " = T." + COL_TRIGGER_NAME + " AND C." + COL_TRIGGER_GROUP + " = T." + COL_TRIGGER_GROUP + " LEFT JOIN "
+        + TABLE_PREFIX_SUBST + SimplePropertiesTriggerPersistenceDelegateSupport.TABLE_SIMPLE_PROPERTIES_TRIGGERS + " P ON P." + COL_SCHEDULER_NAME + " = T." + COL_SCHEDULER_NAME
+        + " AND P." + COL_TRIGGER_NAME + " = T." + COL_TRIGGER_NAME + " AND P." + COL_TRIGGER_GROUP + " = T." + COL_TRIGGER_GROUP;
+
+    // everything but the JobDataMaps, which are read when the triggers fire
+    String SELECT_NEXT_TRIGGERS_TO_ACQUIRE_WITH_DETAILS = "SELECT "
+        + TRIGGER_DETAILS_COLUMNS + ", J." + COL_IS_NONCONCURRENT + " FROM "
+        + TABLE_PREFIX_SUBST + TABLE_TRIGGERS + " T LEFT JOIN "
+        + TABLE_PREFIX_SUBST + TABLE_JOB_DETAILS + " J ON J." + COL_SCHEDULER_NAME + " = T." + COL_SCHEDULER_NAME
+        + " AND J." + COL_JOB_NAME + " = T." + COL_JOB_NAME + " AND J." + COL_JOB_GROUP + " = T." + COL_JOB_GROUP
+        + TRIGGER_DETAILS_JOINS
+        + " WHERE T." + COL_SCHEDULER_NAME + " = " + SCHED_NAME_SUBST
+        + " AND T." + COL_TRIGGER_STATE + " = ? AND T." + COL_NEXT_FIRE_TIME + " <= ? "
+        + "AND (T." + COL_MISFIRE_INSTRUCTION + " = -1 OR (T." + COL_MISFIRE_INSTRUCTION + " <> -1 AND T." + COL_NEXT_FIRE_TIME + " >= ?)) "
+        + "ORDER BY T." + COL_NEXT_FIRE_TIME + " ASC, T." + COL_PRIORITY + " DESC";
+
+    String SELECT_NEXT_TRIGGERS_TO_ACQUIRE_WITH_DETAILS_IN_PARTITION = "SELECT "
+        + TRIGGER_DETAILS_COLUMNS + ", J." + COL_IS_NONCONCURRENT + " FROM "
+        + TABLE_PREFIX_SUBST + TABLE_TRIGGERS + " T LEFT JOIN "
+        + TABLE_PREFIX_SUBST + TABLE_JOB_DETAILS + " J ON J." + COL_SCHEDULER_NAME + " = T." + COL_SCHEDULER_NAME
+        + " AND J." + COL_JOB_NAME + " = T." + COL_JOB_NAME + " AND J." + COL_JOB_GROUP + " = T." + COL_JOB_GROUP
+        + TRIGGER_DETAILS_JOINS
+        + " WHERE T." + COL_SCHEDULER_NAME + " = " + SCHED_NAME_SUBST
+        + " AND T." + COL_TRIGGER_STATE + " = ? AND T." + COL_NEXT_FIRE_TIME + " <= ? "
+        + "AND (T." + COL_MISFIRE_INSTRUCTION + " = -1 OR (T." + COL_MISFIRE_INSTRUCTION + " <> -1 AND T." + COL_NEXT_FIRE_TIME + " >= ?)) "
+        + "AND T." + COL_TRIGGER_PARTITION + " = ? "
+        + "ORDER BY T." + COL_NEXT_FIRE_TIME + " ASC, T." + COL_PRIORITY + " DESC";
+
+    String SELECT_TRIGGER_PARTITIONS = "SELECT "
+        + COL_TRIGGER_NAME + ", " + COL_TRIGGER_GROUP + ", " + COL_TRIGGER_PARTITION + " FROM "
+        + TABLE_PREFIX_SUBST + TABLE_TRIGGERS + " WHERE "
+        + COL_SCHEDULER_NAME + " = " + SCHED_NAME_SUBST;
+
+    String SELECT_TRIGGERS_WITHOUT_PARTITION = "SELECT "
+        + COL_TRIGGER_NAME + ", " + COL_TRIGGER_GROUP + " FROM "
+        + TABLE_PREFIX_SUBST + TABLE_TRIGGERS + " WHERE "
+        + COL_SCHEDULER_NAME + " = " + SCHED_NAME_SUBST
+        + " AND " + COL_TRIGGER_PARTITION + " IS NULL";
+
+    String UPDATE_TRIGGER_PARTITION = "UPDATE "
+        + TABLE_PREFIX_SUBST + TABLE_TRIGGERS + " SET " + COL_TRIGGER_PARTITION
+        + " = ? WHERE " + COL_SCHEDULER_NAME + " = " + SCHED_NAME_SUBST
+        + " AND " + COL_TRIGGER_NAME + " = ? AND " + COL_TRIGGER_GROUP + " = ?";
+
+    // the rows of SELECT_HAS_MISFIRED_TRIGGERS_IN_STATE, with the JobDataMaps
+    // for the trigger listeners
+    String SELECT_MISFIRED_TRIGGERS_IN_STATE_WITH_DETAILS = "SELECT "
+        + TRIGGER_DETAILS_COLUMNS + ", T." + COL_JOB_DATAMAP + " FROM "
+        + TABLE_PREFIX_SUBST + TABLE_TRIGGERS + " T"
+        + TRIGGER_DETAILS_JOINS
+        + " WHERE T." + COL_SCHEDULER_NAME + " = " + SCHED_NAME_SUBST + " AND NOT (T."
+        + COL_MISFIRE_INSTRUCTION + " = " + Trigger.MISFIRE_INSTRUCTION_IGNORE_MISFIRE_POLICY + ") AND T."
+        + COL_NEXT_FIRE_TIME + " < ? "
+        + "AND T." + COL_TRIGGER_STATE + " = ? "
+        + "ORDER BY T." + COL_NEXT_FIRE_TIME + " ASC, T." + COL_PRIORITY + " DESC";
     
     
     String INSERT_FIRED_TRIGGER = "INSERT INTO "
@@ -548,6 +662,49 @@ public interface StdJDBCConstants extends Constants {
             + COL_SCHEDULER_NAME + " = " + SCHED_NAME_SUBST
             + " AND " + COL_INSTANCE_NAME + " = ? AND " + COL_REQUESTS_RECOVERY + " = ?";
 
+    // the fired triggers of existing jobs to recover for a failed instance,
+    // with the job data of their triggers
+    String SELECT_INSTANCES_RECOVERABLE_FIRED_TRIGGERS_WITH_JOB_DATA = "SELECT F."
+            + COL_TRIGGER_NAME + ", F." + COL_TRIGGER_GROUP + ", F." + COL_JOB_NAME + ", F." + COL_JOB_GROUP + ", F."
+            + COL_FIRED_TIME + ", F." + COL_SCHED_TIME + ", F." + COL_PRIORITY + ", T." + COL_JOB_DATAMAP + " FROM "
+            + TABLE_PREFIX_SUBST + TABLE_FIRED_TRIGGERS + " F JOIN "
+            + TABLE_PREFIX_SUBST + TABLE_JOB_DETAILS + " J ON J." + COL_SCHEDULER_NAME + " = F." + COL_SCHEDULER_NAME
+            + " AND J." + COL_JOB_NAME + " = F." + COL_JOB_NAME + " AND J." + COL_JOB_GROUP + " = F." + COL_JOB_GROUP + " LEFT JOIN "
+            + TABLE_PREFIX_SUBST + TABLE_TRIGGERS + " T ON T." + COL_SCHEDULER_NAME + " = F." + COL_SCHEDULER_NAME
+            + " AND T." + COL_TRIGGER_NAME + " = F." + COL_TRIGGER_NAME + " AND T." + COL_TRIGGER_GROUP + " = F." + COL_TRIGGER_GROUP
+            + " WHERE F." + COL_SCHEDULER_NAME + " = " + SCHED_NAME_SUBST
+            + " AND F." + COL_INSTANCE_NAME + " = ? AND F." + COL_REQUESTS_RECOVERY + " = ? AND F." + COL_ENTRY_STATE + " <> ?"
+            + " ORDER BY F." + COL_SCHED_TIME + " ASC";
+
+    String UPDATE_INSTANCES_ACQUIRED_TRIGGER_STATES = "UPDATE "
+            + TABLE_PREFIX_SUBST + TABLE_TRIGGERS + " SET " + COL_TRIGGER_STATE + " = ? WHERE "
+            + COL_SCHEDULER_NAME + " = " + SCHED_NAME_SUBST + " AND " + COL_TRIGGER_STATE + " = ? AND EXISTS (SELECT "
+            + COL_TRIGGER_NAME + " FROM " + TABLE_PREFIX_SUBST + TABLE_FIRED_TRIGGERS + " F WHERE F."
+            + COL_SCHEDULER_NAME + " = " + TABLE_PREFIX_SUBST + TABLE_TRIGGERS + "." + COL_SCHEDULER_NAME + " AND F."
+            + COL_TRIGGER_NAME + " = " + TABLE_PREFIX_SUBST + TABLE_TRIGGERS + "." + COL_TRIGGER_NAME + " AND F."
+            + COL_TRIGGER_GROUP + " = " + TABLE_PREFIX_SUBST + TABLE_TRIGGERS + "." + COL_TRIGGER_GROUP + " AND F."
+            + COL_INSTANCE_NAME + " = ? AND F." + COL_ENTRY_STATE + " = ?)";
+
+    String UPDATE_INSTANCES_BLOCKED_TRIGGER_STATES = "UPDATE "
+            + TABLE_PREFIX_SUBST + TABLE_TRIGGERS + " SET " + COL_TRIGGER_STATE + " = ? WHERE "
+            + COL_SCHEDULER_NAME + " = " + SCHED_NAME_SUBST + " AND " + COL_TRIGGER_STATE + " = ? AND EXISTS (SELECT "
+            + COL_TRIGGER_NAME + " FROM " + TABLE_PREFIX_SUBST + TABLE_FIRED_TRIGGERS + " F WHERE F."
+            + COL_SCHEDULER_NAME + " = " + TABLE_PREFIX_SUBST + TABLE_TRIGGERS + "." + COL_SCHEDULER_NAME + " AND F."
+            + COL_JOB_NAME + " = " + TABLE_PREFIX_SUBST + TABLE_TRIGGERS + "." + COL_JOB_NAME + " AND F."
+            + COL_JOB_GROUP + " = " + TABLE_PREFIX_SUBST + TABLE_TRIGGERS + "." + COL_JOB_GROUP + " AND F."
+            + COL_INSTANCE_NAME + " = ? AND (F." + COL_IS_NONCONCURRENT + " = ? OR F." + COL_ENTRY_STATE + " = ?))";
+
+    String SELECT_INSTANCES_TRIGGERS_IN_STATE = "SELECT DISTINCT T."
+            + COL_TRIGGER_NAME + ", T." + COL_TRIGGER_GROUP + " FROM "
+            + TABLE_PREFIX_SUBST + TABLE_TRIGGERS + " T JOIN "
+            + TABLE_PREFIX_SUBST + TABLE_FIRED_TRIGGERS + " F ON F." + COL_SCHEDULER_NAME + " = T." + COL_SCHEDULER_NAME
+            + " AND F." + COL_TRIGGER_NAME + " = T." + COL_TRIGGER_NAME + " AND F." + COL_TRIGGER_GROUP + " = T." + COL_TRIGGER_GROUP
+            + " WHERE T." + COL_SCHEDULER_NAME + " = " + SCHED_NAME_SUBST
+            + " AND T." + COL_TRIGGER_STATE + " = ? AND F." + COL_INSTANCE_NAME + " = ? AND NOT EXISTS (SELECT O."
+            + COL_TRIGGER_NAME + " FROM " + TABLE_PREFIX_SUBST + TABLE_FIRED_TRIGGERS + " O WHERE O."
+            + COL_SCHEDULER_NAME + " = T." + COL_SCHEDULER_NAME + " AND O." + COL_TRIGGER_NAME + " = T." + COL_TRIGGER_NAME
+            + " AND O." + COL_TRIGGER_GROUP + " = T." + COL_TRIGGER_GROUP + " AND O." + COL_INSTANCE_NAME + " <> ?)";
+
     String SELECT_JOB_EXECUTION_COUNT = "SELECT COUNT("
             + COL_TRIGGER_NAME + ") FROM " + TABLE_PREFIX_SUBST
             + TABLE_FIRED_TRIGGERS + " WHERE " + COL_SCHEDULER_NAME + " = " + SCHED_NAME_SUBST
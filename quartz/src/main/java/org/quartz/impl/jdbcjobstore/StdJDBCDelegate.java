@@ -22,6 +22,7 @@ import static org.quartz.JobKey.jobKey;
 import static org.quartz.TriggerBuilder.newTrigger;
 import static org.quartz.TriggerKey.triggerKey;
 
+import java.io.BufferedInputStream;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
@@ -29,16 +30,24 @@ import java.io.InputStream;
 import java.io.NotSerializableException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
+import java.io.StreamCorruptedException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
 import java.math.BigDecimal;
 import java.sql.Blob;
 import java.sql.Connection;
+import java.sql.DatabaseMetaData;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -100,6 +109,20 @@ public class StdJDBCDelegate implements DriverDelegate, StdJDBCConstants {
 
     protected final List<TriggerPersistenceDelegate> triggerPersistenceDelegates = new LinkedList<>();
 
+    protected JobDataMapCodec jobDataMapCodec;
+
+    private Map<String, String> expandedSql = Collections.emptyMap();
+
+    // the first byte of every Java serialization stream
+    private static final int SERIALIZATION_FORMAT = 0xAC;
+
+    // reads rows written by the compact codec whatever codec is configured
+    private static final JobDataMapCodec COMPACT_CODEC = new CompactJobDataMapCodec();
+
+    // well within the IN list and parameter limits of the supported databases
+    // (1000 expressions on Oracle, 2100 parameters on SQL Server)
+    protected static final int MAX_KEYS_PER_EXISTENCE_QUERY = 500;
+
     
     /*
      * ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
@@ -137,6 +160,7 @@ public class StdJDBCDelegate implements DriverDelegate, StdJDBCConstants {
         this.instanceId = instanceId;
         this.useProperties = useProperties;
         this.classLoadHelper = classLoadHelper;
+        this.expandedSql = expandSqlConstants();
         addDefaultTriggerPersistenceDelegates();
 
         if(initString == null)
@@ -163,6 +187,17 @@ public class StdJDBCDelegate implements DriverDelegate, StdJDBCConstants {
                     } 
                 }
             }
+            else if(name.equals("jobDataMapCodecClass")) {
+                try {
+                    Class<?> codecClass = classLoadHelper.loadClass(parts[1]);
+                    jobDataMapCodec = (JobDataMapCodec) codecClass.getDeclaredConstructor().newInstance();
+                } catch (Exception e) {
+                    throw new NoSuchDelegateException("Error instantiating JobDataMapCodec of type: " + parts[1], e);
+                }
+                if ((jobDataMapCodec.getFormat() & 0xFF) == SERIALIZATION_FORMAT) {
+                    throw new NoSuchDelegateException("JobDataMapCodec " + parts[1] + " uses the format byte of Java serialization");
+                }
+            }
             else
                 throw new NoSuchDelegateException("Unknown setting: '" + name + "'");
         }
@@ -305,6 +340,36 @@ public class StdJDBCDelegate implements DriverDelegate, StdJDBCConstants {
         }
     }
 
+    /**
+     * <p>
+     * Select which of the given triggers are in a given state, with one query
+     * for up to {@link #MAX_KEYS_PER_EXISTENCE_QUERY} names of the same group.
+     * </p>
+     * 
+     * @param conn
+     *          the DB Connection
+     * @param triggerKeys
+     *          the keys of the triggers to look for
+     * @param state
+     *          the state the triggers must be in
+     * @return the keys of the triggers in the state
+     */
+    public Set<TriggerKey> selectTriggerKeysInState(Connection conn, Collection<TriggerKey> triggerKeys,
+        String state) throws SQLException {
+        Map<String, List<String>> namesByGroup = new LinkedHashMap<>();
+        for (TriggerKey triggerKey : triggerKeys) {
+            namesByGroup.computeIfAbsent(triggerKey.getGroup(), g -> new ArrayList<>()).add(triggerKey.getName());
+        }
+
+        Set<TriggerKey> inState = new HashSet<>();
+        for (Map.Entry<String, List<String>> e : namesByGroup.entrySet()) {
+            for (String name : selectExistingNames(conn, SELECT_TRIGGERS_IN_STATE_IN_GROUP, e.getValue(), state, e.getKey())) {
+                inState.add(triggerKey(name, e.getKey()));
+            }
+        }
+        return inState;
+    }
+
     public List<TriggerKey> selectMisfiredTriggersInState(Connection conn, String state,
             long ts) throws SQLException {
         PreparedStatement ps = null;
@@ -372,6 +437,52 @@ public class StdJDBCDelegate implements DriverDelegate, StdJDBCConstants {
             closeStatement(ps);
         }
     }
+
+    /**
+     * <p>
+     * Get the names of the misfired triggers, loading the triggers - with
+     * their <code>JobDataMap</code>s - and their extended properties from
+     * the same joined rows.  Triggers that cannot be built from the joined
+     * row are left for the job store to load with <code>selectTrigger</code>.
+     * </p>
+     */
+    @Override
+    public boolean hasMisfiredTriggersInState(Connection conn, String state1,
+        long ts, int count, List<TriggerKey> resultList, Map<TriggerKey, OperableTrigger> triggers)
+        throws SQLException {
+        PreparedStatement ps = null;
+        ResultSet rs = null;
+
+        try {
+            ps = conn.prepareStatement(rtp(SELECT_MISFIRED_TRIGGERS_IN_STATE_WITH_DETAILS));
+            if (count >= 0) {
+                // one more, to know whether there are
+                ps.setMaxRows(count + 1);
+            }
+            ps.setBigDecimal(1, new BigDecimal(String.valueOf(ts)));
+            ps.setString(2, state1);
+            rs = ps.executeQuery();
+
+            boolean hasReachedLimit = false;
+            while (rs.next() && (!hasReachedLimit)) {
+                if (resultList.size() == count) {
+                    hasReachedLimit = true;
+                } else {
+                    TriggerKey key = triggerKey(rs.getString(COL_TRIGGER_NAME), rs.getString(COL_TRIGGER_GROUP));
+                    resultList.add(key);
+                    OperableTrigger trigger = selectJoinedTrigger(rs, key);
+                    if (trigger != null && selectJoinedJobData(rs, trigger)) {
+                        triggers.put(key, trigger);
+                    }
+                }
+            }
+            
+            return hasReachedLimit;
+        } finally {
+            closeResultSet(rs);
+            closeStatement(ps);
+        }
+    }
     
     /**
      * <p>
@@ -611,15 +722,7 @@ public class StdJDBCDelegate implements DriverDelegate, StdJDBCConstants {
 
         try {
             ps = conn.prepareStatement(rtp(INSERT_JOB_DETAIL));
-            ps.setString(1, job.getKey().getName());
-            ps.setString(2, job.getKey().getGroup());
-            ps.setString(3, job.getDescription());
-            ps.setString(4, job.getJobClass().getName());
-            setBoolean(ps, 5, job.isDurable());
-            setBoolean(ps, 6, job.isConcurrentExecutionDisallowed());
-            setBoolean(ps, 7, job.isPersistJobDataAfterExecution());
-            setBoolean(ps, 8, job.requestsRecovery());
-            setBytes(ps, 9, baos);
+            setInsertJobDetailParameters(ps, job, baos);
 
             insertResult = ps.executeUpdate();
         } finally {
@@ -629,6 +732,49 @@ public class StdJDBCDelegate implements DriverDelegate, StdJDBCConstants {
         return insertResult;
     }
 
+    /**
+     * <p>
+     * Insert the job detail records of the given jobs as a single JDBC batch.
+     * </p>
+     * 
+     * @param conn
+     *          the DB Connection
+     * @param jobs
+     *          the jobs to insert
+     * @return the number of rows inserted for each job, in order
+     * @throws IOException
+     *           if there were problems serializing a JobDataMap
+     */
+    public int[] insertJobDetails(Connection conn, List<JobDetail> jobs)
+        throws IOException, SQLException {
+        PreparedStatement ps = null;
+
+        try {
+            ps = conn.prepareStatement(rtp(INSERT_JOB_DETAIL));
+            for (JobDetail job : jobs) {
+                setInsertJobDetailParameters(ps, job, serializeJobData(job.getJobDataMap()));
+                ps.addBatch();
+            }
+
+            return ps.executeBatch();
+        } finally {
+            closeStatement(ps);
+        }
+    }
+
+    private void setInsertJobDetailParameters(PreparedStatement ps, JobDetail job,
+            ByteArrayOutputStream jobData) throws SQLException {
+        ps.setString(1, job.getKey().getName());
+        ps.setString(2, job.getKey().getGroup());
+        ps.setString(3, job.getDescription());
+        ps.setString(4, job.getJobClass().getName());
+        setBoolean(ps, 5, job.isDurable());
+        setBoolean(ps, 6, job.isConcurrentExecutionDisallowed());
+        setBoolean(ps, 7, job.isPersistJobDataAfterExecution());
+        setBoolean(ps, 8, job.requestsRecovery());
+        setBytes(ps, 9, jobData);
+    }
+
     /**
      * <p>
      * Update the job detail record.
@@ -782,6 +928,74 @@ public class StdJDBCDelegate implements DriverDelegate, StdJDBCConstants {
 
     }
 
+    /**
+     * <p>
+     * Select which of the given jobs exist, with one query for up to
+     * {@link #MAX_KEYS_PER_EXISTENCE_QUERY} names of the same group.
+     * </p>
+     * 
+     * @param conn
+     *          the DB Connection
+     * @param jobKeys
+     *          the keys of the jobs to look for
+     * @return the keys of the jobs that exist
+     */
+    public Set<JobKey> selectExistingJobKeys(Connection conn, Collection<JobKey> jobKeys)
+        throws SQLException {
+        Map<String, List<String>> namesByGroup = new LinkedHashMap<>();
+        for (JobKey jobKey : jobKeys) {
+            namesByGroup.computeIfAbsent(jobKey.getGroup(), g -> new ArrayList<>()).add(jobKey.getName());
+        }
+
+        Set<JobKey> existing = new HashSet<>();
+        for (Map.Entry<String, List<String>> e : namesByGroup.entrySet()) {
+            for (String name : selectExistingNames(conn, SELECT_JOB_EXISTENCE_IN_GROUP, e.getValue(), e.getKey())) {
+                existing.add(jobKey(name, e.getKey()));
+            }
+        }
+        return existing;
+    }
+
+    /**
+     * Select which of the given names are found by the given existence query,
+     * which takes the given parameters (such as the group) and ends with the
+     * <code>IN</code> of the names.
+     */
+    private Set<String> selectExistingNames(Connection conn, String query, List<String> names,
+            String... params) throws SQLException {
+        Set<String> existing = new HashSet<>();
+        for (int from = 0; from < names.size(); from += MAX_KEYS_PER_EXISTENCE_QUERY) {
+            List<String> chunk = names.subList(from, Math.min(names.size(), from + MAX_KEYS_PER_EXISTENCE_QUERY));
+
+            StringBuilder sql = new StringBuilder(rtp(query)).append('(');
+            for (int i = 0; i < chunk.size(); i++) {
+                sql.append(i == 0 ? "?" : ", ?");
+            }
+            sql.append(')');
+
+            PreparedStatement ps = null;
+            ResultSet rs = null;
+
+            try {
+                ps = conn.prepareStatement(sql.toString());
+                for (int i = 0; i < params.length; i++) {
+                    ps.setString(i + 1, params[i]);
+                }
+                for (int i = 0; i < chunk.size(); i++) {
+                    ps.setString(params.length + i + 1, chunk.get(i));
+                }
+                rs = ps.executeQuery();
+                while (rs.next()) {
+                    existing.add(rs.getString(1));
+                }
+            } finally {
+                closeResultSet(rs);
+                closeStatement(ps);
+            }
+        }
+        return existing;
+    }
+
     /**
      * <p>
      * Update the job data map for the given job.
@@ -872,8 +1086,12 @@ public class StdJDBCDelegate implements DriverDelegate, StdJDBCConstants {
      * build Map from java.util.Properties encoding.
      */
     private Map<?, ?> getMapFromProperties(ResultSet rs) throws ClassNotFoundException, IOException, SQLException {
+        return getMapFromProperties(rs, COL_JOB_DATAMAP);
+    }
+
+    private Map<?, ?> getMapFromProperties(ResultSet rs, String colName) throws ClassNotFoundException, IOException, SQLException {
         Map<?, ?> map;
-        try (InputStream is = (InputStream) getJobDataFromBlob(rs, COL_JOB_DATAMAP)) {
+        try (InputStream is = (InputStream) getJobDataFromBlob(rs, colName)) {
             if (is == null) {
                 return null;
             }
@@ -1044,41 +1262,10 @@ public class StdJDBCDelegate implements DriverDelegate, StdJDBCConstants {
 
         try {
             ps = conn.prepareStatement(rtp(INSERT_TRIGGER));
-            ps.setString(1, trigger.getKey().getName());
-            ps.setString(2, trigger.getKey().getGroup());
-            ps.setString(3, trigger.getJobKey().getName());
-            ps.setString(4, trigger.getJobKey().getGroup());
-            ps.setString(5, trigger.getDescription());
-            if(trigger.getNextFireTime() != null)
-                ps.setBigDecimal(6, new BigDecimal(String.valueOf(trigger
-                        .getNextFireTime().getTime())));
-            else
-                ps.setBigDecimal(6, null);
-            long prevFireTime = -1;
-            if (trigger.getPreviousFireTime() != null) {
-                prevFireTime = trigger.getPreviousFireTime().getTime();
-            }
-            ps.setBigDecimal(7, new BigDecimal(String.valueOf(prevFireTime)));
-            ps.setString(8, state);
             
             TriggerPersistenceDelegate tDel = findTriggerPersistenceDelegate(trigger);
             
-            String type = TTYPE_BLOB;
-            if(tDel != null)
-                type = tDel.getHandledTriggerTypeDiscriminator();
-            ps.setString(9, type);
-            
-            ps.setBigDecimal(10, new BigDecimal(String.valueOf(trigger
-                    .getStartTime().getTime())));
-            long endTime = 0;
-            if (trigger.getEndTime() != null) {
-                endTime = trigger.getEndTime().getTime();
-            }
-            ps.setBigDecimal(11, new BigDecimal(String.valueOf(endTime)));
-            ps.setString(12, trigger.getCalendarName());
-            ps.setInt(13, trigger.getMisfireInstruction());
-            setBytes(ps, 14, baos);
-            ps.setInt(15, trigger.getPriority());
+            setInsertTriggerParameters(ps, trigger, state, tDel, baos);
             
             insertResult = ps.executeUpdate();
             
@@ -1094,6 +1281,108 @@ public class StdJDBCDelegate implements DriverDelegate, StdJDBCConstants {
         return insertResult;
     }
 
+    /**
+     * <p>
+     * Insert the given triggers, as a JDBC batch for the trigger rows and one
+     * for the extended properties of each trigger type.
+     * </p>
+     * 
+     * @param conn
+     *          the DB Connection
+     * @param triggers
+     *          the triggers to insert
+     * @param states
+     *          the state that each trigger should be stored in
+     * @param jobDetails
+     *          the job of each trigger
+     * @return the number of trigger rows inserted for each trigger, in order
+     */
+    public int[] insertTriggers(Connection conn, List<OperableTrigger> triggers, List<String> states,
+            List<JobDetail> jobDetails) throws SQLException, IOException {
+        Map<TriggerPersistenceDelegate, List<Integer>> extended = new LinkedHashMap<>();
+        int[] counts;
+
+        PreparedStatement ps = null;
+
+        try {
+            ps = conn.prepareStatement(rtp(INSERT_TRIGGER));
+            for (int i = 0; i < triggers.size(); i++) {
+                OperableTrigger trigger = triggers.get(i);
+                TriggerPersistenceDelegate tDel = findTriggerPersistenceDelegate(trigger);
+
+                ByteArrayOutputStream baos = null;
+                if (!trigger.getJobDataMap().isEmpty()) {
+                    baos = serializeJobData(trigger.getJobDataMap());
+                }
+                setInsertTriggerParameters(ps, trigger, states.get(i), tDel, baos);
+                ps.addBatch();
+                extended.computeIfAbsent(tDel, d -> new ArrayList<>()).add(i);
+            }
+
+            counts = ps.executeBatch();
+        } finally {
+            closeStatement(ps);
+        }
+
+        for (Map.Entry<TriggerPersistenceDelegate, List<Integer>> e : extended.entrySet()) {
+            List<OperableTrigger> typeTriggers = new ArrayList<>(e.getValue().size());
+            List<String> typeStates = new ArrayList<>(e.getValue().size());
+            List<JobDetail> typeJobDetails = new ArrayList<>(e.getValue().size());
+            for (int i : e.getValue()) {
+                typeTriggers.add(triggers.get(i));
+                typeStates.add(states.get(i));
+                typeJobDetails.add(jobDetails.get(i));
+            }
+
+            if (e.getKey() == null) {
+                for (OperableTrigger trigger : typeTriggers) {
+                    insertBlobTrigger(conn, trigger);
+                }
+            } else {
+                e.getKey().insertExtendedTriggerProperties(conn, typeTriggers, typeStates, typeJobDetails);
+            }
+        }
+
+        return counts;
+    }
+
+    private void setInsertTriggerParameters(PreparedStatement ps, OperableTrigger trigger, String state,
+            TriggerPersistenceDelegate tDel, ByteArrayOutputStream jobData) throws SQLException {
+        ps.setString(1, trigger.getKey().getName());
+        ps.setString(2, trigger.getKey().getGroup());
+        ps.setString(3, trigger.getJobKey().getName());
+        ps.setString(4, trigger.getJobKey().getGroup());
+        ps.setString(5, trigger.getDescription());
+        if(trigger.getNextFireTime() != null)
+            ps.setBigDecimal(6, new BigDecimal(String.valueOf(trigger
+                    .getNextFireTime().getTime())));
+        else
+            ps.setBigDecimal(6, null);
+        long prevFireTime = -1;
+        if (trigger.getPreviousFireTime() != null) {
+            prevFireTime = trigger.getPreviousFireTime().getTime();
+        }
+        ps.setBigDecimal(7, new BigDecimal(String.valueOf(prevFireTime)));
+        ps.setString(8, state);
+
+        String type = TTYPE_BLOB;
+        if(tDel != null)
+            type = tDel.getHandledTriggerTypeDiscriminator();
+        ps.setString(9, type);
+
+        ps.setBigDecimal(10, new BigDecimal(String.valueOf(trigger
+                .getStartTime().getTime())));
+        long endTime = 0;
+        if (trigger.getEndTime() != null) {
+            endTime = trigger.getEndTime().getTime();
+        }
+        ps.setBigDecimal(11, new BigDecimal(String.valueOf(endTime)));
+        ps.setString(12, trigger.getCalendarName());
+        ps.setInt(13, trigger.getMisfireInstruction());
+        setBytes(ps, 14, jobData);
+        ps.setInt(15, trigger.getPriority());
+    }
+
     /**
      * <p>
      * Insert the blob trigger data.
@@ -1166,48 +1455,9 @@ public class StdJDBCDelegate implements DriverDelegate, StdJDBCConstants {
                 ps = conn.prepareStatement(rtp(UPDATE_TRIGGER_SKIP_DATA));
             }
                 
-            ps.setString(1, trigger.getJobKey().getName());
-            ps.setString(2, trigger.getJobKey().getGroup());
-            ps.setString(3, trigger.getDescription());
-            long nextFireTime = -1;
-            if (trigger.getNextFireTime() != null) {
-                nextFireTime = trigger.getNextFireTime().getTime();
-            }
-            ps.setBigDecimal(4, new BigDecimal(String.valueOf(nextFireTime)));
-            long prevFireTime = -1;
-            if (trigger.getPreviousFireTime() != null) {
-                prevFireTime = trigger.getPreviousFireTime().getTime();
-            }
-            ps.setBigDecimal(5, new BigDecimal(String.valueOf(prevFireTime)));
-            ps.setString(6, state);
-            
             TriggerPersistenceDelegate tDel = findTriggerPersistenceDelegate(trigger);
             
-            String type = TTYPE_BLOB;
-            if(tDel != null)
-                type = tDel.getHandledTriggerTypeDiscriminator();
-
-            ps.setString(7, type);
-            
-            ps.setBigDecimal(8, new BigDecimal(String.valueOf(trigger
-                    .getStartTime().getTime())));
-            long endTime = 0;
-            if (trigger.getEndTime() != null) {
-                endTime = trigger.getEndTime().getTime();
-            }
-            ps.setBigDecimal(9, new BigDecimal(String.valueOf(endTime)));
-            ps.setString(10, trigger.getCalendarName());
-            ps.setInt(11, trigger.getMisfireInstruction());
-            ps.setInt(12, trigger.getPriority());
-
-            if(updateJobData) {
-                setBytes(ps, 13, baos);
-                ps.setString(14, trigger.getKey().getName());
-                ps.setString(15, trigger.getKey().getGroup());
-            } else {
-                ps.setString(13, trigger.getKey().getName());
-                ps.setString(14, trigger.getKey().getGroup());
-            }
+            setUpdateTriggerParameters(ps, trigger, state, tDel, baos);
 
             insertResult = ps.executeUpdate();
             
@@ -1223,6 +1473,139 @@ public class StdJDBCDelegate implements DriverDelegate, StdJDBCConstants {
         return insertResult;
     }
 
+    /**
+     * <p>
+     * Update the given triggers, as a JDBC batch for the trigger rows and one
+     * for the extended properties of each trigger type.
+     * </p>
+     * 
+     * @param conn
+     *          the DB Connection
+     * @param triggers
+     *          the triggers to update
+     * @param states
+     *          the state that each trigger should be stored in
+     * @param jobDetails
+     *          the job of each trigger
+     * @return the number of trigger rows updated for each trigger, in order
+     */
+    public int[] updateTriggers(Connection conn, List<OperableTrigger> triggers, List<String> states,
+            List<JobDetail> jobDetails) throws SQLException, IOException {
+        int[] counts = new int[triggers.size()];
+        Map<TriggerPersistenceDelegate, List<Integer>> extended = new LinkedHashMap<>();
+        List<Integer> withData = new ArrayList<>();
+        List<Integer> skipData = new ArrayList<>();
+
+        PreparedStatement ps = null;
+        PreparedStatement psSkipData = null;
+
+        try {
+            for (int i = 0; i < triggers.size(); i++) {
+                OperableTrigger trigger = triggers.get(i);
+                TriggerPersistenceDelegate tDel = findTriggerPersistenceDelegate(trigger);
+
+                // save some clock cycles by unnecessarily writing job data blob ...
+                if (trigger.getJobDataMap().isDirty()) {
+                    if (ps == null) {
+                        ps = conn.prepareStatement(rtp(UPDATE_TRIGGER));
+                    }
+                    setUpdateTriggerParameters(ps, trigger, states.get(i), tDel, serializeJobData(trigger.getJobDataMap()));
+                    ps.addBatch();
+                    withData.add(i);
+                } else {
+                    if (psSkipData == null) {
+                        psSkipData = conn.prepareStatement(rtp(UPDATE_TRIGGER_SKIP_DATA));
+                    }
+                    setUpdateTriggerParameters(psSkipData, trigger, states.get(i), tDel, null);
+                    psSkipData.addBatch();
+                    skipData.add(i);
+                }
+                extended.computeIfAbsent(tDel, d -> new ArrayList<>()).add(i);
+            }
+
+            if (ps != null) {
+                int[] updated = ps.executeBatch();
+                for (int j = 0; j < updated.length; j++) {
+                    counts[withData.get(j)] = updated[j];
+                }
+            }
+            if (psSkipData != null) {
+                int[] updated = psSkipData.executeBatch();
+                for (int j = 0; j < updated.length; j++) {
+                    counts[skipData.get(j)] = updated[j];
+                }
+            }
+        } finally {
+            closeStatement(ps);
+            closeStatement(psSkipData);
+        }
+
+        for (Map.Entry<TriggerPersistenceDelegate, List<Integer>> e : extended.entrySet()) {
+            List<OperableTrigger> typeTriggers = new ArrayList<>(e.getValue().size());
+            List<String> typeStates = new ArrayList<>(e.getValue().size());
+            List<JobDetail> typeJobDetails = new ArrayList<>(e.getValue().size());
+            for (int i : e.getValue()) {
+                typeTriggers.add(triggers.get(i));
+                typeStates.add(states.get(i));
+                typeJobDetails.add(jobDetails.get(i));
+            }
+
+            if (e.getKey() == null) {
+                for (OperableTrigger trigger : typeTriggers) {
+                    updateBlobTrigger(conn, trigger);
+                }
+            } else {
+                e.getKey().updateExtendedTriggerProperties(conn, typeTriggers, typeStates, typeJobDetails);
+            }
+        }
+
+        return counts;
+    }
+
+    private void setUpdateTriggerParameters(PreparedStatement ps, OperableTrigger trigger, String state,
+            TriggerPersistenceDelegate tDel, ByteArrayOutputStream jobData) throws SQLException {
+        ps.setString(1, trigger.getJobKey().getName());
+        ps.setString(2, trigger.getJobKey().getGroup());
+        ps.setString(3, trigger.getDescription());
+        long nextFireTime = -1;
+        if (trigger.getNextFireTime() != null) {
+            nextFireTime = trigger.getNextFireTime().getTime();
+        }
+        ps.setBigDecimal(4, new BigDecimal(String.valueOf(nextFireTime)));
+        long prevFireTime = -1;
+        if (trigger.getPreviousFireTime() != null) {
+            prevFireTime = trigger.getPreviousFireTime().getTime();
+        }
+        ps.setBigDecimal(5, new BigDecimal(String.valueOf(prevFireTime)));
+        ps.setString(6, state);
+        
+        String type = TTYPE_BLOB;
+        if(tDel != null)
+            type = tDel.getHandledTriggerTypeDiscriminator();
+
+        ps.setString(7, type);
+        
+        ps.setBigDecimal(8, new BigDecimal(String.valueOf(trigger
+                .getStartTime().getTime())));
+        long endTime = 0;
+        if (trigger.getEndTime() != null) {
+            endTime = trigger.getEndTime().getTime();
+        }
+        ps.setBigDecimal(9, new BigDecimal(String.valueOf(endTime)));
+        ps.setString(10, trigger.getCalendarName());
+        ps.setInt(11, trigger.getMisfireInstruction());
+        ps.setInt(12, trigger.getPriority());
+
+        if(jobData != null) {
+            setBytes(ps, 13, jobData);
+            ps.setString(14, trigger.getKey().getName());
+            ps.setString(15, trigger.getKey().getGroup());
+        } else {
+            ps.setString(13, trigger.getKey().getName());
+            ps.setString(14, trigger.getKey().getGroup());
+        }
+    }
+
     /**
      * <p>
      * Update the blob trigger data.
@@ -1284,6 +1667,34 @@ public class StdJDBCDelegate implements DriverDelegate, StdJDBCConstants {
         }
     }
 
+    /**
+     * <p>
+     * Select which of the given triggers exist, with one query for up to
+     * {@link #MAX_KEYS_PER_EXISTENCE_QUERY} names of the same group.
+     * </p>
+     * 
+     * @param conn
+     *          the DB Connection
+     * @param triggerKeys
+     *          the keys of the triggers to look for
+     * @return the keys of the triggers that exist
+     */
+    public Set<TriggerKey> selectExistingTriggerKeys(Connection conn, Collection<TriggerKey> triggerKeys)
+        throws SQLException {
+        Map<String, List<String>> namesByGroup = new LinkedHashMap<>();
+        for (TriggerKey triggerKey : triggerKeys) {
+            namesByGroup.computeIfAbsent(triggerKey.getGroup(), g -> new ArrayList<>()).add(triggerKey.getName());
+        }
+
+        Set<TriggerKey> existing = new HashSet<>();
+        for (Map.Entry<String, List<String>> e : namesByGroup.entrySet()) {
+            for (String name : selectExistingNames(conn, SELECT_TRIGGER_EXISTENCE_IN_GROUP, e.getValue(), e.getKey())) {
+                existing.add(triggerKey(name, e.getKey()));
+            }
+        }
+        return existing;
+    }
+
     /**
      * <p>
      * Update the state for a given trigger.
@@ -1423,6 +1834,46 @@ public class StdJDBCDelegate implements DriverDelegate, StdJDBCConstants {
         }
     }
 
+    /**
+     * <p>
+     * Update each of the given triggers to the given new state, if it is in
+     * the given old state, as a single JDBC batch.
+     * </p>
+     * 
+     * @param conn
+     *          the DB connection
+     * @param triggerKeys
+     *          the triggers to update
+     * @param newState
+     *          the new state for the triggers
+     * @param oldState
+     *          the old state the triggers must be in
+     * @return the number of rows updated for each trigger, in order
+     * @throws SQLException
+     */
+    public int[] updateTriggerStateFromOtherState(Connection conn,
+            List<TriggerKey> triggerKeys, String newState, String oldState) throws SQLException {
+        if (triggerKeys.isEmpty()) {
+            return new int[0];
+        }
+        PreparedStatement ps = null;
+
+        try {
+            ps = conn.prepareStatement(rtp(UPDATE_TRIGGER_STATE_FROM_STATE));
+            for (TriggerKey triggerKey : triggerKeys) {
+                ps.setString(1, newState);
+                ps.setString(2, triggerKey.getName());
+                ps.setString(3, triggerKey.getGroup());
+                ps.setString(4, oldState);
+                ps.addBatch();
+            }
+
+            return ps.executeBatch();
+        } finally {
+            closeStatement(ps);
+        }
+    }
+
     /**
      * <p>
      * Update all of the triggers of the given group to the given new state, if
@@ -2562,11 +3013,43 @@ public class StdJDBCDelegate implements DriverDelegate, StdJDBCConstants {
      */
     public List<TriggerKey> selectTriggerToAcquire(Connection conn, long noLaterThan, long noEarlierThan, int maxCount)
         throws SQLException {
+        return selectTriggerToAcquire(conn, rtp(SELECT_NEXT_TRIGGER_TO_ACQUIRE), noLaterThan, noEarlierThan, maxCount, -1);
+    }
+
+    /**
+     * <p>
+     * Select the next trigger keys to acquire of the given partition, with
+     * the query of <code>{@link #getSelectNextTriggerToAcquireInPartitionSQL(int)}</code>.
+     * </p>
+     */
+    @Override
+    public List<TriggerKey> selectTriggerToAcquire(Connection conn, long noLaterThan, long noEarlierThan,
+            int maxCount, int partition) throws SQLException {
+        if (maxCount < 1)
+            maxCount = 1; // we want at least one trigger back.
+
+        return selectTriggerToAcquire(conn, getSelectNextTriggerToAcquireInPartitionSQL(maxCount),
+                noLaterThan, noEarlierThan, maxCount, partition);
+    }
+
+    /**
+     * <p>
+     * The (table prefix and scheduler name substituted) query behind
+     * {@link #selectTriggerToAcquire(Connection, long, long, int, int)},
+     * for dialects that need to limit its rows themselves.
+     * </p>
+     */
+    protected String getSelectNextTriggerToAcquireInPartitionSQL(int maxCount) {
+        return rtp(SELECT_NEXT_TRIGGER_TO_ACQUIRE_IN_PARTITION);
+    }
+
+    private List<TriggerKey> selectTriggerToAcquire(Connection conn, String sql, long noLaterThan,
+            long noEarlierThan, int maxCount, int partition) throws SQLException {
         PreparedStatement ps = null;
         ResultSet rs = null;
         List<TriggerKey> nextTriggers = new LinkedList<>();
         try {
-            ps = conn.prepareStatement(rtp(SELECT_NEXT_TRIGGER_TO_ACQUIRE));
+            ps = conn.prepareStatement(sql);
             
             // Set max rows to retrieve
             if (maxCount < 1)
@@ -2580,6 +3063,9 @@ public class StdJDBCDelegate implements DriverDelegate, StdJDBCConstants {
             ps.setString(1, STATE_WAITING);
             ps.setBigDecimal(2, new BigDecimal(String.valueOf(noLaterThan)));
             ps.setBigDecimal(3, new BigDecimal(String.valueOf(noEarlierThan)));
+            if (partition >= 0) {
+                ps.setInt(4, partition);
+            }
             rs = ps.executeQuery();
             
             while (rs.next() && nextTriggers.size() < maxCount) {
@@ -2597,41 +3083,310 @@ public class StdJDBCDelegate implements DriverDelegate, StdJDBCConstants {
 
     /**
      * <p>
-     * Insert a fired trigger.
+     * Select the next triggers to acquire together with their extended
+     * properties and the <code>IS_NONCONCURRENT</code> flags of their jobs,
+     * in one query that joins the trigger rows to the job and extended
+     * property tables.
      * </p>
      * 
-     * @param conn
-     *          the DB Connection
-     * @param trigger
-     *          the trigger
-     * @param state
-     *          the state that the trigger should be stored in
-     * @return the number of rows inserted
-     */
+     * <p>
+     * No <code>JobDataMap</code> is read: the triggers carry a stand-in for
+     * theirs until they fire, and the job store reads the jobs when they
+     * fire.  Triggers that cannot be built from the joined row - blob
+     * triggers, or triggers whose <code>{@link TriggerPersistenceDelegate}</code>
+     * does not read joined rows - are returned by key only, and the job store
+     * loads them with <code>selectTrigger</code>.
+     * </p>
+     * 
+     * @see #getSelectNextTriggersToAcquireSQL(int)
+     */
+    @Override
+    public List<AcquisitionCandidate> selectTriggersToAcquire(Connection conn, long noLaterThan, long noEarlierThan,
+            int maxCount, ClassLoadHelper loadHelper) throws SQLException {
+        if (maxCount < 1)
+            maxCount = 1; // we want at least one trigger back.
+
+        return selectTriggersToAcquire(conn, getSelectNextTriggersToAcquireSQL(maxCount),
+                noLaterThan, noEarlierThan, maxCount, loadHelper, -1);
+    }
+
+    /**
+     * <p>
+     * Select the next triggers to acquire of the given partition, with the
+     * query of <code>{@link #getSelectNextTriggersToAcquireInPartitionSQL(int)}</code>.
+     * </p>
+     */
+    @Override
+    public List<AcquisitionCandidate> selectTriggersToAcquire(Connection conn, long noLaterThan, long noEarlierThan,
+            int maxCount, ClassLoadHelper loadHelper, int partition) throws SQLException {
+        if (maxCount < 1)
+            maxCount = 1; // we want at least one trigger back.
+
+        return selectTriggersToAcquire(conn, getSelectNextTriggersToAcquireInPartitionSQL(maxCount),
+                noLaterThan, noEarlierThan, maxCount, loadHelper, partition);
+    }
+
+    /**
+     * <p>
+     * Whether the database can lock the rows of the acquisition query with
+     * <code>FOR UPDATE OF ... SKIP LOCKED</code>: PostgreSQL from 9.5 and
+     * MySQL from 8.0. Any other database - Derby, H2, ... - acquires under the
+     * <code>TRIGGER_ACCESS</code> lock.
+     * </p>
+     * 
+     * <p>
+     * MariaDB is left out on purpose, although it has <code>SKIP LOCKED</code>
+     * since 10.6: it does not take the <code>OF</code> clause, so the query
+     * would also lock the job and extended property rows it joins.  A trigger
+     * would then be skipped whenever its job's row is locked - by another
+     * node acquiring a trigger of the same job, or by a trigger of it
+     * completing - and the triggers of a job would be acquired by one node at
+     * a time.
+     * </p>
+     */
+    @Override
+    public boolean supportsSkipLocked(Connection conn) throws SQLException {
+        DatabaseMetaData metaData = conn.getMetaData();
+        String product = metaData.getDatabaseProductName();
+        int major = metaData.getDatabaseMajorVersion();
+        if (product.startsWith("PostgreSQL")) {
+            return major > 9 || (major == 9 && metaData.getDatabaseMinorVersion() >= 5);
+        }
+        if (product.startsWith("MySQL")) {
+            return major >= 8 && !metaData.getDatabaseProductVersion().contains("MariaDB");
+        }
+        return false;
+    }
+
+    /**
+     * <p>
+     * Select the next triggers to acquire with the query of
+     * <code>{@link #getSelectNextTriggersToAcquireSkipLockedSQL(int)}</code>.
+     * </p>
+     */
+    @Override
+    public List<AcquisitionCandidate> selectAndLockTriggersToAcquire(Connection conn, long noLaterThan,
+            long noEarlierThan, int maxCount, ClassLoadHelper loadHelper) throws SQLException {
+        if (maxCount < 1)
+            maxCount = 1; // we want at least one trigger back.
+
+        return selectTriggersToAcquire(conn, getSelectNextTriggersToAcquireSkipLockedSQL(maxCount),
+                noLaterThan, noEarlierThan, maxCount, loadHelper, -1);
+    }
+
+    private List<AcquisitionCandidate> selectTriggersToAcquire(Connection conn, String sql, long noLaterThan,
+            long noEarlierThan, int maxCount, ClassLoadHelper loadHelper,
+            int partition) throws SQLException {
+        PreparedStatement ps = null;
+        ResultSet rs = null;
+        List<AcquisitionCandidate> candidates = new ArrayList<>();
+        try {
+            ps = conn.prepareStatement(sql);
+            ps.setMaxRows(maxCount);
+            ps.setFetchSize(maxCount);
+            
+            ps.setString(1, STATE_WAITING);
+            ps.setBigDecimal(2, new BigDecimal(String.valueOf(noLaterThan)));
+            ps.setBigDecimal(3, new BigDecimal(String.valueOf(noEarlierThan)));
+            if (partition >= 0) {
+                ps.setInt(4, partition);
+            }
+            rs = ps.executeQuery();
+
+            while (rs.next() && candidates.size() < maxCount) {
+                TriggerKey key = triggerKey(
+                        rs.getString(COL_TRIGGER_NAME),
+                        rs.getString(COL_TRIGGER_GROUP));
+                // no job row, no flag
+                Boolean nonConcurrent = rs.getObject(COL_IS_NONCONCURRENT) == null ? null : getBoolean(rs, COL_IS_NONCONCURRENT);
+                candidates.add(new AcquisitionCandidate(key, selectJoinedTrigger(rs, key), nonConcurrent));
+            }
+            
+            return candidates;
+        } finally {
+            closeResultSet(rs);
+            closeStatement(ps);
+        }
+    }
+
+    /**
+     * <p>
+     * The (table prefix and scheduler name substituted) query behind
+     * {@link #selectTriggersToAcquire(Connection, long, long, int, ClassLoadHelper)},
+     * for dialects that need to limit its rows themselves.
+     * </p>
+     */
+    protected String getSelectNextTriggersToAcquireSQL(int maxCount) {
+        return rtp(SELECT_NEXT_TRIGGERS_TO_ACQUIRE_WITH_DETAILS);
+    }
+
+    /**
+     * <p>
+     * The (table prefix and scheduler name substituted) query behind
+     * {@link #selectTriggersToAcquire(Connection, long, long, int, ClassLoadHelper, int)},
+     * for dialects that need to limit its rows themselves.
+     * </p>
+     */
+    protected String getSelectNextTriggersToAcquireInPartitionSQL(int maxCount) {
+        return rtp(SELECT_NEXT_TRIGGERS_TO_ACQUIRE_WITH_DETAILS_IN_PARTITION);
+    }
+
+    @Override
+    public Map<TriggerKey, Integer> selectTriggerPartitions(Connection conn) throws SQLException {
+        PreparedStatement ps = null;
+        ResultSet rs = null;
+        Map<TriggerKey, Integer> partitions = new HashMap<>();
+        try {
+            ps = conn.prepareStatement(rtp(SELECT_TRIGGER_PARTITIONS));
+            rs = ps.executeQuery();
+
+            while (rs.next()) {
+                int partition = rs.getInt(COL_TRIGGER_PARTITION);
+                partitions.put(triggerKey(rs.getString(COL_TRIGGER_NAME), rs.getString(COL_TRIGGER_GROUP)),
+                        rs.wasNull() ? null : partition);
+            }
+
+            return partitions;
+        } finally {
+            closeResultSet(rs);
+            closeStatement(ps);
+        }
+    }
+
+    @Override
+    public List<TriggerKey> selectTriggersWithoutPartition(Connection conn, int maxCount) throws SQLException {
+        PreparedStatement ps = null;
+        ResultSet rs = null;
+        List<TriggerKey> keys = new ArrayList<>();
+        try {
+            ps = conn.prepareStatement(rtp(SELECT_TRIGGERS_WITHOUT_PARTITION));
+            ps.setMaxRows(maxCount);
+            ps.setFetchSize(maxCount);
+            rs = ps.executeQuery();
+
+            while (rs.next() && keys.size() < maxCount) {
+                keys.add(triggerKey(rs.getString(COL_TRIGGER_NAME), rs.getString(COL_TRIGGER_GROUP)));
+            }
+
+            return keys;
+        } finally {
+            closeResultSet(rs);
+            closeStatement(ps);
+        }
+    }
+
+    @Override
+    public void updateTriggerPartitions(Connection conn, Map<TriggerKey, Integer> partitions) throws SQLException {
+        if (partitions.isEmpty()) {
+            return;
+        }
+
+        PreparedStatement ps = null;
+        try {
+            ps = conn.prepareStatement(rtp(UPDATE_TRIGGER_PARTITION));
+            for (Map.Entry<TriggerKey, Integer> partition : partitions.entrySet()) {
+                ps.setInt(1, partition.getValue());
+                ps.setString(2, partition.getKey().getName());
+                ps.setString(3, partition.getKey().getGroup());
+                ps.addBatch();
+            }
+
+            ps.executeBatch();
+        } finally {
+            closeStatement(ps);
+        }
+    }
+
+    /**
+     * <p>
+     * The acquisition query of
+     * <code>{@link #selectAndLockTriggersToAcquire(Connection, long, long, int, ClassLoadHelper)}</code>,
+     * which locks only the <code>TRIGGERS</code> rows it returns (the rows
+     * are limited in the query, so that the database does not lock more of
+     * them than are fetched) and skips the rows other nodes hold.
+     * </p>
+     */
+    protected String getSelectNextTriggersToAcquireSkipLockedSQL(int maxCount) {
+        return rtp(SELECT_NEXT_TRIGGERS_TO_ACQUIRE_WITH_DETAILS) + " LIMIT " + maxCount + " FOR UPDATE OF T SKIP LOCKED";
+    }
+
+    private boolean selectJoinedJobData(ResultSet rs, OperableTrigger trigger) throws SQLException {
+        Map<?, ?> map;
+        try {
+            if (canUseProperties()) {
+                map = getMapFromProperties(rs);
+            } else {
+                map = (Map<?, ?>) getObjectFromBlob(rs, COL_JOB_DATAMAP);
+            }
+        } catch (ClassNotFoundException | IOException e) {
+            return false; // selectTrigger reports it
+        }
+
+        JobDataMap jobDataMap = (map != null) ? new JobDataMap(map) : new JobDataMap();
+        jobDataMap.clearDirtyFlag();
+        trigger.setJobDataMap(jobDataMap);
+        return true;
+    }
+
+    private OperableTrigger selectJoinedTrigger(ResultSet rs, TriggerKey triggerKey) throws SQLException {
+        String triggerType = rs.getString(COL_TRIGGER_TYPE);
+        TriggerPersistenceDelegate tDel = triggerType.equals(TTYPE_BLOB) ? null : findTriggerPersistenceDelegate(triggerType);
+        if (tDel == null) {
+            return null;
+        }
+        TriggerPropertyBundle triggerProps = tDel.loadExtendedTriggerProperties(rs, triggerKey);
+        if (triggerProps == null) {
+            return null;
+        }
+
+        long nextFireTime = rs.getLong(COL_NEXT_FIRE_TIME);
+        long prevFireTime = rs.getLong(COL_PREV_FIRE_TIME);
+        long endTime = rs.getLong(COL_END_TIME);
+
+        TriggerBuilder<?> tb = newTrigger()
+            .withDescription(rs.getString(COL_DESCRIPTION))
+            .withPriority(rs.getInt(COL_PRIORITY))
+            .startAt(new Date(rs.getLong(COL_START_TIME)))
+            .endAt(endTime > 0 ? new Date(endTime) : null)
+            .withIdentity(triggerKey)
+            .modifiedByCalendar(rs.getString(COL_CALENDAR_NAME))
+            .withSchedule(triggerProps.getScheduleBuilder())
+            .forJob(jobKey(rs.getString(COL_JOB_NAME), rs.getString(COL_JOB_GROUP)));
+
+        try {
+            OperableTrigger trigger = (OperableTrigger) tb.build();
+
+            trigger.setJobDataMap(new DeferredJobDataMap());
+            trigger.setMisfireInstruction(rs.getInt(COL_MISFIRE_INSTRUCTION));
+            trigger.setNextFireTime(nextFireTime > 0 ? new Date(nextFireTime) : null);
+            trigger.setPreviousFireTime(prevFireTime > 0 ? new Date(prevFireTime) : null);
+
+            setTriggerStateProperties(trigger, triggerProps);
+            return trigger;
+        } catch (JobPersistenceException e) {
+            return null; // selectTrigger reports it
+        }
+    }
+
+    /**
+     * <p>
+     * Insert a fired trigger.
+     * </p>
+     * 
+     * @param conn
+     *          the DB Connection
+     * @param trigger
+     *          the trigger
+     * @param state
+     *          the state that the trigger should be stored in
+     * @return the number of rows inserted
+     */
     public int insertFiredTrigger(Connection conn, OperableTrigger trigger,
             String state, JobDetail job) throws SQLException {
         PreparedStatement ps = null;
         try {
             ps = conn.prepareStatement(rtp(INSERT_FIRED_TRIGGER));
-            ps.setString(1, trigger.getFireInstanceId());
-            ps.setString(2, trigger.getKey().getName());
-            ps.setString(3, trigger.getKey().getGroup());
-            ps.setString(4, instanceId);
-            ps.setBigDecimal(5, new BigDecimal(String.valueOf(System.currentTimeMillis())));
-            ps.setBigDecimal(6, new BigDecimal(String.valueOf(trigger.getNextFireTime().getTime())));
-            ps.setString(7, state);
-            if (job != null) {
-                ps.setString(8, trigger.getJobKey().getName());
-                ps.setString(9, trigger.getJobKey().getGroup());
-                setBoolean(ps, 10, job.isConcurrentExecutionDisallowed());
-                setBoolean(ps, 11, job.requestsRecovery());
-            } else {
-                ps.setString(8, null);
-                ps.setString(9, null);
-                setBoolean(ps, 10, false);
-                setBoolean(ps, 11, false);
-            }
-            ps.setInt(12, trigger.getPriority());
+            setInsertFiredTriggerParameters(ps, trigger, state, job);
 
             return ps.executeUpdate();
         } finally {
@@ -2639,6 +3394,64 @@ public class StdJDBCDelegate implements DriverDelegate, StdJDBCConstants {
         }
     }
 
+    /**
+     * <p>
+     * Insert a fired trigger for each of the given triggers, as a single JDBC
+     * batch.
+     * </p>
+     * 
+     * @param conn
+     *          the DB Connection
+     * @param triggers
+     *          the triggers
+     * @param state
+     *          the state that the triggers should be stored in
+     * @param jobs
+     *          the job of each trigger, or <code>null</code> if none are known
+     * @return the number of rows inserted for each trigger, in order
+     */
+    public int[] insertFiredTriggers(Connection conn, List<OperableTrigger> triggers,
+            String state, List<JobDetail> jobs) throws SQLException {
+        if (triggers.isEmpty()) {
+            return new int[0];
+        }
+        PreparedStatement ps = null;
+        try {
+            ps = conn.prepareStatement(rtp(INSERT_FIRED_TRIGGER));
+            for (int i = 0; i < triggers.size(); i++) {
+                setInsertFiredTriggerParameters(ps, triggers.get(i), state, jobs == null ? null : jobs.get(i));
+                ps.addBatch();
+            }
+
+            return ps.executeBatch();
+        } finally {
+            closeStatement(ps);
+        }
+    }
+
+    private void setInsertFiredTriggerParameters(PreparedStatement ps, OperableTrigger trigger,
+            String state, JobDetail job) throws SQLException {
+        ps.setString(1, trigger.getFireInstanceId());
+        ps.setString(2, trigger.getKey().getName());
+        ps.setString(3, trigger.getKey().getGroup());
+        ps.setString(4, instanceId);
+        ps.setBigDecimal(5, new BigDecimal(String.valueOf(System.currentTimeMillis())));
+        ps.setBigDecimal(6, new BigDecimal(String.valueOf(trigger.getNextFireTime().getTime())));
+        ps.setString(7, state);
+        if (job != null) {
+            ps.setString(8, trigger.getJobKey().getName());
+            ps.setString(9, trigger.getJobKey().getGroup());
+            setBoolean(ps, 10, job.isConcurrentExecutionDisallowed());
+            setBoolean(ps, 11, job.requestsRecovery());
+        } else {
+            ps.setString(8, null);
+            ps.setString(9, null);
+            setBoolean(ps, 10, false);
+            setBoolean(ps, 11, false);
+        }
+        ps.setInt(12, trigger.getPriority());
+    }
+
     /**
      * <p>
      * Update a fired trigger.
@@ -2657,33 +3470,71 @@ public class StdJDBCDelegate implements DriverDelegate, StdJDBCConstants {
         PreparedStatement ps = null;
         try {
             ps = conn.prepareStatement(rtp(UPDATE_FIRED_TRIGGER));
-            
-            ps.setString(1, instanceId);
+            setUpdateFiredTriggerParameters(ps, trigger, state, job);
 
-            ps.setBigDecimal(2, new BigDecimal(String.valueOf(System.currentTimeMillis())));
-            ps.setBigDecimal(3, new BigDecimal(String.valueOf(trigger.getNextFireTime().getTime())));
-            ps.setString(4, state);
+            return ps.executeUpdate();
+        } finally {
+            closeStatement(ps);
+        }
+    }
 
-            if (job != null) {
-                ps.setString(5, trigger.getJobKey().getName());
-                ps.setString(6, trigger.getJobKey().getGroup());
-                setBoolean(ps, 7, job.isConcurrentExecutionDisallowed());
-                setBoolean(ps, 8, job.requestsRecovery());
-            } else {
-                ps.setString(5, null);
-                ps.setString(6, null);
-                setBoolean(ps, 7, false);
-                setBoolean(ps, 8, false);
+    /**
+     * <p>
+     * Update the fired trigger of each of the given triggers, as a single
+     * JDBC batch.
+     * </p>
+     * 
+     * @param conn
+     *          the DB Connection
+     * @param triggers
+     *          the triggers
+     * @param state
+     *          the state that the triggers should be stored in
+     * @param jobs
+     *          the job of each trigger, or <code>null</code> if none are known
+     * @return the number of rows updated for each trigger, in order
+     */
+    public int[] updateFiredTriggers(Connection conn, List<OperableTrigger> triggers,
+            String state, List<JobDetail> jobs) throws SQLException {
+        if (triggers.isEmpty()) {
+            return new int[0];
+        }
+        PreparedStatement ps = null;
+        try {
+            ps = conn.prepareStatement(rtp(UPDATE_FIRED_TRIGGER));
+            for (int i = 0; i < triggers.size(); i++) {
+                setUpdateFiredTriggerParameters(ps, triggers.get(i), state, jobs == null ? null : jobs.get(i));
+                ps.addBatch();
             }
 
-            ps.setString(9, trigger.getFireInstanceId());
-
-
-            return ps.executeUpdate();
+            return ps.executeBatch();
         } finally {
             closeStatement(ps);
         }
     }
+
+    private void setUpdateFiredTriggerParameters(PreparedStatement ps, OperableTrigger trigger,
+            String state, JobDetail job) throws SQLException {
+        ps.setString(1, instanceId);
+
+        ps.setBigDecimal(2, new BigDecimal(String.valueOf(System.currentTimeMillis())));
+        ps.setBigDecimal(3, new BigDecimal(String.valueOf(trigger.getNextFireTime().getTime())));
+        ps.setString(4, state);
+
+        if (job != null) {
+            ps.setString(5, trigger.getJobKey().getName());
+            ps.setString(6, trigger.getJobKey().getGroup());
+            setBoolean(ps, 7, job.isConcurrentExecutionDisallowed());
+            setBoolean(ps, 8, job.requestsRecovery());
+        } else {
+            ps.setString(5, null);
+            ps.setString(6, null);
+            setBoolean(ps, 7, false);
+            setBoolean(ps, 8, false);
+        }
+
+        ps.setString(9, trigger.getFireInstanceId());
+    }
     
     /**
      * <p>
@@ -2830,6 +3681,123 @@ public class StdJDBCDelegate implements DriverDelegate, StdJDBCConstants {
         }
     }
 
+    @Override
+    public int updateAcquiredTriggerStatesForInstance(Connection conn, String instanceName,
+            String newState) throws SQLException {
+        PreparedStatement ps = null;
+
+        try {
+            ps = conn.prepareStatement(rtp(UPDATE_INSTANCES_ACQUIRED_TRIGGER_STATES));
+            ps.setString(1, newState);
+            ps.setString(2, STATE_ACQUIRED);
+            ps.setString(3, instanceName);
+            ps.setString(4, STATE_ACQUIRED);
+            return ps.executeUpdate();
+        } finally {
+            closeStatement(ps);
+        }
+    }
+
+    @Override
+    public int updateBlockedTriggerStatesForInstance(Connection conn, String instanceName,
+            String newState, String oldState) throws SQLException {
+        PreparedStatement ps = null;
+
+        try {
+            ps = conn.prepareStatement(rtp(UPDATE_INSTANCES_BLOCKED_TRIGGER_STATES));
+            ps.setString(1, newState);
+            ps.setString(2, oldState);
+            ps.setString(3, instanceName);
+            setBoolean(ps, 4, true);
+            ps.setString(5, oldState);
+            return ps.executeUpdate();
+        } finally {
+            closeStatement(ps);
+        }
+    }
+
+    /**
+     * <p>
+     * Build the recovery triggers for the jobs of the given scheduler
+     * instance with one query, which joins the fired-trigger records to
+     * their jobs and to the job data of their triggers.
+     * </p>
+     */
+    @Override
+    public List<OperableTrigger> selectRecoveryTriggersForInstance(Connection conn, String instanceName)
+        throws SQLException, IOException, ClassNotFoundException {
+        PreparedStatement ps = null;
+        ResultSet rs = null;
+
+        try {
+            ps = conn.prepareStatement(rtp(SELECT_INSTANCES_RECOVERABLE_FIRED_TRIGGERS_WITH_JOB_DATA));
+            ps.setString(1, instanceName);
+            setBoolean(ps, 2, true);
+            ps.setString(3, STATE_ACQUIRED);
+            rs = ps.executeQuery();
+
+            long dumId = System.currentTimeMillis();
+            List<OperableTrigger> list = new ArrayList<>();
+            while (rs.next()) {
+                String trigName = rs.getString(COL_TRIGGER_NAME);
+                String trigGroup = rs.getString(COL_TRIGGER_GROUP);
+                long firedTime = rs.getLong(COL_FIRED_TIME);
+                long scheduledTime = rs.getLong(COL_SCHED_TIME);
+                @SuppressWarnings("deprecation")
+                SimpleTriggerImpl rcvryTrig = new SimpleTriggerImpl("recover_"
+                        + instanceName + "_" + dumId++,
+                        Scheduler.DEFAULT_RECOVERY_GROUP, new Date(scheduledTime));
+                rcvryTrig.setJobName(rs.getString(COL_JOB_NAME));
+                rcvryTrig.setJobGroup(rs.getString(COL_JOB_GROUP));
+                rcvryTrig.setPriority(rs.getInt(COL_PRIORITY));
+                rcvryTrig.setMisfireInstruction(SimpleTrigger.MISFIRE_INSTRUCTION_IGNORE_MISFIRE_POLICY);
+
+                Map<?, ?> map;
+                if (canUseProperties()) {
+                    map = getMapFromProperties(rs);
+                } else {
+                    map = (Map<?, ?>) getObjectFromBlob(rs, COL_JOB_DATAMAP);
+                }
+                JobDataMap jd = (map != null) ? new JobDataMap(map) : new JobDataMap();
+                jd.put(Scheduler.FAILED_JOB_ORIGINAL_TRIGGER_NAME, trigName);
+                jd.put(Scheduler.FAILED_JOB_ORIGINAL_TRIGGER_GROUP, trigGroup);
+                jd.put(Scheduler.FAILED_JOB_ORIGINAL_TRIGGER_FIRETIME_IN_MILLISECONDS, String.valueOf(firedTime));
+                jd.put(Scheduler.FAILED_JOB_ORIGINAL_TRIGGER_SCHEDULED_FIRETIME_IN_MILLISECONDS, String.valueOf(scheduledTime));
+                rcvryTrig.setJobDataMap(jd);
+
+                list.add(rcvryTrig);
+            }
+            return list;
+        } finally {
+            closeResultSet(rs);
+            closeStatement(ps);
+        }
+    }
+
+    @Override
+    public List<TriggerKey> selectCompleteTriggerKeysForInstance(Connection conn, String instanceName)
+        throws SQLException {
+        PreparedStatement ps = null;
+        ResultSet rs = null;
+
+        try {
+            ps = conn.prepareStatement(rtp(SELECT_INSTANCES_TRIGGERS_IN_STATE));
+            ps.setString(1, STATE_COMPLETE);
+            ps.setString(2, instanceName);
+            ps.setString(3, instanceName);
+            rs = ps.executeQuery();
+
+            List<TriggerKey> list = new ArrayList<>();
+            while (rs.next()) {
+                list.add(triggerKey(rs.getString(COL_TRIGGER_NAME), rs.getString(COL_TRIGGER_GROUP)));
+            }
+            return list;
+        } finally {
+            closeResultSet(rs);
+            closeStatement(ps);
+        }
+    }
+
     /**
      * <p>
      * Select the distinct instance names of all fired-trigger records.
@@ -2996,7 +3964,33 @@ public class StdJDBCDelegate implements DriverDelegate, StdJDBCConstants {
      * @return the query, with proper table prefix substituted
      */
     protected final String rtp(String query) {
-        return Util.rtp(query, tablePrefix, getSchedulerNameLiteral());
+        String sql = expandedSql.get(query);
+        return (sql != null) ? sql : Util.rtp(query, tablePrefix, getSchedulerNameLiteral());
+    }
+
+    /**
+     * The SQL constants of this delegate (its public <code>String</code>
+     * constants that contain the table prefix placeholder), expanded once,
+     * so that <code>{@link #rtp(String)}</code> doesn't format the same
+     * queries again for every statement.
+     */
+    private Map<String, String> expandSqlConstants() {
+        Map<String, String> sql = new HashMap<>();
+        for (Field field : getClass().getFields()) {
+            if (field.getType() != String.class || !Modifier.isStatic(field.getModifiers())
+                    || !Modifier.isFinal(field.getModifiers())) {
+                continue;
+            }
+            try {
+                String query = (String) field.get(null);
+                if (query != null && query.contains(TABLE_PREFIX_SUBST)) {
+                    sql.put(query, Util.rtp(query, tablePrefix, getSchedulerNameLiteral()));
+                }
+            } catch (IllegalAccessException ignore) {
+                // rtp expands it on every use
+            }
+        }
+        return sql;
     }
 
     private String schedNameLiteral = null;
@@ -3048,6 +4042,9 @@ public class StdJDBCDelegate implements DriverDelegate, StdJDBCConstants {
         }
 
         try {
+            if (jobDataMapCodec != null) {
+                return encodeJobData(data);
+            }
             return serializeObject(data);
         } catch (NotSerializableException e) {
             throw new NotSerializableException(
@@ -3058,6 +4055,55 @@ public class StdJDBCDelegate implements DriverDelegate, StdJDBCConstants {
         }
     }
 
+    /**
+     * Encode the map with the configured <code>{@link JobDataMapCodec}</code>,
+     * behind its format byte.
+     */
+    private ByteArrayOutputStream encodeJobData(JobDataMap data)
+        throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        if (null != data) {
+            baos.write(jobDataMapCodec.getFormat());
+            jobDataMapCodec.encode(data.getWrappedMap(), baos);
+        }
+        return baos;
+    }
+
+    /**
+     * <p>
+     * Read an object written by <code>{@link #serializeObject(Object)}</code>,
+     * or a map written by a <code>{@link JobDataMapCodec}</code>, which is told
+     * apart by its first byte.  The stream is closed.
+     * </p>
+     * 
+     * @param binaryInput
+     *          the contents of a BLOB
+     * @return the deserialized Object
+     */
+    protected Object deserializeObject(InputStream binaryInput)
+        throws ClassNotFoundException, IOException {
+        try (InputStream in = binaryInput.markSupported() ? binaryInput : new BufferedInputStream(binaryInput)) {
+            in.mark(1);
+            int format = in.read();
+            if (format == -1) {
+                return null;
+            }
+            if (format == SERIALIZATION_FORMAT) {
+                in.reset();
+                try (ObjectInputStream ois = new ObjectInputStream(in)) {
+                    return ois.readObject();
+                }
+            }
+            if (jobDataMapCodec != null && format == (jobDataMapCodec.getFormat() & 0xFF)) {
+                return jobDataMapCodec.decode(in);
+            }
+            if (format == CompactJobDataMapCodec.FORMAT) {
+                return COMPACT_CODEC.decode(in);
+            }
+            throw new StreamCorruptedException("Unknown format of serialized data: " + format);
+        }
+    }
+
     /**
      * Find the key of the first non-serializable value in the given Map.
      * 
@@ -3159,9 +4205,7 @@ public class StdJDBCDelegate implements DriverDelegate, StdJDBCConstants {
                     && ((ByteArrayInputStream) binaryInput).available() == 0 ) {
                     //do nothing
                 } else {
-                    try (ObjectInputStream in = new ObjectInputStream(binaryInput)) {
-                        obj = in.readObject();
-                    }
+                    obj = deserializeObject(binaryInput);
                 }
             }
 
@@ -18,7 +18,9 @@ package org.quartz.impl.jdbcjobstore;
 
 import java.io.IOException;
 import java.sql.Connection;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.List;
 
 import org.quartz.JobDetail;
 import org.quartz.ScheduleBuilder;
@@ -41,11 +43,54 @@ public interface TriggerPersistenceDelegate {
     
     int insertExtendedTriggerProperties(Connection conn, OperableTrigger trigger, String state, JobDetail jobDetail) throws SQLException, IOException;
 
+    /**
+     * Insert the extended properties of several triggers of this delegate's
+     * type, such as a bulk of newly scheduled triggers.  The default inserts
+     * them one at a time; implementations may send them as a single JDBC batch.
+     * 
+     * @return the number of rows inserted for each trigger, in order
+     */
+    default int[] insertExtendedTriggerProperties(Connection conn, List<OperableTrigger> triggers, List<String> states, List<JobDetail> jobDetails) throws SQLException, IOException {
+        int[] counts = new int[triggers.size()];
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = insertExtendedTriggerProperties(conn, triggers.get(i), states.get(i), jobDetails.get(i));
+        }
+        return counts;
+    }
+
     int updateExtendedTriggerProperties(Connection conn, OperableTrigger trigger, String state, JobDetail jobDetail) throws SQLException, IOException;
+
+    /**
+     * Update the extended properties of several triggers of this delegate's
+     * type, such as a batch of fired triggers.  The default updates them one
+     * at a time; implementations may send them as a single JDBC batch.
+     * 
+     * @return the number of rows updated for each trigger, in order
+     */
+    default int[] updateExtendedTriggerProperties(Connection conn, List<OperableTrigger> triggers, List<String> states, List<JobDetail> jobDetails) throws SQLException, IOException {
+        int[] counts = new int[triggers.size()];
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = updateExtendedTriggerProperties(conn, triggers.get(i), states.get(i), jobDetails.get(i));
+        }
+        return counts;
+    }
     
     int deleteExtendedTriggerProperties(Connection conn, TriggerKey triggerKey) throws SQLException;
 
     TriggerPropertyBundle loadExtendedTriggerProperties(Connection conn, TriggerKey triggerKey) throws SQLException;
+
+    /**
+     * Read the extended properties of the trigger from the current row of a
+     * result set that joins them to the trigger's own row, such as the one of
+     * {@link StdJDBCConstants#SELECT_NEXT_TRIGGERS_TO_ACQUIRE_WITH_DETAILS}.
+     * 
+     * @return the properties, or <code>null</code> if the row does not carry
+     *         them, in which case they are loaded with
+     *         {@link #loadExtendedTriggerProperties(Connection, TriggerKey)}
+     */
+    default TriggerPropertyBundle loadExtendedTriggerProperties(ResultSet rs, TriggerKey triggerKey) throws SQLException {
+        return null;
+    }
     
     
     class TriggerPropertyBundle {
@@ -21,13 +21,13 @@ package org.quartz.impl.jdbcjobstore.oracle;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.ObjectInputStream;
 import java.math.BigDecimal;
 import java.sql.Blob;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.List;
 
 import org.quartz.Calendar;
 import org.quartz.JobDetail;
@@ -135,14 +135,23 @@ public class OracleDelegate extends StdJDBCDelegate {
         Object obj = null;
         InputStream binaryInput = rs.getBinaryStream(colName);
         if (binaryInput != null) {
-            try (ObjectInputStream in = new ObjectInputStream(binaryInput)) {
-                obj = in.readObject();
-            }
+            obj = deserializeObject(binaryInput);
         }
 
         return obj;
     }
 
+    // the blobs of each row are written by a statement of their own
+    @Override
+    public int[] insertJobDetails(Connection conn, List<JobDetail> jobs)
+        throws IOException, SQLException {
+        int[] counts = new int[jobs.size()];
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = insertJobDetail(conn, jobs.get(i));
+        }
+        return counts;
+    }
+
     @Override
     public int insertJobDetail(Connection conn, JobDetail job)
         throws IOException, SQLException {
@@ -263,6 +272,16 @@ public class OracleDelegate extends StdJDBCDelegate {
         }
     }
 
+    @Override
+    public int[] insertTriggers(Connection conn, List<OperableTrigger> triggers, List<String> states,
+            List<JobDetail> jobDetails) throws SQLException, IOException {
+        int[] counts = new int[triggers.size()];
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = insertTrigger(conn, triggers.get(i), states.get(i), jobDetails.get(i));
+        }
+        return counts;
+    }
+
     @Override
     public int insertTrigger(Connection conn, OperableTrigger trigger, String state,
             JobDetail jobDetail) throws SQLException, IOException {
@@ -361,6 +380,40 @@ public class OracleDelegate extends StdJDBCDelegate {
         return insertResult;
     }
 
+    /**
+     * <p>
+     * Oracle has locked selected rows with <code>SKIP LOCKED</code> since 11g.
+     * </p>
+     */
+    @Override
+    public boolean supportsSkipLocked(Connection conn) throws SQLException {
+        return conn.getMetaData().getDatabaseProductName().startsWith("Oracle");
+    }
+
+    @Override
+    protected String getSelectNextTriggersToAcquireSkipLockedSQL(int maxCount) {
+        // Oracle locks the rows of a SKIP LOCKED query as they are fetched, and
+        // doesn't allow a row limit with FOR UPDATE: the statement's max rows
+        // keep it from fetching (and so locking) more than maxCount of them.
+        return rtp(SELECT_NEXT_TRIGGERS_TO_ACQUIRE_WITH_DETAILS) + " FOR UPDATE OF T." + COL_TRIGGER_STATE + " SKIP LOCKED";
+    }
+
+    /**
+     * <p>
+     * The job data of each trigger needs its own statements, so the triggers
+     * are updated one at a time.
+     * </p>
+     */
+    @Override
+    public int[] updateTriggers(Connection conn, List<OperableTrigger> triggers, List<String> states,
+            List<JobDetail> jobDetails) throws SQLException, IOException {
+        int[] counts = new int[triggers.size()];
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = updateTrigger(conn, triggers.get(i), states.get(i), jobDetails.get(i));
+        }
+        return counts;
+    }
+
     @Override
     public int updateTrigger(Connection conn, OperableTrigger trigger, String state,
             JobDetail jobDetail) throws SQLException, IOException {
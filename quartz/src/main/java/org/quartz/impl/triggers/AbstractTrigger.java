@@ -96,6 +96,8 @@ public abstract class AbstractTrigger<T extends Trigger> implements OperableTrig
 
     private transient TriggerKey key = null;
 
+    private transient JobKey jobKey = null;
+
     /*
     * ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
     *
@@ -277,6 +279,7 @@ public abstract class AbstractTrigger<T extends Trigger> implements OperableTrig
         }
 
         this.jobName = jobName;
+        this.jobKey = null;
     }
 
     /**
@@ -311,11 +314,13 @@ public abstract class AbstractTrigger<T extends Trigger> implements OperableTrig
         }
 
         this.jobGroup = jobGroup;
+        this.jobKey = null;
     }
 
     public void setJobKey(JobKey key) {
         setJobName(key.getName());
         setJobGroup(key.getGroup());
+        this.jobKey = key;
     }
 
 
@@ -340,10 +345,13 @@ public abstract class AbstractTrigger<T extends Trigger> implements OperableTrig
     }
 
     public JobKey getJobKey() {
-        if(getJobName() == null)
-            return null;
+        if(jobKey == null) {
+            if(getJobName() == null)
+                return null;
+            jobKey = new JobKey(getJobName(), getJobGroup());
+        }
 
-        return new JobKey(getJobName(), getJobGroup());
+        return jobKey;
     }
 
     /**
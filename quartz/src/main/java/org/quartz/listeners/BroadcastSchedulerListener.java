@@ -114,6 +114,12 @@ public class BroadcastSchedulerListener implements SchedulerListener {
         }
     }
 
+    public void jobRecoveryProgress(int processed, int total) {
+        for (SchedulerListener l : listeners) {
+            l.jobRecoveryProgress(processed, total);
+        }
+    }
+
     
     public void jobPaused(JobKey key) {
         for (SchedulerListener l : listeners) {
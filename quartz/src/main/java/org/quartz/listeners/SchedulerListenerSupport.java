@@ -108,4 +108,7 @@ public abstract class SchedulerListenerSupport implements SchedulerListener {
     public void schedulingDataCleared() {
     }
 
+    public void jobRecoveryProgress(int processed, int total) {
+    }
+
 }
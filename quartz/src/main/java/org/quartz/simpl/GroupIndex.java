@@ -0,0 +1,111 @@
+/* 
+ * Copyright IBM Corp. 2024, 2025
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not 
+ * use this file except in compliance with the License. You may obtain a copy 
+ * of the License at 
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0 
+ *   
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT 
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the 
+ * License for the specific language governing permissions and limitations 
+ * under the License.
+ * 
+ */
+
+package org.quartz.simpl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+import org.quartz.impl.matchers.StringMatcher.StringOperatorName;
+
+/**
+ * The group names of a {@link RAMJobStore}, kept sorted both as they are and
+ * reversed, so that <code>STARTS_WITH</code> and <code>ENDS_WITH</code> group
+ * matchers are answered by a range scan rather than by testing every group.
+ * <code>CONTAINS</code> still has to test every name.
+ *
+ * <p>
+ * Safe for concurrent reads; modifications are serialized by the store.
+ * </p>
+ */
+class GroupIndex {
+
+    private final ConcurrentSkipListSet<String> names = new ConcurrentSkipListSet<>();
+
+    // reversed name -> name
+    private final ConcurrentSkipListMap<String, String> reversedNames = new ConcurrentSkipListMap<>();
+
+    void add(String name) {
+        if (names.add(name)) {
+            reversedNames.put(reverse(name), name);
+        }
+    }
+
+    void remove(String name) {
+        if (names.remove(name)) {
+            reversedNames.remove(reverse(name));
+        }
+    }
+
+    void clear() {
+        names.clear();
+        reversedNames.clear();
+    }
+
+    /**
+     * Get the names that match the given operator and value, in no
+     * particular order.
+     */
+    List<String> matching(StringOperatorName operator, String compareTo) {
+        List<String> result = new ArrayList<>();
+        switch (operator) {
+            case EQUALS:
+                if (names.contains(compareTo)) {
+                    result.add(compareTo);
+                }
+                break;
+            case STARTS_WITH:
+                for (String name : names.tailSet(compareTo)) {
+                    if (!name.startsWith(compareTo)) {
+                        break;
+                    }
+                    result.add(name);
+                }
+                break;
+            case ENDS_WITH:
+                String reversed = reverse(compareTo);
+                for (Map.Entry<String, String> entry : reversedNames.tailMap(reversed).entrySet()) {
+                    if (!entry.getKey().startsWith(reversed)) {
+                        break;
+                    }
+                    result.add(entry.getValue());
+                }
+                break;
+            case ANYTHING:
+                result.addAll(names);
+                break;
+            default:
+                for (String name : names) {
+                    if (operator.evaluate(name, compareTo)) {
+                        result.add(name);
+                    }
+                }
+        }
+        return result;
+    }
+
+    List<String> names() {
+        return new ArrayList<>(names);
+    }
+
+    private static String reverse(String name) {
+        return name.isEmpty() ? name : new StringBuilder(name).reverse().toString();
+    }
+}
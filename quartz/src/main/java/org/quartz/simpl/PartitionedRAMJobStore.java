@@ -0,0 +1,841 @@
+/* 
+ * Copyright IBM Corp. 2024, 2025
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not 
+ * use this file except in compliance with the License. You may obtain a copy 
+ * of the License at 
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0 
+ *   
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT 
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the 
+ * License for the specific language governing permissions and limitations 
+ * under the License.
+ * 
+ */
+
+package org.quartz.simpl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.quartz.Calendar;
+import org.quartz.JobDetail;
+import org.quartz.JobKey;
+import org.quartz.JobPersistenceException;
+import org.quartz.ObjectAlreadyExistsException;
+import org.quartz.SchedulerConfigException;
+import org.quartz.SchedulerException;
+import org.quartz.Trigger;
+import org.quartz.Trigger.CompletedExecutionInstruction;
+import org.quartz.Trigger.TriggerState;
+import org.quartz.Trigger.TriggerTimeComparator;
+import org.quartz.TriggerKey;
+import org.quartz.impl.matchers.GroupMatcher;
+import org.quartz.impl.matchers.StringMatcher;
+import org.quartz.spi.ClassLoadHelper;
+import org.quartz.spi.JobStore;
+import org.quartz.spi.OperableTrigger;
+import org.quartz.spi.SchedulerSignaler;
+import org.quartz.spi.TriggerFiredResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * <p>
+ * A <code>{@link org.quartz.spi.JobStore}</code> that spreads its data over
+ * a number of independent <code>{@link RAMJobStore}</code> partitions, each
+ * with its own indexes and its own monitor, so that acquisition and firing on
+ * one partition never contend with another.
+ * </p>
+ *
+ * <p>
+ * Data is partitioned by <em>job</em> key: a job and all of its triggers
+ * always live in the same partition. That keeps every per-job rule - such as
+ * <code>{@link org.quartz.DisallowConcurrentExecution}</code> blocking or the
+ * removal of orphaned non-durable jobs - local to one partition and exactly
+ * as strict as in a plain <code>RAMJobStore</code>. Calendars are replicated
+ * to every partition.
+ * </p>
+ *
+ * <p>
+ * <code>{@link #acquireNextTriggers(long, int, long)}</code> asks every
+ * partition for its next triggers concurrently, merges the results in fire
+ * time order and hands back any trigger that falls outside the batch window of
+ * the earliest one, so the batch returned to the scheduler is ordered just as
+ * it would be from a single store. Since each partition acquires up to the
+ * full batch size, this store pays off when the scheduler is configured with
+ * a <code>org.quartz.scheduler.batchTriggerAcquisitionMaxCount</code> of the
+ * order of the thread pool size.
+ * </p>
+ *
+ * <p>
+ * The number of partitions is set with
+ * <code>org.quartz.jobStore.partitionCount</code> and defaults to the number
+ * of available processors.
+ * </p>
+ *
+ * @see RAMJobStore
+ */
+public class PartitionedRAMJobStore implements JobStore {
+
+    /*
+     * ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * 
+     * Data members.
+     * 
+     * ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     */
+
+    private static final AtomicInteger acquisitionThreadCount = new AtomicInteger();
+
+    private int partitionCount = Runtime.getRuntime().availableProcessors();
+
+    private long misfireThreshold = 5000L;
+
+    private int maxMisfiresToHandleAtATime = 20;
+
+    private boolean useTimingWheel = false;
+
+    private String instanceId;
+
+    private String instanceName;
+
+    private RAMJobStore[] partitions;
+
+    private ExecutorService acquisitionExecutor;
+
+    /**
+     * Serializes the operations that have to look at, or change, more than one
+     * partition atomically: moving a trigger between partitions, bulk stores
+     * and calendar changes.
+     */
+    private final Object adminLock = new Object();
+
+    private final Logger log = LoggerFactory.getLogger(getClass());
+
+    /*
+     * ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * 
+     * Interface.
+     * 
+     * ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     */
+
+    protected Logger getLog() {
+        return log;
+    }
+
+    public int getPartitionCount() {
+        return partitionCount;
+    }
+
+    /**
+     * Set the number of partitions the data is spread over. Must be called
+     * before the store is initialized.
+     */
+    public void setPartitionCount(int partitionCount) {
+        if (partitionCount < 1) {
+            throw new IllegalArgumentException("Partition count must be larger than 0");
+        }
+        if (partitions != null) {
+            throw new IllegalStateException("The partition count cannot be changed once the store is initialized");
+        }
+        this.partitionCount = partitionCount;
+    }
+
+    public long getMisfireThreshold() {
+        return misfireThreshold;
+    }
+
+    /**
+     * The number of milliseconds by which a trigger must have missed its
+     * next-fire-time, in order for it to be considered "misfired" and thus
+     * have its misfire instruction applied.
+     *
+     * @see RAMJobStore#setMisfireThreshold(long)
+     */
+    public void setMisfireThreshold(long misfireThreshold) {
+        if (misfireThreshold < 1) {
+            throw new IllegalArgumentException("Misfire threshold must be larger than 0");
+        }
+        this.misfireThreshold = misfireThreshold;
+        if (partitions != null) {
+            for (RAMJobStore partition : partitions) {
+                partition.setMisfireThreshold(misfireThreshold);
+            }
+        }
+    }
+
+    public int getMaxMisfiresToHandleAtATime() {
+        return maxMisfiresToHandleAtATime;
+    }
+
+    /**
+     * @see RAMJobStore#setMaxMisfiresToHandleAtATime(int)
+     */
+    public void setMaxMisfiresToHandleAtATime(int maxMisfiresToHandleAtATime) {
+        if (maxMisfiresToHandleAtATime < 1) {
+            throw new IllegalArgumentException("Max misfires to handle at a time must be larger than 0");
+        }
+        this.maxMisfiresToHandleAtATime = maxMisfiresToHandleAtATime;
+        if (partitions != null) {
+            for (RAMJobStore partition : partitions) {
+                partition.setMaxMisfiresToHandleAtATime(maxMisfiresToHandleAtATime);
+            }
+        }
+    }
+
+    public boolean isUseTimingWheel() {
+        return useTimingWheel;
+    }
+
+    /**
+     * @see RAMJobStore#setUseTimingWheel(boolean)
+     */
+    public void setUseTimingWheel(boolean useTimingWheel) {
+        if (partitions != null) {
+            for (RAMJobStore partition : partitions) {
+                partition.setUseTimingWheel(useTimingWheel);
+            }
+        }
+        this.useTimingWheel = useTimingWheel;
+    }
+
+    /**
+     * <p>
+     * Called by the QuartzScheduler before the <code>JobStore</code> is
+     * used, in order to give it a chance to initialize.
+     * </p>
+     */
+    public void initialize(ClassLoadHelper loadHelper, SchedulerSignaler schedSignaler)
+        throws SchedulerConfigException {
+
+        RAMJobStore[] stores = new RAMJobStore[partitionCount];
+        for (int i = 0; i < stores.length; i++) {
+            stores[i] = createPartition();
+            stores[i].setMisfireThreshold(misfireThreshold);
+            stores[i].setUseTimingWheel(useTimingWheel);
+            stores[i].setMaxMisfiresToHandleAtATime(maxMisfiresToHandleAtATime);
+            stores[i].setInstanceId(instanceId);
+            stores[i].setInstanceName(instanceName + "-" + i);
+            stores[i].initialize(loadHelper, schedSignaler);
+        }
+        this.partitions = stores;
+
+        if (stores.length > 1) {
+            acquisitionExecutor = Executors.newFixedThreadPool(stores.length - 1, r -> {
+                Thread t = new Thread(r, "PartitionedRAMJobStore-acquisition-" + acquisitionThreadCount.incrementAndGet());
+                t.setDaemon(true);
+                return t;
+            });
+        }
+
+        getLog().info("PartitionedRAMJobStore initialized with " + stores.length + " partitions.");
+    }
+
+    /**
+     * Create one, not yet initialized, partition of this store.
+     */
+    protected RAMJobStore createPartition() {
+        return new RAMJobStore();
+    }
+
+    public void schedulerStarted() throws SchedulerException {
+        for (RAMJobStore partition : partitions) {
+            partition.schedulerStarted();
+        }
+    }
+
+    public void schedulerPaused() {
+        for (RAMJobStore partition : partitions) {
+            partition.schedulerPaused();
+        }
+    }
+
+    public void schedulerResumed() {
+        for (RAMJobStore partition : partitions) {
+            partition.schedulerResumed();
+        }
+    }
+
+    public void shutdown() {
+        if (acquisitionExecutor != null) {
+            acquisitionExecutor.shutdownNow();
+        }
+        for (RAMJobStore partition : partitions) {
+            partition.shutdown();
+        }
+    }
+
+    public boolean supportsPersistence() {
+        return false;
+    }
+
+    public long getEstimatedTimeToReleaseAndAcquireTrigger() {
+        return 5;
+    }
+
+    public boolean isClustered() {
+        return false;
+    }
+
+    /**
+     * The partition owning the given job, and so all of its triggers.
+     */
+    RAMJobStore partitionFor(JobKey jobKey) {
+        if (jobKey == null || partitions.length == 1) {
+            return partitions[0];
+        }
+        return partitions[(jobKey.hashCode() & 0x7fffffff) % partitions.length];
+    }
+
+    /**
+     * The partition currently holding the given trigger, or <code>null</code>
+     * if no partition does.
+     */
+    RAMJobStore partitionHolding(TriggerKey triggerKey) {
+        for (RAMJobStore partition : partitions) {
+            if (partition.triggersByKey.containsKey(triggerKey)) {
+                return partition;
+            }
+        }
+        return null;
+    }
+
+    public void storeJobAndTrigger(JobDetail newJob, OperableTrigger newTrigger)
+        throws JobPersistenceException {
+        synchronized (adminLock) {
+            storeJob(newJob, false);
+            storeTrigger(newTrigger, false);
+        }
+    }
+
+    public void storeJob(JobDetail newJob, boolean replaceExisting)
+        throws ObjectAlreadyExistsException {
+        partitionFor(newJob.getKey()).storeJob(newJob, replaceExisting);
+    }
+
+    public void storeJobsAndTriggers(
+            Map<JobDetail, Set<? extends Trigger>> triggersAndJobs, boolean replace)
+            throws JobPersistenceException {
+
+        synchronized (adminLock) {
+            // make sure there are no collisions...
+            if(!replace) {
+                for(Entry<JobDetail, Set<? extends Trigger>> e: triggersAndJobs.entrySet()) {
+                    if(checkExists(e.getKey().getKey()))
+                        throw new ObjectAlreadyExistsException(e.getKey());
+                    for(Trigger trigger: e.getValue()) {
+                        if(checkExists(trigger.getKey()))
+                            throw new ObjectAlreadyExistsException(trigger);
+                    }
+                }
+            }
+            // do bulk add, one partition at a time, when no trigger has to be moved...
+            Map<RAMJobStore, Map<JobDetail, Set<? extends Trigger>>> byPartition = replace ? null : new HashMap<>();
+            Set<TriggerKey> triggerKeys = new HashSet<>();
+            for(Entry<JobDetail, Set<? extends Trigger>> e: triggersAndJobs.entrySet()) {
+                if (byPartition == null) {
+                    break;
+                }
+                for(Trigger trigger: e.getValue()) {
+                    if(!e.getKey().getKey().equals(trigger.getJobKey()) || !triggerKeys.add(trigger.getKey())) {
+                        byPartition = null;
+                        break;
+                    }
+                }
+                if (byPartition != null) {
+                    byPartition.computeIfAbsent(partitionFor(e.getKey().getKey()), p -> new LinkedHashMap<>())
+                            .put(e.getKey(), e.getValue());
+                }
+            }
+            if (byPartition != null) {
+                for (Entry<RAMJobStore, Map<JobDetail, Set<? extends Trigger>>> e : byPartition.entrySet()) {
+                    e.getKey().storeJobsAndTriggers(e.getValue(), false);
+                }
+                return;
+            }
+            for(Entry<JobDetail, Set<? extends Trigger>> e: triggersAndJobs.entrySet()) {
+                storeJob(e.getKey(), true);
+                for(Trigger trigger: e.getValue()) {
+                    storeTrigger((OperableTrigger) trigger, true);
+                }
+            }
+        }
+    }
+
+    public boolean removeJob(JobKey jobKey) {
+        return partitionFor(jobKey).removeJob(jobKey);
+    }
+
+    public boolean removeJobs(List<JobKey> jobKeys)
+            throws JobPersistenceException {
+        boolean allFound = true;
+
+        synchronized (adminLock) {
+            for(JobKey key: jobKeys)
+                allFound = removeJob(key) && allFound;
+        }
+
+        return allFound;
+    }
+
+    public JobDetail retrieveJob(JobKey jobKey) {
+        return partitionFor(jobKey).retrieveJob(jobKey);
+    }
+
+    /**
+     * <p>
+     * Store the given <code>{@link org.quartz.Trigger}</code> in the partition
+     * of its job. Trigger keys stay unique across partitions: a trigger that
+     * is re-stored for a job living in another partition is moved there.
+     * </p>
+     */
+    public void storeTrigger(OperableTrigger newTrigger, boolean replaceExisting)
+        throws JobPersistenceException {
+
+        RAMJobStore target = partitionFor(newTrigger.getJobKey());
+
+        synchronized (adminLock) {
+            RAMJobStore current = partitionHolding(newTrigger.getKey());
+            if (current != null && current != target) {
+                if (!replaceExisting) {
+                    throw new ObjectAlreadyExistsException(newTrigger);
+                }
+                // the job must exist before the old trigger goes away
+                if (!target.checkExists(newTrigger.getJobKey())) {
+                    throw new JobPersistenceException("The job ("
+                            + newTrigger.getJobKey()
+                            + ") referenced by the trigger does not exist.");
+                }
+                current.removeTrigger(newTrigger.getKey(), false);
+            }
+            target.storeTrigger(newTrigger, replaceExisting);
+        }
+    }
+
+    public boolean removeTrigger(TriggerKey triggerKey) {
+        synchronized (adminLock) {
+            RAMJobStore partition = partitionHolding(triggerKey);
+            return partition != null && partition.removeTrigger(triggerKey);
+        }
+    }
+
+    public boolean removeTriggers(List<TriggerKey> triggerKeys)
+            throws JobPersistenceException {
+        boolean allFound = true;
+
+        synchronized (adminLock) {
+            for(TriggerKey key: triggerKeys)
+                allFound = removeTrigger(key) && allFound;
+        }
+
+        return allFound;
+    }
+
+    public boolean replaceTrigger(TriggerKey triggerKey, OperableTrigger newTrigger)
+        throws JobPersistenceException {
+        synchronized (adminLock) {
+            RAMJobStore partition = partitionHolding(triggerKey);
+            return partition != null && partition.replaceTrigger(triggerKey, newTrigger);
+        }
+    }
+
+    public OperableTrigger retrieveTrigger(TriggerKey triggerKey) {
+        RAMJobStore partition = partitionHolding(triggerKey);
+        return partition == null ? null : partition.retrieveTrigger(triggerKey);
+    }
+
+    public boolean checkExists(JobKey jobKey) throws JobPersistenceException {
+        return partitionFor(jobKey).checkExists(jobKey);
+    }
+
+    public boolean checkExists(TriggerKey triggerKey) {
+        return partitionHolding(triggerKey) != null;
+    }
+
+    public void clearAllSchedulingData() throws JobPersistenceException {
+        synchronized (adminLock) {
+            for (RAMJobStore partition : partitions) {
+                partition.clearAllSchedulingData();
+            }
+        }
+    }
+
+    public void storeCalendar(String name,
+            Calendar calendar, boolean replaceExisting, boolean updateTriggers)
+        throws ObjectAlreadyExistsException {
+        synchronized (adminLock) {
+            if (!replaceExisting && partitions[0].retrieveCalendar(name) != null) {
+                throw new ObjectAlreadyExistsException(
+                    "Calendar with name '" + name + "' already exists.");
+            }
+            for (RAMJobStore partition : partitions) {
+                partition.storeCalendar(name, calendar, true, updateTriggers);
+            }
+        }
+    }
+
+    public boolean removeCalendar(String calName)
+        throws JobPersistenceException {
+        synchronized (adminLock) {
+            for (RAMJobStore partition : partitions) {
+                if (!partition.getTriggerWrappersForCalendar(calName).isEmpty()) {
+                    throw new JobPersistenceException(
+                            "Calender cannot be removed if it referenced by a Trigger!");
+                }
+            }
+            boolean found = false;
+            for (RAMJobStore partition : partitions) {
+                found = partition.removeCalendar(calName) || found;
+            }
+            return found;
+        }
+    }
+
+    public Calendar retrieveCalendar(String calName) {
+        return partitions[0].retrieveCalendar(calName);
+    }
+
+    public int getNumberOfJobs() {
+        int count = 0;
+        for (RAMJobStore partition : partitions) {
+            count += partition.getNumberOfJobs();
+        }
+        return count;
+    }
+
+    public int getNumberOfTriggers() {
+        int count = 0;
+        for (RAMJobStore partition : partitions) {
+            count += partition.getNumberOfTriggers();
+        }
+        return count;
+    }
+
+    public int getNumberOfCalendars() {
+        return partitions[0].getNumberOfCalendars();
+    }
+
+    public Set<JobKey> getJobKeys(GroupMatcher<JobKey> matcher) {
+        Set<JobKey> keys = new HashSet<>();
+        for (RAMJobStore partition : partitions) {
+            keys.addAll(partition.getJobKeys(matcher));
+        }
+        return keys;
+    }
+
+    public Set<TriggerKey> getTriggerKeys(GroupMatcher<TriggerKey> matcher) {
+        Set<TriggerKey> keys = new HashSet<>();
+        for (RAMJobStore partition : partitions) {
+            keys.addAll(partition.getTriggerKeys(matcher));
+        }
+        return keys;
+    }
+
+    public List<String> getJobGroupNames() {
+        Set<String> names = new LinkedHashSet<>();
+        for (RAMJobStore partition : partitions) {
+            names.addAll(partition.getJobGroupNames());
+        }
+        return new ArrayList<>(names);
+    }
+
+    public List<String> getTriggerGroupNames() {
+        Set<String> names = new LinkedHashSet<>();
+        for (RAMJobStore partition : partitions) {
+            names.addAll(partition.getTriggerGroupNames());
+        }
+        return new ArrayList<>(names);
+    }
+
+    public List<String> getCalendarNames() {
+        return partitions[0].getCalendarNames();
+    }
+
+    public List<OperableTrigger> getTriggersForJob(JobKey jobKey) {
+        return partitionFor(jobKey).getTriggersForJob(jobKey);
+    }
+
+    public TriggerState getTriggerState(TriggerKey triggerKey) throws JobPersistenceException {
+        RAMJobStore partition = partitionHolding(triggerKey);
+        return partition == null ? TriggerState.NONE : partition.getTriggerState(triggerKey);
+    }
+
+    public void resetTriggerFromErrorState(TriggerKey triggerKey) throws JobPersistenceException {
+        RAMJobStore partition = partitionHolding(triggerKey);
+        if (partition != null) {
+            partition.resetTriggerFromErrorState(triggerKey);
+        }
+    }
+
+    public void pauseTrigger(TriggerKey triggerKey) {
+        RAMJobStore partition = partitionHolding(triggerKey);
+        if (partition != null) {
+            partition.pauseTrigger(triggerKey);
+        }
+    }
+
+    /**
+     * <p>
+     * Pause the trigger groups matched in any partition in every partition,
+     * so that triggers stored into them later are paused whichever partition
+     * their job belongs to.
+     * </p>
+     */
+    public List<String> pauseTriggers(GroupMatcher<TriggerKey> matcher) {
+        Set<String> groups = new LinkedHashSet<>();
+        synchronized (adminLock) {
+            for (String group : matchingGroups(matcher, true)) {
+                GroupMatcher<TriggerKey> groupMatcher = GroupMatcher.triggerGroupEquals(group);
+                for (RAMJobStore partition : partitions) {
+                    groups.addAll(partition.pauseTriggers(groupMatcher));
+                }
+            }
+        }
+        return new ArrayList<>(groups);
+    }
+
+    public void pauseJob(JobKey jobKey) {
+        partitionFor(jobKey).pauseJob(jobKey);
+    }
+
+    /**
+     * <p>
+     * Pause the job groups matched in any partition in every partition, as
+     * <code>pauseTriggers</code> does for trigger groups.
+     * </p>
+     */
+    public List<String> pauseJobs(GroupMatcher<JobKey> matcher) {
+        Set<String> groups = new LinkedHashSet<>();
+        synchronized (adminLock) {
+            for (String group : matchingGroups(matcher, false)) {
+                GroupMatcher<JobKey> groupMatcher = GroupMatcher.jobGroupEquals(group);
+                for (RAMJobStore partition : partitions) {
+                    groups.addAll(partition.pauseJobs(groupMatcher));
+                }
+            }
+        }
+        return new ArrayList<>(groups);
+    }
+
+    private Set<String> matchingGroups(GroupMatcher<?> matcher, boolean triggerGroups) {
+        Set<String> groups = new LinkedHashSet<>();
+        if (matcher.getCompareWithOperator() == StringMatcher.StringOperatorName.EQUALS) {
+            groups.add(matcher.getCompareToValue());
+            return groups;
+        }
+        for (RAMJobStore partition : partitions) {
+            GroupIndex index = triggerGroups ? partition.triggerGroupIndex : partition.jobGroupIndex;
+            groups.addAll(index.matching(matcher.getCompareWithOperator(), matcher.getCompareToValue()));
+        }
+        return groups;
+    }
+
+    public void resumeTrigger(TriggerKey triggerKey) {
+        RAMJobStore partition = partitionHolding(triggerKey);
+        if (partition != null) {
+            partition.resumeTrigger(triggerKey);
+        }
+    }
+
+    public List<String> resumeTriggers(GroupMatcher<TriggerKey> matcher) {
+        Set<String> groups = new LinkedHashSet<>();
+        synchronized (adminLock) {
+            for (RAMJobStore partition : partitions) {
+                groups.addAll(partition.resumeTriggers(matcher));
+            }
+        }
+        return new ArrayList<>(groups);
+    }
+
+    public void resumeJob(JobKey jobKey) {
+        partitionFor(jobKey).resumeJob(jobKey);
+    }
+
+    public Collection<String> resumeJobs(GroupMatcher<JobKey> matcher) {
+        Set<String> groups = new LinkedHashSet<>();
+        synchronized (adminLock) {
+            for (RAMJobStore partition : partitions) {
+                groups.addAll(partition.resumeJobs(matcher));
+            }
+        }
+        return new ArrayList<>(groups);
+    }
+
+    public Set<String> getPausedTriggerGroups() throws JobPersistenceException {
+        Set<String> groups = new HashSet<>();
+        for (RAMJobStore partition : partitions) {
+            groups.addAll(partition.getPausedTriggerGroups());
+        }
+        return groups;
+    }
+
+    public void pauseAll() {
+        synchronized (adminLock) {
+            for (RAMJobStore partition : partitions) {
+                partition.pauseAll();
+            }
+        }
+    }
+
+    public void resumeAll() {
+        synchronized (adminLock) {
+            for (RAMJobStore partition : partitions) {
+                partition.resumeAll();
+            }
+        }
+    }
+
+    /**
+     * <p>
+     * Acquire the next triggers from all partitions concurrently and merge
+     * them in fire time order. Triggers beyond <code>maxCount</code>, or
+     * later than the batch window opened by the earliest acquired trigger,
+     * are released back to their partitions.
+     * </p>
+     */
+    public List<OperableTrigger> acquireNextTriggers(long noLaterThan, int maxCount, long timeWindow)
+        throws JobPersistenceException {
+
+        if (partitions.length == 1) {
+            return partitions[0].acquireNextTriggers(noLaterThan, maxCount, timeWindow);
+        }
+
+        List<Future<List<OperableTrigger>>> pending = new ArrayList<>(partitions.length - 1);
+        for (int i = 1; i < partitions.length; i++) {
+            RAMJobStore partition = partitions[i];
+            pending.add(acquisitionExecutor.submit(
+                    () -> partition.acquireNextTriggers(noLaterThan, maxCount, timeWindow)));
+        }
+
+        List<OperableTrigger> acquired = new ArrayList<>();
+        acquired.addAll(partitions[0].acquireNextTriggers(noLaterThan, maxCount, timeWindow));
+        JobPersistenceException failure = null;
+        boolean interrupted = false;
+        for (Future<List<OperableTrigger>> future : pending) {
+            // always wait for every partition, so nothing stays acquired behind our back
+            while (true) {
+                try {
+                    acquired.addAll(future.get());
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                } catch (ExecutionException e) {
+                    if (failure == null) {
+                        failure = e.getCause() instanceof JobPersistenceException
+                                ? (JobPersistenceException) e.getCause()
+                                : new JobPersistenceException("Couldn't acquire next trigger: " + e.getCause(), e.getCause());
+                    }
+                    break;
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+
+        if (failure != null) {
+            for (OperableTrigger trigger : acquired) {
+                releaseAcquiredTrigger(trigger);
+            }
+            throw failure;
+        }
+        if (acquired.isEmpty()) {
+            return acquired;
+        }
+
+        acquired.sort(new TriggerTimeComparator());
+
+        long batchEnd = Math.max(acquired.get(0).getNextFireTime().getTime(), System.currentTimeMillis()) + timeWindow;
+        List<OperableTrigger> result = new ArrayList<>(Math.min(maxCount, acquired.size()));
+        for (OperableTrigger trigger : acquired) {
+            if (result.size() < maxCount && trigger.getNextFireTime().getTime() <= batchEnd) {
+                result.add(trigger);
+            } else {
+                releaseAcquiredTrigger(trigger);
+            }
+        }
+        return result;
+    }
+
+    public void releaseAcquiredTrigger(OperableTrigger trigger) {
+        partitionFor(trigger.getJobKey()).releaseAcquiredTrigger(trigger);
+    }
+
+    /**
+     * <p>
+     * Inform the partitions owning the given triggers that they are about to
+     * be fired. Results are returned in the order of the given triggers.
+     * </p>
+     */
+    public List<TriggerFiredResult> triggersFired(List<OperableTrigger> firedTriggers)
+        throws JobPersistenceException {
+
+        if (partitions.length == 1) {
+            return partitions[0].triggersFired(firedTriggers);
+        }
+
+        Map<RAMJobStore, List<OperableTrigger>> byPartition = new HashMap<>();
+        for (OperableTrigger trigger : firedTriggers) {
+            byPartition.computeIfAbsent(partitionFor(trigger.getJobKey()), p -> new ArrayList<>()).add(trigger);
+        }
+        if (byPartition.size() == 1) {
+            Entry<RAMJobStore, List<OperableTrigger>> only = byPartition.entrySet().iterator().next();
+            return only.getKey().triggersFired(only.getValue());
+        }
+
+        Map<TriggerKey, TriggerFiredResult> fired = new HashMap<>();
+        for (Entry<RAMJobStore, List<OperableTrigger>> e : byPartition.entrySet()) {
+            for (TriggerFiredResult result : e.getKey().triggersFired(e.getValue())) {
+                fired.put(result.getTriggerFiredBundle().getTrigger().getKey(), result);
+            }
+        }
+
+        List<TriggerFiredResult> results = new ArrayList<>(fired.size());
+        for (OperableTrigger trigger : firedTriggers) {
+            TriggerFiredResult result = fired.get(trigger.getKey());
+            if (result != null) {
+                results.add(result);
+            }
+        }
+        return results;
+    }
+
+    public void triggeredJobComplete(OperableTrigger trigger,
+            JobDetail jobDetail, CompletedExecutionInstruction triggerInstCode) {
+        partitionFor(jobDetail.getKey()).triggeredJobComplete(trigger, jobDetail, triggerInstCode);
+    }
+
+    public void setInstanceId(String schedInstId) {
+        this.instanceId = schedInstId;
+    }
+
+    public void setInstanceName(String schedName) {
+        this.instanceName = schedName;
+    }
+
+    public void setThreadPoolSize(final int poolSize) {
+        //
+    }
+
+    public long getAcquireRetryDelay(int failureCount) {
+        return 20;
+    }
+
+}
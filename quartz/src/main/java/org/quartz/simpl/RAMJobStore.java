@@ -18,10 +18,11 @@
 
 package org.quartz.simpl;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.Comparator;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -29,9 +30,11 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.TreeSet;
 import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
 
 import org.quartz.Calendar;
 import org.quartz.Job;
@@ -42,9 +45,10 @@ import org.quartz.JobPersistenceException;
 import org.quartz.ObjectAlreadyExistsException;
 import org.quartz.Trigger;
 import org.quartz.TriggerKey;
+import org.quartz.impl.JobDetailImpl;
+import org.quartz.impl.triggers.AbstractTrigger;
 import org.quartz.Trigger.CompletedExecutionInstruction;
 import org.quartz.Trigger.TriggerState;
-import org.quartz.Trigger.TriggerTimeComparator;
 import org.quartz.impl.matchers.GroupMatcher;
 import org.quartz.impl.matchers.StringMatcher;
 import org.quartz.spi.ClassLoadHelper;
@@ -68,6 +72,24 @@ import org.slf4j.LoggerFactory;
  * should not be used if true persistence between program shutdowns is
  * required.
  * </p>
+ *
+ * <p>
+ * All mutating operations are serialized on a single monitor, but the key
+ * and group indexes are concurrent maps, so read-only operations such as
+ * {@link #retrieveJob(JobKey)}, {@link #getTriggerState(TriggerKey)} or
+ * {@link #getJobKeys(GroupMatcher)} do not take that monitor and never
+ * contend with trigger acquisition and firing. The contents of a stored
+ * trigger are guarded by its own wrapper, so a reader always clones a
+ * consistent trigger even while the scheduler thread is updating it.
+ * </p>
+ *
+ * <p>
+ * Once the scheduler has started, misfire instructions are applied by a
+ * dedicated misfire handling thread, in batches of at most
+ * {@link #getMaxMisfiresToHandleAtATime()} triggers, rather than by trigger
+ * acquisition; listeners are told of misfires after the store's monitor has
+ * been released.
+ * </p>
  * 
  * @author James House
  * @author Sharada Jambula
@@ -83,30 +105,79 @@ public class RAMJobStore implements JobStore {
      * ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
      */
 
-    protected final HashMap<JobKey, JobWrapper> jobsByKey = new HashMap<>(1000);
+    protected final ConcurrentHashMap<JobKey, JobWrapper> jobsByKey = new ConcurrentHashMap<>(1000);
 
-    protected final HashMap<TriggerKey, TriggerWrapper> triggersByKey = new HashMap<>(1000);
+    protected final ConcurrentHashMap<TriggerKey, TriggerWrapper> triggersByKey = new ConcurrentHashMap<>(1000);
 
-    protected final HashMap<String, HashMap<JobKey, JobWrapper>> jobsByGroup = new HashMap<>(25);
+    protected final ConcurrentHashMap<String, ConcurrentHashMap<JobKey, JobWrapper>> jobsByGroup = new ConcurrentHashMap<>(25);
 
-    protected final HashMap<String, HashMap<TriggerKey, TriggerWrapper>> triggersByGroup = new HashMap<>(25);
+    protected final ConcurrentHashMap<String, ConcurrentHashMap<TriggerKey, TriggerWrapper>> triggersByGroup = new ConcurrentHashMap<>(25);
 
-    protected final TreeSet<TriggerWrapper> timeTriggers = new TreeSet<>(new TriggerWrapperComparator());
+    /**
+     * Sorted indexes of the keys of {@link #jobsByGroup} and
+     * {@link #triggersByGroup}, for matching groups by prefix or suffix.
+     */
+    final GroupIndex jobGroupIndex = new GroupIndex();
 
-    protected final HashMap<String, Calendar> calendarsByName = new HashMap<>(25);
+    final GroupIndex triggerGroupIndex = new GroupIndex();
 
-    protected final Map<JobKey, List<TriggerWrapper>> triggersByJob = new HashMap<>(1000);
+    /**
+     * Only ever read or modified while holding {@link #lock}.
+     */
+    protected TimeTriggerIndex timeTriggers = new TreeSetTimeTriggerIndex();
+
+    protected final ConcurrentHashMap<String, Calendar> calendarsByName = new ConcurrentHashMap<>(25);
+
+    /**
+     * The per-job lists are mutable and only ever read or modified while
+     * holding {@link #lock}.
+     */
+    protected final ConcurrentHashMap<JobKey, List<TriggerWrapper>> triggersByJob = new ConcurrentHashMap<>(1000);
 
+    /**
+     * Serializes all modifications of the store. Read-only operations do not
+     * acquire it.
+     */
     protected final Object lock = new Object();
 
-    protected final HashSet<String> pausedTriggerGroups = new HashSet<>();
+    protected final Set<String> pausedTriggerGroups = ConcurrentHashMap.newKeySet();
+
+    protected final Set<String> pausedJobGroups = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Jobs with <code>@DisallowConcurrentExecution</code> that are currently
+     * executing. This is a job-level gate: the triggers of a blocked job stay
+     * in their normal state and in {@link #timeTriggers}, and are only moved
+     * to {@link #parkedTriggers} when acquisition reaches them, so blocking
+     * and unblocking a job does not depend on how many triggers it has.
+     */
+    protected final Set<JobKey> blockedJobs = ConcurrentHashMap.newKeySet();
 
-    protected final HashSet<String> pausedJobGroups = new HashSet<>();
+    /**
+     * Triggers that came up for acquisition while their job was blocked, to
+     * be put back into {@link #timeTriggers} when the job completes. Only
+     * ever read or modified while holding {@link #lock}.
+     */
+    protected final Map<JobKey, List<TriggerWrapper>> parkedTriggers = new HashMap<>();
 
-    protected final HashSet<JobKey> blockedJobs = new HashSet<>();
+    /**
+     * Misfired triggers that acquisition set aside for the
+     * {@link MisfireHandler}. Like parked triggers they keep their state but
+     * are not in {@link #timeTriggers}. Only ever read or modified while
+     * holding {@link #lock}.
+     */
+    protected final ArrayDeque<TriggerWrapper> misfiredTriggers = new ArrayDeque<>();
     
     protected long misfireThreshold = 5000L;
 
+    protected int maxToRecoverAtATime = 20;
+
+    private volatile MisfireHandler misfireHandler = null;
+
+    private String instanceId;
+
+    private String instanceName;
+
     protected SchedulerSignaler signaler;
 
     private final Logger log = LoggerFactory.getLogger(getClass());
@@ -153,7 +224,12 @@ public class RAMJobStore implements JobStore {
     }
 
     public void schedulerStarted() {
-        // nothing to do
+        synchronized (lock) {
+            if (misfireHandler == null) {
+                misfireHandler = new MisfireHandler();
+                misfireHandler.start();
+            }
+        }
     }
 
     public void schedulerPaused() {
@@ -183,6 +259,64 @@ public class RAMJobStore implements JobStore {
         this.misfireThreshold = misfireThreshold;
     }
 
+    /**
+     * <p>
+     * Get the maximum number of misfired triggers that the misfire handling
+     * thread will try to recover at one time (while holding the store's
+     * lock). The default is 20.
+     * </p>
+     */
+    public int getMaxMisfiresToHandleAtATime() {
+        return maxToRecoverAtATime;
+    }
+
+    /**
+     * <p>
+     * Set the maximum number of misfired triggers that the misfire handling
+     * thread will try to recover at one time (while holding the store's
+     * lock). The default is 20.
+     * </p>
+     */
+    @SuppressWarnings("UnusedDeclaration") /* called reflectively */
+    public void setMaxMisfiresToHandleAtATime(int maxToRecoverAtATime) {
+        if (maxToRecoverAtATime < 1) {
+            throw new IllegalArgumentException("Max misfires to handle at a time must be larger than 0");
+        }
+        this.maxToRecoverAtATime = maxToRecoverAtATime;
+    }
+
+    public boolean isUseTimingWheel() {
+        synchronized (lock) {
+            return timeTriggers instanceof TimingWheelTimeTriggerIndex;
+        }
+    }
+
+    /**
+     * Whether to order the waiting triggers in a hierarchical timing wheel
+     * rather than a sorted tree. The timing wheel inserts and removes triggers
+     * in constant time, which pays off when holding a very large number of
+     * triggers. Triggers are acquired in the same order either way.
+     *
+     * <p>
+     * Can only be changed while the store holds no waiting triggers.
+     * </p>
+     *
+     * @param useTimingWheel <code>true</code> to use a timing wheel,
+     *        <code>false</code> (the default) for a sorted tree
+     */
+    @SuppressWarnings("UnusedDeclaration")
+    public void setUseTimingWheel(boolean useTimingWheel) {
+        synchronized (lock) {
+            if (useTimingWheel == isUseTimingWheel()) {
+                return;
+            }
+            if (!timeTriggers.isEmpty()) {
+                throw new IllegalStateException("The trigger index cannot be changed once triggers are stored");
+            }
+            timeTriggers = useTimingWheel ? new TimingWheelTimeTriggerIndex() : new TreeSetTimeTriggerIndex();
+        }
+    }
+
     /**
      * <p>
      * Called by the QuartzScheduler to inform the <code>JobStore</code> that
@@ -191,6 +325,15 @@ public class RAMJobStore implements JobStore {
      * </p>
      */
     public void shutdown() {
+        MisfireHandler handler = misfireHandler;
+        if (handler != null) {
+            handler.shutdown();
+            try {
+                handler.join();
+            } catch (InterruptedException ignore) {
+                Thread.currentThread().interrupt();
+            }
+        }
     }
 
     public boolean supportsPersistence() {
@@ -266,7 +409,7 @@ public class RAMJobStore implements JobStore {
      */
     public void storeJob(JobDetail newJob,
             boolean replaceExisting) throws ObjectAlreadyExistsException {
-        JobWrapper jw = new JobWrapper((JobDetail)newJob.clone());
+        JobWrapper jw = new JobWrapper(compact((JobDetail)newJob.clone()));
 
         boolean repl = false;
 
@@ -280,10 +423,10 @@ public class RAMJobStore implements JobStore {
 
             if (!repl) {
                 // get job group
-                HashMap<JobKey, JobWrapper> grpMap = jobsByGroup.computeIfAbsent(newJob.getKey().getGroup(), k -> new HashMap<>(100));
+                ConcurrentHashMap<JobKey, JobWrapper> grpMap = jobGroupMap(newJob.getKey().getGroup());
                 // add to jobs by group
                 grpMap.put(newJob.getKey(), jw);
-                // add to jobs by FQN map
+                // add to jobs by FQN map last, so readers never see a half-stored job
                 jobsByKey.put(jw.key, jw);
             } else {
                 // update job detail
@@ -317,11 +460,12 @@ public class RAMJobStore implements JobStore {
             found = (jobsByKey.remove(jobKey) != null) | found;
             if (found) {
 
-                HashMap<JobKey, JobWrapper> grpMap = jobsByGroup.get(jobKey.getGroup());
+                ConcurrentHashMap<JobKey, JobWrapper> grpMap = jobsByGroup.get(jobKey.getGroup());
                 if (grpMap != null) {
                     grpMap.remove(jobKey);
                     if (grpMap.isEmpty()) {
                         jobsByGroup.remove(jobKey.getGroup());
+                        jobGroupIndex.remove(jobKey.getGroup());
                     }
                 }
             }
@@ -360,27 +504,156 @@ public class RAMJobStore implements JobStore {
 
         synchronized (lock) {
             // make sure there are no collisions...
-            if(!replace) {
-                for(Entry<JobDetail, Set<? extends Trigger>> e: triggersAndJobs.entrySet()) {
-                    if(checkExists(e.getKey().getKey()))
+            boolean collisions = false;
+            int triggerCount = 0;
+            for(Entry<JobDetail, Set<? extends Trigger>> e: triggersAndJobs.entrySet()) {
+                if(jobsByKey.containsKey(e.getKey().getKey())) {
+                    if(!replace)
                         throw new ObjectAlreadyExistsException(e.getKey());
-                    for(Trigger trigger: e.getValue()) {
-                        if(checkExists(trigger.getKey()))
+                    collisions = true;
+                }
+                for(Trigger trigger: e.getValue()) {
+                    if(triggersByKey.containsKey(trigger.getKey())) {
+                        if(!replace)
                             throw new ObjectAlreadyExistsException(trigger);
+                        collisions = true;
                     }
+                    triggerCount++;
                 }
             }
-            // do bulk add...
-            for(Entry<JobDetail, Set<? extends Trigger>> e: triggersAndJobs.entrySet()) {
-                storeJob(e.getKey(), true);
-                for(Trigger trigger: e.getValue()) {
-                    storeTrigger((OperableTrigger) trigger, true);
+
+            if(collisions || !storeNewJobsAndTriggers(triggersAndJobs, triggerCount)) {
+                // replace existing entries one by one...
+                for(Entry<JobDetail, Set<? extends Trigger>> e: triggersAndJobs.entrySet()) {
+                    storeJob(e.getKey(), true);
+                    for(Trigger trigger: e.getValue()) {
+                        storeTrigger((OperableTrigger) trigger, true);
+                    }
                 }
             }
         }
         
     }
 
+    /**
+     * Bulk-load jobs and triggers none of which are stored yet. Everything is
+     * validated before anything is stored, the key maps grow once to their
+     * new size, each job gets its triggers at once rather than one copy of its
+     * trigger list per trigger, and the waiting triggers enter the time index
+     * in one go.
+     *
+     * @return <code>false</code>, having stored nothing, if a trigger is given
+     *         more than once
+     */
+    private boolean storeNewJobsAndTriggers(
+            Map<JobDetail, Set<? extends Trigger>> triggersAndJobs, int triggerCount)
+            throws JobPersistenceException {
+
+        Map<JobKey, JobWrapper> newJobs = new HashMap<>(capacityFor(triggersAndJobs.size()));
+        JobWrapper[] jobs = new JobWrapper[triggersAndJobs.size()];
+        int j = 0;
+        for (JobDetail job : triggersAndJobs.keySet()) {
+            JobWrapper jw = new JobWrapper(compact((JobDetail) job.clone()));
+            newJobs.put(jw.key, jw);
+            jobs[j++] = jw;
+        }
+
+        Map<TriggerKey, TriggerWrapper> newTriggers = new HashMap<>(capacityFor(triggerCount));
+        TriggerWrapper[] triggers = new TriggerWrapper[triggerCount];
+        int t = 0;
+        j = 0;
+        for (Set<? extends Trigger> triggersOfEntry : triggersAndJobs.values()) {
+            JobWrapper jobOfEntry = jobs[j++];
+            for (Trigger newTrigger : triggersOfEntry) {
+                OperableTrigger trigger = (OperableTrigger) ((OperableTrigger) newTrigger).clone();
+                JobKey jobKey = trigger.getJobKey();
+                JobWrapper jw = jobOfEntry;
+                if (!jw.key.equals(jobKey)) {
+                    jw = jobKey == null ? null : newJobs.get(jobKey);
+                    if (jw == null && jobKey != null) {
+                        jw = jobsByKey.get(jobKey);
+                    }
+                    if (jw == null) {
+                        throw new JobPersistenceException("The job ("
+                                + jobKey
+                                + ") referenced by the trigger does not exist.");
+                    }
+                }
+                TriggerWrapper tw = new TriggerWrapper(compact(trigger, jw.key), jw.key);
+                if (newTriggers.put(tw.key, tw) != null) {
+                    return false;
+                }
+                triggers[t++] = tw;
+            }
+        }
+
+        String group = null;
+        ConcurrentHashMap<JobKey, JobWrapper> jobGroup = null;
+        for (JobWrapper jw : jobs) {
+            if (!jw.key.getGroup().equals(group)) {
+                group = jw.key.getGroup();
+                jobGroup = jobGroupMap(group);
+            }
+            jobGroup.put(jw.key, jw);
+        }
+        // add to jobs by FQN map last, so readers never see a half-stored job
+        jobsByKey.putAll(newJobs);
+
+        List<TriggerWrapper> waiting = new ArrayList<>(triggerCount);
+        group = null;
+        ConcurrentHashMap<TriggerKey, TriggerWrapper> triggerGroup = null;
+        for (int i = 0; i < t; ) {
+            // the triggers of a job are next to each other, store them together
+            int end = i + 1;
+            while (end < t && triggers[end].jobKey.equals(triggers[i].jobKey)) {
+                end++;
+            }
+            List<TriggerWrapper> ofJob = triggersByJob.get(triggers[i].jobKey);
+            if (ofJob == null) {
+                triggersByJob.put(triggers[i].jobKey, new ArrayList<>(Arrays.asList(triggers).subList(i, end)));
+            } else {
+                ofJob.addAll(Arrays.asList(triggers).subList(i, end));
+            }
+
+            for (; i < end; i++) {
+                TriggerWrapper tw = triggers[i];
+                if (!tw.key.getGroup().equals(group)) {
+                    group = tw.key.getGroup();
+                    triggerGroup = triggerGroupMap(group);
+                }
+                triggerGroup.put(tw.key, tw);
+                if (pausedTriggerGroups.contains(tw.key.getGroup())
+                        || pausedJobGroups.contains(tw.jobKey.getGroup())) {
+                    tw.state = TriggerWrapper.STATE_PAUSED;
+                } else {
+                    waiting.add(tw);
+                }
+            }
+        }
+        timeTriggers.addAll(waiting);
+        // add to triggers by FQN map last, so readers never see a half-stored trigger
+        triggersByKey.putAll(newTriggers);
+        return true;
+    }
+
+    private ConcurrentHashMap<JobKey, JobWrapper> jobGroupMap(String group) {
+        return jobsByGroup.computeIfAbsent(group, k -> {
+            jobGroupIndex.add(k);
+            return new ConcurrentHashMap<>(100);
+        });
+    }
+
+    private ConcurrentHashMap<TriggerKey, TriggerWrapper> triggerGroupMap(String group) {
+        return triggersByGroup.computeIfAbsent(group, k -> {
+            triggerGroupIndex.add(k);
+            return new ConcurrentHashMap<>(100);
+        });
+    }
+
+    private static int capacityFor(int size) {
+        return (int) Math.min(Integer.MAX_VALUE, size / 0.75d + 1);
+    }
+
     /**
      * <p>
      * Store the given <code>{@link org.quartz.Trigger}</code>.
@@ -400,10 +673,10 @@ public class RAMJobStore implements JobStore {
      */
     public void storeTrigger(OperableTrigger newTrigger,
             boolean replaceExisting) throws JobPersistenceException {
-        TriggerWrapper tw = new TriggerWrapper((OperableTrigger)newTrigger.clone());
+        OperableTrigger trigger = (OperableTrigger)newTrigger.clone();
 
         synchronized (lock) {
-            if (triggersByKey.get(tw.key) != null) {
+            if (triggersByKey.get(trigger.getKey()) != null) {
                 if (!replaceExisting) {
                     throw new ObjectAlreadyExistsException(newTrigger);
                 }
@@ -411,33 +684,81 @@ public class RAMJobStore implements JobStore {
                 removeTrigger(newTrigger.getKey(), false);
             }
     
-            if (retrieveJob(newTrigger.getJobKey()) == null) {
+            JobWrapper jw = jobsByKey.get(trigger.getJobKey());
+            if (jw == null) {
                 throw new JobPersistenceException("The job ("
                         + newTrigger.getJobKey()
                         + ") referenced by the trigger does not exist.");
             }
 
+            TriggerWrapper tw = new TriggerWrapper(compact(trigger, jw.key), jw.key);
+
             // add to triggers by job
-            List<TriggerWrapper> jobList = triggersByJob.computeIfAbsent(tw.jobKey, k -> new ArrayList<>(1));
-            jobList.add(tw);
+            addToTriggersByJob(tw);
             
             // add to triggers by group
-            HashMap<TriggerKey, TriggerWrapper> grpMap = triggersByGroup.computeIfAbsent(newTrigger.getKey().getGroup(), k -> new HashMap<>(100));
-            grpMap.put(newTrigger.getKey(), tw);
-            // add to triggers by FQN map
-            triggersByKey.put(tw.key, tw);
+            ConcurrentHashMap<TriggerKey, TriggerWrapper> grpMap = triggerGroupMap(tw.key.getGroup());
+            grpMap.put(tw.key, tw);
 
-            if (pausedTriggerGroups.contains(newTrigger.getKey().getGroup())
-                    || pausedJobGroups.contains(newTrigger.getJobKey().getGroup())) {
+            if (pausedTriggerGroups.contains(tw.key.getGroup())
+                    || pausedJobGroups.contains(tw.jobKey.getGroup())) {
                 tw.state = TriggerWrapper.STATE_PAUSED;
-                if (blockedJobs.contains(tw.jobKey)) {
-                    tw.state = TriggerWrapper.STATE_PAUSED_BLOCKED;
-                }
-            } else if (blockedJobs.contains(tw.jobKey)) {
-                tw.state = TriggerWrapper.STATE_BLOCKED;
             } else {
                 timeTriggers.add(tw);
             }
+
+            // add to triggers by FQN map last, so readers never see a half-stored trigger
+            triggersByKey.put(tw.key, tw);
+        }
+    }
+
+    /**
+     * Slim down the store's own copy of a job: an empty
+     * <code>JobDataMap</code> is dropped (it is re-created on demand), and
+     * the group name is interned, as a great many jobs usually share a few
+     * groups.
+     */
+    private static JobDetail compact(JobDetail job) {
+        if (job instanceof JobDetailImpl) {
+            JobDetailImpl jobImpl = (JobDetailImpl) job;
+            if (jobImpl.getJobDataMap().isEmpty()) {
+                jobImpl.setJobDataMap(null);
+            }
+            jobImpl.setKey(new JobKey(jobImpl.getName(), jobImpl.getGroup().intern()));
+        }
+        return job;
+    }
+
+    /**
+     * Slim down the store's own copy of a trigger: an empty
+     * <code>JobDataMap</code> is dropped (it is re-created on demand), the
+     * group name is interned, and the job identity is shared with the stored
+     * job's key.
+     */
+    private static OperableTrigger compact(OperableTrigger trigger, JobKey jobKey) {
+        if (trigger instanceof AbstractTrigger) {
+            if (trigger.getJobDataMap().isEmpty()) {
+                trigger.setJobDataMap(null);
+            }
+            TriggerKey key = trigger.getKey();
+            trigger.setKey(new TriggerKey(key.getName(), key.getGroup().intern()));
+            trigger.setJobKey(jobKey);
+        }
+        return trigger;
+    }
+
+    /**
+     * Must be called while holding {@link #lock}. Most jobs have a single
+     * trigger, so new lists start out sized for one.
+     */
+    private void addToTriggersByJob(TriggerWrapper tw) {
+        triggersByJob.computeIfAbsent(tw.jobKey, k -> new ArrayList<>(1)).add(tw);
+    }
+
+    private void removeFromTriggersByJob(TriggerWrapper tw) {
+        List<TriggerWrapper> jobList = triggersByJob.get(tw.jobKey);
+        if (jobList != null && jobList.remove(tw) && jobList.isEmpty()) {
+            triggersByJob.remove(tw.jobKey);
         }
     }
 
@@ -454,7 +775,7 @@ public class RAMJobStore implements JobStore {
         return removeTrigger(triggerKey, true);
     }
     
-    private boolean removeTrigger(TriggerKey key, boolean removeOrphanedJob) {
+    boolean removeTrigger(TriggerKey key, boolean removeOrphanedJob) {
 
         boolean found;
 
@@ -464,28 +785,22 @@ public class RAMJobStore implements JobStore {
             found = tw != null;
             if (found) {
                 // remove from triggers by group
-                HashMap<TriggerKey, TriggerWrapper> grpMap = triggersByGroup.get(key.getGroup());
+                ConcurrentHashMap<TriggerKey, TriggerWrapper> grpMap = triggersByGroup.get(key.getGroup());
                 if (grpMap != null) {
                     grpMap.remove(key);
                     if (grpMap.isEmpty()) {
                         triggersByGroup.remove(key.getGroup());
+                        triggerGroupIndex.remove(key.getGroup());
                     }
                 }
                 //remove from triggers by job
-                List<TriggerWrapper> jobList = triggersByJob.get(tw.jobKey);
-                if(jobList != null) {
-                    jobList.remove(tw);
-                    if(jobList.isEmpty()) {
-                        triggersByJob.remove(tw.jobKey);
-                    }
-                }
+                removeFromTriggersByJob(tw);
                
                 timeTriggers.remove(tw);
 
                 if (removeOrphanedJob) {
                     JobWrapper jw = jobsByKey.get(tw.jobKey);
-                    List<OperableTrigger> trigs = getTriggersForJob(tw.jobKey);
-                    if ((trigs == null || trigs.isEmpty()) && !jw.jobDetail.isDurable()) {
+                    if (!triggersByJob.containsKey(tw.jobKey) && !jw.jobDetail.isDurable()) {
                         if (removeJob(jw.key)) {
                             signaler.notifySchedulerListenersJobDeleted(jw.key);
                         }
@@ -517,22 +832,17 @@ public class RAMJobStore implements JobStore {
                 }
 
                 // remove from triggers by group
-                HashMap<TriggerKey, TriggerWrapper> grpMap = triggersByGroup.get(triggerKey.getGroup());
+                ConcurrentHashMap<TriggerKey, TriggerWrapper> grpMap = triggersByGroup.get(triggerKey.getGroup());
                 if (grpMap != null) {
                     grpMap.remove(triggerKey);
                     if (grpMap.isEmpty()) {
                         triggersByGroup.remove(triggerKey.getGroup());
+                        triggerGroupIndex.remove(triggerKey.getGroup());
                     }
                 }
                 
                 //remove from triggers by job
-                List<TriggerWrapper> jobList = triggersByJob.get(tw.jobKey);
-                if(jobList != null) {
-                    jobList.remove(tw);
-                    if(jobList.isEmpty()) {
-                        triggersByJob.remove(tw.jobKey);
-                    }
-                }
+                removeFromTriggersByJob(tw);
                 
                 timeTriggers.remove(tw);
 
@@ -557,10 +867,8 @@ public class RAMJobStore implements JobStore {
      * @return The desired <code>Job</code>, or null if there is no match.
      */
     public JobDetail retrieveJob(JobKey jobKey) {
-        synchronized(lock) {
-            JobWrapper jw = jobsByKey.get(jobKey);
-            return (jw != null) ? (JobDetail)jw.jobDetail.clone() : null;
-        }
+        JobWrapper jw = jobsByKey.get(jobKey);
+        return (jw != null) ? (JobDetail)jw.jobDetail.clone() : null;
     }
 
     /**
@@ -572,11 +880,9 @@ public class RAMJobStore implements JobStore {
      *         match.
      */
     public OperableTrigger retrieveTrigger(TriggerKey triggerKey) {
-        synchronized(lock) {
-            TriggerWrapper tw = triggersByKey.get(triggerKey);
-    
-            return (tw != null) ? (OperableTrigger)tw.getTrigger().clone() : null;
-        }
+        TriggerWrapper tw = triggersByKey.get(triggerKey);
+
+        return (tw != null) ? tw.cloneTrigger() : null;
     }
     
     /**
@@ -588,10 +894,7 @@ public class RAMJobStore implements JobStore {
      * @throws JobPersistenceException
      */
     public boolean checkExists(JobKey jobKey) throws JobPersistenceException {
-        synchronized(lock) {
-            JobWrapper jw = jobsByKey.get(jobKey);
-            return (jw != null);
-        }
+        return jobsByKey.containsKey(jobKey);
     }
     
     /**
@@ -603,11 +906,7 @@ public class RAMJobStore implements JobStore {
      * @throws JobPersistenceException
      */
     public boolean checkExists(TriggerKey triggerKey) throws JobPersistenceException {
-        synchronized(lock) {
-            TriggerWrapper tw = triggersByKey.get(triggerKey);
-    
-            return (tw != null);
-        }
+        return triggersByKey.containsKey(triggerKey);
     }
  
     /**
@@ -623,35 +922,39 @@ public class RAMJobStore implements JobStore {
      * @see TriggerState#NONE
      */
     public TriggerState getTriggerState(TriggerKey triggerKey) throws JobPersistenceException {
-        synchronized(lock) {
-            TriggerWrapper tw = triggersByKey.get(triggerKey);
-            
-            if (tw == null) {
-                return TriggerState.NONE;
-            }
-    
-            if (tw.state == TriggerWrapper.STATE_COMPLETE) {
-                return TriggerState.COMPLETE;
-            }
-    
-            if (tw.state == TriggerWrapper.STATE_PAUSED) {
-                return TriggerState.PAUSED;
-            }
-    
-            if (tw.state == TriggerWrapper.STATE_PAUSED_BLOCKED) {
-                return TriggerState.PAUSED;
-            }
-    
-            if (tw.state == TriggerWrapper.STATE_BLOCKED) {
-                return TriggerState.BLOCKED;
-            }
-    
-            if (tw.state == TriggerWrapper.STATE_ERROR) {
-                return TriggerState.ERROR;
-            }
-    
-            return TriggerState.NORMAL;
+        TriggerWrapper tw = triggersByKey.get(triggerKey);
+
+        if (tw == null) {
+            return TriggerState.NONE;
+        }
+
+        int state = tw.state;
+
+        if (state == TriggerWrapper.STATE_COMPLETE) {
+            return TriggerState.COMPLETE;
+        }
+
+        if (state == TriggerWrapper.STATE_PAUSED) {
+            return TriggerState.PAUSED;
+        }
+
+        if (state == TriggerWrapper.STATE_PAUSED_BLOCKED) {
+            return TriggerState.PAUSED;
+        }
+
+        if (state == TriggerWrapper.STATE_BLOCKED) {
+            return TriggerState.BLOCKED;
         }
+
+        if (state == TriggerWrapper.STATE_ERROR) {
+            return TriggerState.ERROR;
+        }
+
+        if (state == TriggerWrapper.STATE_WAITING && blockedJobs.contains(tw.jobKey)) {
+            return TriggerState.BLOCKED;
+        }
+
+        return TriggerState.NORMAL;
     }
 
     /**
@@ -734,7 +1037,9 @@ public class RAMJobStore implements JobStore {
                     OperableTrigger trig = tw.getTrigger();
                     boolean removed = timeTriggers.remove(tw);
 
-                    trig.updateWithNewCalendar(calendar, getMisfireThreshold());
+                    synchronized (tw) {
+                        trig.updateWithNewCalendar(calendar, getMisfireThreshold());
+                    }
 
                     if (removed) {
                         timeTriggers.add(tw);
@@ -771,14 +1076,14 @@ public class RAMJobStore implements JobStore {
                     numRefs++;
                 }
             }
-        }
 
-        if (numRefs > 0) {
-            throw new JobPersistenceException(
-                    "Calender cannot be removed if it referenced by a Trigger!");
-        }
+            if (numRefs > 0) {
+                throw new JobPersistenceException(
+                        "Calender cannot be removed if it referenced by a Trigger!");
+            }
 
-        return (calendarsByName.remove(calName) != null);
+            return (calendarsByName.remove(calName) != null);
+        }
     }
 
     /**
@@ -792,12 +1097,10 @@ public class RAMJobStore implements JobStore {
      *         match.
      */
     public Calendar retrieveCalendar(String calName) {
-        synchronized (lock) {
-            Calendar cal = calendarsByName.get(calName);
-            if(cal != null)
-                return (Calendar) cal.clone();
-            return null;
-        }
+        Calendar cal = calendarsByName.get(calName);
+        if(cal != null)
+            return (Calendar) cal.clone();
+        return null;
     }
 
     /**
@@ -807,9 +1110,7 @@ public class RAMJobStore implements JobStore {
      * </p>
      */
     public int getNumberOfJobs() {
-        synchronized (lock) {
-            return jobsByKey.size();
-        }
+        return jobsByKey.size();
     }
 
     /**
@@ -819,9 +1120,7 @@ public class RAMJobStore implements JobStore {
      * </p>
      */
     public int getNumberOfTriggers() {
-        synchronized (lock) {
-            return triggersByKey.size();
-        }
+        return triggersByKey.size();
     }
 
     /**
@@ -831,9 +1130,7 @@ public class RAMJobStore implements JobStore {
      * </p>
      */
     public int getNumberOfCalendars() {
-        synchronized (lock) {
-            return calendarsByName.size();
-        }
+        return calendarsByName.size();
     }
 
     /**
@@ -844,40 +1141,38 @@ public class RAMJobStore implements JobStore {
      */
     public Set<JobKey> getJobKeys(GroupMatcher<JobKey> matcher) {
         Set<JobKey> outList = null;
-        synchronized (lock) {
-
-            StringMatcher.StringOperatorName operator = matcher.getCompareWithOperator();
-            String compareToValue = matcher.getCompareToValue();
+        StringMatcher.StringOperatorName operator = matcher.getCompareWithOperator();
+        String compareToValue = matcher.getCompareToValue();
 
-            switch(operator) {
-                case EQUALS:
-                    HashMap<JobKey, JobWrapper> grpMap = jobsByGroup.get(compareToValue);
-                    if (grpMap != null) {
-                        outList = new HashSet<>();
+        switch(operator) {
+            case EQUALS:
+                ConcurrentHashMap<JobKey, JobWrapper> grpMap = jobsByGroup.get(compareToValue);
+                if (grpMap != null) {
+                    outList = new HashSet<>();
 
-                        for (JobWrapper jw : grpMap.values()) {
+                    for (JobWrapper jw : grpMap.values()) {
 
-                            if (jw != null) {
-                                outList.add(jw.jobDetail.getKey());
-                            }
+                        if (jw != null) {
+                            outList.add(jw.jobDetail.getKey());
                         }
                     }
-                    break;
-
-                default:
-                    for (Map.Entry<String, HashMap<JobKey, JobWrapper>> entry : jobsByGroup.entrySet()) {
-                        if(operator.evaluate(entry.getKey(), compareToValue) && entry.getValue() != null) {
-                            if(outList == null) {
-                                outList = new HashSet<>();
-                            }
-                            for (JobWrapper jobWrapper : entry.getValue().values()) {
-                                if(jobWrapper != null) {
-                                    outList.add(jobWrapper.jobDetail.getKey());
-                                }
+                }
+                break;
+
+            default:
+                for (String group : jobGroupIndex.matching(operator, compareToValue)) {
+                    ConcurrentHashMap<JobKey, JobWrapper> groupJobs = jobsByGroup.get(group);
+                    if (groupJobs != null) {
+                        if(outList == null) {
+                            outList = new HashSet<>();
+                        }
+                        for (JobWrapper jobWrapper : groupJobs.values()) {
+                            if(jobWrapper != null) {
+                                outList.add(jobWrapper.jobDetail.getKey());
                             }
                         }
                     }
-            }
+                }
         }
 
         return outList == null ? java.util.Collections.emptySet() : outList;
@@ -895,9 +1190,7 @@ public class RAMJobStore implements JobStore {
      * </p>
      */
     public List<String> getCalendarNames() {
-        synchronized(lock) {
-            return new LinkedList<>(calendarsByName.keySet());
-        }
+        return new LinkedList<>(calendarsByName.keySet());
     }
 
     /**
@@ -908,40 +1201,38 @@ public class RAMJobStore implements JobStore {
      */
     public Set<TriggerKey> getTriggerKeys(GroupMatcher<TriggerKey> matcher) {
         Set<TriggerKey> outList = null;
-        synchronized (lock) {
-
-            StringMatcher.StringOperatorName operator = matcher.getCompareWithOperator();
-            String compareToValue = matcher.getCompareToValue();
+        StringMatcher.StringOperatorName operator = matcher.getCompareWithOperator();
+        String compareToValue = matcher.getCompareToValue();
 
-            switch(operator) {
-                case EQUALS:
-                    HashMap<TriggerKey, TriggerWrapper> grpMap = triggersByGroup.get(compareToValue);
-                    if (grpMap != null) {
-                        outList = new HashSet<>();
+        switch(operator) {
+            case EQUALS:
+                ConcurrentHashMap<TriggerKey, TriggerWrapper> grpMap = triggersByGroup.get(compareToValue);
+                if (grpMap != null) {
+                    outList = new HashSet<>();
 
-                        for (TriggerWrapper tw : grpMap.values()) {
+                    for (TriggerWrapper tw : grpMap.values()) {
 
-                            if (tw != null) {
-                                outList.add(tw.trigger.getKey());
-                            }
+                        if (tw != null) {
+                            outList.add(tw.trigger.getKey());
                         }
                     }
-                    break;
-
-                default:
-                    for (Map.Entry<String, HashMap<TriggerKey, TriggerWrapper>> entry : triggersByGroup.entrySet()) {
-                        if(operator.evaluate(entry.getKey(), compareToValue) && entry.getValue() != null) {
-                            if(outList == null) {
-                                outList = new HashSet<>();
-                            }
-                            for (TriggerWrapper triggerWrapper : entry.getValue().values()) {
-                                if(triggerWrapper != null) {
-                                    outList.add(triggerWrapper.trigger.getKey());
-                                }
+                }
+                break;
+
+            default:
+                for (String group : triggerGroupIndex.matching(operator, compareToValue)) {
+                    ConcurrentHashMap<TriggerKey, TriggerWrapper> groupTriggers = triggersByGroup.get(group);
+                    if (groupTriggers != null) {
+                        if(outList == null) {
+                            outList = new HashSet<>();
+                        }
+                        for (TriggerWrapper triggerWrapper : groupTriggers.values()) {
+                            if(triggerWrapper != null) {
+                                outList.add(triggerWrapper.key);
                             }
                         }
                     }
-            }
+                }
         }
 
         return outList == null ? Collections.emptySet() : outList;
@@ -956,9 +1247,7 @@ public class RAMJobStore implements JobStore {
     public List<String> getJobGroupNames() {
         List<String> outList;
 
-        synchronized (lock) {
-            outList = new LinkedList<>(jobsByGroup.keySet());
-        }
+        outList = new LinkedList<>(jobsByGroup.keySet());
 
         return outList;
     }
@@ -972,9 +1261,7 @@ public class RAMJobStore implements JobStore {
     public List<String> getTriggerGroupNames() {
         LinkedList<String> outList;
 
-        synchronized (lock) {
-            outList = new LinkedList<>(triggersByGroup.keySet());
-        }
+        outList = new LinkedList<>(triggersByGroup.keySet());
 
         return outList;
     }
@@ -995,7 +1282,7 @@ public class RAMJobStore implements JobStore {
             List<TriggerWrapper> jobList = triggersByJob.get(jobKey);
             if(jobList != null) {
                 for(TriggerWrapper tw : jobList) {
-                    trigList.add((OperableTrigger) tw.trigger.clone());
+                    trigList.add(tw.cloneTrigger());
                 }
             }
         }
@@ -1019,12 +1306,10 @@ public class RAMJobStore implements JobStore {
     protected ArrayList<TriggerWrapper> getTriggerWrappersForCalendar(String calName) {
         ArrayList<TriggerWrapper> trigList = new ArrayList<>();
 
-        synchronized (lock) {
-            for (TriggerWrapper tw : triggersByKey.values()) {
-                String tcalName = tw.getTrigger().getCalendarName();
-                if (tcalName != null && tcalName.equals(calName)) {
-                    trigList.add(tw);
-                }
+        for (TriggerWrapper tw : triggersByKey.values()) {
+            String tcalName = tw.getTrigger().getCalendarName();
+            if (tcalName != null && tcalName.equals(calName)) {
+                trigList.add(tw);
             }
         }
 
@@ -1088,11 +1373,9 @@ public class RAMJobStore implements JobStore {
                     }
                     break;
                 default :
-                    for (String group : triggersByGroup.keySet()) {
-                        if(operator.evaluate(group, matcher.getCompareToValue())) {
-                            if(pausedTriggerGroups.add(matcher.getCompareToValue())) {
-                                pausedGroups.add(group);
-                            }
+                    for (String group : triggerGroupIndex.matching(operator, matcher.getCompareToValue())) {
+                        if(pausedTriggerGroups.add(group)) {
+                            pausedGroups.add(group);
                         }
                     }
             }
@@ -1150,11 +1433,9 @@ public class RAMJobStore implements JobStore {
                     }
                     break;
                 default :
-                    for (String group : jobsByGroup.keySet()) {
-                        if(operator.evaluate(group, matcher.getCompareToValue())) {
-                            if (pausedJobGroups.add(group)) {
-                                pausedGroups.add(group);
-                            }
+                    for (String group : jobGroupIndex.matching(operator, matcher.getCompareToValue())) {
+                        if (pausedJobGroups.add(group)) {
+                            pausedGroups.add(group);
                         }
                     }
             }
@@ -1202,11 +1483,7 @@ public class RAMJobStore implements JobStore {
                 return;
             }
 
-            if(blockedJobs.contains( trig.getJobKey() )) {
-                tw.state = TriggerWrapper.STATE_BLOCKED;
-            } else {
-                tw.state = TriggerWrapper.STATE_WAITING;
-            }
+            tw.state = TriggerWrapper.STATE_WAITING;
 
             applyMisfire(tw);
 
@@ -1378,7 +1655,11 @@ public class RAMJobStore implements JobStore {
         }
     }
 
-    protected boolean applyMisfire(TriggerWrapper tw) {
+    /**
+     * Whether the given trigger has missed its next fire time by more than the
+     * misfire threshold and has a misfire instruction to apply.
+     */
+    protected boolean isMisfired(TriggerWrapper tw) {
 
         long misfireTime = System.currentTimeMillis();
         if (getMisfireThreshold() > 0) {
@@ -1386,19 +1667,27 @@ public class RAMJobStore implements JobStore {
         }
 
         Date tnft = tw.trigger.getNextFireTime();
-        if (tnft == null || tnft.getTime() > misfireTime 
-                || tw.trigger.getMisfireInstruction() == Trigger.MISFIRE_INSTRUCTION_IGNORE_MISFIRE_POLICY) { 
-            return false; 
+        return tnft != null && tnft.getTime() <= misfireTime
+                && tw.trigger.getMisfireInstruction() != Trigger.MISFIRE_INSTRUCTION_IGNORE_MISFIRE_POLICY;
+    }
+
+    protected boolean applyMisfire(TriggerWrapper tw) {
+
+        if (!isMisfired(tw)) {
+            return false;
         }
+        Date tnft = tw.trigger.getNextFireTime();
 
         Calendar cal = null;
         if (tw.trigger.getCalendarName() != null) {
             cal = retrieveCalendar(tw.trigger.getCalendarName());
         }
 
-        signaler.notifyTriggerListenersMisfired((OperableTrigger)tw.trigger.clone());
+        signaler.notifyTriggerListenersMisfired(tw.cloneTrigger());
 
-        tw.trigger.updateAfterMisfire(cal);
+        synchronized (tw) {
+            tw.trigger.updateAfterMisfire(cal);
+        }
 
         if (tw.trigger.getNextFireTime() == null) {
             tw.state = TriggerWrapper.STATE_COMPLETE;
@@ -1411,6 +1700,84 @@ public class RAMJobStore implements JobStore {
         return true;
     }
 
+    /**
+     * <p>
+     * Apply the misfire instructions of up to
+     * {@link #getMaxMisfiresToHandleAtATime()} misfired triggers, oldest
+     * first. The trigger listeners and scheduler listeners are only notified
+     * once the lock has been released.
+     * </p>
+     *
+     * @return whether there are more misfired triggers left to handle
+     */
+    protected boolean recoverMisfiredTriggers() {
+        List<OperableTrigger> misfired = new ArrayList<>();
+        List<OperableTrigger> finalized = new ArrayList<>();
+        long earliestNewTime = Long.MAX_VALUE;
+        boolean hasMore;
+
+        synchronized (lock) {
+            int maxCount = getMaxMisfiresToHandleAtATime();
+            while (misfired.size() < maxCount) {
+                TriggerWrapper tw = misfiredTriggers.poll();
+                if (tw != null) {
+                    // was the trigger removed, replaced or paused since being set aside?
+                    if (triggersByKey.get(tw.key) != tw || tw.state != TriggerWrapper.STATE_WAITING) {
+                        continue;
+                    }
+                } else {
+                    tw = timeTriggers.first();
+                    if (tw == null || !isMisfired(tw)) {
+                        break;
+                    }
+                }
+                timeTriggers.remove(tw);
+
+                if (blockedJobs.contains(tw.jobKey)) {
+                    parkedTriggers.computeIfAbsent(tw.jobKey, k -> new ArrayList<>()).add(tw);
+                    continue;
+                }
+                if (!isMisfired(tw)) {
+                    timeTriggers.add(tw);
+                    continue;
+                }
+
+                Calendar cal = null;
+                if (tw.trigger.getCalendarName() != null) {
+                    cal = retrieveCalendar(tw.trigger.getCalendarName());
+                }
+
+                misfired.add(tw.cloneTrigger());
+                synchronized (tw) {
+                    tw.trigger.updateAfterMisfire(cal);
+                }
+
+                Date nextFireTime = tw.trigger.getNextFireTime();
+                if (nextFireTime == null) {
+                    tw.state = TriggerWrapper.STATE_COMPLETE;
+                    finalized.add(tw.trigger);
+                } else {
+                    timeTriggers.add(tw);
+                    earliestNewTime = Math.min(earliestNewTime, nextFireTime.getTime());
+                }
+            }
+
+            TriggerWrapper first = timeTriggers.first();
+            hasMore = !misfiredTriggers.isEmpty() || (first != null && isMisfired(first));
+        }
+
+        for (OperableTrigger trigger : misfired) {
+            signaler.notifyTriggerListenersMisfired(trigger);
+        }
+        for (OperableTrigger trigger : finalized) {
+            signaler.notifySchedulerListenersFinalized(trigger);
+        }
+        if (!misfired.isEmpty()) {
+            signaler.signalSchedulingChange(earliestNewTime);
+        }
+        return hasMore;
+    }
+
     private static final AtomicLong ftrCtr = new AtomicLong(System.currentTimeMillis());
 
     protected String getFiredTriggerRecordId() {
@@ -1428,8 +1795,8 @@ public class RAMJobStore implements JobStore {
     public List<OperableTrigger> acquireNextTriggers(long noLaterThan, int maxCount, long timeWindow) {
         synchronized (lock) {
             List<OperableTrigger> result = new ArrayList<>();
-            Set<JobKey> acquiredJobKeysForNoConcurrentExec = new HashSet<>();
-            Set<TriggerWrapper> excludedTriggers = new HashSet<>();
+            Set<JobKey> acquiredJobKeysForNoConcurrentExec = null;
+            Set<TriggerWrapper> excludedTriggers = null;
             long batchEnd = noLaterThan;
             
             // return empty list if store has no triggers.
@@ -1437,22 +1804,31 @@ public class RAMJobStore implements JobStore {
                 return result;
             
             while (true) {
-                TriggerWrapper tw;
-
-                try {
-                    tw = timeTriggers.first();
-                    if (tw == null)
-                        break;
-                    timeTriggers.remove(tw);
-                } catch (java.util.NoSuchElementException nsee) {
+                TriggerWrapper tw = timeTriggers.first();
+                if (tw == null)
                     break;
-                }
+                timeTriggers.remove(tw);
 
                 if (tw.trigger.getNextFireTime() == null) {
                     continue;
                 }
 
-                if (applyMisfire(tw)) {
+                // the job is executing and disallows concurrent execution:
+                // set the trigger aside until the job completes
+                if (blockedJobs.contains(tw.jobKey)) {
+                    parkedTriggers.computeIfAbsent(tw.jobKey, k -> new ArrayList<>()).add(tw);
+                    continue;
+                }
+
+                MisfireHandler handler = misfireHandler;
+                if (handler != null) {
+                    // leave the misfire instruction, and the listeners, to the misfire handler
+                    if (isMisfired(tw)) {
+                        misfiredTriggers.add(tw);
+                        handler.wakeUp();
+                        continue;
+                    }
+                } else if (applyMisfire(tw)) {
                     if (tw.trigger.getNextFireTime() != null) {
                         timeTriggers.add(tw);
                     }
@@ -1466,20 +1842,27 @@ public class RAMJobStore implements JobStore {
                 
                 // If trigger's job is set as @DisallowConcurrentExecution, and it has already been added to result, then
                 // put it back into the timeTriggers set and continue to search for next trigger.
-                JobKey jobKey = tw.trigger.getJobKey();
-                JobDetail job = jobsByKey.get(tw.trigger.getJobKey()).jobDetail;
+                JobKey jobKey = tw.jobKey;
+                JobDetail job = jobsByKey.get(jobKey).jobDetail;
                 if (job.isConcurrentExecutionDisallowed()) {
-                    if (acquiredJobKeysForNoConcurrentExec.contains(jobKey)) {
+                    if (acquiredJobKeysForNoConcurrentExec == null) {
+                        acquiredJobKeysForNoConcurrentExec = new HashSet<>();
+                    }
+                    if (!acquiredJobKeysForNoConcurrentExec.add(jobKey)) {
+                        if (excludedTriggers == null) {
+                            excludedTriggers = new HashSet<>();
+                        }
                         excludedTriggers.add(tw);
                         continue; // go to next trigger in store.
-                    } else {
-                        acquiredJobKeysForNoConcurrentExec.add(jobKey);
                     }
                 }
 
                 tw.state = TriggerWrapper.STATE_ACQUIRED;
-                tw.trigger.setFireInstanceId(getFiredTriggerRecordId());
-                OperableTrigger trig = (OperableTrigger) tw.trigger.clone();
+                OperableTrigger trig;
+                synchronized (tw) {
+                    tw.trigger.setFireInstanceId(getFiredTriggerRecordId());
+                    trig = (OperableTrigger) tw.trigger.clone();
+                }
                 if (result.isEmpty()) {
                     batchEnd = Math.max(tw.trigger.getNextFireTime().getTime(), System.currentTimeMillis()) + timeWindow;
                 }
@@ -1489,7 +1872,7 @@ public class RAMJobStore implements JobStore {
             }
 
             // If we did excluded triggers to prevent ACQUIRE state due to DisallowConcurrentExecution, we need to add them back to store.
-            if (!excludedTriggers.isEmpty())
+            if (excludedTriggers != null)
                 timeTriggers.addAll(excludedTriggers);
             return result;
         }
@@ -1545,7 +1928,9 @@ public class RAMJobStore implements JobStore {
                 // in case trigger was replaced between acquiring and firing
                 timeTriggers.remove(tw);
                 // call triggered on our copy, and the scheduler's copy
-                tw.trigger.triggered(cal);
+                synchronized (tw) {
+                    tw.trigger.triggered(cal);
+                }
                 trigger.triggered(cal);
                 //tw.state = TriggerWrapper.STATE_EXECUTING;
                 tw.state = TriggerWrapper.STATE_WAITING;
@@ -1557,22 +1942,13 @@ public class RAMJobStore implements JobStore {
 
                 JobDetail job = bundle.getJobDetail();
 
+                // close the job's gate; its other triggers are parked lazily
+                // by acquireNextTriggers, should they come due before it completes
                 if (job.isConcurrentExecutionDisallowed()) {
-                    ArrayList<TriggerWrapper> trigs = getTriggerWrappersForJob(job.getKey());
-                    for (TriggerWrapper ttw : trigs) {
-                        if (ttw.state == TriggerWrapper.STATE_WAITING) {
-                            ttw.state = TriggerWrapper.STATE_BLOCKED;
-                        }
-                        if (ttw.state == TriggerWrapper.STATE_PAUSED) {
-                            ttw.state = TriggerWrapper.STATE_PAUSED_BLOCKED;
-                        }
-                        timeTriggers.remove(ttw);
-                    }
                     blockedJobs.add(job.getKey());
-                } else if (tw.trigger.getNextFireTime() != null) {
-                    synchronized (lock) {
-                        timeTriggers.add(tw);
-                    }
+                }
+                if (tw.trigger.getNextFireTime() != null) {
+                    timeTriggers.add(tw);
                 }
 
                 results.add(new TriggerFiredResult(bundle));
@@ -1615,21 +1991,11 @@ public class RAMJobStore implements JobStore {
                     jw.jobDetail = jd;
                 }
                 if (jd.isConcurrentExecutionDisallowed()) {
-                    blockedJobs.remove(jd.getKey());
-                    ArrayList<TriggerWrapper> trigs = getTriggerWrappersForJob(jd.getKey());
-                    for(TriggerWrapper ttw : trigs) {
-                        if (ttw.state == TriggerWrapper.STATE_BLOCKED) {
-                            ttw.state = TriggerWrapper.STATE_WAITING;
-                            timeTriggers.add(ttw);
-                        }
-                        if (ttw.state == TriggerWrapper.STATE_PAUSED_BLOCKED) {
-                            ttw.state = TriggerWrapper.STATE_PAUSED;
-                        }
-                    }
+                    unblockJob(jd.getKey());
                     signaler.signalSchedulingChange(0L);
                 }
             } else { // even if it was deleted, there may be cleanup to do
-                blockedJobs.remove(jobDetail.getKey());
+                unblockJob(jobDetail.getKey());
             }
     
             // check for trigger deleted during execution...
@@ -1666,6 +2032,25 @@ public class RAMJobStore implements JobStore {
         }
     }
 
+    /**
+     * Open the gate of a job that disallows concurrent execution, and put
+     * back into the time index those of its triggers that were parked while
+     * it executed (unless they have since been paused, completed, replaced
+     * or removed).
+     */
+    protected void unblockJob(JobKey jobKey) {
+        blockedJobs.remove(jobKey);
+        List<TriggerWrapper> parked = parkedTriggers.remove(jobKey);
+        if (parked == null) {
+            return;
+        }
+        for (TriggerWrapper tw : parked) {
+            if (tw.state == TriggerWrapper.STATE_WAITING && triggersByKey.get(tw.key) == tw) {
+                timeTriggers.add(tw);
+            }
+        }
+    }
+
     @Override
     public long getAcquireRetryDelay(int failureCount) {
         return 20;
@@ -1712,11 +2097,11 @@ public class RAMJobStore implements JobStore {
     }
 
     public void setInstanceId(String schedInstId) {
-        //
+        this.instanceId = schedInstId;
     }
 
     public void setInstanceName(String schedName) {
-        //
+        this.instanceName = schedName;
     }
 
     public void setThreadPoolSize(final int poolSize) {
@@ -1731,40 +2116,77 @@ public class RAMJobStore implements JobStore {
         return false;
     }
 
-}
+    /*
+     * ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     * 
+     * MisfireHandler Thread
+     * 
+     * ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     */
 
-/*******************************************************************************
- * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
- * 
- * Helper Classes. * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
- */
+    class MisfireHandler extends Thread {
 
-class TriggerWrapperComparator implements Comparator<TriggerWrapper>, java.io.Serializable {
-  
-    private static final long serialVersionUID = 8809557142191514261L;
+        private volatile boolean shutdown = false;
 
-    final TriggerTimeComparator ttc = new TriggerTimeComparator();
-    
-    public int compare(TriggerWrapper trig1, TriggerWrapper trig2) {
-        return ttc.compare(trig1.trigger, trig2.trigger);
-    }
+        MisfireHandler() {
+            this.setName("QuartzScheduler_" + instanceName + "-" + instanceId + "_MisfireHandler");
+            this.setDaemon(true);
+        }
 
-    @Override
-    public boolean equals(Object obj) {
-        return (obj instanceof TriggerWrapperComparator);
-    }
+        /**
+         * Handle the misfires set aside by acquisition without waiting for
+         * the next scan.
+         */
+        void wakeUp() {
+            LockSupport.unpark(this);
+        }
 
-    @Override
-    public int hashCode() {
-        return super.hashCode();
+        void shutdown() {
+            shutdown = true;
+            LockSupport.unpark(this);
+        }
+
+        @Override
+        public void run() {
+
+            while (!shutdown) {
+
+                long sTime = System.currentTimeMillis();
+
+                boolean hasMore = false;
+                try {
+                    hasMore = recoverMisfiredTriggers();
+                } catch (RuntimeException e) {
+                    getLog().error("MisfireHandler: Error handling misfires: {}", e.getMessage(), e);
+                }
+
+                if (!shutdown) {
+                    long timeToSleep = 50L;  // At least a short pause to let acquisition in
+                    if (!hasMore) {
+                        timeToSleep = getMisfireThreshold() - (System.currentTimeMillis() - sTime);
+                        if (timeToSleep <= 0) {
+                            timeToSleep = 50L;
+                        }
+                    }
+                    LockSupport.parkNanos(this, TimeUnit.MILLISECONDS.toNanos(timeToSleep));
+                }
+            }
+        }
     }
+
 }
 
+/*******************************************************************************
+ * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ * 
+ * Helper Classes. * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
+ */
+
 class JobWrapper {
 
     public final JobKey key;
 
-    public JobDetail jobDetail;
+    public volatile JobDetail jobDetail;
 
     JobWrapper(JobDetail jobDetail) {
         this.jobDetail = jobDetail;
@@ -1786,59 +2208,3 @@ class JobWrapper {
         return key.hashCode(); 
     }
 }
-
-class TriggerWrapper {
-
-    public final TriggerKey key;
-
-    public final JobKey jobKey;
-
-    public final OperableTrigger trigger;
-
-    public int state = STATE_WAITING;
-
-    public static final int STATE_WAITING = 0;
-
-    public static final int STATE_ACQUIRED = 1;
-
-    @SuppressWarnings("UnusedDeclaration")
-    public static final int STATE_EXECUTING = 2;
-
-    public static final int STATE_COMPLETE = 3;
-
-    public static final int STATE_PAUSED = 4;
-
-    public static final int STATE_BLOCKED = 5;
-
-    public static final int STATE_PAUSED_BLOCKED = 6;
-
-    public static final int STATE_ERROR = 7;
-    
-    TriggerWrapper(OperableTrigger trigger) {
-        if(trigger == null)
-            throw new IllegalArgumentException("Trigger cannot be null!");
-        this.trigger = trigger;
-        key = trigger.getKey();
-        this.jobKey = trigger.getJobKey();
-    }
-
-    @Override
-    public boolean equals(Object obj) {
-        if (obj instanceof TriggerWrapper) {
-            TriggerWrapper tw = (TriggerWrapper) obj;
-            return tw.key.equals(this.key);
-        }
-
-        return false;
-    }
-
-    @Override
-    public int hashCode() {
-        return key.hashCode(); 
-    }
-
-    
-    public OperableTrigger getTrigger() {
-        return this.trigger;
-    }
-}
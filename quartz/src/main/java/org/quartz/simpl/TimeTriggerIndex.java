@@ -0,0 +1,66 @@
+/* 
+ * Copyright IBM Corp. 2024, 2025
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not 
+ * use this file except in compliance with the License. You may obtain a copy 
+ * of the License at 
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0 
+ *   
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT 
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the 
+ * License for the specific language governing permissions and limitations 
+ * under the License.
+ * 
+ */
+
+package org.quartz.simpl;
+
+import java.util.Collection;
+
+/**
+ * The index of waiting triggers ordered by their next fire time, as used by
+ * {@link RAMJobStore} to find the next trigger(s) to acquire.
+ *
+ * <p>
+ * Iteration order, like {@link #first()}, follows
+ * {@link org.quartz.Trigger.TriggerTimeComparator}: next fire time, then
+ * descending priority, then key.
+ * </p>
+ *
+ * <p>
+ * Implementations are not thread-safe, and rely on the next fire time of an
+ * indexed trigger not being changed until it has been removed again.
+ * </p>
+ */
+interface TimeTriggerIndex extends Iterable<TriggerWrapper> {
+
+    /**
+     * @return <code>true</code> if the trigger was not already indexed.
+     */
+    boolean add(TriggerWrapper tw);
+
+    default void addAll(Collection<TriggerWrapper> tws) {
+        for (TriggerWrapper tw : tws) {
+            add(tw);
+        }
+    }
+
+    /**
+     * @return <code>true</code> if the trigger was indexed.
+     */
+    boolean remove(TriggerWrapper tw);
+
+    /**
+     * @return the trigger that fires first, or <code>null</code> if the index
+     *         is empty.
+     */
+    TriggerWrapper first();
+
+    int size();
+
+    default boolean isEmpty() {
+        return size() == 0;
+    }
+}
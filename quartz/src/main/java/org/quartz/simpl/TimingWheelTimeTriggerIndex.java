@@ -0,0 +1,244 @@
+/* 
+ * Copyright IBM Corp. 2024, 2025
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not 
+ * use this file except in compliance with the License. You may obtain a copy 
+ * of the License at 
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0 
+ *   
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT 
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the 
+ * License for the specific language governing permissions and limitations 
+ * under the License.
+ * 
+ */
+
+package org.quartz.simpl;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * A {@link TimeTriggerIndex} backed by a hashed hierarchical timing wheel,
+ * giving constant time insertion and removal regardless of the number of
+ * indexed triggers.
+ *
+ * <p>
+ * Time is divided into ticks of one millisecond. The wheel has
+ * {@value #LEVELS} levels of {@value #SLOTS} slots each, a slot on level
+ * <i>n</i> spanning 256<sup><i>n</i></sup> ticks, so the wheel covers about
+ * 34 years ahead of its cursor. Triggers due at or before the cursor tick are
+ * kept in a small sorted "due" bucket, from which they are extracted in
+ * {@link TriggerWrapperComparator} order (fire time, then priority, then
+ * key). When the due bucket runs empty the cursor advances to the next
+ * occupied slot, cascading the triggers of a higher level slot down to the
+ * lower levels. Triggers without a next fire time, or further away than the
+ * wheel covers, are kept in a sorted overflow set.
+ * </p>
+ *
+ * <p>
+ * The cursor only moves forward, so triggers added with a fire time before
+ * the cursor go to the due bucket directly; they are still extracted in the
+ * right order, only at the cost of a sorted insert.
+ * </p>
+ */
+class TimingWheelTimeTriggerIndex implements TimeTriggerIndex {
+
+    static final int SLOT_BITS = 8;
+
+    static final int SLOTS = 1 << SLOT_BITS;
+
+    static final int LEVELS = 5;
+
+    private final TreeSet<TriggerWrapper> due = new TreeSet<>(new TriggerWrapperComparator());
+
+    private final TreeSet<TriggerWrapper> overflow = new TreeSet<>(new TriggerWrapperComparator());
+
+    private final Slot[][] slots = new Slot[LEVELS][SLOTS];
+
+    private final BitSet[] occupied = new BitSet[LEVELS];
+
+    private long cursor;
+
+    private int size;
+
+    TimingWheelTimeTriggerIndex() {
+        this(System.currentTimeMillis());
+    }
+
+    TimingWheelTimeTriggerIndex(long now) {
+        for (int i = 0; i < LEVELS; i++) {
+            occupied[i] = new BitSet(SLOTS);
+        }
+        this.cursor = now;
+    }
+
+    public boolean add(TriggerWrapper tw) {
+        if (tw.timeIndexBucket != null) {
+            return false;
+        }
+        place(tw);
+        size++;
+        return true;
+    }
+
+    public boolean remove(TriggerWrapper tw) {
+        Collection<TriggerWrapper> bucket = tw.timeIndexBucket;
+        if (bucket == null) {
+            return false;
+        }
+        bucket.remove(tw);
+        tw.timeIndexBucket = null;
+        size--;
+        if (bucket instanceof Slot && bucket.isEmpty()) {
+            Slot slot = (Slot) bucket;
+            slots[slot.level][slot.index] = null;
+            occupied[slot.level].clear(slot.index);
+        }
+        return true;
+    }
+
+    public TriggerWrapper first() {
+        while (due.isEmpty()) {
+            if (!advance()) {
+                return overflow.isEmpty() ? null : overflow.first();
+            }
+        }
+        return due.first();
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public Iterator<TriggerWrapper> iterator() {
+        List<TriggerWrapper> all = new ArrayList<>(size);
+        all.addAll(due);
+        for (Slot[] level : slots) {
+            for (Slot slot : level) {
+                if (slot != null) {
+                    all.addAll(slot);
+                }
+            }
+        }
+        all.addAll(overflow);
+        all.sort(new TriggerWrapperComparator());
+        return Collections.unmodifiableList(all).iterator();
+    }
+
+    /**
+     * Move the cursor forward to the next occupied slot, cascading its
+     * triggers towards the due bucket.
+     *
+     * @return <code>false</code> if there is nothing left to advance to.
+     */
+    private boolean advance() {
+        for (int level = 0; level < LEVELS; level++) {
+            int shift = SLOT_BITS * level;
+            int from = (int) ((cursor >> shift) & (SLOTS - 1)) + 1;
+            int index = from < SLOTS ? occupied[level].nextSetBit(from) : -1;
+            if (index >= 0) {
+                long blockMask = -1L << (shift + SLOT_BITS);
+                cursor = (cursor & blockMask) | ((long) index << shift);
+                cascade(level, index);
+                return true;
+            }
+        }
+
+        TriggerWrapper head = overflow.isEmpty() ? null : overflow.first();
+        if (head == null || head.trigger.getNextFireTime() == null) {
+            return false;
+        }
+        cursor = head.trigger.getNextFireTime().getTime();
+        while (!overflow.isEmpty()) {
+            head = overflow.first();
+            Date nft = head.trigger.getNextFireTime();
+            if (nft == null || levelFor(nft.getTime()) < 0) {
+                break;
+            }
+            overflow.pollFirst();
+            place(head);
+        }
+        return true;
+    }
+
+    private void cascade(int level, int index) {
+        Slot slot = slots[level][index];
+        slots[level][index] = null;
+        occupied[level].clear(index);
+        for (TriggerWrapper tw : slot) {
+            place(tw);
+        }
+    }
+
+    private void place(TriggerWrapper tw) {
+        Date nft = tw.trigger.getNextFireTime();
+        if (nft == null) {
+            overflow.add(tw);
+            tw.timeIndexBucket = overflow;
+            return;
+        }
+
+        long tick = nft.getTime();
+        if (tick <= cursor) {
+            due.add(tw);
+            tw.timeIndexBucket = due;
+            return;
+        }
+
+        int level = levelFor(tick);
+        if (level < 0) {
+            overflow.add(tw);
+            tw.timeIndexBucket = overflow;
+            return;
+        }
+
+        int index = (int) ((tick >> (SLOT_BITS * level)) & (SLOTS - 1));
+        Slot slot = slots[level][index];
+        if (slot == null) {
+            slot = new Slot(level, index);
+            slots[level][index] = slot;
+            occupied[level].set(index);
+        }
+        slot.add(tw);
+        tw.timeIndexBucket = slot;
+    }
+
+    /**
+     * @return the lowest level whose current block contains the given tick,
+     *         or -1 if it lies beyond the range of the wheel.
+     */
+    private int levelFor(long tick) {
+        for (int level = 0; level < LEVELS; level++) {
+            int shift = SLOT_BITS * (level + 1);
+            if ((tick >> shift) == (cursor >> shift)) {
+                return level;
+            }
+        }
+        return -1;
+    }
+
+    private static final class Slot extends HashSet<TriggerWrapper> {
+
+        private static final long serialVersionUID = 1L;
+
+        final int level;
+
+        final int index;
+
+        Slot(int level, int index) {
+            super(4);
+            this.level = level;
+            this.index = index;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+/* 
+ * Copyright IBM Corp. 2024, 2025
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not 
+ * use this file except in compliance with the License. You may obtain a copy 
+ * of the License at 
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0 
+ *   
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT 
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the 
+ * License for the specific language governing permissions and limitations 
+ * under the License.
+ * 
+ */
+
+package org.quartz.simpl;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.TreeSet;
+
+/**
+ * The default {@link TimeTriggerIndex}, a red-black tree ordered by
+ * {@link TriggerWrapperComparator}.
+ */
+class TreeSetTimeTriggerIndex implements TimeTriggerIndex {
+
+    private final TriggerWrapperComparator comparator = new TriggerWrapperComparator();
+
+    private final TreeSet<TriggerWrapper> triggers = new TreeSet<>(comparator);
+
+    public boolean add(TriggerWrapper tw) {
+        return triggers.add(tw);
+    }
+
+    /**
+     * Adding many triggers at once inserts them in fire time order, so that
+     * consecutive inserts descend the same path of the tree.
+     */
+    @Override
+    public void addAll(Collection<TriggerWrapper> tws) {
+        TriggerWrapper[] added = tws.toArray(new TriggerWrapper[0]);
+        Arrays.sort(added, comparator);
+        triggers.addAll(Arrays.asList(added));
+    }
+
+    public boolean remove(TriggerWrapper tw) {
+        return triggers.remove(tw);
+    }
+
+    public TriggerWrapper first() {
+        return triggers.isEmpty() ? null : triggers.first();
+    }
+
+    public int size() {
+        return triggers.size();
+    }
+
+    public Iterator<TriggerWrapper> iterator() {
+        return triggers.iterator();
+    }
+}
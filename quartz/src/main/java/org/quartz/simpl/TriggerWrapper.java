@@ -0,0 +1,103 @@
+/* 
+ * All content copyright Terracotta, Inc., unless otherwise indicated. All rights reserved.
+ * Copyright IBM Corp. 2024, 2025
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not 
+ * use this file except in compliance with the License. You may obtain a copy 
+ * of the License at 
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0 
+ *   
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT 
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the 
+ * License for the specific language governing permissions and limitations 
+ * under the License.
+ * 
+ */
+
+package org.quartz.simpl;
+
+import java.util.Collection;
+
+import org.quartz.JobKey;
+import org.quartz.TriggerKey;
+import org.quartz.spi.OperableTrigger;
+
+class TriggerWrapper {
+
+    public final TriggerKey key;
+
+    public final JobKey jobKey;
+
+    public final OperableTrigger trigger;
+
+    /**
+     * Only ever modified while holding the store's lock, but read without it.
+     */
+    public volatile int state = STATE_WAITING;
+
+    /**
+     * The bucket of a {@link TimingWheelTimeTriggerIndex} holding this
+     * trigger, if any.
+     */
+    Collection<TriggerWrapper> timeIndexBucket;
+
+    public static final int STATE_WAITING = 0;
+
+    public static final int STATE_ACQUIRED = 1;
+
+    @SuppressWarnings("UnusedDeclaration")
+    public static final int STATE_EXECUTING = 2;
+
+    public static final int STATE_COMPLETE = 3;
+
+    public static final int STATE_PAUSED = 4;
+
+    public static final int STATE_BLOCKED = 5;
+
+    public static final int STATE_PAUSED_BLOCKED = 6;
+
+    public static final int STATE_ERROR = 7;
+    
+    TriggerWrapper(OperableTrigger trigger) {
+        this(trigger, trigger == null ? null : trigger.getJobKey());
+    }
+
+    TriggerWrapper(OperableTrigger trigger, JobKey jobKey) {
+        if(trigger == null)
+            throw new IllegalArgumentException("Trigger cannot be null!");
+        this.trigger = trigger;
+        key = trigger.getKey();
+        this.jobKey = jobKey;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj instanceof TriggerWrapper) {
+            TriggerWrapper tw = (TriggerWrapper) obj;
+            return tw.key.equals(this.key);
+        }
+
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return key.hashCode(); 
+    }
+
+    
+    public OperableTrigger getTrigger() {
+        return this.trigger;
+    }
+
+    /**
+     * Clone the wrapped trigger. Mutations of the wrapped trigger happen while
+     * holding this wrapper's monitor, so the clone is always consistent even
+     * when taken without holding the store's lock.
+     */
+    synchronized OperableTrigger cloneTrigger() {
+        return (OperableTrigger) trigger.clone();
+    }
+}
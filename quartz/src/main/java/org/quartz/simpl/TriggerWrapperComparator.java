@@ -0,0 +1,44 @@
+/* 
+ * All content copyright Terracotta, Inc., unless otherwise indicated. All rights reserved.
+ * Copyright IBM Corp. 2024, 2025
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not 
+ * use this file except in compliance with the License. You may obtain a copy 
+ * of the License at 
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0 
+ *   
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT 
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the 
+ * License for the specific language governing permissions and limitations 
+ * under the License.
+ * 
+ */
+
+package org.quartz.simpl;
+
+import java.util.Comparator;
+
+import org.quartz.Trigger.TriggerTimeComparator;
+
+class TriggerWrapperComparator implements Comparator<TriggerWrapper>, java.io.Serializable {
+  
+    private static final long serialVersionUID = 8809557142191514261L;
+
+    final TriggerTimeComparator ttc = new TriggerTimeComparator();
+    
+    public int compare(TriggerWrapper trig1, TriggerWrapper trig2) {
+        return ttc.compare(trig1.trigger, trig2.trigger);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return (obj instanceof TriggerWrapperComparator);
+    }
+
+    @Override
+    public int hashCode() {
+        return super.hashCode();
+    }
+}
@@ -47,4 +47,7 @@ public interface SchedulerSignaler {
     void signalSchedulingChange(long candidateNewNextFireTime);
 
     void notifySchedulerListenersError(String string, SchedulerException jpe);
+
+    default void notifySchedulerListenersJobRecoveryProgress(int processed, int total) {
+    }
 }
@@ -47,6 +47,16 @@ public class DirtyFlagMap<K,V> implements Map<K,V>, Cloneable, java.io.Serializa
     private boolean dirty = false;
     private Map<K,V> map;
 
+    // true while 'map' may also be referenced by a clone (or by the map this
+    // one was cloned from); the first mutation then copies it.  Volatile, as
+    // clone() sets it from the threads that copy a cached map without a lock,
+    // and the owner must see it before it next modifies the map.
+    private transient volatile boolean shared = false;
+
+    // true once 'map' has been handed out through a view or getWrappedMap(),
+    // after which it can be modified behind our back and cannot be shared.
+    private transient boolean exposed = false;
+
     /*
      * ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
      *
@@ -122,13 +132,16 @@ public class DirtyFlagMap<K,V> implements Map<K,V>, Cloneable, java.io.Serializa
      * </p>
      */
     public Map<K,V> getWrappedMap() {
+        expose();
         return map;
     }
 
     public void clear() {
-        if (!map.isEmpty()) {
-            dirty = true;
+        if (map.isEmpty()) {
+            return;
         }
+        dirty = true;
+        copyOnWrite();
         map.clear();
     }
 
@@ -141,6 +154,7 @@ public class DirtyFlagMap<K,V> implements Map<K,V>, Cloneable, java.io.Serializa
     }
 
     public Set<Entry<K,V>> entrySet() {
+        expose();
         return new DirtyFlagMapEntrySet(map.entrySet());
     }
 
@@ -150,7 +164,7 @@ public class DirtyFlagMap<K,V> implements Map<K,V>, Cloneable, java.io.Serializa
             return false;
         }
 
-        return map.equals(((DirtyFlagMap<?,?>) obj).getWrappedMap());
+        return map.equals(((DirtyFlagMap<?,?>) obj).map);
     }
 
     @Override
@@ -168,24 +182,38 @@ public class DirtyFlagMap<K,V> implements Map<K,V>, Cloneable, java.io.Serializa
     }
 
     public Set<K> keySet() {
+        expose();
         return new DirtyFlagSet<>(map.keySet());
     }
 
     public V put(final K key, final V val) {
         dirty = true;
+        copyOnWrite();
 
         return map.put(key, val);
     }
 
     public void putAll(final Map<? extends K, ? extends V> t) {
-        if (!t.isEmpty()) {
-            dirty = true;
+        if (t.isEmpty()) {
+            return;
+        }
+        dirty = true;
+        copyOnWrite();
+
+        // read another DirtyFlagMap's backing map directly, so that merging
+        // a shared map into this one does not force it to copy
+        if (t instanceof DirtyFlagMap) {
+            map.putAll(((DirtyFlagMap<? extends K, ? extends V>) t).map);
+        } else {
+            map.putAll(t);
         }
-
-        map.putAll(t);
     }
 
     public V remove(final Object key) {
+        if (shared && !map.containsKey(key)) {
+            return null;
+        }
+        copyOnWrite();
         V obj = map.remove(key);
 
         if (obj != null) {
@@ -200,17 +228,33 @@ public class DirtyFlagMap<K,V> implements Map<K,V>, Cloneable, java.io.Serializa
     }
 
     public Collection<V> values() {
+        expose();
         return new DirtyFlagCollection<>(map.values());
     }
 
+    /**
+     * <p>
+     * Create a copy of this <code>DirtyFlagMap</code>.  The copy initially
+     * shares this map's entries; whichever of the two is modified first
+     * takes its own private copy of them, so that cloning a map that is
+     * only read (as happens every time a job fires) costs no copying.
+     * </p>
+     */
     @Override
     @SuppressWarnings("unchecked") // suppress warnings on generic cast of super.clone() and map.clone() lines.
     public Object clone() {
         DirtyFlagMap<K,V> copy;
         try {
             copy = (DirtyFlagMap<K,V>) super.clone();
+            copy.exposed = false;
             if (map instanceof HashMap) {
-                copy.map = (Map<K,V>)((HashMap<K,V>)map).clone();
+                if (exposed) {
+                    copy.map = (Map<K,V>)((HashMap<K,V>)map).clone();
+                    copy.shared = false;
+                } else {
+                    shared = true;
+                    copy.shared = true;
+                }
             }
         } catch (CloneNotSupportedException ex) {
             throw new IncompatibleClassChangeError("Not Cloneable.");
@@ -219,6 +263,19 @@ public class DirtyFlagMap<K,V> implements Map<K,V>, Cloneable, java.io.Serializa
         return copy;
     }
 
+    @SuppressWarnings("unchecked") // suppress warnings on generic cast of map.clone() line.
+    private void copyOnWrite() {
+        if (shared) {
+            map = (Map<K,V>)((HashMap<K,V>)map).clone();
+            shared = false;
+        }
+    }
+
+    private void expose() {
+        copyOnWrite();
+        exposed = true;
+    }
+
     /**
      * Wrap a Collection so we can mark the DirtyFlagMap as dirty if
      * the underlying Collection is modified.
@@ -32,6 +32,7 @@ description varchar(250) ,
 next_fire_time bigint,
 prev_fire_time bigint,
 priority integer,
+trigger_partition integer,
 trigger_state varchar(16) not null,
 trigger_type varchar(8) not null,
 start_time bigint not null,
@@ -41,6 +41,7 @@ CREATE TABLE QRTZ_TRIGGERS (
     NEXT_FIRE_TIME BIGINT,
     PREV_FIRE_TIME BIGINT,
     PRIORITY INTEGER,
+    TRIGGER_PARTITION INTEGER,
     TRIGGER_STATE VARCHAR(16) NOT NULL,
     TRIGGER_TYPE VARCHAR(8) NOT NULL,
     START_TIME BIGINT NOT NULL,
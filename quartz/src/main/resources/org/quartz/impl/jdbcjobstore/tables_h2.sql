@@ -111,6 +111,7 @@ CREATE TABLE QRTZ_TRIGGERS (
   NEXT_FIRE_TIME BIGINT NULL ,
   PREV_FIRE_TIME BIGINT NULL ,
   PRIORITY INTEGER NULL ,
+  TRIGGER_PARTITION INTEGER NULL ,
   TRIGGER_STATE VARCHAR (16)  NOT NULL ,
   TRIGGER_TYPE VARCHAR (8)  NOT NULL ,
   START_TIME BIGINT NOT NULL ,
@@ -41,6 +41,7 @@ DESCRIPTION VARCHAR(250) NULL,
 NEXT_FIRE_TIME NUMERIC(13) NULL,
 PREV_FIRE_TIME NUMERIC(13) NULL,
 PRIORITY INTEGER NULL,
+TRIGGER_PARTITION INTEGER NULL,
 TRIGGER_STATE VARCHAR(16) NOT NULL,
 TRIGGER_TYPE VARCHAR(8) NOT NULL,
 START_TIME NUMERIC(13) NOT NULL,
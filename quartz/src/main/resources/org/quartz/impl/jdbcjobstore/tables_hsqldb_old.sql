@@ -35,6 +35,7 @@ DESCRIPTION LONGVARCHAR(120) NULL,
 NEXT_FIRE_TIME NUMERIC(13) NULL,
 PREV_FIRE_TIME NUMERIC(13) NULL,
 PRIORITY INTEGER NULL,
+TRIGGER_PARTITION INTEGER NULL,
 TRIGGER_STATE LONGVARCHAR(16) NOT NULL,
 TRIGGER_TYPE LONGVARCHAR(8) NOT NULL,
 START_TIME NUMERIC(13) NOT NULL,
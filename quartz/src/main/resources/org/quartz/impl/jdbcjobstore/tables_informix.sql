@@ -149,6 +149,7 @@ DESCRIPTION varchar(120),
 NEXT_FIRE_TIME numeric(13),
 PREV_FIRE_TIME numeric(13),
 PRIORITY integer,
+TRIGGER_PARTITION integer,
 TRIGGER_STATE varchar(16) NOT NULL,
 TRIGGER_TYPE varchar(8) NOT NULL,
 START_TIME numeric(13) NOT NULL,
@@ -58,6 +58,7 @@ CREATE TABLE qrtz_triggers
     NEXT_FIRE_TIME NUMBER(13) NULL,
     PREV_FIRE_TIME NUMBER(13) NULL,
     PRIORITY NUMBER(13) NULL,
+    TRIGGER_PARTITION NUMBER(13) NULL,
     TRIGGER_STATE VARCHAR2(16) NOT NULL,
     TRIGGER_TYPE VARCHAR2(8) NOT NULL,
     START_TIME NUMBER(13) NOT NULL,
@@ -179,6 +180,7 @@ create index idx_qrtz_t_n_state on qrtz_triggers(SCHED_NAME,TRIGGER_NAME,TRIGGER
 create index idx_qrtz_t_n_g_state on qrtz_triggers(SCHED_NAME,TRIGGER_GROUP,TRIGGER_STATE);
 create index idx_qrtz_t_next_fire_time on qrtz_triggers(SCHED_NAME,NEXT_FIRE_TIME);
 create index idx_qrtz_t_nft_st on qrtz_triggers(SCHED_NAME,TRIGGER_STATE,NEXT_FIRE_TIME);
+create index idx_qrtz_t_part_st_nft on qrtz_triggers(SCHED_NAME,TRIGGER_PARTITION,TRIGGER_STATE,NEXT_FIRE_TIME);
 create index idx_qrtz_t_nft_misfire on qrtz_triggers(SCHED_NAME,MISFIRE_INSTR,NEXT_FIRE_TIME);
 create index idx_qrtz_t_nft_st_misfire on qrtz_triggers(SCHED_NAME,MISFIRE_INSTR,NEXT_FIRE_TIME,TRIGGER_STATE);
 create index idx_qrtz_t_nft_st_misfire_grp on qrtz_triggers(SCHED_NAME,MISFIRE_INSTR,NEXT_FIRE_TIME,TRIGGER_GROUP,TRIGGER_STATE);
@@ -58,6 +58,7 @@ CREATE TABLE qrtz_triggers
     NEXT_FIRE_TIME NUMBER(13) NULL,
     PREV_FIRE_TIME NUMBER(13) NULL,
     PRIORITY NUMBER(13) NULL,
+    TRIGGER_PARTITION NUMBER(13) NULL,
     TRIGGER_STATE VARCHAR2(16) NOT NULL,
     TRIGGER_TYPE VARCHAR2(8) NOT NULL,
     START_TIME NUMBER(13) NOT NULL,
@@ -41,6 +41,7 @@ CREATE TABLE QRTZ_TRIGGERS
   NEXT_FIRE_TIME BIGINT       NULL,
   PREV_FIRE_TIME BIGINT       NULL,
   PRIORITY       INTEGER      NULL,
+  TRIGGER_PARTITION INTEGER      NULL,
   TRIGGER_STATE  VARCHAR(16)  NOT NULL,
   TRIGGER_TYPE   VARCHAR(8)   NOT NULL,
   START_TIME     BIGINT       NOT NULL,
@@ -183,6 +184,8 @@ CREATE INDEX IDX_QRTZ_T_NEXT_FIRE_TIME
   ON QRTZ_TRIGGERS (SCHED_NAME, NEXT_FIRE_TIME);
 CREATE INDEX IDX_QRTZ_T_NFT_ST
   ON QRTZ_TRIGGERS (SCHED_NAME, TRIGGER_STATE, NEXT_FIRE_TIME);
+CREATE INDEX IDX_QRTZ_T_PART_ST_NFT
+  ON QRTZ_TRIGGERS (SCHED_NAME, TRIGGER_PARTITION, TRIGGER_STATE, NEXT_FIRE_TIME);
 CREATE INDEX IDX_QRTZ_T_NFT_MISFIRE
   ON QRTZ_TRIGGERS (SCHED_NAME, MISFIRE_INSTR, NEXT_FIRE_TIME);
 CREATE INDEX IDX_QRTZ_T_NFT_ST_MISFIRE
@@ -31,6 +31,7 @@ CREATE TABLE QRTZ_TRIGGERS
     NEXT_FIRE_TIME FIXED(13) NULL,
     PREV_FIRE_TIME FIXED(13) NULL,
     PRIORITY FIXED(13) NULL,
+    TRIGGER_PARTITION FIXED(13) NULL,
     TRIGGER_STATE VARCHAR(16) NOT NULL,
     TRIGGER_TYPE VARCHAR(8) NOT NULL,
     START_TIME FIXED(13) NOT NULL,
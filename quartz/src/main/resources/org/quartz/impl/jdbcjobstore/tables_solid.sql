@@ -35,6 +35,7 @@ create table qrtz_triggers(
 	next_fire_time numeric(13),
 	prev_fire_time numeric(13),
 	priority integer,
+	trigger_partition integer,
 	trigger_state varchar(16) not null,
 	trigger_type varchar(8) not null,
 	start_time numeric(13) not null,
@@ -220,6 +220,7 @@ DESCRIPTION varchar(250) null,
 NEXT_FIRE_TIME numeric(13,0) null,
 PREV_FIRE_TIME numeric(13,0) null,
 PRIORITY int null,
+TRIGGER_PARTITION int null,
 TRIGGER_STATE varchar(16) not null,
 TRIGGER_TYPE varchar(8) not null,
 START_TIME numeric(13,0) not null,
@@ -222,6 +222,26 @@ public abstract class AbstractJobStoreTest  {
         this.fJobStore.releaseAcquiredTrigger(trigger1);
     }
 
+    @SuppressWarnings("deprecation")
+    @Test
+    void testTriggerJobDataIsKeptWhenFired() throws Exception {
+        OperableTrigger trigger =
+            new SimpleTriggerImpl("dataTrigger", "triggerGroup1", this.fJobDetail.getName(),
+                    this.fJobDetail.getGroup(), new Date(), null, 1, 2000);
+        trigger.getJobDataMap().put("key", "value");
+        trigger.computeFirstFireTime(null);
+        this.fJobStore.storeTrigger(trigger, false);
+
+        List<OperableTrigger> acquired = this.fJobStore.acquireNextTriggers(
+                trigger.getNextFireTime().getTime() + 10000, 1, 0L);
+        assertEquals(1, acquired.size());
+
+        List<TriggerFiredResult> fired = this.fJobStore.triggersFired(acquired);
+        assertEquals(1, fired.size());
+        assertEquals("value", fired.get(0).getTriggerFiredBundle().getTrigger().getJobDataMap().getString("key"));
+        assertEquals("value", this.fJobStore.retrieveTrigger(trigger.getKey()).getJobDataMap().getString("key"));
+    }
+
     @SuppressWarnings("deprecation")
     @Test
     void testTriggerStates() throws Exception {
@@ -24,6 +24,7 @@ import org.quartz.impl.jdbcjobstore.JobStoreTX;
 import org.quartz.impl.jdbcjobstore.JdbcQuartzTestUtilities.DatabaseType;
 import org.quartz.*;
 import org.quartz.listeners.JobListenerSupport;
+import org.quartz.listeners.SchedulerListenerSupport;
 import org.quartz.simpl.SimpleThreadPool;
 import org.quartz.utils.DBConnectionManager;
 import org.slf4j.Logger;
@@ -33,9 +34,15 @@ import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
@@ -45,14 +52,50 @@ public class RecoverJobsTest {
 
     @Test
     void testRecoveringRepeatJobWhichIsFiredAndMisfiredAtTheSameTime() throws SchedulerException, SQLException, InterruptedException {
-        String dsName = "recoverJobsTest";
+        recoverRepeatJobWhichIsFiredAndMisfiredAtTheSameTime("recoverJobsTest", 0, false);
+    }
+
+    @Test
+    void testIncrementalRecoveringRepeatJobWhichIsFiredAndMisfiredAtTheSameTime() throws SchedulerException, SQLException, InterruptedException {
+        recoverRepeatJobWhichIsFiredAndMisfiredAtTheSameTime("incrementalRecoverJobsTest", 1, false);
+    }
+
+    @Test
+    void testIncrementalRecoveryRetriesOnlyTheFailedCleanUp() throws SchedulerException, SQLException, InterruptedException {
+        recoverRepeatJobWhichIsFiredAndMisfiredAtTheSameTime("incrementalRecoverJobsCleanUpTest", 1, true);
+    }
+
+    @Test
+    void testRecoverySettingsMustBePositive() {
+        JobStoreTX jobStore = new JobStoreTX();
+        assertThrows(IllegalArgumentException.class, () -> jobStore.setRecoveryBatchSize(0));
+        assertThrows(IllegalArgumentException.class, () -> jobStore.setRecoveryThreadCount(0));
+        assertThrows(IllegalArgumentException.class, () -> jobStore.setRecoveryThreadCount(-1));
+    }
+
+    private void recoverRepeatJobWhichIsFiredAndMisfiredAtTheSameTime(String dsName, int recoveryBatchSize,
+            boolean failFirstCleanUp) throws SchedulerException, SQLException, InterruptedException {
         JdbcQuartzTestUtilities.createDatabase(dsName, DatabaseType.DERBY);
         try {
-            final JobStoreTX jobStore = new JobStoreTX();
+            final AtomicBoolean cleanUpFailed = new AtomicBoolean(!failFirstCleanUp);
+            final JobStoreTX jobStore = new JobStoreTX() {
+                @Override
+                protected void cleanUpAfterRecovery(Connection conn, Set<JobKey> jobKeys, Set<TriggerKey> triggerKeys)
+                        throws JobPersistenceException {
+                    if (cleanUpFailed.compareAndSet(false, true)) {
+                        throw new JobPersistenceException("Simulated clean-up failure");
+                    }
+                    super.cleanUpAfterRecovery(conn, jobKeys, triggerKeys);
+                }
+            };
             jobStore.setDataSource(dsName);
             jobStore.setInstanceId("SINGLE_NODE_TEST");
             jobStore.setInstanceName(dsName);
             jobStore.setMisfireThreshold(1000);
+            jobStore.setDbRetryInterval(100);
+            if (recoveryBatchSize > 0) {
+                jobStore.setRecoveryBatchSize(recoveryBatchSize);
+            }
 
             DirectSchedulerFactory factory = DirectSchedulerFactory.getInstance();
 
@@ -65,6 +108,7 @@ public class RecoverJobsTest {
             scheduler.scheduleJob(
                     JobBuilder.newJob(RecoverJobsTestJob.class)
                             .withIdentity("test")
+                            .requestRecovery(failFirstCleanUp)
                             .build(),
                     TriggerBuilder.newTrigger()
                             .withIdentity("test")
@@ -107,8 +151,16 @@ public class RecoverJobsTest {
             Thread.sleep(4000);
 
             final AtomicBoolean isJobRecovered = new AtomicBoolean(false);
+            final AtomicInteger recoveringExecutions = new AtomicInteger();
+            final List<String> recoveryProgress = new CopyOnWriteArrayList<>();
             factory.createScheduler(new SimpleThreadPool(1, Thread.NORM_PRIORITY), jobStore);
             Scheduler recovery = factory.getScheduler();
+            recovery.getListenerManager().addSchedulerListener(new SchedulerListenerSupport() {
+                @Override
+                public void jobRecoveryProgress(int processed, int total) {
+                    recoveryProgress.add(processed + "/" + total);
+                }
+            });
             recovery.getListenerManager().addJobListener(new JobListenerSupport() {
                 @Override
                 public String getName() {
@@ -118,6 +170,9 @@ public class RecoverJobsTest {
                 @Override
                 public void jobToBeExecuted(JobExecutionContext context) {
                     isJobRecovered.set(true);
+                    if (context.isRecovering()) {
+                        recoveringExecutions.incrementAndGet();
+                    }
                 }
             });
             recovery.start();
@@ -129,6 +184,15 @@ public class RecoverJobsTest {
             recovery.shutdown(true);
 
            assertTrue(isJobRecovered.get());
+           if (recoveryBatchSize > 0) {
+               // the one fired trigger record left behind
+               assertEquals(Collections.singletonList("1/1"), recoveryProgress);
+           }
+           if (failFirstCleanUp) {
+               assertTrue(cleanUpFailed.get());
+               // the retried clean-up must not schedule the recovery again
+               assertEquals(1, recoveringExecutions.get());
+           }
         } finally {
             JdbcQuartzTestUtilities.destroyDatabase(dsName, DatabaseType.DERBY);
         }
@@ -0,0 +1,69 @@
+/* 
+ * Copyright IBM Corp. 2024, 2025
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not 
+ * use this file except in compliance with the License. You may obtain a copy 
+ * of the License at 
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0 
+ *   
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT 
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the 
+ * License for the specific language governing permissions and limitations 
+ * under the License.
+ * 
+ */
+package org.quartz.impl.jdbcjobstore;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.junit.jupiter.api.Test;
+
+class BoundedCacheTest {
+
+    @Test
+    void testLeastRecentlyUsedEntryIsEvicted() {
+        BoundedCache<String, String> cache = new BoundedCache<>(2, 0L);
+        cache.put("a", "A", cache.generation());
+        cache.put("b", "B", cache.generation());
+        assertEquals("A", cache.get("a"));
+
+        cache.put("c", "C", cache.generation());
+
+        assertEquals(2, cache.size());
+        assertEquals("A", cache.get("a"));
+        assertNull(cache.get("b"));
+        assertEquals("C", cache.get("c"));
+        assertEquals(3, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    void testEntriesExpireAfterTheirTimeToLive() throws InterruptedException {
+        BoundedCache<String, String> cache = new BoundedCache<>(10, 20L);
+        cache.put("a", "A", cache.generation());
+        assertEquals("A", cache.get("a"));
+
+        Thread.sleep(40L);
+
+        assertNull(cache.get("a"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void testValueLoadedBeforeAnInvalidationIsNotCached() {
+        BoundedCache<String, String> cache = new BoundedCache<>(10, 0L);
+        long loadGeneration = cache.generation();
+
+        // changed (and invalidated) while the old value was being loaded
+        cache.remove("a");
+        cache.put("a", "stale", loadGeneration);
+        assertNull(cache.get("a"));
+
+        cache.put("a", "A", cache.generation());
+        cache.clear();
+        assertNull(cache.get("a"));
+    }
+}
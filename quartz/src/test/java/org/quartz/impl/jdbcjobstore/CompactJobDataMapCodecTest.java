@@ -0,0 +1,104 @@
+/* 
+ * Copyright IBM Corp. 2024, 2025
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not 
+ * use this file except in compliance with the License. You may obtain a copy 
+ * of the License at 
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0 
+ *   
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT 
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the 
+ * License for the specific language governing permissions and limitations 
+ * under the License.
+ * 
+ */
+package org.quartz.impl.jdbcjobstore;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.NotSerializableException;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+public class CompactJobDataMapCodecTest {
+
+    private final CompactJobDataMapCodec codec = new CompactJobDataMapCodec();
+
+    private Map<?, ?> roundTrip(Map<?, ?> data) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        codec.encode(data, out);
+        return codec.decode(new ByteArrayInputStream(out.toByteArray()));
+    }
+
+    @Test
+    void testTaggedValuesAreReadBackAsTheSameClasses() throws Exception {
+        Map<String, Object> nested = new HashMap<>();
+        nested.put("flag", true);
+        nested.put("nothing", null);
+
+        Map<String, Object> data = new HashMap<>();
+        data.put("string", "value é中");
+        data.put("int", Integer.MIN_VALUE);
+        data.put("long", -1L);
+        data.put("bigLong", Long.MAX_VALUE);
+        data.put("double", 1.5d);
+        data.put("float", 2.5f);
+        data.put("short", (short) 7);
+        data.put("byte", (byte) -3);
+        data.put("char", 'x');
+        data.put("false", false);
+        data.put("date", new Date(1234567890123L));
+        data.put("list", new ArrayList<>(Arrays.asList("a", 1, null)));
+        data.put("map", nested);
+
+        Map<?, ?> decoded = roundTrip(data);
+        assertEquals(data, decoded);
+        for (Map.Entry<String, Object> entry : data.entrySet()) {
+            assertSame(entry.getValue().getClass(), decoded.get(entry.getKey()).getClass());
+        }
+    }
+
+    @Test
+    void testOtherValuesAreSerialized() throws Exception {
+        Map<String, Object> data = new HashMap<>();
+        data.put("decimal", new BigDecimal("12.34"));
+        data.put("timestamp", new Timestamp(1000L));
+        data.put("linkedList", new LinkedList<>(Arrays.asList(1, 2)));
+
+        Map<?, ?> decoded = roundTrip(data);
+        assertEquals(data, decoded);
+        assertSame(Timestamp.class, decoded.get("timestamp").getClass());
+        assertSame(LinkedList.class, decoded.get("linkedList").getClass());
+    }
+
+    @Test
+    void testByteArrays() throws Exception {
+        Map<String, Object> data = new HashMap<>();
+        data.put("bytes", new byte[] {1, 2, 3});
+
+        assertArrayEquals(new byte[] {1, 2, 3}, (byte[]) roundTrip(data).get("bytes"));
+    }
+
+    @Test
+    void testNonSerializableValueIsRejected() {
+        Map<String, Object> data = new HashMap<>();
+        data.put("key", new Object());
+
+        assertThrows(NotSerializableException.class, () -> codec.encode(data, new ByteArrayOutputStream()));
+    }
+}
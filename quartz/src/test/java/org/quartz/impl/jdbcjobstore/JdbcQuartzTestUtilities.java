@@ -36,7 +36,8 @@ public final class JdbcQuartzTestUtilities {
 
     public enum DatabaseType {
         DERBY("org/quartz/impl/jdbcjobstore/tables_derby.sql", StdJDBCDelegate.class.getName()),
-        MSSQL("org/quartz/impl/jdbcjobstore/tables_sqlServer.sql", MSSQLDelegate.class.getName());
+        MSSQL("org/quartz/impl/jdbcjobstore/tables_sqlServer.sql", MSSQLDelegate.class.getName()),
+        POSTGRES("org/quartz/impl/jdbcjobstore/tables_postgres.sql", PostgreSQLDelegate.class.getName());
 
         private final String scriptResource;
         private final String delegateClassName;
@@ -97,7 +98,11 @@ public final class JdbcQuartzTestUtilities {
             break;
         case MSSQL:
             DBConnectionManager.getInstance().addConnectionProvider(name,
-                    new TestContainerEmbeddedConnectionProvider("jdbc:tc:sqlserver:latest:///" + name));
+                    new TestContainerEmbeddedConnectionProvider("jdbc:tc:sqlserver:latest:///" + name, databaseType));
+            break;
+        case POSTGRES:
+            DBConnectionManager.getInstance().addConnectionProvider(name,
+                    new TestContainerEmbeddedConnectionProvider("jdbc:tc:postgresql:16:///" + name, databaseType));
             break;
         default:
             throw new AssertionError("Unsupported database type: " + databaseType);
@@ -116,6 +121,7 @@ public final class JdbcQuartzTestUtilities {
             }
             break;
         case MSSQL:
+        case POSTGRES:
             shutdownDatabase(name, databaseType);
             break;
         default:
@@ -135,6 +141,7 @@ public final class JdbcQuartzTestUtilities {
             }
             break;
         case MSSQL:
+        case POSTGRES:
             DBConnectionManager.getInstance().shutdown(name);
             break;
         default:
@@ -184,12 +191,12 @@ public final class JdbcQuartzTestUtilities {
         //we keep a connection open to keep the testcontainer container alive
         private final Connection conn;
 
-        TestContainerEmbeddedConnectionProvider(String jdbcUrl) throws SQLException {
+        TestContainerEmbeddedConnectionProvider(String jdbcUrl, DatabaseType databaseType) throws SQLException {
             this.jdbcUrl = jdbcUrl;
             this.conn = DriverManager.getConnection(this.jdbcUrl);
 
             Statement statement = conn.createStatement();
-            for (String command : getDatabaseSetupScript(DatabaseType.MSSQL)) {
+            for (String command : getDatabaseSetupScript(databaseType)) {
                 statement.addBatch(command.replace("GO", ";").replace("[enter_db_name_here]", "[master]"));
             }
             statement.executeBatch();
@@ -0,0 +1,149 @@
+/* 
+ * Copyright IBM Corp. 2024, 2025
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not 
+ * use this file except in compliance with the License. You may obtain a copy 
+ * of the License at 
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0 
+ *   
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT 
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the 
+ * License for the specific language governing permissions and limitations 
+ * under the License.
+ * 
+ */
+package org.quartz.impl.jdbcjobstore;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.function.Function;
+
+import org.quartz.AbstractJobStoreTest.MyJob;
+import org.quartz.JobBuilder;
+import org.quartz.JobDetail;
+import org.quartz.TriggerBuilder;
+import org.quartz.TriggerKey;
+import org.quartz.impl.jdbcjobstore.JdbcQuartzTestUtilities.DatabaseType;
+import org.quartz.simpl.SimpleClassLoadHelper;
+import org.quartz.spi.OperableTrigger;
+import org.quartz.utils.DBConnectionManager;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Measures what expanding the delegate's SQL once, and caching prepared
+ * statements per connection, save on the statements the job store runs for
+ * every trigger it acquires and fires, against embedded Derby.
+ *
+ * <p>
+ * Not a unit test; run it with the test classpath:
+ * </p>
+ * <pre>java org.quartz.impl.jdbcjobstore.JdbcStatementBenchmark [triggers] [transactions]</pre>
+ */
+public class JdbcStatementBenchmark implements StdJDBCConstants {
+
+    private static final String DB_NAME = "JdbcStatementBenchmark";
+
+    public static void main(String[] args) throws Exception {
+        int triggerCount = args.length > 0 ? Integer.parseInt(args[0]) : 100;
+        int transactions = args.length > 1 ? Integer.parseInt(args[1]) : 500;
+
+        JdbcQuartzTestUtilities.createDatabase(DB_NAME, DatabaseType.DERBY);
+        try {
+            StdJDBCDelegate delegate = new StdJDBCDelegate();
+            delegate.initialize(LoggerFactory.getLogger(JdbcStatementBenchmark.class), "QRTZ_", DB_NAME, "INSTANCE",
+                    new SimpleClassLoadHelper(), false, "");
+            List<TriggerKey> keys = storeTriggers(delegate, triggerCount);
+
+            benchmarkSqlExpansion(delegate);
+
+            // warm up, then measure
+            for (int round = 0; round < 2; round++) {
+                run("prepared per statement", delegate, keys, transactions,
+                        AttributeRestoringConnectionInvocationHandler::new, round == 1);
+                run("cached per connection ", delegate, keys, transactions,
+                        conn -> new StatementCachingConnectionInvocationHandler(conn, 20), round == 1);
+            }
+        } finally {
+            JdbcQuartzTestUtilities.destroyDatabase(DB_NAME, DatabaseType.DERBY);
+        }
+    }
+
+    private static List<TriggerKey> storeTriggers(StdJDBCDelegate delegate, int triggerCount) throws Exception {
+        List<TriggerKey> keys = new ArrayList<>(triggerCount);
+        try (Connection conn = DBConnectionManager.getInstance().getConnection(DB_NAME)) {
+            conn.setAutoCommit(false);
+            JobDetail job = JobBuilder.newJob(MyJob.class).withIdentity("job").storeDurably().build();
+            delegate.insertJobDetail(conn, job);
+            for (int i = 0; i < triggerCount; i++) {
+                OperableTrigger trigger = (OperableTrigger) TriggerBuilder.newTrigger().withIdentity("trigger" + i)
+                        .forJob(job).startAt(new Date()).build();
+                trigger.computeFirstFireTime(null);
+                delegate.insertTrigger(conn, trigger, STATE_WAITING, job);
+                keys.add(trigger.getKey());
+            }
+            conn.commit();
+        }
+        return keys;
+    }
+
+    private static void benchmarkSqlExpansion(StdJDBCDelegate delegate) {
+        int count = 1000000;
+        for (int round = 0; round < 2; round++) {
+            long start = System.nanoTime();
+            int length = 0;
+            for (int i = 0; i < count; i++) {
+                length += Util.rtp(UPDATE_TRIGGER_STATE_FROM_STATE, "QRTZ_", "'" + DB_NAME + "'").length();
+            }
+            long formatted = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            for (int i = 0; i < count; i++) {
+                length += delegate.rtp(UPDATE_TRIGGER_STATE_FROM_STATE).length();
+            }
+            long expanded = System.nanoTime() - start;
+
+            if (round == 1) {
+                System.out.printf("SQL per statement: formatted %,d ns, expanded once %,d ns (%d)%n",
+                        formatted / count, expanded / count, length % 10);
+            }
+        }
+    }
+
+    /**
+     * Each transaction moves every trigger to ACQUIRED, reads its state, and
+     * moves it back, one statement per trigger - as acquiring, firing and
+     * completing triggers one at a time do.
+     */
+    private static void run(String name, StdJDBCDelegate delegate, List<TriggerKey> keys, int transactions,
+            Function<Connection, InvocationHandler> handlerFactory, boolean report) throws Exception {
+        long start = System.nanoTime();
+        for (int t = 0; t < transactions; t++) {
+            Connection physical = DBConnectionManager.getInstance().getConnection(DB_NAME);
+            AttributeRestoringConnectionInvocationHandler handler =
+                    (AttributeRestoringConnectionInvocationHandler) handlerFactory.apply(physical);
+            Connection conn = (Connection) Proxy.newProxyInstance(JdbcStatementBenchmark.class.getClassLoader(),
+                    new Class[] { Connection.class }, handler);
+            conn.setAutoCommit(false);
+            for (TriggerKey key : keys) {
+                delegate.updateTriggerStateFromOtherState(conn, key, STATE_ACQUIRED, STATE_WAITING);
+                delegate.selectTriggerState(conn, key);
+                delegate.updateTriggerStateFromOtherState(conn, key, STATE_WAITING, STATE_ACQUIRED);
+            }
+            conn.commit();
+            handler.restoreOriginalAttributes();
+            physical.close();
+        }
+        long elapsed = System.nanoTime() - start;
+        if (report) {
+            long statements = 3L * keys.size() * transactions;
+            System.out.printf("%s: %,d transactions of %,d statements in %,d ms, %,d ns per statement%n",
+                    name, transactions, 3 * keys.size(), elapsed / 1000000, elapsed / statements);
+        }
+    }
+}
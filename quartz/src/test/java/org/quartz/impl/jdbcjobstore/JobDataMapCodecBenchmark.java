@@ -0,0 +1,110 @@
+/* 
+ * Copyright IBM Corp. 2024, 2025
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not 
+ * use this file except in compliance with the License. You may obtain a copy 
+ * of the License at 
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0 
+ *   
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT 
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the 
+ * License for the specific language governing permissions and limitations 
+ * under the License.
+ * 
+ */
+package org.quartz.impl.jdbcjobstore;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.quartz.JobDataMap;
+import org.quartz.simpl.SimpleClassLoadHelper;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Compares the size of the <code>JOB_DATA</code> rows written with Java
+ * serialization and with the <code>{@link CompactJobDataMapCodec}</code>,
+ * and how long the delegate takes to write and read them back.
+ *
+ * <p>
+ * Not a unit test; run it with the test classpath:
+ * </p>
+ * <pre>java org.quartz.impl.jdbcjobstore.JobDataMapCodecBenchmark [iterations]</pre>
+ */
+public class JobDataMapCodecBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        int iterations = args.length > 0 ? Integer.parseInt(args[0]) : 100000;
+
+        StdJDBCDelegate serializing = new StdJDBCDelegate();
+        serializing.initialize(LoggerFactory.getLogger(JobDataMapCodecBenchmark.class), "QRTZ_", "BENCHMARK", "INSTANCE",
+                new SimpleClassLoadHelper(), false, "");
+        StdJDBCDelegate encoding = new StdJDBCDelegate();
+        encoding.initialize(LoggerFactory.getLogger(JobDataMapCodecBenchmark.class), "QRTZ_", "BENCHMARK", "INSTANCE",
+                new SimpleClassLoadHelper(), false, "jobDataMapCodecClass=" + CompactJobDataMapCodec.class.getName());
+
+        Map<String, JobDataMap> maps = new HashMap<>();
+        maps.put("small", smallMap());
+        maps.put("large", largeMap());
+
+        // warm up, then measure
+        for (int round = 0; round < 2; round++) {
+            for (Map.Entry<String, JobDataMap> map : maps.entrySet()) {
+                run(map.getKey() + " serialized", serializing, map.getValue(), iterations, round == 1);
+                run(map.getKey() + " compact   ", encoding, map.getValue(), iterations, round == 1);
+            }
+        }
+    }
+
+    private static JobDataMap smallMap() {
+        JobDataMap map = new JobDataMap();
+        map.put("customerId", 123456789L);
+        map.put("region", "eu-west");
+        map.put("retries", 3);
+        map.put("notify", true);
+        return map;
+    }
+
+    private static JobDataMap largeMap() {
+        JobDataMap map = smallMap();
+        List<String> recipients = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            recipients.add("recipient" + i + "@example.com");
+        }
+        map.put("recipients", recipients);
+        Map<String, Object> settings = new HashMap<>();
+        for (int i = 0; i < 50; i++) {
+            settings.put("setting" + i, i % 2 == 0 ? (Object) ("value" + i) : (Object) (double) i);
+        }
+        map.put("settings", settings);
+        map.put("created", new Date());
+        return map;
+    }
+
+    private static void run(String name, StdJDBCDelegate delegate, JobDataMap map, int iterations, boolean report)
+        throws Exception {
+        byte[] bytes = null;
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            ByteArrayOutputStream baos = delegate.serializeJobData(map);
+            bytes = baos.toByteArray();
+        }
+        long written = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            delegate.deserializeObject(new ByteArrayInputStream(bytes));
+        }
+        long read = System.nanoTime();
+
+        if (report) {
+            System.out.printf("%s: %6d bytes, write %6.2f us, read %6.2f us%n", name, bytes.length,
+                    (written - start) / 1000.0 / iterations, (read - written) / 1000.0 / iterations);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+/* 
+ * Copyright IBM Corp. 2024, 2025
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not 
+ * use this file except in compliance with the License. You may obtain a copy 
+ * of the License at 
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0 
+ *   
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT 
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the 
+ * License for the specific language governing permissions and limitations 
+ * under the License.
+ * 
+ */
+package org.quartz.impl.jdbcjobstore;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.quartz.AbstractJobStoreTest.SampleSignaler;
+import org.quartz.impl.jdbcjobstore.JdbcQuartzTestUtilities.DatabaseType;
+import org.quartz.simpl.CascadingClassLoadHelper;
+
+public class JobStoreAdaptiveCheckinTest {
+
+    private static final String DB_NAME = "JobStoreAdaptiveCheckinTest";
+
+    private static final long CHECKIN_INTERVAL = 4000L;
+
+    private JobStoreTX nodeA;
+
+    private JobStoreTX nodeB;
+
+    private JobStoreTX nodeC;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        JdbcQuartzTestUtilities.createDatabase(DB_NAME, DatabaseType.DERBY);
+        nodeA = createJobStore("A");
+        nodeB = createJobStore("B");
+        nodeC = createJobStore("C");
+    }
+
+    private JobStoreTX createJobStore(String instanceId) throws Exception {
+        JobStoreTX jobStore = new JobStoreTX();
+        jobStore.setDataSource(DB_NAME);
+        jobStore.setTablePrefix("QRTZ_");
+        jobStore.setInstanceId(instanceId);
+        jobStore.setInstanceName(DB_NAME);
+        jobStore.setIsClustered(true);
+        jobStore.setClusterCheckinInterval(CHECKIN_INTERVAL);
+        jobStore.setAdaptiveClusterCheckin(true);
+        jobStore.setTriggerAccessPartitions(4);
+
+        CascadingClassLoadHelper loadHelper = new CascadingClassLoadHelper();
+        loadHelper.initialize();
+        jobStore.initialize(loadHelper, new SampleSignaler());
+        return jobStore;
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        nodeA.shutdown();
+        nodeB.shutdown();
+        nodeC.shutdown();
+        JdbcQuartzTestUtilities.destroyDatabase(DB_NAME, DatabaseType.DERBY);
+    }
+
+    @Test
+    void testAcquisitionChecksInForTheClusterManager() throws Exception {
+        nodeB.doCheckin();
+        nodeC.doCheckin();
+        // with three live instances, A's next scan is at least one interval away
+        nodeA.doCheckin();
+
+        long firstCheckin = nodeA.lastCheckin;
+        nodeA.acquireNextTriggers(System.currentTimeMillis() + 1000L, 1, 0L);
+        assertEquals(0, nodeA.getPiggybackedCheckinCount());
+        assertEquals(firstCheckin, nodeA.lastCheckin);
+
+        Thread.sleep(CHECKIN_INTERVAL * 3 / 4 + 100L);
+        nodeA.acquireNextTriggers(System.currentTimeMillis() + 1000L, 1, 0L);
+        assertEquals(1, nodeA.getPiggybackedCheckinCount());
+        long piggybackedCheckin = nodeA.lastCheckin;
+        assertTrue(piggybackedCheckin > firstCheckin);
+
+        assertFalse(nodeA.doCheckin());
+        assertEquals(piggybackedCheckin, nodeA.lastCheckin);
+    }
+
+    @Test
+    void testCheckinWithoutScanReassignsPartitions() throws Exception {
+        // alone, A's next scan is at least half an interval away
+        nodeA.doCheckin();
+        assertArrayEquals(new int[] {0, 1, 2, 3}, nodeA.getOwnedTriggerPartitions());
+        nodeB.doCheckin();
+
+        nodeA.lastCheckin -= CHECKIN_INTERVAL;
+        assertFalse(nodeA.doCheckin());
+        assertArrayEquals(new int[] {0, 2}, nodeA.getOwnedTriggerPartitions());
+        assertArrayEquals(new int[] {1, 3}, nodeB.getOwnedTriggerPartitions());
+    }
+}
@@ -0,0 +1,175 @@
+/* 
+ * Copyright IBM Corp. 2024, 2025
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not 
+ * use this file except in compliance with the License. You may obtain a copy 
+ * of the License at 
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0 
+ *   
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT 
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the 
+ * License for the specific language governing permissions and limitations 
+ * under the License.
+ * 
+ */
+package org.quartz.impl.jdbcjobstore;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.quartz.AbstractJobStoreTest.MyJob;
+import org.quartz.AbstractJobStoreTest.SampleSignaler;
+import org.quartz.CronScheduleBuilder;
+import org.quartz.CronTrigger;
+import org.quartz.DisallowConcurrentExecution;
+import org.quartz.Job;
+import org.quartz.JobExecutionContext;
+import org.quartz.JobBuilder;
+import org.quartz.JobDetail;
+import org.quartz.JobKey;
+import org.quartz.ObjectAlreadyExistsException;
+import org.quartz.SimpleTrigger;
+import org.quartz.Trigger;
+import org.quartz.Trigger.TriggerState;
+import org.quartz.TriggerBuilder;
+import org.quartz.TriggerKey;
+import org.quartz.impl.jdbcjobstore.JdbcQuartzTestUtilities.DatabaseType;
+import org.quartz.impl.matchers.GroupMatcher;
+import org.quartz.simpl.CascadingClassLoadHelper;
+import org.quartz.spi.OperableTrigger;
+
+public class JobStoreBulkStoreTest {
+
+    private static final String DB_NAME = "JobStoreBulkStoreTest";
+
+    // more than one existence query per group
+    private static final int JOB_COUNT = 1200;
+
+    private JobStoreTX jobStore;
+
+    @DisallowConcurrentExecution
+    public static class NonConcurrentJob implements Job {
+        public void execute(JobExecutionContext context) {
+        }
+    }
+
+    @BeforeEach
+    void setUp() throws Exception {
+        JdbcQuartzTestUtilities.createDatabase(DB_NAME, DatabaseType.DERBY);
+        jobStore = new JobStoreTX();
+        jobStore.setDataSource(DB_NAME);
+        jobStore.setTablePrefix("QRTZ_");
+        jobStore.setInstanceId("SINGLE_NODE_TEST");
+        jobStore.setInstanceName(DB_NAME);
+        jobStore.setBulkStoreChunkSize(250);
+
+        CascadingClassLoadHelper loadHelper = new CascadingClassLoadHelper();
+        loadHelper.initialize();
+        jobStore.initialize(loadHelper, new SampleSignaler());
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        jobStore.shutdown();
+        JdbcQuartzTestUtilities.destroyDatabase(DB_NAME, DatabaseType.DERBY);
+    }
+
+    private static Map<JobDetail, Set<? extends Trigger>> jobsAndTriggers(int from, int to, String description) {
+        Map<JobDetail, Set<? extends Trigger>> jobsAndTriggers = new LinkedHashMap<>();
+        for (int i = from; i < to; i++) {
+            JobDetail job = JobBuilder.newJob(MyJob.class).withIdentity("job" + i, "jobGroup" + (i % 2))
+                    .usingJobData("index", i).build();
+            Trigger trigger;
+            if (i % 2 == 0) {
+                trigger = TriggerBuilder.newTrigger().withIdentity("trigger" + i, "triggerGroup")
+                        .withDescription(description).forJob(job).startAt(new Date()).build();
+            } else {
+                trigger = TriggerBuilder.newTrigger().withIdentity("trigger" + i, "triggerGroup")
+                        .withDescription(description).forJob(job)
+                        .withSchedule(CronScheduleBuilder.cronSchedule("0 0 12 * * ?")).build();
+            }
+            jobsAndTriggers.put(job, Collections.singleton(trigger));
+        }
+        return jobsAndTriggers;
+    }
+
+    @Test
+    void testStoreJobsAndTriggersInChunks() throws Exception {
+        jobStore.storeJobsAndTriggers(jobsAndTriggers(0, JOB_COUNT, "first"), false);
+
+        assertEquals(JOB_COUNT, jobStore.getNumberOfJobs());
+        assertEquals(JOB_COUNT, jobStore.getNumberOfTriggers());
+        assertEquals(JOB_COUNT / 2, jobStore.getJobKeys(GroupMatcher.jobGroupEquals("jobGroup1")).size());
+
+        JobDetail job = jobStore.retrieveJob(JobKey.jobKey("job7", "jobGroup1"));
+        assertEquals(7, job.getJobDataMap().getInt("index"));
+        assertTrue(jobStore.retrieveTrigger(TriggerKey.triggerKey("trigger6", "triggerGroup")) instanceof SimpleTrigger);
+        CronTrigger cron = (CronTrigger) jobStore.retrieveTrigger(TriggerKey.triggerKey("trigger7", "triggerGroup"));
+        assertEquals("0 0 12 * * ?", cron.getCronExpression());
+        assertEquals(TriggerState.NORMAL, jobStore.getTriggerState(cron.getKey()));
+    }
+
+    @Test
+    void testStoreExistingJobsWithoutReplacing() throws Exception {
+        jobStore.storeJobsAndTriggers(jobsAndTriggers(0, 10, "first"), false);
+
+        assertThrows(ObjectAlreadyExistsException.class,
+                () -> jobStore.storeJobsAndTriggers(jobsAndTriggers(5, 15, "second"), false));
+        assertEquals(10, jobStore.getNumberOfJobs());
+    }
+
+    @Test
+    void testStoreJobsAndTriggersReplacing() throws Exception {
+        jobStore.storeJobsAndTriggers(jobsAndTriggers(0, 10, "first"), false);
+        jobStore.storeJobsAndTriggers(jobsAndTriggers(5, 15, "second"), true);
+
+        assertEquals(15, jobStore.getNumberOfJobs());
+        assertEquals(15, jobStore.getNumberOfTriggers());
+        assertEquals("first", jobStore.retrieveTrigger(TriggerKey.triggerKey("trigger4", "triggerGroup")).getDescription());
+        assertEquals("second", jobStore.retrieveTrigger(TriggerKey.triggerKey("trigger5", "triggerGroup")).getDescription());
+        assertEquals("second", jobStore.retrieveTrigger(TriggerKey.triggerKey("trigger14", "triggerGroup")).getDescription());
+    }
+
+    @Test
+    void testTriggersOfPausedGroupsAreStoredPaused() throws Exception {
+        jobStore.pauseTriggers(GroupMatcher.triggerGroupEquals("triggerGroup"));
+        jobStore.storeJobsAndTriggers(jobsAndTriggers(0, 10, "first"), false);
+
+        for (int i = 0; i < 10; i++) {
+            assertEquals(TriggerState.PAUSED, jobStore.getTriggerState(TriggerKey.triggerKey("trigger" + i, "triggerGroup")));
+        }
+    }
+
+    @Test
+    void testTriggersOfExecutingNonConcurrentJobAreStoredBlocked() throws Exception {
+        JobDetail job = JobBuilder.newJob(NonConcurrentJob.class).withIdentity("nonConcurrent").build();
+        OperableTrigger trigger = (OperableTrigger) TriggerBuilder.newTrigger().withIdentity("first")
+                .forJob(job).startAt(new Date()).build();
+        trigger.computeFirstFireTime(null);
+        jobStore.storeJobAndTrigger(job, trigger);
+        List<OperableTrigger> acquired = jobStore.acquireNextTriggers(System.currentTimeMillis() + 1000L, 1, 0L);
+        assertEquals(1, jobStore.triggersFired(acquired).size());
+
+        // deleted while executing, and stored again
+        jobStore.removeJob(job.getKey());
+        Map<JobDetail, Set<? extends Trigger>> jobsAndTriggers = new LinkedHashMap<>();
+        jobsAndTriggers.put(job, Collections.singleton(TriggerBuilder.newTrigger().withIdentity("second")
+                .forJob(job).startAt(new Date()).build()));
+        jobStore.storeJobsAndTriggers(jobsAndTriggers, false);
+
+        assertEquals(TriggerState.BLOCKED, jobStore.getTriggerState(TriggerKey.triggerKey("second")));
+    }
+}
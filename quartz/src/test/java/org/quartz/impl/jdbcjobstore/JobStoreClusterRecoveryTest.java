@@ -0,0 +1,127 @@
+/* 
+ * Copyright IBM Corp. 2024, 2025
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not 
+ * use this file except in compliance with the License. You may obtain a copy 
+ * of the License at 
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0 
+ *   
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT 
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the 
+ * License for the specific language governing permissions and limitations 
+ * under the License.
+ * 
+ */
+package org.quartz.impl.jdbcjobstore;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.quartz.AbstractJobStoreTest.MyJob;
+import org.quartz.AbstractJobStoreTest.SampleSignaler;
+import org.quartz.JobBuilder;
+import org.quartz.JobDetail;
+import org.quartz.Scheduler;
+import org.quartz.Trigger;
+import org.quartz.Trigger.TriggerState;
+import org.quartz.TriggerBuilder;
+import org.quartz.TriggerKey;
+import org.quartz.impl.jdbcjobstore.JdbcQuartzTestUtilities.DatabaseType;
+import org.quartz.impl.matchers.GroupMatcher;
+import org.quartz.simpl.CascadingClassLoadHelper;
+import org.quartz.spi.OperableTrigger;
+
+public class JobStoreClusterRecoveryTest {
+
+    private static final String DB_NAME = "JobStoreClusterRecoveryTest";
+
+    private JobStoreTX failedNode;
+
+    private JobStoreTX restartedNode;
+
+    private Date startTime;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        JdbcQuartzTestUtilities.createDatabase(DB_NAME, DatabaseType.DERBY);
+        failedNode = createJobStore();
+        failedNode.doCheckin();
+
+        startTime = new Date();
+        JobDetail recoverableJob = JobBuilder.newJob(MyJob.class).withIdentity("recoverable")
+                .requestRecovery().build();
+        storeTrigger(recoverableJob, TriggerBuilder.newTrigger().withIdentity("executing")
+                .usingJobData("key", "value"));
+        JobDetail job = JobBuilder.newJob(MyJob.class).withIdentity("job").build();
+        storeTrigger(job, TriggerBuilder.newTrigger().withIdentity("acquired"));
+    }
+
+    private JobStoreTX createJobStore() throws Exception {
+        JobStoreTX jobStore = new JobStoreTX();
+        jobStore.setDataSource(DB_NAME);
+        jobStore.setTablePrefix("QRTZ_");
+        jobStore.setInstanceId("NODE");
+        jobStore.setInstanceName(DB_NAME);
+        jobStore.setIsClustered(true);
+
+        CascadingClassLoadHelper loadHelper = new CascadingClassLoadHelper();
+        loadHelper.initialize();
+        jobStore.initialize(loadHelper, new SampleSignaler());
+        return jobStore;
+    }
+
+    private void storeTrigger(JobDetail job, TriggerBuilder<Trigger> builder) throws Exception {
+        OperableTrigger trigger = (OperableTrigger) builder.forJob(job).startAt(startTime).build();
+        trigger.computeFirstFireTime(null);
+        failedNode.storeJobAndTrigger(job, trigger);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        failedNode.shutdown();
+        if (restartedNode != null) {
+            restartedNode.shutdown();
+        }
+        JdbcQuartzTestUtilities.destroyDatabase(DB_NAME, DatabaseType.DERBY);
+    }
+
+    @Test
+    void testRestartedInstanceRecoversItsInProgressWork() throws Exception {
+        List<OperableTrigger> acquired = failedNode.acquireNextTriggers(startTime.getTime() + 1000L, 2, 0L);
+        assertEquals(2, acquired.size());
+        for (OperableTrigger trigger : acquired) {
+            if (trigger.getKey().getName().equals("executing")) {
+                failedNode.triggersFired(Collections.singletonList(trigger));
+            }
+        }
+
+        restartedNode = createJobStore();
+        assertTrue(restartedNode.doCheckin());
+
+        assertEquals(TriggerState.NORMAL, restartedNode.getTriggerState(TriggerKey.triggerKey("acquired")));
+        // the executing trigger had no fire time left, so only its recovery remains
+        assertEquals(TriggerState.NONE, restartedNode.getTriggerState(TriggerKey.triggerKey("executing")));
+
+        Set<TriggerKey> recoveryKeys = restartedNode.getTriggerKeys(
+                GroupMatcher.triggerGroupEquals(Scheduler.DEFAULT_RECOVERY_GROUP));
+        assertEquals(1, recoveryKeys.size());
+        Trigger recovery = restartedNode.retrieveTrigger(recoveryKeys.iterator().next());
+        assertEquals("recoverable", recovery.getJobKey().getName());
+        assertEquals("value", recovery.getJobDataMap().getString("key"));
+        assertEquals("executing", recovery.getJobDataMap().getString(Scheduler.FAILED_JOB_ORIGINAL_TRIGGER_NAME));
+        assertEquals(TriggerState.NORMAL, restartedNode.getTriggerState(recovery.getKey()));
+
+        assertEquals(1, restartedNode.getClusterRecoveryCount());
+        assertTrue(restartedNode.getLastClusterRecoveryTime() <= restartedNode.getClusterRecoveryTime());
+    }
+}
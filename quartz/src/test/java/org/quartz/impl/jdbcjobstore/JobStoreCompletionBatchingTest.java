@@ -0,0 +1,196 @@
+/* 
+ * Copyright IBM Corp. 2024, 2025
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not 
+ * use this file except in compliance with the License. You may obtain a copy 
+ * of the License at 
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0 
+ *   
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT 
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the 
+ * License for the specific language governing permissions and limitations 
+ * under the License.
+ * 
+ */
+package org.quartz.impl.jdbcjobstore;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.quartz.AbstractJobStoreTest.MyJob;
+import org.quartz.AbstractJobStoreTest.SampleSignaler;
+import org.quartz.JobBuilder;
+import org.quartz.JobDetail;
+import org.quartz.JobPersistenceException;
+import org.quartz.Trigger.CompletedExecutionInstruction;
+import org.quartz.TriggerBuilder;
+import org.quartz.TriggerKey;
+import org.quartz.impl.jdbcjobstore.JdbcQuartzTestUtilities.DatabaseType;
+import org.quartz.simpl.CascadingClassLoadHelper;
+import org.quartz.spi.OperableTrigger;
+import org.quartz.spi.TriggerFiredResult;
+
+public class JobStoreCompletionBatchingTest {
+
+    private static final String DB_NAME = "JobStoreCompletionBatchingTest";
+
+    private JobStoreTX jobStore;
+
+    // completions of these triggers fail, and record the threads attempting them
+    private final Map<TriggerKey, Thread> failing = new ConcurrentHashMap<>();
+
+    // the next completion committed by the batcher thread kills it
+    private volatile boolean killBatcher = false;
+
+    private int jobsFired = 0;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        JdbcQuartzTestUtilities.createDatabase(DB_NAME, DatabaseType.DERBY);
+        jobStore = new JobStoreTX() {
+            @Override
+            protected void triggeredJobComplete(Connection conn, OperableTrigger trigger, JobDetail jobDetail,
+                    CompletedExecutionInstruction triggerInstCode) throws JobPersistenceException {
+                if (killBatcher && Thread.currentThread().getName().endsWith("_CompletionBatcher")) {
+                    killBatcher = false;
+                    throw new Error("completion batcher dies");
+                }
+                if (failing.replace(trigger.getKey(), Thread.currentThread()) != null) {
+                    throw new JobPersistenceException("completion of " + trigger.getKey() + " fails");
+                }
+                super.triggeredJobComplete(conn, trigger, jobDetail, triggerInstCode);
+            }
+        };
+        jobStore.setDataSource(DB_NAME);
+        jobStore.setTablePrefix("QRTZ_");
+        jobStore.setInstanceId("SINGLE_NODE_TEST");
+        jobStore.setInstanceName(DB_NAME);
+        jobStore.setCompletionBatchInterval(50L);
+        jobStore.setDbRetryInterval(50L);
+
+        CascadingClassLoadHelper loadHelper = new CascadingClassLoadHelper();
+        loadHelper.initialize();
+        jobStore.initialize(loadHelper, new SampleSignaler());
+        jobStore.schedulerStarted();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        jobStore.shutdown();
+        JdbcQuartzTestUtilities.destroyDatabase(DB_NAME, DatabaseType.DERBY);
+    }
+
+    @Test
+    void testCompletionsOfConcurrentWorkersAreCommittedTogether() throws Exception {
+        int jobCount = 20;
+        for (Thread worker : completeConcurrently(fire(jobCount)).values()) {
+            worker.join();
+        }
+
+        // every worker returned only once its completion was committed
+        assertEquals(0, jobStore.getNumberOfTriggers());
+        assertEquals(jobCount, jobStore.getCompletedTriggerCount());
+        assertTrue(jobStore.getCompletionTransactionCount() < jobCount);
+    }
+
+    @Test
+    void testFailingCompletionIsRetriedByItsOwnWorker() throws Exception {
+        int jobCount = 5;
+        TriggerKey failingKey = new TriggerKey("trigger0");
+        failing.put(failingKey, Thread.currentThread());
+
+        Map<TriggerKey, Thread> workers = completeConcurrently(fire(jobCount));
+        Thread failingWorker = workers.remove(failingKey);
+        for (Thread worker : workers.values()) {
+            worker.join(10000L);
+            assertFalse(worker.isAlive());
+        }
+        assertEquals(jobCount - 1, jobStore.getCompletedTriggerCount());
+
+        // the failing completion is retried by its worker, while the batcher goes on
+        while (failing.get(failingKey) != failingWorker) {
+            Thread.sleep(10L);
+        }
+        assertTrue(failingWorker.isAlive());
+        for (Thread worker : completeConcurrently(fire(1)).values()) {
+            worker.join(10000L);
+            assertFalse(worker.isAlive());
+        }
+
+        failing.clear();
+        failingWorker.join(10000L);
+        assertFalse(failingWorker.isAlive());
+        assertEquals(0, jobStore.getNumberOfTriggers());
+        assertEquals(jobCount + 1, jobStore.getCompletedTriggerCount());
+    }
+
+    @Test
+    void testCompletionsAreCommittedByTheWorkersWhenTheBatcherDies() throws Exception {
+        int jobCount = 5;
+        killBatcher = true;
+        for (Thread worker : completeConcurrently(fire(jobCount)).values()) {
+            worker.join(10000L);
+            assertFalse(worker.isAlive());
+        }
+        assertFalse(killBatcher);
+        assertEquals(jobCount, jobStore.getCompletedTriggerCount());
+
+        // and so are the later ones
+        for (Thread worker : completeConcurrently(fire(1)).values()) {
+            worker.join(10000L);
+            assertFalse(worker.isAlive());
+        }
+        assertEquals(0, jobStore.getNumberOfTriggers());
+        assertEquals(jobCount + 1, jobStore.getCompletedTriggerCount());
+    }
+
+    private List<TriggerFiredResult> fire(int jobCount) throws Exception {
+        Date startTime = new Date();
+        for (int i = jobsFired; i < jobsFired + jobCount; i++) {
+            JobDetail job = JobBuilder.newJob(MyJob.class).withIdentity("job" + i).build();
+            OperableTrigger trigger = (OperableTrigger) TriggerBuilder.newTrigger().withIdentity("trigger" + i)
+                    .forJob(job).startAt(startTime).build();
+            trigger.computeFirstFireTime(null);
+            jobStore.storeJobAndTrigger(job, trigger);
+        }
+        jobsFired += jobCount;
+
+        List<OperableTrigger> acquired = jobStore.acquireNextTriggers(startTime.getTime() + 1000L, jobCount, 0L);
+        assertEquals(jobCount, acquired.size());
+        return jobStore.triggersFired(acquired);
+    }
+
+    private Map<TriggerKey, Thread> completeConcurrently(List<TriggerFiredResult> fired) {
+        CountDownLatch start = new CountDownLatch(1);
+        Map<TriggerKey, Thread> workers = new LinkedHashMap<>();
+        for (TriggerFiredResult result : fired) {
+            Thread worker = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    throw new AssertionError(e);
+                }
+                jobStore.triggeredJobComplete(result.getTriggerFiredBundle().getTrigger(),
+                        result.getTriggerFiredBundle().getJobDetail(), CompletedExecutionInstruction.DELETE_TRIGGER);
+            });
+            worker.start();
+            workers.put(result.getTriggerFiredBundle().getTrigger().getKey(), worker);
+        }
+        start.countDown();
+        return workers;
+    }
+}
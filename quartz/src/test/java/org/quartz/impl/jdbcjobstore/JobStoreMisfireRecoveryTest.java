@@ -0,0 +1,193 @@
+/* 
+ * Copyright IBM Corp. 2024, 2025
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not 
+ * use this file except in compliance with the License. You may obtain a copy 
+ * of the License at 
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0 
+ *   
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT 
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the 
+ * License for the specific language governing permissions and limitations 
+ * under the License.
+ * 
+ */
+package org.quartz.impl.jdbcjobstore;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.quartz.AbstractJobStoreTest.MyJob;
+import org.quartz.AbstractJobStoreTest.SampleSignaler;
+import org.quartz.CronScheduleBuilder;
+import org.quartz.JobBuilder;
+import org.quartz.JobDetail;
+import org.quartz.SimpleScheduleBuilder;
+import org.quartz.Trigger;
+import org.quartz.Trigger.TriggerState;
+import org.quartz.TriggerBuilder;
+import org.quartz.TriggerKey;
+import org.quartz.impl.jdbcjobstore.JdbcQuartzTestUtilities.DatabaseType;
+import org.quartz.simpl.CascadingClassLoadHelper;
+import org.quartz.spi.OperableTrigger;
+
+public class JobStoreMisfireRecoveryTest {
+
+    private static final String DB_NAME = "JobStoreMisfireRecoveryTest";
+
+    private static final long HOUR = 60L * 60L * 1000L;
+
+    private final List<Trigger> misfired = new ArrayList<>();
+
+    private JobStoreTX jobStore;
+
+    private JobDetail job;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        JdbcQuartzTestUtilities.createDatabase(DB_NAME, DatabaseType.DERBY);
+        initializeJobStore(StdJDBCDelegate.class);
+    }
+
+    private void initializeJobStore(Class<? extends StdJDBCDelegate> delegateClass) throws Exception {
+        jobStore = new JobStoreTX();
+        jobStore.setDriverDelegateClass(delegateClass.getName());
+        jobStore.setDataSource(DB_NAME);
+        jobStore.setTablePrefix("QRTZ_");
+        jobStore.setInstanceId("SINGLE_NODE_TEST");
+        jobStore.setInstanceName(DB_NAME);
+        jobStore.setMisfireThreshold(1000L);
+
+        CascadingClassLoadHelper loadHelper = new CascadingClassLoadHelper();
+        loadHelper.initialize();
+        jobStore.initialize(loadHelper, new SampleSignaler() {
+            @Override
+            public void notifyTriggerListenersMisfired(Trigger trigger) {
+                misfired.add(trigger);
+            }
+        });
+
+        job = JobBuilder.newJob(MyJob.class).withIdentity("job").storeDurably().build();
+        jobStore.storeJob(job, true);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        jobStore.shutdown();
+        JdbcQuartzTestUtilities.destroyDatabase(DB_NAME, DatabaseType.DERBY);
+    }
+
+    private void storeMisfiredTrigger(TriggerBuilder<? extends Trigger> builder) throws Exception {
+        OperableTrigger trigger = (OperableTrigger) builder.forJob(job)
+                .startAt(new Date(System.currentTimeMillis() - HOUR)).build();
+        trigger.computeFirstFireTime(null);
+        jobStore.storeTrigger(trigger, false);
+    }
+
+    @Test
+    void testCommonMisfireInstructionsAreRecoveredTogether() throws Exception {
+        storeMisfiredTrigger(TriggerBuilder.newTrigger().withIdentity("fireNow")
+                .usingJobData("key", "value")
+                .withSchedule(SimpleScheduleBuilder.simpleSchedule().withMisfireHandlingInstructionFireNow()));
+        storeMisfiredTrigger(TriggerBuilder.newTrigger().withIdentity("rescheduleNow")
+                .withSchedule(SimpleScheduleBuilder.simpleSchedule().withIntervalInHours(2).withRepeatCount(5)
+                        .withMisfireHandlingInstructionNowWithExistingCount()));
+        storeMisfiredTrigger(TriggerBuilder.newTrigger().withIdentity("doNothing")
+                .withSchedule(CronScheduleBuilder.cronSchedule("0 0/5 * * * ?")
+                        .withMisfireHandlingInstructionDoNothing()));
+
+        long now = System.currentTimeMillis();
+        JobStoreSupport.RecoverMisfiredJobsResult result = jobStore.doRecoverMisfires();
+
+        assertEquals(3, result.getProcessedMisfiredTriggerCount());
+        assertEquals(3, misfired.size());
+        for (Trigger trigger : misfired) {
+            if (trigger.getKey().getName().equals("fireNow")) {
+                assertEquals("value", trigger.getJobDataMap().getString("key"));
+            }
+        }
+        assertEquals(3, jobStore.getRecoveredMisfireCount());
+        assertEquals(3, jobStore.getBulkRecoveredMisfireCount());
+        assertEquals(0, jobStore.getMisfireBacklog());
+        assertTrue(jobStore.getMisfireLag() >= HOUR);
+
+        Trigger fireNow = jobStore.retrieveTrigger(TriggerKey.triggerKey("fireNow"));
+        assertTrue(fireNow.getNextFireTime().getTime() >= now);
+        assertEquals("value", fireNow.getJobDataMap().getString("key"));
+        assertTrue(jobStore.retrieveTrigger(TriggerKey.triggerKey("rescheduleNow")).getNextFireTime().getTime() >= now);
+        assertTrue(jobStore.retrieveTrigger(TriggerKey.triggerKey("doNothing")).getNextFireTime().getTime() > now);
+        assertEquals(TriggerState.NORMAL, jobStore.getTriggerState(TriggerKey.triggerKey("doNothing")));
+    }
+
+    @Test
+    void testTriggerWithoutNextFireTimeIsCompleted() throws Exception {
+        storeMisfiredTrigger(TriggerBuilder.newTrigger().withIdentity("nextWithRemaining")
+                .withSchedule(SimpleScheduleBuilder.simpleSchedule().withIntervalInMinutes(10).withRepeatCount(1)
+                        .withMisfireHandlingInstructionNextWithRemainingCount()));
+
+        jobStore.doRecoverMisfires();
+
+        assertEquals(1, jobStore.getRecoveredMisfireCount());
+        assertEquals(0, jobStore.getBulkRecoveredMisfireCount());
+        assertEquals(TriggerState.COMPLETE, jobStore.getTriggerState(TriggerKey.triggerKey("nextWithRemaining")));
+    }
+
+    @Test
+    void testBacklogPassesTakeMoreTriggers() throws Exception {
+        jobStore.setMaxMisfiresToHandleAtATime(2);
+        jobStore.setMisfireBacklogBatchSize(10);
+        for (int i = 0; i < 8; i++) {
+            storeMisfiredTrigger(TriggerBuilder.newTrigger().withIdentity("fireNow" + i)
+                    .withSchedule(SimpleScheduleBuilder.simpleSchedule().withMisfireHandlingInstructionFireNow()));
+        }
+
+        JobStoreSupport.RecoverMisfiredJobsResult first = jobStore.doRecoverMisfires();
+        assertEquals(2, first.getProcessedMisfiredTriggerCount());
+        assertTrue(first.hasMoreMisfiredTriggers());
+
+        JobStoreSupport.RecoverMisfiredJobsResult backlog = jobStore.doRecoverMisfires();
+        assertEquals(6, backlog.getProcessedMisfiredTriggerCount());
+        assertFalse(backlog.hasMoreMisfiredTriggers());
+        assertEquals(8, jobStore.getRecoveredMisfireCount());
+    }
+
+    @Test
+    void testFailedBatchIsRolledBackAndHandledOneByOne() throws Exception {
+        jobStore.shutdown();
+        initializeJobStore(FailingBatchDelegate.class);
+        storeMisfiredTrigger(TriggerBuilder.newTrigger().withIdentity("fireNow")
+                .withSchedule(SimpleScheduleBuilder.simpleSchedule().withMisfireHandlingInstructionFireNow()));
+        storeMisfiredTrigger(TriggerBuilder.newTrigger().withIdentity("doNothing")
+                .withSchedule(CronScheduleBuilder.cronSchedule("0 0/5 * * * ?")
+                        .withMisfireHandlingInstructionDoNothing()));
+
+        long now = System.currentTimeMillis();
+        JobStoreSupport.RecoverMisfiredJobsResult result = jobStore.doRecoverMisfires();
+
+        assertEquals(2, result.getProcessedMisfiredTriggerCount());
+        assertEquals(2, jobStore.getRecoveredMisfireCount());
+        assertEquals(0, jobStore.getBulkRecoveredMisfireCount());
+        assertTrue(jobStore.retrieveTrigger(TriggerKey.triggerKey("fireNow")).getNextFireTime().getTime() >= now);
+        assertTrue(jobStore.retrieveTrigger(TriggerKey.triggerKey("doNothing")).getNextFireTime().getTime() > now);
+    }
+
+    public static class FailingBatchDelegate extends StdJDBCDelegate {
+        @Override
+        public int[] updateTriggers(Connection conn, List<OperableTrigger> triggers, List<String> states,
+                List<JobDetail> jobDetails) throws SQLException {
+            throw new SQLException("Simulated batch failure");
+        }
+    }
+}
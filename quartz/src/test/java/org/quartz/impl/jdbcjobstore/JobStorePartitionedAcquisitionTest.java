@@ -0,0 +1,186 @@
+/* 
+ * Copyright IBM Corp. 2024, 2025
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not 
+ * use this file except in compliance with the License. You may obtain a copy 
+ * of the License at 
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0 
+ *   
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT 
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the 
+ * License for the specific language governing permissions and limitations 
+ * under the License.
+ * 
+ */
+package org.quartz.impl.jdbcjobstore;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.quartz.AbstractJobStoreTest.MyJob;
+import org.quartz.AbstractJobStoreTest.SampleSignaler;
+import org.quartz.JobBuilder;
+import org.quartz.JobDetail;
+import org.quartz.TriggerBuilder;
+import org.quartz.TriggerKey;
+import org.quartz.impl.jdbcjobstore.JdbcQuartzTestUtilities.DatabaseType;
+import org.quartz.simpl.CascadingClassLoadHelper;
+import org.quartz.spi.OperableTrigger;
+
+public class JobStorePartitionedAcquisitionTest {
+
+    private static final String DB_NAME = "JobStorePartitionedAcquisitionTest";
+
+    private static final int PARTITIONS = 4;
+
+    private static final int TRIGGER_COUNT = 20;
+
+    private JobStoreTX nodeA;
+
+    private JobStoreTX nodeB;
+
+    private Date startTime;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        JdbcQuartzTestUtilities.createDatabase(DB_NAME, DatabaseType.DERBY);
+        nodeA = createJobStore("A");
+        nodeB = createJobStore("B");
+
+        startTime = new Date();
+        for (int i = 0; i < TRIGGER_COUNT; i++) {
+            JobDetail job = JobBuilder.newJob(MyJob.class).withIdentity("job" + i).build();
+            OperableTrigger trigger = (OperableTrigger) TriggerBuilder.newTrigger().withIdentity("trigger" + i)
+                    .forJob(job).startAt(startTime).build();
+            trigger.computeFirstFireTime(null);
+            nodeA.storeJobAndTrigger(job, trigger);
+        }
+    }
+
+    private JobStoreTX createJobStore(String instanceId) throws Exception {
+        JobStoreTX jobStore = new JobStoreTX();
+        jobStore.setDataSource(DB_NAME);
+        jobStore.setTablePrefix("QRTZ_");
+        jobStore.setInstanceId(instanceId);
+        jobStore.setInstanceName(DB_NAME);
+        jobStore.setIsClustered(true);
+        jobStore.setTriggerAccessPartitions(PARTITIONS);
+
+        CascadingClassLoadHelper loadHelper = new CascadingClassLoadHelper();
+        loadHelper.initialize();
+        jobStore.initialize(loadHelper, new SampleSignaler());
+        return jobStore;
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        nodeA.shutdown();
+        nodeB.shutdown();
+        JdbcQuartzTestUtilities.destroyDatabase(DB_NAME, DatabaseType.DERBY);
+    }
+
+    @Test
+    void testPartitionsAreSharedOutAtCheckIn() throws Exception {
+        nodeA.doCheckin();
+        assertArrayEquals(new int[] {0, 1, 2, 3}, nodeA.getOwnedTriggerPartitions());
+
+        nodeB.doCheckin();
+        nodeA.doCheckin();
+        assertArrayEquals(new int[] {0, 2}, nodeA.getOwnedTriggerPartitions());
+        assertArrayEquals(new int[] {1, 3}, nodeB.getOwnedTriggerPartitions());
+    }
+
+    @Test
+    void testNodesAcquireDisjointTriggers() throws Exception {
+        nodeA.doCheckin();
+        nodeB.doCheckin();
+        nodeA.doCheckin();
+
+        List<OperableTrigger> acquiredByA = nodeA.acquireNextTriggers(startTime.getTime() + 1000L, TRIGGER_COUNT, 0L);
+        List<OperableTrigger> acquiredByB = nodeB.acquireNextTriggers(startTime.getTime() + 1000L, TRIGGER_COUNT, 0L);
+
+        Set<TriggerKey> acquired = new HashSet<>();
+        for (OperableTrigger trigger : acquiredByA) {
+            int partition = nodeA.getTriggerPartition(trigger.getKey());
+            assertTrue(partition == 0 || partition == 2);
+            acquired.add(trigger.getKey());
+        }
+        for (OperableTrigger trigger : acquiredByB) {
+            int partition = nodeB.getTriggerPartition(trigger.getKey());
+            assertTrue(partition == 1 || partition == 3);
+            acquired.add(trigger.getKey());
+        }
+        assertEquals(TRIGGER_COUNT, acquired.size());
+        assertEquals(TRIGGER_COUNT, acquiredByA.size() + acquiredByB.size());
+    }
+
+    @Test
+    void testBacklogOfOtherPartitionsDoesNotHideOwnTriggers() throws Exception {
+        nodeA.doCheckin();
+        nodeB.doCheckin();
+        nodeA.doCheckin();
+
+        // earlier triggers of node B's partitions, many times a batch of node A's
+        Date backlogTime = new Date(startTime.getTime() - 10000L);
+        for (int i = 0, stored = 0; stored < 100; i++) {
+            TriggerKey key = new TriggerKey("backlog" + i);
+            int partition = nodeA.getTriggerPartition(key);
+            if (partition == 0 || partition == 2) {
+                continue;
+            }
+            JobDetail job = JobBuilder.newJob(MyJob.class).withIdentity("backlogJob" + i).build();
+            OperableTrigger trigger = (OperableTrigger) TriggerBuilder.newTrigger().withIdentity(key)
+                    .forJob(job).startAt(backlogTime).build();
+            trigger.computeFirstFireTime(null);
+            nodeA.storeJobAndTrigger(job, trigger);
+            stored++;
+        }
+
+        List<OperableTrigger> acquiredByA = nodeA.acquireNextTriggers(startTime.getTime() + 1000L, 1, 0L);
+        assertEquals(1, acquiredByA.size());
+        int partition = nodeA.getTriggerPartition(acquiredByA.get(0).getKey());
+        assertTrue(partition == 0 || partition == 2);
+    }
+
+    @Test
+    void testTriggersStoredWithoutPartitionAreAssignedOne() throws Exception {
+        // a scheduler without partitions leaves the TRIGGER_PARTITION column empty
+        JobStoreTX unpartitioned = new JobStoreTX();
+        unpartitioned.setDataSource(DB_NAME);
+        unpartitioned.setTablePrefix("QRTZ_");
+        unpartitioned.setInstanceId("C");
+        unpartitioned.setInstanceName(DB_NAME);
+        CascadingClassLoadHelper loadHelper = new CascadingClassLoadHelper();
+        loadHelper.initialize();
+        unpartitioned.initialize(loadHelper, new SampleSignaler());
+
+        Date earlier = new Date(startTime.getTime() - 10000L);
+        JobDetail job = JobBuilder.newJob(MyJob.class).withIdentity("unpartitionedJob").build();
+        OperableTrigger trigger = (OperableTrigger) TriggerBuilder.newTrigger().withIdentity("unpartitioned")
+                .forJob(job).startAt(earlier).build();
+        trigger.computeFirstFireTime(null);
+        unpartitioned.storeJobAndTrigger(job, trigger);
+        unpartitioned.shutdown();
+
+        List<OperableTrigger> acquired = nodeA.acquireNextTriggers(startTime.getTime() + 1000L, TRIGGER_COUNT + 1, 0L);
+        assertEquals(TRIGGER_COUNT, acquired.size());
+
+        assertEquals(1, nodeA.partitionUnassignedTriggers());
+        assertEquals(0, nodeA.partitionUnassignedTriggers());
+
+        acquired = nodeA.acquireNextTriggers(startTime.getTime() + 1000L, 1, 0L);
+        assertEquals(1, acquired.size());
+        assertEquals(trigger.getKey(), acquired.get(0).getKey());
+    }
+}
@@ -0,0 +1,108 @@
+/* 
+ * Copyright IBM Corp. 2024, 2025
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not 
+ * use this file except in compliance with the License. You may obtain a copy 
+ * of the License at 
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0 
+ *   
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT 
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the 
+ * License for the specific language governing permissions and limitations 
+ * under the License.
+ * 
+ */
+package org.quartz.impl.jdbcjobstore;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Date;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.quartz.AbstractJobStoreTest.MyJob;
+import org.quartz.AbstractJobStoreTest.SampleSignaler;
+import org.quartz.JobBuilder;
+import org.quartz.JobDetail;
+import org.quartz.TriggerBuilder;
+import org.quartz.impl.jdbcjobstore.JdbcQuartzTestUtilities.DatabaseType;
+import org.quartz.simpl.CascadingClassLoadHelper;
+import org.quartz.spi.OperableTrigger;
+
+public class JobStorePinnedConnectionTest {
+
+    private static final String DB_NAME = "JobStorePinnedConnectionTest";
+
+    private JobStoreTX jobStore;
+
+    private Date startTime;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        JdbcQuartzTestUtilities.createDatabase(DB_NAME, DatabaseType.DERBY);
+        jobStore = new JobStoreTX();
+        jobStore.setDataSource(DB_NAME);
+        jobStore.setTablePrefix("QRTZ_");
+        jobStore.setInstanceId("SINGLE_NODE_TEST");
+        jobStore.setInstanceName(DB_NAME);
+        jobStore.setPinAcquisitionConnection(true);
+
+        CascadingClassLoadHelper loadHelper = new CascadingClassLoadHelper();
+        loadHelper.initialize();
+        jobStore.initialize(loadHelper, new SampleSignaler());
+
+        startTime = new Date();
+        JobDetail job = JobBuilder.newJob(MyJob.class).withIdentity("job").build();
+        OperableTrigger trigger = (OperableTrigger) TriggerBuilder.newTrigger().withIdentity("trigger")
+                .forJob(job).startAt(startTime).build();
+        trigger.computeFirstFireTime(null);
+        jobStore.storeJobAndTrigger(job, trigger);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        jobStore.shutdown();
+        JdbcQuartzTestUtilities.destroyDatabase(DB_NAME, DatabaseType.DERBY);
+    }
+
+    private void acquireAndRelease() throws Exception {
+        List<OperableTrigger> acquired = jobStore.acquireNextTriggers(startTime.getTime() + 1000L, 1, 0L);
+        assertEquals(1, acquired.size());
+        jobStore.releaseAcquiredTrigger(acquired.get(0));
+    }
+
+    @Test
+    void testAcquisitionsShareOneConnection() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            acquireAndRelease();
+        }
+        assertEquals(1, jobStore.getPinnedConnectionReconnectCount());
+
+        // validating a healthy connection keeps it
+        jobStore.setPinnedConnectionValidationInterval(-1L);
+        acquireAndRelease();
+        assertEquals(1, jobStore.getPinnedConnectionReconnectCount());
+    }
+
+    @Test
+    void testOtherThreadsCanStillAcquire() throws Exception {
+        acquireAndRelease();
+
+        Thread other = new Thread(() -> {
+            try {
+                acquireAndRelease();
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        });
+        other.start();
+        other.join();
+
+        acquireAndRelease();
+        assertEquals(1, jobStore.getPinnedConnectionReconnectCount());
+    }
+}
@@ -0,0 +1,167 @@
+/* 
+ * Copyright IBM Corp. 2024, 2025
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not 
+ * use this file except in compliance with the License. You may obtain a copy 
+ * of the License at 
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0 
+ *   
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT 
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the 
+ * License for the specific language governing permissions and limitations 
+ * under the License.
+ * 
+ */
+package org.quartz.impl.jdbcjobstore;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.sql.Connection;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.quartz.AbstractJobStoreTest.MyJob;
+import org.quartz.AbstractJobStoreTest.SampleSignaler;
+import org.quartz.JobBuilder;
+import org.quartz.SchedulerConfigException;
+import org.quartz.impl.jdbcjobstore.JdbcQuartzTestUtilities.DatabaseType;
+import org.quartz.impl.matchers.GroupMatcher;
+import org.quartz.simpl.CascadingClassLoadHelper;
+import org.quartz.utils.DBConnectionManager;
+
+/**
+ * The "replica" is a second, empty database that is only handed this
+ * instance's check-in, so the reads show which database they went to.
+ */
+public class JobStoreReadDataSourceTest {
+
+    private static final String DB_NAME = "JobStoreReadDataSourceTest";
+
+    private static final String REPLICA_DB_NAME = "JobStoreReadDataSourceTestReplica";
+
+    private static final String INSTANCE_ID = "SINGLE_NODE_TEST";
+
+    private static final long STALENESS_TOLERANCE = 5000L;
+
+    private JobStoreTX jobStore;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        JdbcQuartzTestUtilities.createDatabase(DB_NAME, DatabaseType.DERBY);
+        JdbcQuartzTestUtilities.createDatabase(REPLICA_DB_NAME, DatabaseType.DERBY);
+    }
+
+    private void initializeJobStore(String readDataSource) throws Exception {
+        jobStore = new JobStoreTX();
+        jobStore.setDataSource(DB_NAME);
+        jobStore.setReadDataSource(readDataSource);
+        jobStore.setReadStalenessTolerance(STALENESS_TOLERANCE);
+        jobStore.setIsClustered(true);
+        jobStore.setClusterCheckinInterval(600000L);
+        jobStore.setTablePrefix("QRTZ_");
+        jobStore.setInstanceId(INSTANCE_ID);
+        jobStore.setInstanceName(DB_NAME);
+
+        CascadingClassLoadHelper loadHelper = new CascadingClassLoadHelper();
+        loadHelper.initialize();
+        jobStore.initialize(loadHelper, new SampleSignaler());
+
+        jobStore.storeJob(JobBuilder.newJob(MyJob.class).withIdentity("job").storeDurably().build(), false);
+
+        // checks in strictly after the change
+        Thread.sleep(10L);
+        jobStore.schedulerStarted();
+    }
+
+    private void replicateCheckin(long lag) throws Exception {
+        try (Connection conn = DBConnectionManager.getInstance().getConnection(REPLICA_DB_NAME)) {
+            jobStore.getDelegate().insertSchedulerState(conn, INSTANCE_ID,
+                    jobStore.lastCheckin - lag, jobStore.getClusterCheckinInterval());
+        }
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (jobStore != null) {
+            jobStore.shutdown();
+        }
+        JdbcQuartzTestUtilities.destroyDatabase(DB_NAME, DatabaseType.DERBY);
+        JdbcQuartzTestUtilities.destroyDatabase(REPLICA_DB_NAME, DatabaseType.DERBY);
+    }
+
+    @Test
+    void testReadsGoToTheReplica() throws Exception {
+        initializeJobStore(REPLICA_DB_NAME);
+        replicateCheckin(0L);
+
+        assertEquals(0, jobStore.getNumberOfJobs());
+        assertEquals(0, jobStore.getJobKeys(GroupMatcher.anyJobGroup()).size());
+        assertEquals(0, jobStore.getJobGroupNames().size());
+
+        try (PrimaryReads ignored = PrimaryReads.force()) {
+            assertEquals(1, jobStore.getNumberOfJobs());
+            assertEquals(1, jobStore.getJobKeys(GroupMatcher.anyJobGroup()).size());
+        }
+        assertEquals(0, jobStore.getNumberOfJobs());
+    }
+
+    @Test
+    void testReplicaWithinTheToleranceIsRead() throws Exception {
+        initializeJobStore(REPLICA_DB_NAME);
+        replicateCheckin(STALENESS_TOLERANCE);
+
+        assertEquals(0, jobStore.getNumberOfJobs());
+    }
+
+    @Test
+    void testLaggingReplicaIsNotRead() throws Exception {
+        initializeJobStore(REPLICA_DB_NAME);
+        replicateCheckin(STALENESS_TOLERANCE + 1);
+
+        assertEquals(1, jobStore.getNumberOfJobs());
+        assertEquals(1, jobStore.getJobKeys(GroupMatcher.anyJobGroup()).size());
+    }
+
+    @Test
+    void testReplicaWithoutCheckinIsNotRead() throws Exception {
+        initializeJobStore(REPLICA_DB_NAME);
+
+        assertEquals(1, jobStore.getNumberOfJobs());
+    }
+
+    @Test
+    void testRecentChangesAreReadFromThePrimary() throws Exception {
+        initializeJobStore(REPLICA_DB_NAME);
+        replicateCheckin(0L);
+
+        jobStore.storeJob(JobBuilder.newJob(MyJob.class).withIdentity("other").storeDurably().build(), false);
+
+        assertEquals(2, jobStore.getNumberOfJobs());
+        assertEquals(2, jobStore.getJobKeys(GroupMatcher.anyJobGroup()).size());
+    }
+
+    @Test
+    void testFailingReplicaFallsBackToThePrimary() throws Exception {
+        initializeJobStore("noSuchDataSource");
+
+        assertEquals(1, jobStore.getNumberOfJobs());
+    }
+
+    @Test
+    void testReadDataSourceRequiresClustering() throws Exception {
+        JobStoreTX unclustered = new JobStoreTX();
+        unclustered.setDataSource(DB_NAME);
+        unclustered.setReadDataSource(REPLICA_DB_NAME);
+        unclustered.setTablePrefix("QRTZ_");
+        unclustered.setInstanceId(INSTANCE_ID);
+        unclustered.setInstanceName(DB_NAME);
+
+        CascadingClassLoadHelper loadHelper = new CascadingClassLoadHelper();
+        loadHelper.initialize();
+        assertThrows(SchedulerConfigException.class, () -> unclustered.initialize(loadHelper, new SampleSignaler()));
+    }
+}
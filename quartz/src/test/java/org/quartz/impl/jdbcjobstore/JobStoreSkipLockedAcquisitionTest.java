@@ -0,0 +1,123 @@
+/* 
+ * Copyright IBM Corp. 2024, 2025
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not 
+ * use this file except in compliance with the License. You may obtain a copy 
+ * of the License at 
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0 
+ *   
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT 
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the 
+ * License for the specific language governing permissions and limitations 
+ * under the License.
+ * 
+ */
+package org.quartz.impl.jdbcjobstore;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.quartz.AbstractJobStoreTest.MyJob;
+import org.quartz.AbstractJobStoreTest.SampleSignaler;
+import org.quartz.JobBuilder;
+import org.quartz.JobDetail;
+import org.quartz.TriggerBuilder;
+import org.quartz.TriggerKey;
+import org.quartz.impl.jdbcjobstore.JdbcQuartzTestUtilities.DatabaseType;
+import org.quartz.simpl.CascadingClassLoadHelper;
+import org.quartz.spi.OperableTrigger;
+import org.quartz.utils.DBConnectionManager;
+
+public class JobStoreSkipLockedAcquisitionTest {
+
+    private static final String DB_NAME = "JobStoreSkipLockedAcquisitionTest";
+
+    private static final int TRIGGER_COUNT = 10;
+
+    private static final int LOCKED_COUNT = 4;
+
+    private JobStoreTX jobStore;
+
+    private Date startTime;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        JdbcQuartzTestUtilities.createDatabase(DB_NAME, DatabaseType.POSTGRES);
+        jobStore = new JobStoreTX();
+        jobStore.setDataSource(DB_NAME);
+        jobStore.setTablePrefix("QRTZ_");
+        jobStore.setInstanceId("SINGLE_NODE_TEST");
+        jobStore.setInstanceName(DB_NAME);
+        jobStore.setDriverDelegateClass(DatabaseType.POSTGRES.getDelegateClassName());
+        jobStore.setAcquireTriggersWithSkipLocked(true);
+
+        CascadingClassLoadHelper loadHelper = new CascadingClassLoadHelper();
+        loadHelper.initialize();
+        jobStore.initialize(loadHelper, new SampleSignaler());
+
+        startTime = new Date();
+        for (int i = 0; i < TRIGGER_COUNT; i++) {
+            JobDetail job = JobBuilder.newJob(MyJob.class).withIdentity("job" + i).build();
+            OperableTrigger trigger = (OperableTrigger) TriggerBuilder.newTrigger().withIdentity("trigger" + i)
+                    .forJob(job).startAt(startTime).build();
+            trigger.computeFirstFireTime(null);
+            jobStore.storeJobAndTrigger(job, trigger);
+        }
+        jobStore.schedulerStarted();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        jobStore.shutdown();
+        JdbcQuartzTestUtilities.destroyDatabase(DB_NAME, DatabaseType.POSTGRES);
+    }
+
+    @Test
+    void testTriggersLockedByAnotherConnectionAreSkipped() throws Exception {
+        Set<TriggerKey> locked = new HashSet<>();
+        try (Connection other = DBConnectionManager.getInstance().getConnection(DB_NAME)) {
+            // another node in the middle of acquiring the first triggers
+            other.setAutoCommit(false);
+            try (PreparedStatement ps = other.prepareStatement(
+                    "SELECT TRIGGER_NAME, TRIGGER_GROUP FROM QRTZ_TRIGGERS WHERE SCHED_NAME = ? AND TRIGGER_NAME < ? FOR UPDATE")) {
+                ps.setString(1, DB_NAME);
+                ps.setString(2, "trigger" + LOCKED_COUNT);
+                try (ResultSet rs = ps.executeQuery()) {
+                    while (rs.next()) {
+                        locked.add(new TriggerKey(rs.getString(1), rs.getString(2)));
+                    }
+                }
+            }
+            assertEquals(LOCKED_COUNT, locked.size());
+
+            // doesn't wait for the locks
+            List<OperableTrigger> acquired = jobStore.acquireNextTriggers(startTime.getTime() + 1000L, TRIGGER_COUNT, 0L);
+            assertEquals(TRIGGER_COUNT - LOCKED_COUNT, acquired.size());
+            for (OperableTrigger trigger : acquired) {
+                assertFalse(locked.contains(trigger.getKey()), trigger.getKey() + " is locked by the other connection");
+            }
+
+            other.rollback();
+        }
+
+        List<OperableTrigger> acquired = jobStore.acquireNextTriggers(startTime.getTime() + 1000L, TRIGGER_COUNT, 0L);
+        assertEquals(LOCKED_COUNT, acquired.size());
+        for (OperableTrigger trigger : acquired) {
+            assertTrue(locked.contains(trigger.getKey()));
+        }
+    }
+}
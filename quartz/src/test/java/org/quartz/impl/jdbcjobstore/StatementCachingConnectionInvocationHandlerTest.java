@@ -0,0 +1,101 @@
+/* 
+ * Copyright IBM Corp. 2024, 2025
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not 
+ * use this file except in compliance with the License. You may obtain a copy 
+ * of the License at 
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0 
+ *   
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT 
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the 
+ * License for the specific language governing permissions and limitations 
+ * under the License.
+ * 
+ */
+package org.quartz.impl.jdbcjobstore;
+
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+import org.junit.jupiter.api.Test;
+
+class StatementCachingConnectionInvocationHandlerTest {
+
+    @Test
+    void testStatementIsPreparedOncePerConnection() throws SQLException {
+        Connection physical = mock(Connection.class);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        when(physical.prepareStatement("SELECT 1")).thenReturn(statement);
+        StatementCachingConnectionInvocationHandler handler = new StatementCachingConnectionInvocationHandler(physical, 10);
+        Connection conn = proxy(handler);
+
+        PreparedStatement first = conn.prepareStatement("SELECT 1");
+        first.setMaxRows(5);
+        first.close();
+        assertTrue(first.isClosed());
+        PreparedStatement second = conn.prepareStatement("SELECT 1");
+        second.close();
+
+        assertSame(first, second);
+        verify(physical, times(1)).prepareStatement("SELECT 1");
+        verify(statement).setMaxRows(0);
+        verify(statement).clearBatch();
+        verify(statement, never()).close();
+
+        handler.restoreOriginalAttributes();
+        verify(statement).close();
+    }
+
+    @Test
+    void testStatementStillOpenIsNotHandedOutTwice() throws SQLException {
+        Connection physical = mock(Connection.class);
+        PreparedStatement outer = mock(PreparedStatement.class);
+        PreparedStatement inner = mock(PreparedStatement.class);
+        when(physical.prepareStatement("SELECT 1")).thenReturn(outer, inner);
+        StatementCachingConnectionInvocationHandler handler = new StatementCachingConnectionInvocationHandler(physical, 10);
+        Connection conn = proxy(handler);
+
+        PreparedStatement first = conn.prepareStatement("SELECT 1");
+        PreparedStatement second = conn.prepareStatement("SELECT 1");
+        assertNotSame(first, second);
+
+        second.close();
+        verify(inner).close();
+        first.close();
+        verify(outer, never()).close();
+    }
+
+    @Test
+    void testLeastRecentlyUsedStatementIsClosedWhenEvicted() throws SQLException {
+        Connection physical = mock(Connection.class);
+        PreparedStatement statement1 = mock(PreparedStatement.class);
+        PreparedStatement statement2 = mock(PreparedStatement.class);
+        when(physical.prepareStatement("SELECT 1")).thenReturn(statement1);
+        when(physical.prepareStatement("SELECT 2")).thenReturn(statement2);
+        Connection conn = proxy(new StatementCachingConnectionInvocationHandler(physical, 1));
+
+        conn.prepareStatement("SELECT 1").close();
+        conn.prepareStatement("SELECT 2").close();
+
+        verify(statement1).close();
+        verify(statement2, never()).close();
+    }
+
+    private static Connection proxy(StatementCachingConnectionInvocationHandler handler) {
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[] { Connection.class }, handler);
+    }
+}
@@ -24,19 +24,29 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.NotSerializableException;
 import java.sql.Connection;
+import java.sql.DatabaseMetaData;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
+import org.quartz.JobKey;
 import org.quartz.JobPersistenceException;
+import org.quartz.SimpleTrigger;
 import org.quartz.TriggerKey;
 import org.quartz.spi.OperableTrigger;
 import org.slf4j.LoggerFactory;
@@ -72,6 +82,39 @@ public class StdJDBCDelegateTest  {
         }
     }
 
+    @Test
+    void testSerializeJobDataWithCodec() throws Exception {
+        StdJDBCDelegate javaDelegate = new StdJDBCDelegate();
+        javaDelegate.initialize(LoggerFactory.getLogger(getClass()), "QRTZ_", "TESTSCHED", "INSTANCE", new SimpleClassLoadHelper(), false, "");
+        StdJDBCDelegate codecDelegate = new StdJDBCDelegate();
+        codecDelegate.initialize(LoggerFactory.getLogger(getClass()), "QRTZ_", "TESTSCHED", "INSTANCE", new SimpleClassLoadHelper(), false,
+                "jobDataMapCodecClass=" + CompactJobDataMapCodec.class.getName());
+
+        JobDataMap jdm = new JobDataMap();
+        jdm.put("key", "value");
+        jdm.put("count", 42);
+        jdm.put("when", new Date(1000L));
+
+        byte[] serialized = javaDelegate.serializeJobData(jdm).toByteArray();
+        byte[] encoded = codecDelegate.serializeJobData(jdm).toByteArray();
+        assertEquals(CompactJobDataMapCodec.FORMAT, encoded[0]);
+        assertTrue(encoded.length < serialized.length);
+
+        // rows of either format are read by either delegate
+        for (StdJDBCDelegate delegate : Arrays.asList(javaDelegate, codecDelegate)) {
+            assertEquals(jdm.getWrappedMap(), delegate.deserializeObject(new ByteArrayInputStream(serialized)));
+            assertEquals(jdm.getWrappedMap(), delegate.deserializeObject(new ByteArrayInputStream(encoded)));
+        }
+
+        jdm.put("key3", new Object());
+        try {
+            codecDelegate.serializeJobData(jdm);
+            fail();
+        } catch (NotSerializableException e) {
+            assertTrue(e.getMessage().indexOf("key3") >= 0);
+        }
+    }
+
     @Test
     void testSelectBlobTriggerWithNoBlobContent() throws JobPersistenceException, SQLException, IOException, ClassNotFoundException {
         StdJDBCDelegate jdbcDelegate = new StdJDBCDelegate();
@@ -165,6 +208,131 @@ public class StdJDBCDelegateTest  {
         assertThat(triggerKeys, iterableWithSize(10));
     }
 
+    @Test
+    void testSelectTriggersToAcquireBuildsTriggersFromTheJoinedRows() throws SQLException {
+        StdJDBCDelegate jdbcDelegate = new StdJDBCDelegate();
+        jdbcDelegate.initialize(LoggerFactory.getLogger(getClass()), "QRTZ_", "TESTSCHED", "INSTANCE", new SimpleClassLoadHelper(), false, "");
+
+        Connection conn = mock(Connection.class);
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+
+        when(conn.prepareStatement(anyString())).thenReturn(preparedStatement);
+        when(preparedStatement.executeQuery()).thenReturn(resultSet);
+
+        // a simple trigger and a blob trigger, both of the same job
+        when(resultSet.next()).thenReturn(true, true, false);
+        when(resultSet.getString(Constants.COL_TRIGGER_NAME)).thenReturn("t1", "t2");
+        when(resultSet.getString(Constants.COL_TRIGGER_GROUP)).thenReturn("g");
+        when(resultSet.getString(Constants.COL_TRIGGER_TYPE)).thenReturn(Constants.TTYPE_SIMPLE, Constants.TTYPE_BLOB);
+        when(resultSet.getString(Constants.ALIAS_COL_SIMPLE_TRIGGER_NAME)).thenReturn("t1");
+        when(resultSet.getInt(Constants.COL_REPEAT_COUNT)).thenReturn(3);
+        when(resultSet.getLong(Constants.COL_REPEAT_INTERVAL)).thenReturn(1000L);
+        when(resultSet.getLong(Constants.COL_START_TIME)).thenReturn(1000L);
+        when(resultSet.getLong(Constants.COL_NEXT_FIRE_TIME)).thenReturn(2000L);
+        when(resultSet.getString(Constants.COL_JOB_NAME)).thenReturn("j");
+        when(resultSet.getString(Constants.COL_JOB_GROUP)).thenReturn("g");
+        when(resultSet.getObject(Constants.COL_IS_NONCONCURRENT)).thenReturn(Boolean.TRUE);
+        when(resultSet.getBoolean(Constants.COL_IS_NONCONCURRENT)).thenReturn(true);
+
+        List<AcquisitionCandidate> candidates = jdbcDelegate.selectTriggersToAcquire(conn, Long.MAX_VALUE, Long.MIN_VALUE, 10, new SimpleClassLoadHelper());
+
+        assertThat(candidates, iterableWithSize(2));
+        verify(conn).prepareStatement(anyString());
+
+        SimpleTrigger trigger = (SimpleTrigger) candidates.get(0).getTrigger();
+        assertEquals(TriggerKey.triggerKey("t1", "g"), trigger.getKey());
+        assertEquals(JobKey.jobKey("j", "g"), trigger.getJobKey());
+        assertEquals(3, trigger.getRepeatCount());
+        assertEquals(1000L, trigger.getRepeatInterval());
+        assertEquals(new Date(2000L), trigger.getNextFireTime());
+        // the job data is read when the trigger fires
+        assertTrue(trigger.getJobDataMap() instanceof DeferredJobDataMap);
+        assertEquals(Boolean.TRUE, candidates.get(0).isConcurrentExecutionDisallowed());
+
+        // the blob trigger is left to selectTrigger
+        assertEquals(TriggerKey.triggerKey("t2", "g"), candidates.get(1).getTriggerKey());
+        assertNull(candidates.get(1).getTrigger());
+        assertEquals(Boolean.TRUE, candidates.get(1).isConcurrentExecutionDisallowed());
+    }
+
+    @Test
+    void testSkipLockedAcquisitionIsOnlyUsedWhereTheDatabaseSupportsIt() throws SQLException {
+        StdJDBCDelegate jdbcDelegate = new StdJDBCDelegate();
+        jdbcDelegate.initialize(LoggerFactory.getLogger(getClass()), "QRTZ_", "TESTSCHED", "INSTANCE", new SimpleClassLoadHelper(), false, "");
+
+        assertTrue(jdbcDelegate.supportsSkipLocked(connectionTo("PostgreSQL", 9, 6, "9.6.24")));
+        assertFalse(jdbcDelegate.supportsSkipLocked(connectionTo("PostgreSQL", 9, 4, "9.4.26")));
+        assertTrue(jdbcDelegate.supportsSkipLocked(connectionTo("MySQL", 8, 0, "8.0.36")));
+        assertFalse(jdbcDelegate.supportsSkipLocked(connectionTo("MySQL", 5, 7, "5.7.44")));
+        assertFalse(jdbcDelegate.supportsSkipLocked(connectionTo("MySQL", 10, 11, "10.11.6-MariaDB")));
+        assertFalse(jdbcDelegate.supportsSkipLocked(connectionTo("Apache Derby", 10, 17, "10.17.1.0")));
+        assertFalse(jdbcDelegate.supportsSkipLocked(connectionTo("H2", 2, 2, "2.2.224")));
+
+        String sql = jdbcDelegate.getSelectNextTriggersToAcquireSkipLockedSQL(5);
+        assertTrue(sql.startsWith(jdbcDelegate.getSelectNextTriggersToAcquireSQL(5)));
+        assertTrue(sql.endsWith(" LIMIT 5 FOR UPDATE OF T SKIP LOCKED"));
+    }
+
+    private static Connection connectionTo(String product, int major, int minor, String version) throws SQLException {
+        Connection conn = mock(Connection.class);
+        DatabaseMetaData metaData = mock(DatabaseMetaData.class);
+        when(conn.getMetaData()).thenReturn(metaData);
+        when(metaData.getDatabaseProductName()).thenReturn(product);
+        when(metaData.getDatabaseMajorVersion()).thenReturn(major);
+        when(metaData.getDatabaseMinorVersion()).thenReturn(minor);
+        when(metaData.getDatabaseProductVersion()).thenReturn(version);
+        return conn;
+    }
+
+    @Test
+    void testAcquisitionStateUpdatesAreSentAsOneBatch() throws SQLException {
+        StdJDBCDelegate jdbcDelegate = new StdJDBCDelegate();
+        jdbcDelegate.initialize(LoggerFactory.getLogger(getClass()), "QRTZ_", "TESTSCHED", "INSTANCE", new SimpleClassLoadHelper(), false, "");
+
+        Connection conn = mock(Connection.class);
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+
+        when(conn.prepareStatement(anyString())).thenReturn(preparedStatement);
+        when(preparedStatement.executeBatch()).thenReturn(new int[] {1, 0, 1});
+
+        int[] rowsUpdated = jdbcDelegate.updateTriggerStateFromOtherState(conn,
+                Arrays.asList(TriggerKey.triggerKey("t1"), TriggerKey.triggerKey("t2"), TriggerKey.triggerKey("t3")),
+                Constants.STATE_ACQUIRED, Constants.STATE_WAITING);
+
+        assertArrayEquals(new int[] {1, 0, 1}, rowsUpdated);
+        verify(conn, times(1)).prepareStatement(anyString());
+        verify(preparedStatement, times(3)).addBatch();
+        verify(preparedStatement, never()).executeUpdate();
+    }
+
+    @Test
+    void testTriggerStatesAreOnlySelectedForTheGivenKeys() throws SQLException {
+        StdJDBCDelegate jdbcDelegate = new StdJDBCDelegate();
+        jdbcDelegate.initialize(LoggerFactory.getLogger(getClass()), "QRTZ_", "TESTSCHED", "INSTANCE", new SimpleClassLoadHelper(), false, "");
+
+        Connection conn = mock(Connection.class);
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+
+        when(conn.prepareStatement(anyString())).thenReturn(preparedStatement);
+        when(preparedStatement.executeQuery()).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true, false);
+        when(resultSet.getString(1)).thenReturn("t2");
+
+        Set<TriggerKey> acquired = jdbcDelegate.selectTriggerKeysInState(conn,
+                Arrays.asList(TriggerKey.triggerKey("t1", "g"), TriggerKey.triggerKey("t2", "g")),
+                Constants.STATE_ACQUIRED);
+
+        assertEquals(Collections.singleton(TriggerKey.triggerKey("t2", "g")), acquired);
+        verify(conn, times(1)).prepareStatement(
+                "SELECT TRIGGER_NAME FROM QRTZ_TRIGGERS WHERE SCHED_NAME = 'TESTSCHED' AND TRIGGER_STATE = ? AND TRIGGER_GROUP = ? AND TRIGGER_NAME IN (?, ?)");
+        verify(preparedStatement).setString(1, Constants.STATE_ACQUIRED);
+        verify(preparedStatement).setString(2, "g");
+        verify(preparedStatement).setString(3, "t1");
+        verify(preparedStatement).setString(4, "t2");
+    }
+
     static class TestStdJDBCDelegate extends StdJDBCDelegate {
 
         private final TriggerPersistenceDelegate testDelegate;
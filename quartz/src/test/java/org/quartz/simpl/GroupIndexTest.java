@@ -0,0 +1,71 @@
+/* 
+ * Copyright IBM Corp. 2024, 2025
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not 
+ * use this file except in compliance with the License. You may obtain a copy 
+ * of the License at 
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0 
+ *   
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT 
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the 
+ * License for the specific language governing permissions and limitations 
+ * under the License.
+ * 
+ */
+package org.quartz.simpl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.quartz.impl.matchers.StringMatcher.StringOperatorName;
+
+public class GroupIndexTest {
+
+    private static List<String> sorted(List<String> names) {
+        List<String> copy = new ArrayList<>(names);
+        Collections.sort(copy);
+        return copy;
+    }
+
+    @Test
+    void testMatchesLikeOperatorEvaluation() {
+        String[] parts = { "", "a", "ab", "b", "tenant", "tenant1", "eu", ".", "x.y" };
+        Random random = new Random(7);
+        GroupIndex index = new GroupIndex();
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            String name = parts[random.nextInt(parts.length)] + "." + parts[random.nextInt(parts.length)]
+                    + (random.nextBoolean() ? "." + parts[random.nextInt(parts.length)] : "");
+            index.add(name);
+            if (!names.contains(name)) {
+                names.add(name);
+            }
+            if (random.nextInt(5) == 0) {
+                String removed = names.remove(random.nextInt(names.size()));
+                index.remove(removed);
+            }
+        }
+
+        for (StringOperatorName operator : StringOperatorName.values()) {
+            for (String a : parts) {
+                for (String compareTo : new String[] { a, a + ".", "." + a, a + ".a" }) {
+                    List<String> expected = new ArrayList<>();
+                    for (String name : names) {
+                        if (operator.evaluate(name, compareTo)) {
+                            expected.add(name);
+                        }
+                    }
+                    assertEquals(sorted(expected), sorted(index.matching(operator, compareTo)),
+                            operator + " " + compareTo);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,214 @@
+/* 
+ * Copyright IBM Corp. 2024, 2025
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not 
+ * use this file except in compliance with the License. You may obtain a copy 
+ * of the License at 
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0 
+ *   
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT 
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the 
+ * License for the specific language governing permissions and limitations 
+ * under the License.
+ * 
+ */
+package org.quartz.simpl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.quartz.AbstractJobStoreTest;
+import org.quartz.JobBuilder;
+import org.quartz.JobDetail;
+import org.quartz.JobKey;
+import org.quartz.SimpleScheduleBuilder;
+import org.quartz.Trigger.CompletedExecutionInstruction;
+import org.quartz.Trigger.TriggerState;
+import org.quartz.TriggerBuilder;
+import org.quartz.TriggerKey;
+import org.quartz.impl.matchers.GroupMatcher;
+import org.quartz.simpl.RAMJobStoreTest.NonConcurrentJob;
+import org.quartz.spi.JobStore;
+import org.quartz.spi.OperableTrigger;
+import org.quartz.spi.TriggerFiredResult;
+
+public class PartitionedRAMJobStoreTest extends AbstractJobStoreTest {
+
+    @Override
+    protected JobStore createJobStore(String name) {
+        PartitionedRAMJobStore rs = new PartitionedRAMJobStore();
+        rs.setPartitionCount(4);
+        return rs;
+    }
+
+    @Override
+    protected void destroyJobStore(String name) {
+
+    }
+
+    private static PartitionedRAMJobStore initializedStore() throws Exception {
+        PartitionedRAMJobStore store = new PartitionedRAMJobStore();
+        store.setPartitionCount(4);
+        store.initialize(new CascadingClassLoadHelper(), new SampleSignaler());
+        return store;
+    }
+
+    @Test
+    void testAcquisitionIsOrderedAcrossPartitions() throws Exception {
+        PartitionedRAMJobStore store = initializedStore();
+        long base = System.currentTimeMillis() + 60000L;
+        for (int i = 0; i < 40; i++) {
+            JobDetail job = JobBuilder.newJob(MyJob.class).withIdentity("job" + i, "spread").storeDurably().build();
+            store.storeJob(job, false);
+            OperableTrigger trigger = (OperableTrigger) TriggerBuilder.newTrigger()
+                    .withIdentity("trigger" + i, "spread")
+                    .forJob(job)
+                    .startAt(new Date(base + (39 - i) * 1000L))
+                    .build();
+            trigger.computeFirstFireTime(null);
+            store.storeTrigger(trigger, false);
+        }
+        Set<RAMJobStore> used = new HashSet<>();
+        for (int i = 0; i < 40; i++) {
+            used.add(store.partitionFor(new JobKey("job" + i, "spread")));
+        }
+        assertTrue(used.size() > 1);
+
+        // the window opened by the earliest trigger bounds the whole batch
+        List<OperableTrigger> acquired = store.acquireNextTriggers(base + 100000L, 10, 4500L);
+        assertEquals(5, acquired.size());
+        for (int i = 0; i < 5; i++) {
+            assertEquals(new TriggerKey("trigger" + (39 - i), "spread"), acquired.get(i).getKey());
+        }
+
+        // the triggers beyond the window went back to their partitions
+        acquired = store.acquireNextTriggers(base + 100000L, 3, 100000L);
+        assertEquals(3, acquired.size());
+        for (int i = 0; i < 3; i++) {
+            assertEquals(new TriggerKey("trigger" + (34 - i), "spread"), acquired.get(i).getKey());
+        }
+        List<TriggerFiredResult> fired = store.triggersFired(acquired);
+        assertEquals(3, fired.size());
+        for (int i = 0; i < 3; i++) {
+            assertEquals(acquired.get(i).getKey(), fired.get(i).getTriggerFiredBundle().getTrigger().getKey());
+        }
+        store.shutdown();
+    }
+
+    @Test
+    void testNonConcurrentJobAcrossPartitions() throws Exception {
+        PartitionedRAMJobStore store = initializedStore();
+        JobDetail job = JobBuilder.newJob(NonConcurrentJob.class).withIdentity("job", "gate").storeDurably().build();
+        store.storeJob(job, false);
+        Date start = new Date(System.currentTimeMillis() - 100L);
+        for (int i = 0; i < 20; i++) {
+            // trigger keys hash all over the place, the job keeps them together
+            OperableTrigger trigger = (OperableTrigger) TriggerBuilder.newTrigger()
+                    .withIdentity("trigger" + i, "group" + i)
+                    .forJob(job)
+                    .startAt(start)
+                    .withSchedule(SimpleScheduleBuilder.repeatSecondlyForever())
+                    .build();
+            trigger.computeFirstFireTime(null);
+            store.storeTrigger(trigger, false);
+        }
+        long noLaterThan = System.currentTimeMillis() + 5000L;
+
+        List<OperableTrigger> acquired = store.acquireNextTriggers(noLaterThan, 10, 0L);
+        assertEquals(1, acquired.size());
+        TriggerFiredResult fired = store.triggersFired(acquired).get(0);
+        assertTrue(store.acquireNextTriggers(noLaterThan, 10, 0L).isEmpty());
+
+        store.triggeredJobComplete(fired.getTriggerFiredBundle().getTrigger(),
+                fired.getTriggerFiredBundle().getJobDetail(), CompletedExecutionInstruction.NOOP);
+        assertEquals(1, store.acquireNextTriggers(noLaterThan, 10, 0L).size());
+        store.shutdown();
+    }
+
+    @Test
+    void testReplacedTriggerMovesToItsJobsPartition() throws Exception {
+        PartitionedRAMJobStore store = initializedStore();
+        JobDetail first = null;
+        JobDetail second = null;
+        for (int i = 0; second == null; i++) {
+            JobDetail job = JobBuilder.newJob(MyJob.class).withIdentity("job" + i, "move").storeDurably().build();
+            if (first == null) {
+                first = job;
+            } else if (store.partitionFor(job.getKey()) != store.partitionFor(first.getKey())) {
+                second = job;
+            }
+        }
+        store.storeJob(first, false);
+        store.storeJob(second, false);
+
+        OperableTrigger trigger = (OperableTrigger) TriggerBuilder.newTrigger()
+                .withIdentity("trigger", "move").forJob(first).startAt(new Date()).build();
+        trigger.computeFirstFireTime(null);
+        store.storeTrigger(trigger, false);
+        assertSame(store.partitionFor(first.getKey()), store.partitionHolding(trigger.getKey()));
+
+        OperableTrigger moved = (OperableTrigger) TriggerBuilder.newTrigger()
+                .withIdentity("trigger", "move").forJob(second).startAt(new Date()).build();
+        moved.computeFirstFireTime(null);
+        store.storeTrigger(moved, true);
+        assertSame(store.partitionFor(second.getKey()), store.partitionHolding(trigger.getKey()));
+        assertNotSame(store.partitionFor(first.getKey()), store.partitionHolding(trigger.getKey()));
+        assertEquals(1, store.getNumberOfTriggers());
+        assertEquals(second.getKey(), store.retrieveTrigger(trigger.getKey()).getJobKey());
+        assertEquals(0, store.getTriggersForJob(first.getKey()).size());
+        store.shutdown();
+    }
+
+    @Test
+    void testMatchedGroupIsPausedInEveryPartition() throws Exception {
+        PartitionedRAMJobStore store = initializedStore();
+        JobDetail first = null;
+        JobDetail second = null;
+        for (int i = 0; second == null; i++) {
+            JobDetail job = JobBuilder.newJob(MyJob.class).withIdentity("job" + i, "paused.jobs").storeDurably().build();
+            if (first == null) {
+                first = job;
+            } else if (store.partitionFor(job.getKey()) != store.partitionFor(first.getKey())) {
+                second = job;
+            }
+        }
+        store.storeJob(first, false);
+        OperableTrigger trigger = (OperableTrigger) TriggerBuilder.newTrigger()
+                .withIdentity("trigger0", "paused.triggers").forJob(first).startAt(new Date()).build();
+        trigger.computeFirstFireTime(null);
+        store.storeTrigger(trigger, false);
+
+        assertEquals(Collections.singletonList("paused.triggers"),
+                store.pauseTriggers(GroupMatcher.triggerGroupStartsWith("paused.")));
+        assertEquals(Collections.singletonList("paused.jobs"),
+                store.pauseJobs(GroupMatcher.jobGroupStartsWith("paused.")));
+
+        // the job of this trigger, and so the trigger, belong to another partition
+        store.storeJob(second, false);
+        OperableTrigger later = (OperableTrigger) TriggerBuilder.newTrigger()
+                .withIdentity("trigger1", "paused.triggers").forJob(second).startAt(new Date()).build();
+        later.computeFirstFireTime(null);
+        store.storeTrigger(later, false);
+        OperableTrigger ofPausedJob = (OperableTrigger) TriggerBuilder.newTrigger()
+                .withIdentity("trigger2", "other").forJob(second).startAt(new Date()).build();
+        ofPausedJob.computeFirstFireTime(null);
+        store.storeTrigger(ofPausedJob, false);
+
+        assertNotSame(store.partitionFor(first.getKey()), store.partitionHolding(later.getKey()));
+        assertEquals(TriggerState.PAUSED, store.getTriggerState(later.getKey()));
+        assertEquals(TriggerState.PAUSED, store.getTriggerState(ofPausedJob.getKey()));
+        assertEquals(Collections.singleton("paused.triggers"), store.getPausedTriggerGroups());
+        store.shutdown();
+    }
+}
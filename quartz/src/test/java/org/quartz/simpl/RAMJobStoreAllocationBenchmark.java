@@ -0,0 +1,96 @@
+/* 
+ * Copyright IBM Corp. 2024, 2025
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not 
+ * use this file except in compliance with the License. You may obtain a copy 
+ * of the License at 
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0 
+ *   
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT 
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the 
+ * License for the specific language governing permissions and limitations 
+ * under the License.
+ * 
+ */
+package org.quartz.simpl;
+
+import java.lang.management.ManagementFactory;
+import java.util.Date;
+import java.util.List;
+
+import org.quartz.AbstractJobStoreTest.MyJob;
+import org.quartz.AbstractJobStoreTest.SampleSignaler;
+import org.quartz.JobBuilder;
+import org.quartz.JobDetail;
+import org.quartz.SimpleScheduleBuilder;
+import org.quartz.Trigger.CompletedExecutionInstruction;
+import org.quartz.TriggerBuilder;
+import org.quartz.spi.OperableTrigger;
+import org.quartz.spi.TriggerFiredBundle;
+import org.quartz.spi.TriggerFiredResult;
+
+/**
+ * Measures the heap allocated by {@link RAMJobStore} for each trigger fire,
+ * i.e. for one round of <code>acquireNextTriggers</code>,
+ * <code>triggersFired</code> and <code>triggeredJobComplete</code>, as the
+ * scheduler thread and a worker thread perform them.
+ *
+ * <p>
+ * Not a unit test; run it with the test classpath on a HotSpot JVM:
+ * </p>
+ * <pre>java org.quartz.simpl.RAMJobStoreAllocationBenchmark [triggers] [batchSize] [fires]</pre>
+ */
+public class RAMJobStoreAllocationBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        int triggers = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        int batchSize = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+        int fires = args.length > 2 ? Integer.parseInt(args[2]) : 1000000;
+
+        RAMJobStore store = new RAMJobStore();
+        store.initialize(new CascadingClassLoadHelper(), new SampleSignaler());
+
+        JobDetail job = JobBuilder.newJob(MyJob.class).withIdentity("job").usingJobData("key", "value").storeDurably().build();
+        store.storeJob(job, false);
+        Date start = new Date(System.currentTimeMillis() + 10000L);
+        for (int i = 0; i < triggers; i++) {
+            OperableTrigger trigger = (OperableTrigger) TriggerBuilder.newTrigger()
+                    .withIdentity("trigger" + i)
+                    .forJob(job)
+                    .startAt(start)
+                    .withSchedule(SimpleScheduleBuilder.repeatSecondlyForever())
+                    .build();
+            trigger.computeFirstFireTime(null);
+            store.storeTrigger(trigger, false);
+        }
+
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+
+        // warm up, then measure
+        fire(store, batchSize, fires / 10);
+        long before = threads.getThreadAllocatedBytes(threadId);
+        long started = System.nanoTime();
+        int fired = fire(store, batchSize, fires);
+        long elapsed = System.nanoTime() - started;
+        long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+
+        System.out.printf("%d fires in batches of %d: %.0f bytes allocated and %.0f ns per fire%n",
+                fired, batchSize, allocated / (double) fired, elapsed / (double) fired);
+    }
+
+    private static int fire(RAMJobStore store, int batchSize, int fires) {
+        int fired = 0;
+        while (fired < fires) {
+            List<OperableTrigger> acquired = store.acquireNextTriggers(Long.MAX_VALUE / 2, batchSize, 0L);
+            for (TriggerFiredResult result : store.triggersFired(acquired)) {
+                TriggerFiredBundle bundle = result.getTriggerFiredBundle();
+                store.triggeredJobComplete(bundle.getTrigger(), bundle.getJobDetail(), CompletedExecutionInstruction.NOOP);
+                fired++;
+            }
+        }
+        return fired;
+    }
+}
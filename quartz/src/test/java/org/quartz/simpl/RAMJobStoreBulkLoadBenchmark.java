@@ -0,0 +1,104 @@
+/* 
+ * Copyright IBM Corp. 2024, 2025
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not 
+ * use this file except in compliance with the License. You may obtain a copy 
+ * of the License at 
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0 
+ *   
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT 
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the 
+ * License for the specific language governing permissions and limitations 
+ * under the License.
+ * 
+ */
+package org.quartz.simpl;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+import org.quartz.AbstractJobStoreTest.MyJob;
+import org.quartz.AbstractJobStoreTest.SampleSignaler;
+import org.quartz.JobBuilder;
+import org.quartz.JobDetail;
+import org.quartz.Trigger;
+import org.quartz.TriggerBuilder;
+import org.quartz.spi.OperableTrigger;
+
+/**
+ * Compares loading a large catalog of jobs and triggers into an empty
+ * {@link RAMJobStore} with <code>storeJobsAndTriggers</code> against storing
+ * the same jobs and triggers one at a time, as
+ * <code>storeJobsAndTriggers</code> used to do.
+ *
+ * <p>
+ * Not a unit test; run it with the test classpath and a large enough heap:
+ * </p>
+ * <pre>java -Xmx8g org.quartz.simpl.RAMJobStoreBulkLoadBenchmark [jobs] [triggersPerJob] [rounds]</pre>
+ */
+public class RAMJobStoreBulkLoadBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        int jobs = args.length > 0 ? Integer.parseInt(args[0]) : 1000000;
+        int triggersPerJob = args.length > 1 ? Integer.parseInt(args[1]) : 1;
+        int rounds = args.length > 2 ? Integer.parseInt(args[2]) : 3;
+
+        Map<JobDetail, Set<? extends Trigger>> catalog = new LinkedHashMap<>();
+        long start = System.currentTimeMillis() + 3600000L;
+        for (int i = 0; i < jobs; i++) {
+            JobDetail job = JobBuilder.newJob(MyJob.class).withIdentity("job" + i, "tenant" + (i % 100)).build();
+            Set<Trigger> triggers = new HashSet<>();
+            for (int j = 0; j < triggersPerJob; j++) {
+                OperableTrigger trigger = (OperableTrigger) TriggerBuilder.newTrigger()
+                        .withIdentity("trigger" + i + "-" + j, "tenant" + (i % 100))
+                        .forJob(job)
+                        .startAt(new Date(start + (i * 7919L + j) % 86400000L))
+                        .build();
+                trigger.computeFirstFireTime(null);
+                triggers.add(trigger);
+            }
+            catalog.put(job, triggers);
+        }
+
+        // CPU time of the loading thread, which leaves out garbage collection
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        for (int round = 0; round < rounds; round++) {
+            System.gc();
+            RAMJobStore store = newStore();
+            long started = threads.getCurrentThreadCpuTime();
+            for (Entry<JobDetail, Set<? extends Trigger>> e : catalog.entrySet()) {
+                store.storeJob(e.getKey(), true);
+                for (Trigger trigger : e.getValue()) {
+                    store.storeTrigger((OperableTrigger) trigger, true);
+                }
+            }
+            long oneByOne = threads.getCurrentThreadCpuTime() - started;
+            store = null;
+            System.gc();
+
+            store = newStore();
+            started = threads.getCurrentThreadCpuTime();
+            store.storeJobsAndTriggers(catalog, false);
+            long bulk = threads.getCurrentThreadCpuTime() - started;
+            store = null;
+            System.gc();
+
+            System.out.printf("%d jobs, %d triggers each: one by one %d ms, bulk %d ms of CPU%n",
+                    jobs, triggersPerJob, oneByOne / 1000000, bulk / 1000000);
+        }
+    }
+
+    private static RAMJobStore newStore() {
+        RAMJobStore store = new RAMJobStore();
+        store.initialize(new CascadingClassLoadHelper(), new SampleSignaler());
+        return store;
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright IBM Corp. 2024, 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy
+ * of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+package org.quartz.simpl;
+
+import java.util.Date;
+
+import org.quartz.AbstractJobStoreTest.MyJob;
+import org.quartz.AbstractJobStoreTest.SampleSignaler;
+import org.quartz.JobBuilder;
+import org.quartz.JobDetail;
+import org.quartz.TriggerBuilder;
+import org.quartz.spi.OperableTrigger;
+
+/**
+ * Measures the heap retained by {@link RAMJobStore} for each stored one-off
+ * trigger, built independently the way a client would submit delayed
+ * triggers.
+ *
+ * <p>
+ * Not a unit test; run it with the test classpath:
+ * </p>
+ * <pre>java org.quartz.simpl.RAMJobStoreHeapBenchmark [triggers]</pre>
+ */
+public class RAMJobStoreHeapBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 50000;
+
+        RAMJobStore store = new RAMJobStore();
+        store.initialize(new CascadingClassLoadHelper(), new SampleSignaler());
+
+        JobDetail job = JobBuilder.newJob(MyJob.class).withIdentity("job", "heap").storeDurably().build();
+        store.storeJob(job, false);
+
+        long start = System.currentTimeMillis() + 3600000L;
+        long before = usedHeap();
+        for (int i = 0; i < count; i++) {
+            OperableTrigger trigger = (OperableTrigger) TriggerBuilder.newTrigger()
+                    .withIdentity("trigger" + i, new String("tenant.region.feature"))
+                    .forJob(new String("job"), new String("heap"))
+                    .startAt(new Date(start + i))
+                    .build();
+            trigger.computeFirstFireTime(null);
+            store.storeTrigger(trigger, false);
+        }
+        long perTrigger = (usedHeap() - before) / count;
+
+        System.out.printf("%d triggers stored: %d bytes of heap per trigger%n", store.getNumberOfTriggers(), perTrigger);
+    }
+
+    private static long usedHeap() throws InterruptedException {
+        Runtime runtime = Runtime.getRuntime();
+        long used = Long.MAX_VALUE;
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+            Thread.sleep(50);
+            used = Math.min(used, runtime.totalMemory() - runtime.freeMemory());
+        }
+        return used;
+    }
+}
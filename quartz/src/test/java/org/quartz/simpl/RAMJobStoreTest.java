@@ -16,8 +16,45 @@
  */
 package org.quartz.simpl;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
 import org.quartz.AbstractJobStoreTest;
+import org.quartz.DisallowConcurrentExecution;
+import org.quartz.Job;
+import org.quartz.JobBuilder;
+import org.quartz.JobDetail;
+import org.quartz.JobExecutionContext;
+import org.quartz.JobKey;
+import org.quartz.ObjectAlreadyExistsException;
+import org.quartz.SimpleScheduleBuilder;
+import org.quartz.Trigger;
+import org.quartz.Trigger.CompletedExecutionInstruction;
+import org.quartz.Trigger.TriggerState;
+import org.quartz.TriggerBuilder;
+import org.quartz.TriggerKey;
+import org.quartz.impl.matchers.GroupMatcher;
 import org.quartz.spi.JobStore;
+import org.quartz.spi.OperableTrigger;
+import org.quartz.spi.TriggerFiredResult;
 
 public class RAMJobStoreTest extends AbstractJobStoreTest {
 
@@ -31,4 +68,349 @@ public class RAMJobStoreTest extends AbstractJobStoreTest {
     protected void destroyJobStore(String name) {
 
     }
+
+    @Test
+    void testReadsDoNotInterfereWithFiring() throws Exception {
+        RAMJobStore store = new RAMJobStore();
+        store.initialize(new CascadingClassLoadHelper(), new SampleSignaler());
+
+        JobDetail job = JobBuilder.newJob(MyJob.class).withIdentity("job", "readers").storeDurably().build();
+        store.storeJob(job, false);
+        Date start = new Date(System.currentTimeMillis() + 1000L);
+        List<TriggerKey> keys = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            OperableTrigger trigger = (OperableTrigger) TriggerBuilder.newTrigger()
+                    .withIdentity("trigger" + i, "readers")
+                    .forJob(job)
+                    .startAt(start)
+                    .withSchedule(SimpleScheduleBuilder.repeatSecondlyForever())
+                    .build();
+            trigger.computeFirstFireTime(null);
+            store.storeTrigger(trigger, false);
+            keys.add(trigger.getKey());
+        }
+
+        final AtomicBoolean done = new AtomicBoolean();
+        final List<Throwable> failures = Collections.synchronizedList(new ArrayList<>());
+        final CountDownLatch readersDone = new CountDownLatch(4);
+        for (int r = 0; r < 4; r++) {
+            new Thread(() -> {
+                try {
+                    while (!done.get()) {
+                        for (TriggerKey key : keys) {
+                            OperableTrigger trigger = store.retrieveTrigger(key);
+                            assertNotNull(trigger);
+                            assertNotNull(trigger.getNextFireTime());
+                            assertNotEquals(TriggerState.NONE, store.getTriggerState(key));
+                        }
+                        assertEquals(100, store.getTriggerKeys(GroupMatcher.triggerGroupEquals("readers")).size());
+                        assertEquals(100, store.getTriggersForJob(job.getKey()).size());
+                        assertEquals(1, store.getJobKeys(GroupMatcher.anyJobGroup()).size());
+                    }
+                } catch (Throwable t) {
+                    failures.add(t);
+                } finally {
+                    readersDone.countDown();
+                }
+            }).start();
+        }
+
+        int fired = 0;
+        try {
+            for (int i = 0; i < 200; i++) {
+                List<OperableTrigger> acquired = store.acquireNextTriggers(Long.MAX_VALUE / 2, 10, 0L);
+                for (TriggerFiredResult result : store.triggersFired(acquired)) {
+                    store.triggeredJobComplete(result.getTriggerFiredBundle().getTrigger(),
+                            result.getTriggerFiredBundle().getJobDetail(), CompletedExecutionInstruction.NOOP);
+                    fired++;
+                }
+            }
+        } finally {
+            done.set(true);
+            readersDone.await();
+        }
+
+        assertEquals(2000, fired);
+        assertEquals(Collections.emptyList(), failures);
+    }
+
+    @DisallowConcurrentExecution
+    public static class NonConcurrentJob implements Job {
+        public void execute(JobExecutionContext context) {
+        }
+    }
+
+    @Test
+    void testNonConcurrentJobGate() throws Exception {
+        RAMJobStore store = new RAMJobStore();
+        store.initialize(new CascadingClassLoadHelper(), new SampleSignaler());
+
+        JobDetail job = JobBuilder.newJob(NonConcurrentJob.class).withIdentity("job", "gate").storeDurably().build();
+        store.storeJob(job, false);
+        Date start = new Date(System.currentTimeMillis() - 100L);
+        for (int i = 0; i < 50; i++) {
+            OperableTrigger trigger = (OperableTrigger) TriggerBuilder.newTrigger()
+                    .withIdentity("trigger" + i, "gate")
+                    .forJob(job)
+                    .startAt(start)
+                    .withSchedule(SimpleScheduleBuilder.repeatSecondlyForever())
+                    .build();
+            trigger.computeFirstFireTime(null);
+            store.storeTrigger(trigger, false);
+        }
+        long noLaterThan = System.currentTimeMillis() + 5000L;
+
+        // only one trigger of the job per batch
+        List<OperableTrigger> acquired = store.acquireNextTriggers(noLaterThan, 10, 0L);
+        assertEquals(1, acquired.size());
+        TriggerFiredResult fired = store.triggersFired(acquired).get(0);
+        OperableTrigger firedTrigger = fired.getTriggerFiredBundle().getTrigger();
+
+        TriggerKey paused = new TriggerKey("trigger10", "gate");
+        TriggerKey removed = new TriggerKey("trigger20", "gate");
+        TriggerKey stored = new TriggerKey("trigger50", "gate");
+        store.pauseTrigger(paused);
+        assertEquals(TriggerState.BLOCKED, store.getTriggerState(new TriggerKey("trigger30", "gate")));
+        assertEquals(TriggerState.PAUSED, store.getTriggerState(paused));
+
+        // while the job executes nothing of it can be acquired, however often we ask
+        assertTrue(store.acquireNextTriggers(noLaterThan, 10, 0L).isEmpty());
+        assertTrue(store.acquireNextTriggers(noLaterThan, 10, 0L).isEmpty());
+        store.removeTrigger(removed);
+        OperableTrigger late = (OperableTrigger) TriggerBuilder.newTrigger()
+                .withIdentity(stored).forJob(job).startAt(start).build();
+        late.computeFirstFireTime(null);
+        store.storeTrigger(late, false);
+        assertEquals(TriggerState.BLOCKED, store.getTriggerState(stored));
+        store.resumeTrigger(paused);
+        assertEquals(TriggerState.BLOCKED, store.getTriggerState(paused));
+        assertTrue(store.acquireNextTriggers(noLaterThan, 10, 0L).isEmpty());
+
+        store.triggeredJobComplete(firedTrigger, fired.getTriggerFiredBundle().getJobDetail(),
+                CompletedExecutionInstruction.NOOP);
+        assertEquals(TriggerState.NORMAL, store.getTriggerState(paused));
+
+        // every remaining trigger comes back, one execution at a time
+        Set<TriggerKey> seen = new HashSet<>();
+        for (int i = 0; i < 50; i++) {
+            acquired = store.acquireNextTriggers(noLaterThan, 10, 0L);
+            assertEquals(1, acquired.size());
+            seen.add(acquired.get(0).getKey());
+            fired = store.triggersFired(acquired).get(0);
+            store.triggeredJobComplete(fired.getTriggerFiredBundle().getTrigger(),
+                    fired.getTriggerFiredBundle().getJobDetail(), CompletedExecutionInstruction.NOOP);
+        }
+        assertFalse(seen.contains(removed));
+        assertTrue(seen.contains(paused));
+        assertTrue(seen.contains(stored));
+    }
+
+    @Test
+    void testPauseAndResumeGroupsByPrefix() throws Exception {
+        RAMJobStore store = new RAMJobStore();
+        store.initialize(new CascadingClassLoadHelper(), new SampleSignaler());
+
+        String[] groups = { "acme.eu.billing", "acme.eu.reports", "acme.us.billing", "other.eu.billing" };
+        for (String group : groups) {
+            JobDetail job = JobBuilder.newJob(MyJob.class).withIdentity("job", group).storeDurably().build();
+            store.storeJob(job, false);
+            OperableTrigger trigger = (OperableTrigger) TriggerBuilder.newTrigger()
+                    .withIdentity("trigger", group)
+                    .forJob(job)
+                    .withSchedule(SimpleScheduleBuilder.repeatSecondlyForever())
+                    .build();
+            trigger.computeFirstFireTime(null);
+            store.storeTrigger(trigger, false);
+        }
+
+        assertEquals(3, store.getJobKeys(GroupMatcher.jobGroupStartsWith("acme.")).size());
+        assertEquals(3, store.getTriggerKeys(GroupMatcher.triggerGroupEndsWith(".billing")).size());
+
+        List<String> paused = store.pauseTriggers(GroupMatcher.triggerGroupStartsWith("acme.eu."));
+        Collections.sort(paused);
+        assertEquals(List.of("acme.eu.billing", "acme.eu.reports"), paused);
+        assertEquals(TriggerState.PAUSED, store.getTriggerState(new TriggerKey("trigger", "acme.eu.reports")));
+        assertEquals(TriggerState.NORMAL, store.getTriggerState(new TriggerKey("trigger", "acme.us.billing")));
+        assertEquals(new HashSet<>(paused), store.getPausedTriggerGroups());
+
+        store.resumeTriggers(GroupMatcher.triggerGroupStartsWith("acme."));
+        assertTrue(store.getPausedTriggerGroups().isEmpty());
+        assertEquals(TriggerState.NORMAL, store.getTriggerState(new TriggerKey("trigger", "acme.eu.reports")));
+
+        store.pauseJobs(GroupMatcher.jobGroupEndsWith(".billing"));
+        assertEquals(TriggerState.PAUSED, store.getTriggerState(new TriggerKey("trigger", "other.eu.billing")));
+        assertEquals(TriggerState.NORMAL, store.getTriggerState(new TriggerKey("trigger", "acme.eu.reports")));
+
+        // an emptied group leaves the index
+        store.removeJob(new JobKey("job", "acme.us.billing"));
+        assertEquals(2, store.getJobKeys(GroupMatcher.jobGroupEndsWith(".billing")).size());
+    }
+
+    static class MisfireCountingSignaler extends SampleSignaler {
+        final RAMJobStore store;
+        final AtomicInteger misfires = new AtomicInteger();
+        final AtomicBoolean notifiedUnderLock = new AtomicBoolean();
+
+        MisfireCountingSignaler(RAMJobStore store) {
+            this.store = store;
+        }
+
+        @Override
+        public void notifyTriggerListenersMisfired(Trigger trigger) {
+            if (Thread.holdsLock(store.lock)) {
+                notifiedUnderLock.set(true);
+            }
+            misfires.incrementAndGet();
+        }
+    }
+
+    private static void storeMisfiredTriggers(RAMJobStore store, String group, int count) throws Exception {
+        JobDetail job = JobBuilder.newJob(MyJob.class).withIdentity("job", group).storeDurably().build();
+        store.storeJob(job, false);
+        Date start = new Date(System.currentTimeMillis() - 60000L);
+        for (int i = 0; i < count; i++) {
+            OperableTrigger trigger = (OperableTrigger) TriggerBuilder.newTrigger()
+                    .withIdentity("trigger" + i, group)
+                    .forJob(job)
+                    .startAt(start)
+                    .withSchedule(SimpleScheduleBuilder.repeatSecondlyForever())
+                    .build();
+            trigger.computeFirstFireTime(null);
+            store.storeTrigger(trigger, false);
+        }
+    }
+
+    @Test
+    void testMisfiresAreHandledInBatchesOutsideTheLock() throws Exception {
+        RAMJobStore store = new RAMJobStore();
+        MisfireCountingSignaler signaler = new MisfireCountingSignaler(store);
+        store.initialize(new CascadingClassLoadHelper(), signaler);
+        store.setMaxMisfiresToHandleAtATime(10);
+        storeMisfiredTriggers(store, "sweep", 100);
+
+        for (int i = 1; i < 10; i++) {
+            assertTrue(store.recoverMisfiredTriggers());
+            assertEquals(i * 10, signaler.misfires.get());
+        }
+        assertFalse(store.recoverMisfiredTriggers());
+        assertEquals(100, signaler.misfires.get());
+        assertFalse(signaler.notifiedUnderLock.get());
+
+        // once started, acquisition leaves misfires to the handler thread
+        store.schedulerStarted();
+        try {
+            storeMisfiredTriggers(store, "acquire", 100);
+            long misfireTime = System.currentTimeMillis() - store.getMisfireThreshold();
+            for (OperableTrigger trigger : store.acquireNextTriggers(System.currentTimeMillis() + 5000L, 200, 0L)) {
+                assertTrue(trigger.getNextFireTime().getTime() > misfireTime);
+            }
+            long deadline = System.currentTimeMillis() + 10000L;
+            while (signaler.misfires.get() < 200 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10L);
+            }
+            assertEquals(200, signaler.misfires.get());
+            assertFalse(signaler.notifiedUnderLock.get());
+            for (TriggerKey key : store.getTriggerKeys(GroupMatcher.triggerGroupEquals("acquire"))) {
+                assertTrue(store.retrieveTrigger(key).getNextFireTime().getTime() > misfireTime);
+            }
+        } finally {
+            store.shutdown();
+        }
+    }
+
+    private static Map<JobDetail, Set<? extends Trigger>> catalog(String prefix, int jobs, long firstFireTime) {
+        Map<JobDetail, Set<? extends Trigger>> catalog = new LinkedHashMap<>();
+        for (int i = 0; i < jobs; i++) {
+            JobDetail job = JobBuilder.newJob(MyJob.class).withIdentity(prefix + i, "group" + (i % 7)).build();
+            Set<Trigger> triggers = new HashSet<>();
+            for (int j = 0; j < 2; j++) {
+                OperableTrigger trigger = (OperableTrigger) TriggerBuilder.newTrigger()
+                        .withIdentity(prefix + i + "-" + j, "group" + (i % 5))
+                        .forJob(job)
+                        .startAt(new Date(firstFireTime + ((i * 7919L + j) % 1000) * 1000L))
+                        .build();
+                trigger.computeFirstFireTime(null);
+                triggers.add(trigger);
+            }
+            catalog.put(job, triggers);
+        }
+        return catalog;
+    }
+
+    @Test
+    void testBulkLoad() throws Exception {
+        RAMJobStore store = new RAMJobStore();
+        store.initialize(new CascadingClassLoadHelper(), new SampleSignaler());
+        long firstFireTime = System.currentTimeMillis() + 60000L;
+
+        JobDetail existing = JobBuilder.newJob(MyJob.class).withIdentity("existing", "group0").storeDurably().build();
+        store.storeJob(existing, false);
+        OperableTrigger early = (OperableTrigger) TriggerBuilder.newTrigger()
+                .withIdentity("early", "group0").forJob(existing).startAt(new Date(firstFireTime - 1000L)).build();
+        early.computeFirstFireTime(null);
+        store.storeTrigger(early, false);
+        store.pauseTriggers(GroupMatcher.triggerGroupEquals("group4"));
+
+        Map<JobDetail, Set<? extends Trigger>> first = catalog("a", 500, firstFireTime);
+        Set<Trigger> forExisting = new HashSet<>();
+        OperableTrigger late = (OperableTrigger) TriggerBuilder.newTrigger()
+                .withIdentity("late", "group0").forJob(existing).startAt(new Date(firstFireTime + 2000000L)).build();
+        late.computeFirstFireTime(null);
+        forExisting.add(late);
+        first.put(existing, forExisting);
+        store.storeJobsAndTriggers(first, true);
+        // added to the triggers of the first load
+        store.storeJobsAndTriggers(catalog("b", 500, firstFireTime), false);
+
+        assertEquals(1001, store.getNumberOfJobs());
+        assertEquals(2002, store.getNumberOfTriggers());
+        assertEquals(2, store.getTriggersForJob(existing.getKey()).size());
+        assertEquals(2, store.getTriggersForJob(new JobKey("a4", "group4")).size());
+        assertEquals(145, store.getJobKeys(GroupMatcher.jobGroupEquals("group0")).size());
+        assertEquals(TriggerState.PAUSED, store.getTriggerState(new TriggerKey("b4-0", "group4")));
+        assertEquals(TriggerState.NORMAL, store.getTriggerState(new TriggerKey("b3-0", "group3")));
+
+        // every waiting trigger is acquired once, in fire time order
+        List<OperableTrigger> acquired = store.acquireNextTriggers(Long.MAX_VALUE / 2, 5000, Long.MAX_VALUE / 4);
+        assertEquals(2002 - 400, acquired.size());
+        assertEquals(early.getKey(), acquired.get(0).getKey());
+        assertEquals(new TriggerKey("late", "group0"), acquired.get(acquired.size() - 1).getKey());
+        for (int i = 1; i < acquired.size(); i++) {
+            assertTrue(acquired.get(i - 1).getNextFireTime().compareTo(acquired.get(i).getNextFireTime()) <= 0);
+        }
+        assertEquals(acquired.size(), new HashSet<>(acquired).size());
+
+        // collisions are refused before anything is stored
+        Map<JobDetail, Set<? extends Trigger>> colliding = catalog("c", 10, firstFireTime);
+        colliding.putAll(catalog("a", 1, firstFireTime));
+        assertThrows(ObjectAlreadyExistsException.class, () -> store.storeJobsAndTriggers(colliding, false));
+        assertEquals(1001, store.getNumberOfJobs());
+    }
+
+    @Test
+    void testStoredTriggersShareKeyInstances() throws Exception {
+        RAMJobStore store = new RAMJobStore();
+        store.initialize(new CascadingClassLoadHelper(), new SampleSignaler());
+
+        JobDetail job = JobBuilder.newJob(MyJob.class).withIdentity("job", "heap").storeDurably().build();
+        store.storeJob(job, false);
+
+        long start = System.currentTimeMillis() + 3600000L;
+        for (int i = 0; i < 2; i++) {
+            // built independently, the way a client would submit one-off delayed triggers
+            OperableTrigger trigger = (OperableTrigger) TriggerBuilder.newTrigger()
+                    .withIdentity("trigger" + i, new String("tenant.region.feature"))
+                    .forJob(new String("job"), new String("heap"))
+                    .startAt(new Date(start + i))
+                    .build();
+            trigger.computeFirstFireTime(null);
+            store.storeTrigger(trigger, false);
+        }
+
+        TriggerWrapper first = store.triggersByKey.get(new TriggerKey("trigger0", "tenant.region.feature"));
+        TriggerWrapper second = store.triggersByKey.get(new TriggerKey("trigger1", "tenant.region.feature"));
+        assertSame(first.key.getGroup(), second.key.getGroup());
+        assertSame(first.jobKey, second.jobKey);
+        assertSame(first.jobKey, first.trigger.getJobKey());
+    }
 }
@@ -0,0 +1,107 @@
+/* 
+ * Copyright IBM Corp. 2024, 2025
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not 
+ * use this file except in compliance with the License. You may obtain a copy 
+ * of the License at 
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0 
+ *   
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT 
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the 
+ * License for the specific language governing permissions and limitations 
+ * under the License.
+ * 
+ */
+package org.quartz.simpl;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+
+import org.quartz.impl.triggers.SimpleTriggerImpl;
+
+/**
+ * Compares the {@link TreeSetTimeTriggerIndex} with the
+ * {@link TimingWheelTimeTriggerIndex} for the operations
+ * {@link RAMJobStore} performs: bulk insertion, re-indexing after a fire, and
+ * draining in fire order.
+ *
+ * <p>
+ * Not a unit test; run it with the test classpath, e.g. with
+ * <code>-Xmx8g</code> for the largest population:
+ * </p>
+ * <pre>java org.quartz.simpl.TimeTriggerIndexBenchmark 10000 1000000 5000000</pre>
+ */
+public class TimeTriggerIndexBenchmark {
+
+    public static void main(String[] args) {
+        int[] sizes = args.length == 0 ? new int[] {10000, 1000000, 5000000} : new int[args.length];
+        for (int i = 0; i < args.length; i++) {
+            sizes[i] = Integer.parseInt(args[i]);
+        }
+
+        for (int size : sizes) {
+            List<TriggerWrapper> triggers = createTriggers(size);
+            // warm up, then measure
+            for (int round = 0; round < 2; round++) {
+                run("TreeSet    ", size, triggers, TreeSetTimeTriggerIndex::new, round == 1);
+                run("TimingWheel", size, triggers, TimingWheelTimeTriggerIndex::new, round == 1);
+            }
+        }
+    }
+
+    private static List<TriggerWrapper> createTriggers(int size) {
+        long now = System.currentTimeMillis();
+        Random random = new Random(size);
+        List<TriggerWrapper> triggers = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            SimpleTriggerImpl trigger = new SimpleTriggerImpl();
+            trigger.setName("trigger" + i);
+            trigger.setGroup("group" + (i % 100));
+            trigger.setJobName("job");
+            trigger.setJobGroup("group");
+            // one-off delayed triggers spread over the next day
+            trigger.setNextFireTime(new Date(now + random.nextInt(24 * 3600 * 1000)));
+            trigger.setPriority(5);
+            triggers.add(new TriggerWrapper(trigger));
+        }
+        return triggers;
+    }
+
+    private static void run(String name, int size, List<TriggerWrapper> triggers,
+            Supplier<TimeTriggerIndex> factory, boolean report) {
+        TimeTriggerIndex index = factory.get();
+
+        long start = System.nanoTime();
+        for (TriggerWrapper tw : triggers) {
+            index.add(tw);
+        }
+        long inserted = System.nanoTime();
+
+        // what triggersFired does for a repeating trigger: remove, reschedule, re-add
+        int fires = Math.min(size, 100000);
+        for (int i = 0; i < fires; i++) {
+            TriggerWrapper tw = index.first();
+            index.remove(tw);
+            index.add(tw);
+        }
+        long fired = System.nanoTime();
+
+        while (!index.isEmpty()) {
+            index.remove(index.first());
+        }
+        long drained = System.nanoTime();
+
+        if (report) {
+            System.out.printf("%s n=%-8d insert %7.1f ns/op   first+remove+add %7.1f ns/op   drain %7.1f ns/op%n",
+                    name, size,
+                    (inserted - start) / (double) size,
+                    (fired - inserted) / (double) fires,
+                    (drained - fired) / (double) size);
+        }
+    }
+}
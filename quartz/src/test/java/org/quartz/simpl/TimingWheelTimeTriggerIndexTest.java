@@ -0,0 +1,124 @@
+/* 
+ * Copyright IBM Corp. 2024, 2025
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not 
+ * use this file except in compliance with the License. You may obtain a copy 
+ * of the License at 
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0 
+ *   
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT 
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the 
+ * License for the specific language governing permissions and limitations 
+ * under the License.
+ * 
+ */
+package org.quartz.simpl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.quartz.impl.triggers.SimpleTriggerImpl;
+
+public class TimingWheelTimeTriggerIndexTest {
+
+    private static TriggerWrapper wrapper(String name, Date nextFireTime, int priority) {
+        SimpleTriggerImpl trigger = new SimpleTriggerImpl();
+        trigger.setName(name);
+        trigger.setGroup("group");
+        trigger.setJobName("job");
+        trigger.setJobGroup("group");
+        trigger.setNextFireTime(nextFireTime);
+        trigger.setPriority(priority);
+        return new TriggerWrapper(trigger);
+    }
+
+    @Test
+    void testExtractsInComparatorOrder() {
+        long now = System.currentTimeMillis();
+        TimingWheelTimeTriggerIndex wheel = new TimingWheelTimeTriggerIndex(now);
+        TreeSetTimeTriggerIndex tree = new TreeSetTimeTriggerIndex();
+        Random random = new Random(42);
+        List<TriggerWrapper> all = new ArrayList<>();
+
+        for (int i = 0; i < 20000; i++) {
+            Date nft;
+            switch (i % 5) {
+                case 0: nft = new Date(now + random.nextInt(1000)); break;
+                case 1: nft = new Date(now + random.nextInt(100000000)); break;
+                case 2: nft = new Date(now - random.nextInt(100000)); break;
+                case 3: nft = new Date(now + (long) random.nextInt(1000) * 365L * 24 * 3600 * 1000); break;
+                default: nft = (i % 50 == 4) ? null : new Date(now + 5000);
+            }
+            TriggerWrapper tw = wrapper("t" + i, nft, random.nextInt(3));
+            assertTrue(wheel.add(tw));
+            assertFalse(wheel.add(tw));
+            tree.add(tw);
+            all.add(tw);
+        }
+        assertEquals(tree.size(), wheel.size());
+
+        // remove a random portion, including triggers already cascaded
+        for (int i = 0; i < 2000; i++) {
+            TriggerWrapper tw = all.get(random.nextInt(all.size()));
+            assertEquals(tree.remove(tw), wheel.remove(tw));
+        }
+        assertEquals(tree.size(), wheel.size());
+
+        Iterator<TriggerWrapper> expected = tree.iterator();
+        for (TriggerWrapper tw : wheel) {
+            assertSame(expected.next(), tw);
+        }
+        assertFalse(expected.hasNext());
+
+        int count = 0;
+        while (!tree.isEmpty()) {
+            TriggerWrapper tw = tree.first();
+            assertSame(tw, wheel.first());
+            tree.remove(tw);
+            assertTrue(wheel.remove(tw));
+            // interleave re-insertion of an acquired trigger, as acquisition does
+            if (count++ % 100 == 0) {
+                tree.add(tw);
+                wheel.add(tw);
+                assertSame(tree.first(), wheel.first());
+                tree.remove(tw);
+                wheel.remove(tw);
+            }
+        }
+        assertTrue(wheel.isEmpty());
+        assertNull(wheel.first());
+    }
+
+    @Test
+    void testTriggersAddedBeforeCursorStayOrdered() {
+        long now = System.currentTimeMillis();
+        TimingWheelTimeTriggerIndex wheel = new TimingWheelTimeTriggerIndex(now);
+
+        TriggerWrapper late = wrapper("late", new Date(now + 3600000L), 5);
+        wheel.add(late);
+        // moves the cursor an hour ahead
+        assertSame(late, wheel.first());
+
+        TriggerWrapper early = wrapper("early", new Date(now + 1000L), 5);
+        TriggerWrapper earlyHigh = wrapper("earlyHigh", new Date(now + 1000L), 10);
+        wheel.add(early);
+        wheel.add(earlyHigh);
+        assertSame(earlyHigh, wheel.first());
+        wheel.remove(earlyHigh);
+        assertSame(early, wheel.first());
+        wheel.remove(early);
+        assertSame(late, wheel.first());
+    }
+}
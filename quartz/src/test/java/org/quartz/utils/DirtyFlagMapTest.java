@@ -200,4 +200,37 @@ class DirtyFlagMapTest  {
         assertTrue(dirtyFlagMap.isDirty());
         assertEquals(0, dirtyFlagMap.size());
     }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testCloneIsIndependent() {
+        DirtyFlagMap<String, String> original = new DirtyFlagMap<String, String>();
+        original.put("a", "Y");
+        original.clearDirtyFlag();
+
+        DirtyFlagMap<String, String> copy = (DirtyFlagMap<String, String>) original.clone();
+        assertEquals(original, copy);
+        copy.put("b", "Z");
+        copy.remove("a");
+        assertEquals(Collections.singletonMap("a", "Y"), original.getWrappedMap());
+        assertFalse(original.isDirty());
+
+        DirtyFlagMap<String, String> second = (DirtyFlagMap<String, String>) original.clone();
+        original.clear();
+        assertEquals(Collections.singletonMap("a", "Y"), second.getWrappedMap());
+        assertEquals(Collections.singletonMap("b", "Z"), copy.getWrappedMap());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testCloneAfterViewIsIndependent() {
+        DirtyFlagMap<String, String> original = new DirtyFlagMap<String, String>();
+        original.put("a", "Y");
+        Set<String> keySet = original.keySet();
+
+        DirtyFlagMap<String, String> copy = (DirtyFlagMap<String, String>) original.clone();
+        keySet.clear();
+        assertTrue(original.isEmpty());
+        assertEquals(Collections.singletonMap("a", "Y"), copy.getWrappedMap());
+    }
 }